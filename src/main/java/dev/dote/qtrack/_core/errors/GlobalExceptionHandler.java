@@ -3,8 +3,10 @@ package dev.dote.qtrack._core.errors;
 import dev.dote.qtrack._core.errors.ex.Exception400;
 import dev.dote.qtrack._core.errors.ex.Exception401;
 import dev.dote.qtrack._core.errors.ex.Exception403;
+import dev.dote.qtrack._core.errors.ex.Exception429;
 import dev.dote.qtrack._core.errors.ex.Exception500;
 import dev.dote.qtrack._core.util.Resp;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -28,6 +30,13 @@ public class GlobalExceptionHandler {
         return Resp.fail(HttpStatus.FORBIDDEN, e.getMessage());
     }
 
+    @ExceptionHandler(Exception429.class)
+    public ResponseEntity<?> handle429(Exception429 e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()))
+                .body(new Resp<>(HttpStatus.TOO_MANY_REQUESTS.value(), e.getMessage(), null));
+    }
+
     @ExceptionHandler(Exception500.class)
     public ResponseEntity<?> handle500(Exception500 e) {
         return Resp.fail(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
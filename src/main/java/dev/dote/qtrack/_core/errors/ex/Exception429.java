@@ -0,0 +1,13 @@
+package dev.dote.qtrack._core.errors.ex;
+
+import lombok.Getter;
+
+@Getter
+public class Exception429 extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public Exception429(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,190 @@
+package dev.dote.qtrack._core.filter;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.dote.qtrack._core.util.Resp;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 쓰기 요청 동시 처리 제한 (부하 차단)
+ * - /api/** 의 POST/PUT/PATCH/DELETE 는 허가(permit)를 얻어야 처리, 허가 수 = 커넥션 풀 크기 - 조회용 예약 커넥션
+ *   (쓰기가 몰려도 조회 요청은 제한 없이 예약 커넥션으로 응답)
+ * - 허가가 없으면 최대 max-queue 건까지 max-wait-ms 동안 대기, 대기열이 가득 찼거나 시간이 지나면 429 + Retry-After
+ * - Retry-After: (대기 건수 + 1) × 평균 처리 시간 / 허가 수 를 초 단위로 올림 (1 ~ MAX_RETRY_AFTER_SECONDS)
+ * - 지표: qtrack.admission.write.active, qtrack.admission.write.queue.depth, qtrack.admission.write.wait,
+ *   qtrack.admission.write.rejected (reason=queue_full|timeout)
+ * - 보안 필터 뒤에서 실행되어 인증되지 않은 요청은 허가를 차지하지 않음
+ */
+@Slf4j
+@Component
+public class WriteAdmissionFilter extends OncePerRequestFilter {
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    // DB 커넥션을 쓰지 않고 메모리 버퍼에만 누적하는 쓰기
+    private static final Set<String> EXCLUDED_PATHS = Set.of("/api/quality-records/ingest");
+    private static final int MAX_RETRY_AFTER_SECONDS = 60;
+    // HikariCP 기본 maximumPoolSize
+    private static final int DEFAULT_POOL_SIZE = 10;
+    // 평균 처리 시간 지수 이동 평균의 가중치 (1/8)
+    private static final int EWMA_SHIFT = 3;
+
+    private final int permits;
+    private final int maxQueue;
+    private final long maxWaitMillis;
+    private final Semaphore semaphore;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicLong averageHoldNanos = new AtomicLong(TimeUnit.MILLISECONDS.toNanos(100));
+    private final JsonMapper jsonMapper;
+    private final Timer waitTimer;
+    private final Counter queueFullRejections;
+    private final Counter timeoutRejections;
+
+    @Autowired
+    public WriteAdmissionFilter(DataSource dataSource,
+            @Value("${admission.write.reserved-connections:2}") int reservedConnections,
+            @Value("${admission.write.max-queue:50}") int maxQueue,
+            @Value("${admission.write.max-wait-ms:2000}") long maxWaitMillis,
+            JsonMapper jsonMapper,
+            MeterRegistry meterRegistry) {
+        this(Math.max(1, poolSize(dataSource) - reservedConnections), maxQueue, maxWaitMillis, jsonMapper,
+                meterRegistry);
+    }
+
+    WriteAdmissionFilter(int permits, int maxQueue, long maxWaitMillis, JsonMapper jsonMapper,
+            MeterRegistry meterRegistry) {
+        this.permits = permits;
+        this.maxQueue = maxQueue;
+        this.maxWaitMillis = maxWaitMillis;
+        this.semaphore = new Semaphore(permits, true);
+        this.jsonMapper = jsonMapper;
+        this.waitTimer = Timer.builder("qtrack.admission.write.wait")
+                .description("쓰기 요청 허가 대기 시간")
+                .register(meterRegistry);
+        this.queueFullRejections = rejectedCounter(meterRegistry, "queue_full");
+        this.timeoutRejections = rejectedCounter(meterRegistry, "timeout");
+        Gauge.builder("qtrack.admission.write.active", semaphore, s -> permits - s.availablePermits())
+                .description("처리 중인 쓰기 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("qtrack.admission.write.queue.depth", waiting, AtomicInteger::get)
+                .description("허가를 기다리는 쓰기 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !WRITE_METHODS.contains(request.getMethod())
+                || !path.startsWith("/api/")
+                || EXCLUDED_PATHS.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        if (!acquire(response)) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            semaphore.release();
+            recordHold(System.nanoTime() - start);
+        }
+    }
+
+    // 허가를 얻으면 true, 거절 응답을 보냈으면 false
+    private boolean acquire(HttpServletResponse response) throws IOException {
+        if (semaphore.tryAcquire()) {
+            waitTimer.record(0, TimeUnit.NANOSECONDS);
+            return true;
+        }
+        if (waiting.incrementAndGet() > maxQueue) {
+            int depth = waiting.decrementAndGet();
+            queueFullRejections.increment();
+            reject(response, depth, "쓰기 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요");
+            return false;
+        }
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            waiting.decrementAndGet();
+        }
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            timeoutRejections.increment();
+            reject(response, waiting.get(), "쓰기 요청 대기 시간이 초과되었습니다. 잠시 후 다시 시도해 주세요");
+        }
+        return acquired;
+    }
+
+    private void reject(HttpServletResponse response, int depth, String msg) throws IOException {
+        long retryAfter = retryAfterSeconds(depth);
+        log.warn("쓰기 요청 거절: 대기 {}건, Retry-After {}초", depth, retryAfter);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        jsonMapper.writeValue(response.getOutputStream(),
+                new Resp<>(HttpStatus.TOO_MANY_REQUESTS.value(), msg, null));
+    }
+
+    long retryAfterSeconds(int depth) {
+        long drainNanos = (depth + 1L) * averageHoldNanos.get() / permits;
+        long seconds = (drainNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+        return Math.clamp(seconds, 1, MAX_RETRY_AFTER_SECONDS);
+    }
+
+    private void recordHold(long nanos) {
+        averageHoldNanos.accumulateAndGet(nanos, (average, sample) -> average + ((sample - average) >> EWMA_SHIFT));
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("qtrack.admission.write.rejected")
+                .description("허가를 얻지 못해 거절한 쓰기 요청 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("커넥션 풀 크기를 확인할 수 없어 기본값 사용", e);
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+}
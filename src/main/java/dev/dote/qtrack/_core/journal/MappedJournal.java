@@ -0,0 +1,301 @@
+package dev.dote.qtrack._core.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 매핑 추가 전용 저널
+ * - 레코드: [길이 int][CRC32C int][본문], 길이 0 은 세그먼트 끝
+ * - 세그먼트 파일(<시작 위치 20자리>.seg)을 segmentBytes 크기로 매핑, 다음 레코드가 들어가지 않으면 새 세그먼트로 교체
+ * - 위치(position)는 세그먼트 시작 위치 + 파일 내 오프셋, append 는 레코드 끝 위치를 반환
+ * - sync: 그룹 fsync, 먼저 들어온 호출이 그때까지 쓰인 내용 전체를 force 하고 뒤따른 호출은 이미 반영된 위치면 바로 반환
+ * - open 시 마지막 세그먼트를 끝까지 검사해 CRC 가 맞는 마지막 레코드 뒤부터 이어 씀 (찢어진 꼬리는 0 으로 지움)
+ * - truncate: 지정 위치 이전에 끝나는 세그먼트 파일 삭제 (현재 세그먼트 제외)
+ * - 식별자: 디렉터리에 식별자 파일(journal.id)이 없으면 open 시 UUID 로 만들어 기록
+ *   → 디렉터리를 지우고 다시 만들면 위치가 0 부터 다시 시작하므로, 외부에 저장한 위치는 이 식별자와 함께 써야 함
+ */
+public class MappedJournal implements Closeable {
+    private static final int HEADER_BYTES = 8;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String ID_FILE = "journal.id";
+
+    private final Path directory;
+    private final int segmentBytes;
+    // 시작 위치 → 세그먼트 파일
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+    private final Object syncLock = new Object();
+
+    private String id;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long segmentBase;
+    private volatile long writePosition;
+    private volatile long syncedPosition;
+
+    private MappedJournal(Path directory, int segmentBytes) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+    }
+
+    public static MappedJournal open(Path directory, int segmentBytes) {
+        if (segmentBytes <= HEADER_BYTES) {
+            throw new IllegalArgumentException("세그먼트 크기가 너무 작습니다: " + segmentBytes);
+        }
+        MappedJournal journal = new MappedJournal(directory, segmentBytes);
+        try {
+            journal.recover();
+        } catch (IOException e) {
+            journal.close();
+            throw new UncheckedIOException("저널을 열 수 없습니다: " + directory, e);
+        }
+        return journal;
+    }
+
+    // 레코드를 쓰고 끝 위치를 반환 (sync 전까지는 디스크 반영 보장 없음)
+    public synchronized long append(byte[] payload) {
+        int length = HEADER_BYTES + payload.length;
+        if (payload.length == 0 || length > segmentBytes) {
+            throw new IllegalArgumentException("저널 레코드 크기가 올바르지 않습니다: " + payload.length);
+        }
+        if (buffer.remaining() < length) {
+            rotate();
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        int start = buffer.position();
+        // 길이를 마지막에 써서 본문이 다 쓰이기 전의 레코드는 세그먼트 끝으로 읽히게 함
+        buffer.putInt(start + 4, (int) crc.getValue());
+        buffer.put(start + HEADER_BYTES, payload);
+        buffer.putInt(start, payload.length);
+        buffer.position(start + length);
+        writePosition = segmentBase + buffer.position();
+        return writePosition;
+    }
+
+    // position 까지 디스크에 반영될 때까지 대기
+    public void sync(long position) {
+        if (syncedPosition >= position) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (syncedPosition >= position) {
+                return;
+            }
+            MappedByteBuffer current;
+            long target;
+            synchronized (this) {
+                current = buffer;
+                target = writePosition;
+            }
+            // 이전 세그먼트는 교체 시 force 했으므로 현재 세그먼트만 반영
+            current.force();
+            syncedPosition = target;
+        }
+    }
+
+    public long position() {
+        return writePosition;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    // fromPosition 이후에 끝나는 레코드를 순서대로 전달, 손상된 레코드를 만나면 멈춤
+    public void replay(long fromPosition, RecordConsumer consumer) {
+        Map<Long, Path> snapshot;
+        synchronized (this) {
+            snapshot = new TreeMap<>(segments);
+        }
+        for (Map.Entry<Long, Path> segment : snapshot.entrySet()) {
+            try (FileChannel readChannel = FileChannel.open(segment.getValue(), StandardOpenOption.READ)) {
+                ByteBuffer view = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size());
+                long base = segment.getKey();
+                while (true) {
+                    ByteBuffer payload = next(view);
+                    if (payload == null) {
+                        if (view.position() + HEADER_BYTES <= view.limit() && view.getInt(view.position()) != 0) {
+                            return;
+                        }
+                        break;
+                    }
+                    long end = base + view.position();
+                    if (end > fromPosition) {
+                        consumer.accept(end, payload);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("저널을 읽을 수 없습니다: " + segment.getValue(), e);
+            }
+        }
+    }
+
+    // appliedPosition 이전에 끝나는 세그먼트 삭제
+    public synchronized int truncate(long appliedPosition) {
+        int deleted = 0;
+        var iterator = segments.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Path> segment = iterator.next();
+            if (segment.getKey() == segmentBase) {
+                break;
+            }
+            long end = segment.getKey() + segmentBytes(segment.getValue());
+            if (end > appliedPosition) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(segment.getValue());
+            } catch (IOException e) {
+                throw new UncheckedIOException("저널 세그먼트를 삭제할 수 없습니다: " + segment.getValue(), e);
+            }
+            iterator.remove();
+            deleted++;
+        }
+        return deleted;
+    }
+
+    public synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (buffer != null) {
+            buffer.force();
+            syncedPosition = writePosition;
+        }
+        closeChannel();
+    }
+
+    private void recover() throws IOException {
+        Files.createDirectories(directory);
+        id = readOrCreateId();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .forEach(file -> segments.put(baseOf(file), file));
+        }
+        if (segments.isEmpty()) {
+            map(0);
+            return;
+        }
+
+        Map.Entry<Long, Path> last = segments.lastEntry();
+        channel = FileChannel.open(last.getValue(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        segmentBase = last.getKey();
+        while (next(buffer) != null) {
+            // 유효한 레코드 끝까지 이동
+        }
+        // 찢어진 꼬리를 지워 이어 쓴 레코드 뒤에 이전 내용이 레코드로 읽히지 않게 함
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            buffer.put(i, (byte) 0);
+        }
+        buffer.force();
+        writePosition = segmentBase + buffer.position();
+        syncedPosition = writePosition;
+    }
+
+    // 임시 파일에 쓰고 fsync 한 뒤 이름을 바꿔, 식별자 파일은 없거나 완전한 상태만 보이게 함
+    private String readOrCreateId() throws IOException {
+        Path file = directory.resolve(ID_FILE);
+        if (Files.exists(file)) {
+            return Files.readString(file, StandardCharsets.UTF_8).strip();
+        }
+        String created = UUID.randomUUID().toString();
+        Path temp = directory.resolve(ID_FILE + ".tmp");
+        try (FileChannel idChannel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            idChannel.write(ByteBuffer.wrap(created.getBytes(StandardCharsets.UTF_8)));
+            idChannel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        return created;
+    }
+
+    private void rotate() {
+        buffer.force();
+        long nextBase = segmentBase + buffer.capacity();
+        closeChannel();
+        try {
+            map(nextBase);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트를 만들 수 없습니다", e);
+        }
+    }
+
+    private void map(long base) throws IOException {
+        Path file = directory.resolve("%020d%s".formatted(base, SEGMENT_SUFFIX));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        segmentBase = base;
+        segments.put(base, file);
+        writePosition = base;
+        syncedPosition = Math.max(syncedPosition, base);
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트를 닫을 수 없습니다", e);
+        }
+        channel = null;
+    }
+
+    // 현재 위치의 레코드 본문을 읽고 다음 레코드로 이동, 끝이거나 손상되었으면 null (위치 유지)
+    private static ByteBuffer next(ByteBuffer view) {
+        int start = view.position();
+        if (view.limit() - start < HEADER_BYTES) {
+            return null;
+        }
+        int length = view.getInt(start);
+        if (length <= 0 || length > view.limit() - start - HEADER_BYTES) {
+            return null;
+        }
+        ByteBuffer payload = view.slice(start + HEADER_BYTES, length);
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != view.getInt(start + 4)) {
+            return null;
+        }
+        view.position(start + HEADER_BYTES + length);
+        return payload;
+    }
+
+    private static long baseOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static long segmentBytes(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface RecordConsumer {
+        // end: 레코드 끝 위치, payload: 읽기 전용 본문
+        void accept(long end, ByteBuffer payload);
+    }
+}
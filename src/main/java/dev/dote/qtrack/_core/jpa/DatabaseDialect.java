@@ -0,0 +1,37 @@
+package dev.dote.qtrack._core.jpa;
+
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * 네이티브 SQL 방언 판별 (JdbcTemplate 로 직접 보내는 문장용)
+ * - 기동 시 한 번 커넥션 메타데이터의 제품명으로 판별
+ * - MySQL/MariaDB: INSERT ... ON DUPLICATE KEY UPDATE, 그 외(H2): 표준 MERGE INTO ... USING
+ */
+@Component
+public class DatabaseDialect {
+    private final boolean mySql;
+
+    public DatabaseDialect(DataSource dataSource) {
+        String productName;
+        try {
+            productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("데이터베이스 종류를 확인할 수 없습니다", e);
+        }
+        this.mySql = productName.contains("MySQL") || productName.contains("MariaDB");
+    }
+
+    public boolean isMySql() {
+        return mySql;
+    }
+
+    // 방언에 맞는 문장 선택
+    public String select(String mySqlStatement, String standardStatement) {
+        return mySql ? mySqlStatement : standardStatement;
+    }
+}
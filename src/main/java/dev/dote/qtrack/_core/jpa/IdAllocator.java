@@ -0,0 +1,33 @@
+package dev.dote.qtrack._core.jpa;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC 직접 INSERT 용 ID 할당
+ * - 엔티티에 매핑된 {@link PooledId} 생성기를 그대로 사용하므로 JPA 저장 경로와 ID 가 겹치지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class IdAllocator {
+    private final EntityManager entityManager;
+
+    public List<Long> allocate(Class<?> entityClass, int count) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityClass)
+                .getGenerator();
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(((Number) generator.generate(session, null)).longValue());
+        }
+        return ids;
+    }
+}
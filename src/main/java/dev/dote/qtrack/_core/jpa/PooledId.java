@@ -0,0 +1,19 @@
+package dev.dote.qtrack._core.jpa;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 ID 를 id_sequence_tb 의 테이블별 구간에서 미리 할당받아 사용
+ * - IDENTITY 와 달리 INSERT 전에 ID 가 정해지므로 JDBC 배치 INSERT 가능
+ * - H2/MySQL 모두 같은 테이블 방식으로 동작
+ */
+@IdGeneratorType(PooledIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PooledId {
+}
@@ -0,0 +1,29 @@
+package dev.dote.qtrack._core.jpa;
+
+import org.hibernate.MappingException;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.enhanced.TableGenerator;
+
+import java.util.Properties;
+
+/**
+ * {@link PooledId} 생성기
+ * - 테이블 이름을 구간 키(sequence_name)로 사용해 테이블마다 독립된 값을 관리
+ * - pooled-lo: next_val 을 ALLOCATION_SIZE 만큼 올리고 그 구간을 메모리에서 소진 (여러 서버가 겹치지 않게 나눠 가짐)
+ */
+public class PooledIdGenerator extends TableGenerator {
+    public static final String TABLE = "id_sequence_tb";
+    public static final int ALLOCATION_SIZE = 100;
+
+    @Override
+    public void configure(GeneratorCreationContext creationContext, Properties parameters) throws MappingException {
+        parameters.setProperty(TABLE_PARAM, TABLE);
+        parameters.setProperty(SEGMENT_COLUMN_PARAM, "sequence_name");
+        parameters.setProperty(VALUE_COLUMN_PARAM, "next_val");
+        parameters.setProperty(CONFIG_PREFER_SEGMENT_PER_ENTITY, "true");
+        parameters.setProperty(INITIAL_PARAM, "1");
+        parameters.setProperty(INCREMENT_PARAM, String.valueOf(ALLOCATION_SIZE));
+        parameters.setProperty(OPT_PARAM, "pooled-lo");
+        super.configure(creationContext, parameters);
+    }
+}
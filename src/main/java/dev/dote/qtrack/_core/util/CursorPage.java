@@ -0,0 +1,21 @@
+package dev.dote.qtrack._core.util;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(키셋) 기반 페이지 응답
+ * - COUNT 쿼리 없이 다음 페이지 존재 여부와 불투명 커서만 제공
+ * - nextCursor를 그대로 다음 요청의 cursor 파라미터로 전달
+ */
+public record CursorPage<T>(List<T> content, Integer size, String nextCursor, Boolean hasNext) {
+
+    // size + 1 건을 조회한 결과로 페이지 구성 (초과분이 있으면 마지막 항목 기준 커서 생성)
+    public static <R, T> CursorPage<T> of(List<R> rows, int size, Function<R, T> mapper,
+            Function<R, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<R> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null;
+        return new CursorPage<>(pageRows.stream().map(mapper).toList(), size, nextCursor, hasNext);
+    }
+}
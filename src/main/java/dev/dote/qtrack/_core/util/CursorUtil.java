@@ -0,0 +1,32 @@
+package dev.dote.qtrack._core.util;
+
+import dev.dote.qtrack._core.errors.ex.Exception400;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class CursorUtil {
+    private static final String DELIMITER = "|";
+
+    // 정렬 키 값을 '|'로 이어 base64url 인코딩 (마지막 값은 구분자를 포함해도 됨)
+    public static String encode(Object... values) {
+        String joined = Stream.of(values).map(Objects::toString).collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int size) {
+        try {
+            String joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = joined.split("\\|", size);
+            if (values.length != size) {
+                throw new IllegalArgumentException();
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new Exception400("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
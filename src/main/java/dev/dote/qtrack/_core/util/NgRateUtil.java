@@ -0,0 +1,19 @@
+package dev.dote.qtrack._core.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public class NgRateUtil {
+
+    // NG 비율(%) = NG 수량 / 총 수량 * 100 (소수점 2자리, 총 수량이 0이면 0)
+    // 수량 증감 UPDATE (QualityRecordRepository.increment, QualityRecordBulkRepository) 도 같은 식으로 계산
+    public static BigDecimal ngRate(long ngQuantity, long totalQuantity) {
+        if (totalQuantity <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(ngQuantity)
+                .divide(BigDecimal.valueOf(totalQuantity), 4, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+}
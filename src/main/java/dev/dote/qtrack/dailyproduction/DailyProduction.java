@@ -1,6 +1,7 @@
 package dev.dote.qtrack.dailyproduction;
 
 import dev.dote.qtrack.item.Item;
+import dev.dote.qtrack._core.jpa.PooledId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -13,13 +14,16 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "daily_production_tb", uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"item_id", "production_date"})
+        // 부품 + 생산일 필터 인덱스 겸용
+        @UniqueConstraint(name = "uk_daily_production_item_date", columnNames = {"item_id", "production_date"})
+}, indexes = {
+        @Index(name = "idx_daily_production_date", columnList = "production_date")
 })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class DailyProduction {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
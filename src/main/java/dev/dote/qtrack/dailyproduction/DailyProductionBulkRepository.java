@@ -0,0 +1,139 @@
+package dev.dote.qtrack.dailyproduction;
+
+import dev.dote.qtrack._core.jpa.DatabaseDialect;
+import dev.dote.qtrack._core.jpa.IdAllocator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 일별 생산 데이터 대량 INSERT (JDBC 배치) 및 키 기준 upsert
+ * - 대량 가져오기는 엔티티 생성 비용도 줄이기 위해 JdbcTemplate 배치로 BATCH_SIZE 건씩 전송
+ * - insert: 한 건 생성, 부품 확인과 중복 확인(유니크 제약)을 같은 문장에서 수행
+ * - upsert: (부품, 생산일) 유니크 키 기준 방언별 한 문장 (MySQL ON DUPLICATE KEY UPDATE, H2 MERGE), 부품 확인 포함
+ *   → MySQL 은 같은 문장의 영향 행 수와 LAST_INSERT_ID 로 생성 여부와 기존 행 ID 를 받음 (추가 조회 없음)
+ *   → H2 MERGE 는 기존 행 ID 를 돌려주지 않으므로 키로 ID 를 한 번 더 조회 (H2 전용 대체 경로)
+ * - ID 는 엔티티와 같은 생성기에서 미리 할당 (upsert 가 기존 행을 갱신하면 할당한 ID 는 사용되지 않음)
+ * - 호출 측 JPA 트랜잭션과 같은 커넥션 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyProductionBulkRepository {
+    private static final int BATCH_SIZE = 1000;
+    private static final String INSERT_SQL = "INSERT INTO daily_production_tb "
+            + "(id, item_id, production_date, total_quantity, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+    // 부품이 없으면 원본 행이 없어 0 건 (item_id 는 DB 외래 키가 없으므로 같은 문장에서 확인)
+    private static final String INSERT_FROM_ITEM_SQL = "INSERT INTO daily_production_tb "
+            + "(id, item_id, production_date, total_quantity, created_at, updated_at) "
+            + "SELECT ?, i.id, ?, ?, ?, ? FROM item_tb i WHERE i.id = ?";
+    // 기존 행이면 LAST_INSERT_ID 에 그 ID 를 실어 생성 키로 돌려받음 (ID 는 그대로)
+    private static final String MYSQL_UPSERT_SQL = INSERT_FROM_ITEM_SQL
+            + " ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id), total_quantity = VALUES(total_quantity), "
+            + "updated_at = VALUES(updated_at)";
+    private static final String MERGE_SQL = "MERGE INTO daily_production_tb t "
+            + "USING (SELECT CAST(? AS BIGINT) AS id, i.id AS item_id, CAST(? AS DATE) AS production_date, "
+            + "CAST(? AS INTEGER) AS total_quantity, CAST(? AS TIMESTAMP) AS created_at, "
+            + "CAST(? AS TIMESTAMP) AS updated_at FROM item_tb i WHERE i.id = ?) s "
+            + "ON t.item_id = s.item_id AND t.production_date = s.production_date "
+            + "WHEN MATCHED THEN UPDATE SET total_quantity = s.total_quantity, updated_at = s.updated_at "
+            + "WHEN NOT MATCHED THEN INSERT (id, item_id, production_date, total_quantity, created_at, updated_at) "
+            + "VALUES (s.id, s.item_id, s.production_date, s.total_quantity, s.created_at, s.updated_at)";
+    private static final String FIND_ID_BY_KEY_SQL = "SELECT id FROM daily_production_tb "
+            + "WHERE item_id = ? AND production_date = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdAllocator idAllocator;
+    private final DatabaseDialect databaseDialect;
+
+    public int insertAll(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Iterator<Long> ids = idAllocator.allocate(DailyProduction.class, rows.size()).iterator();
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, ids.next());
+            ps.setLong(2, row.key().itemId());
+            ps.setDate(3, Date.valueOf(row.key().productionDate()));
+            ps.setInt(4, row.totalQuantity());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+        return rows.size();
+    }
+
+    // 생성된 ID 반환, 부품이 없으면 null (같은 키가 이미 있으면 DuplicateKeyException)
+    public Long insert(Row row) {
+        Long id = idAllocator.allocate(DailyProduction.class, 1).getFirst();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = jdbcTemplate.update(INSERT_FROM_ITEM_SQL,
+                id,
+                Date.valueOf(row.key().productionDate()),
+                row.totalQuantity(),
+                now,
+                now,
+                row.key().itemId());
+        return inserted == 0 ? null : id;
+    }
+
+    // 저장된 행의 ID 와 생성 여부 반환, 부품이 없으면 null
+    public Upserted upsert(Row row) {
+        Long id = idAllocator.allocate(DailyProduction.class, 1).getFirst();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date productionDate = Date.valueOf(row.key().productionDate());
+        if (!databaseDialect.isMySql()) {
+            int affected = jdbcTemplate.update(MERGE_SQL, id, productionDate, row.totalQuantity(), now, now,
+                    row.key().itemId());
+            if (affected == 0) {
+                return null;
+            }
+            Long savedId = jdbcTemplate.queryForObject(FIND_ID_BY_KEY_SQL, Long.class,
+                    row.key().itemId(), productionDate);
+            return new Upserted(savedId, id.equals(savedId));
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int affected = jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(MYSQL_UPSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, id);
+            ps.setDate(2, productionDate);
+            ps.setInt(3, row.totalQuantity());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+            ps.setLong(6, row.key().itemId());
+            return ps;
+        }, keyHolder);
+        // 영향 행 수: 0 = 부품 없음, 1 = 생성, 2 = 기존 행 갱신
+        if (affected == 0) {
+            return null;
+        }
+        // ID 를 직접 넣는 생성은 LAST_INSERT_ID 가 0 이라 키가 없고, 갱신이면 첫 키가 기존 행 ID
+        // - CLIENT_FOUND_ROWS 로 값이 같은 갱신이 1 로 보고되어도 키로 구분됨
+        Long existingId = keyHolder.getKeyList().stream()
+                .flatMap(keys -> keys.values().stream())
+                .map(key -> ((Number) key).longValue())
+                .filter(key -> key != 0)
+                .findFirst()
+                .orElse(null);
+        if (existingId == null) {
+            return new Upserted(id, true);
+        }
+        return new Upserted(existingId, false);
+    }
+
+    public record Row(DailyProductionKey key, Integer totalQuantity) {
+    }
+
+    public record Upserted(Long id, boolean created) {
+    }
+}
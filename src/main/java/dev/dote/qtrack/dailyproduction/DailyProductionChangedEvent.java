@@ -0,0 +1,10 @@
+package dev.dote.qtrack.dailyproduction;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 생산 (부품, 생산일) → ID 대응이 바뀜 (삭제, 새로 생성) - 키 → ID 캐시 무효화용, 커밋 후 처리
+ * - productionDate 가 null 이면 부품의 모든 생산일 (부품 삭제 정리)
+ */
+public record DailyProductionChangedEvent(Long itemId, LocalDate productionDate) {
+}
@@ -1,5 +1,6 @@
 package dev.dote.qtrack.dailyproduction;
 
+import dev.dote.qtrack._core.util.CursorPage;
 import dev.dote.qtrack._core.util.Resp;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -7,22 +8,30 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 
 /**
  * 일별 생산 데이터 관리 API
  * - 일별 생산 데이터의 CRUD 기능 제공
  * - 부품별 일일 생산 수량 관리
+ * - 커서 기반 목록 조회 기능 제공 (/scroll)
+ * - CSV 가져오기 기능 제공 (/import, dryRun 지원)
+ * - (부품, 생산일) 키 기준 등록 또는 수정 (/by-key)
+ * - 일별 생산과 공정별 품질 기록 일괄 등록 (/with-quality-records)
  */
 @RestController
 @RequestMapping("/api/daily-productions")
 @RequiredArgsConstructor
 public class DailyProductionController {
     private final DailyProductionService dailyProductionService;
+    private final DailyProductionImportService dailyProductionImportService;
+    private final DailyProductionEntryService dailyProductionEntryService;
 
     @GetMapping
     public ResponseEntity<Resp<Page<DailyProductionResponse.List>>> findAll(
@@ -34,6 +43,18 @@ public class DailyProductionController {
         return Resp.ok(response);
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<Resp<CursorPage<DailyProductionResponse.List>>> scroll(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false, defaultValue = "20") Integer size,
+            @RequestParam(value = "itemId", required = false) Long itemId,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        CursorPage<DailyProductionResponse.List> response = dailyProductionService.scroll(cursor, size, itemId,
+                startDate, endDate);
+        return Resp.ok(response);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Resp<DailyProductionResponse.Get>> findById(@PathVariable Long id) {
         DailyProductionResponse.Get response = dailyProductionService.findById(id);
@@ -53,6 +74,42 @@ public class DailyProductionController {
         return Resp.ok(response);
     }
 
+    @PostMapping("/with-quality-records")
+    @PreAuthorize("hasAnyRole('USER', 'MANAGER', 'ADMIN')")
+    public ResponseEntity<Resp<DailyProductionResponse.CreateWithQualityRecords>> createWithQualityRecords(
+            @Valid @RequestBody DailyProductionRequest.CreateWithQualityRecords request
+    ) {
+        DailyProductionResponse.CreateWithQualityRecords response = dailyProductionEntryService.createWithQualityRecords(
+                request.itemId(),
+                request.productionDate(),
+                request.totalQuantity(),
+                request.qualityRecords()
+        );
+        return Resp.ok(response);
+    }
+
+    @PutMapping("/by-key")
+    @PreAuthorize("hasAnyRole('USER', 'MANAGER', 'ADMIN')")
+    public ResponseEntity<Resp<DailyProductionResponse.Upsert>> upsert(
+            @Valid @RequestBody DailyProductionRequest.Upsert request
+    ) {
+        DailyProductionResponse.Upsert response = dailyProductionService.upsert(
+                request.itemId(),
+                request.productionDate(),
+                request.totalQuantity()
+        );
+        return Resp.ok(response);
+    }
+
+    @PostMapping(value = "/import", consumes = { "text/csv", MediaType.TEXT_PLAIN_VALUE })
+    @PreAuthorize("hasAnyRole('USER', 'MANAGER', 'ADMIN')")
+    public ResponseEntity<Resp<DailyProductionResponse.Import>> importCsv(
+            @RequestParam(value = "dryRun", required = false, defaultValue = "false") boolean dryRun,
+            InputStream body) {
+        DailyProductionResponse.Import response = dailyProductionImportService.importCsv(body, dryRun);
+        return Resp.ok(response);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('USER', 'MANAGER', 'ADMIN')")
     public ResponseEntity<Resp<DailyProductionResponse.Update>> update(
@@ -0,0 +1,143 @@
+package dev.dote.qtrack.dailyproduction;
+
+import dev.dote.qtrack._core.errors.ex.Exception400;
+import dev.dote.qtrack._core.util.NgRateUtil;
+import dev.dote.qtrack.outlier.OutlierSample;
+import dev.dote.qtrack.outlier.OutlierService;
+import dev.dote.qtrack.process.Process;
+import dev.dote.qtrack.process.ProcessRepository;
+import dev.dote.qtrack.qualityrecord.NextDayReevaluator;
+import dev.dote.qtrack.qualityrecord.QualityRecordBulkContext;
+import dev.dote.qtrack.qualityrecord.QualityRecordBulkRepository;
+import dev.dote.qtrack.qualityrecord.QualityRecordEvaluator;
+import dev.dote.qtrack.qualityrecord.QualityRecordRepository;
+import dev.dote.qtrack.rollup.NgRollupService;
+import dev.dote.qtrack.rollup.RollupDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 일별 생산 + 공정별 품질 기록 일괄 등록 (하루 실적 입력을 요청 1회로 처리)
+ * - 일별 생산: 부품 확인과 (부품, 생산일) 중복 확인을 INSERT 한 문장에서 수행
+ * - 공정 조회 1회, 전일 NG 비율 조회 1회(해당 부품의 전일 전체 공정)로 모든 공정을 메모리에서 평가
+ * - 품질 기록은 JDBC 배치 INSERT 한 번으로 저장, NG 집계/이상치 누적 통계도 한 번에 반영
+ * - 다음 날 같은 부품 기록은 커밋 직전에 재평가 (NextDayReevaluator)
+ * - 생성 시 DailyProductionChangedEvent 발행 (커밋 후 키 → ID 캐시 무효화)
+ * - 전체가 하나의 트랜잭션 (하나라도 실패하면 일별 생산도 등록하지 않음)
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class DailyProductionEntryService {
+    private final DailyProductionBulkRepository dailyProductionBulkRepository;
+    private final ProcessRepository processRepository;
+    private final QualityRecordRepository qualityRecordRepository;
+    private final QualityRecordBulkRepository qualityRecordBulkRepository;
+    private final QualityRecordEvaluator qualityRecordEvaluator;
+    private final NgRollupService ngRollupService;
+    private final OutlierService outlierService;
+    private final NextDayReevaluator nextDayReevaluator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public DailyProductionResponse.CreateWithQualityRecords createWithQualityRecords(
+            Long itemId,
+            LocalDate productionDate,
+            Integer totalQuantity,
+            Map<Long, DailyProductionRequest.ProcessQuantity> quantities) {
+        if (totalQuantity == null || totalQuantity < 0) {
+            throw new Exception400("총 생산 수량은 0 이상이어야 합니다: " + totalQuantity);
+        }
+        if (quantities == null || quantities.isEmpty()) {
+            throw new Exception400("공정별 품질 기록은 1건 이상이어야 합니다");
+        }
+
+        // 1. 공정 확인 (공정 순서대로 정렬)
+        List<Process> processes = processRepository.findAllById(quantities.keySet()).stream()
+                .sorted(Comparator.comparing(Process::getSequence))
+                .toList();
+        if (processes.size() != quantities.size()) {
+            Set<Long> found = processes.stream().map(Process::getId).collect(Collectors.toSet());
+            Long missing = quantities.keySet().stream()
+                    .filter(processId -> !found.contains(processId))
+                    .sorted()
+                    .findFirst()
+                    .orElseThrow();
+            throw new Exception400("공정을 찾을 수 없습니다: " + missing);
+        }
+
+        // 2. 일별 생산 INSERT
+        Long dailyProductionId;
+        try {
+            dailyProductionId = dailyProductionBulkRepository.insert(new DailyProductionBulkRepository.Row(
+                    new DailyProductionKey(itemId, productionDate), totalQuantity));
+        } catch (DuplicateKeyException e) {
+            throw new Exception400("이미 존재하는 일별 생산 데이터입니다: 부품ID=" + itemId + ", 생산일자=" + productionDate);
+        }
+        if (dailyProductionId == null) {
+            throw new Exception400("부품을 찾을 수 없습니다: " + itemId);
+        }
+
+        // 3. 전일 NG 비율 한 번에 조회 후 공정별 평가
+        LocalDate previousDate = productionDate.minusDays(1);
+        Map<Long, BigDecimal> previousNgRates = qualityRecordRepository
+                .findBulkRates(Set.of(itemId), previousDate, previousDate).stream()
+                .filter(rate -> rate.ngRate() != null)
+                .collect(Collectors.toMap(QualityRecordBulkContext.Rate::processId,
+                        QualityRecordBulkContext.Rate::ngRate));
+        List<QualityRecordBulkRepository.Row> rows = new ArrayList<>(processes.size());
+        for (Process process : processes) {
+            DailyProductionRequest.ProcessQuantity quantity = quantities.get(process.getId());
+            BigDecimal ngRate = NgRateUtil.ngRate(quantity.ngQuantity(),
+                    (long) quantity.okQuantity() + quantity.ngQuantity());
+            QualityRecordEvaluator.Evaluation evaluation = qualityRecordEvaluator.evaluate(ngRate,
+                    previousNgRates.get(process.getId()));
+            rows.add(new QualityRecordBulkRepository.Row(dailyProductionId, process.getId(), process.getSequence(),
+                    quantity.okQuantity(), quantity.ngQuantity(), ngRate, evaluation.required(), evaluation.reason()));
+        }
+
+        // 4. 품질 기록 배치 INSERT 및 파생 집계 반영
+        List<Long> ids = qualityRecordBulkRepository.insertAll(rows);
+        ngRollupService.applyAll(rows.stream()
+                .map(row -> RollupDelta.of(itemId, row.processId(), productionDate, 1, row.okQuantity(),
+                        row.ngQuantity()))
+                .toList());
+        outlierService.addAll(rows.stream()
+                .map(row -> new OutlierSample(itemId, row.processId(), row.ngRate()))
+                .toList());
+        nextDayReevaluator.changedDailyProduction(itemId, productionDate);
+        eventPublisher.publishEvent(new DailyProductionChangedEvent(itemId, productionDate));
+
+        List<DailyProductionResponse.ProcessQualityRecord> qualityRecords = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            QualityRecordBulkRepository.Row row = rows.get(i);
+            qualityRecords.add(new DailyProductionResponse.ProcessQualityRecord(
+                    ids.get(i),
+                    row.processId(),
+                    row.okQuantity(),
+                    row.ngQuantity(),
+                    row.okQuantity() + row.ngQuantity(),
+                    row.ngRate(),
+                    row.evaluationRequired(),
+                    row.evaluationReason()));
+        }
+        return new DailyProductionResponse.CreateWithQualityRecords(
+                dailyProductionId,
+                itemId,
+                productionDate,
+                totalQuantity,
+                qualityRecords);
+    }
+}
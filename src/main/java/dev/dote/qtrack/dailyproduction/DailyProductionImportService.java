@@ -0,0 +1,308 @@
+package dev.dote.qtrack.dailyproduction;
+
+import dev.dote.qtrack._core.errors.ex.Exception400;
+import dev.dote.qtrack._core.errors.ex.Exception500;
+import dev.dote.qtrack.item.Item;
+import dev.dote.qtrack.item.ItemRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * 일별 생산 데이터 CSV 가져오기 (itemCode, productionDate, totalQuantity)
+ * - 1단계 파싱: 줄 묶음(PARSE_CHUNK_LINES) 단위로 작업 스레드에서 병렬 파싱, 결과는 파일 순서대로 합침
+ *   (큰따옴표로 감싼 필드 안의 쉼표와 "" 이스케이프 지원, 필드 안 줄바꿈은 지원하지 않음)
+ * - 2단계 검증: 부품 코드를 한 번 읽은 부품 목록(코드 → ID)으로 확인
+ * - 3단계 중복 제거: 파일의 부품/기간에 해당하는 기존 (부품, 생산일) 키를 한 번에 조회, 파일 내 중복도 제외
+ * - 4단계 저장: JDBC 배치 INSERT (dryRun 이면 생략)
+ * - 본문 읽기/파싱/검증은 트랜잭션 밖에서 수행하고, 3~4단계만 한 트랜잭션으로 묶어 커넥션 점유 시간을 줄임
+ * - 잘못된 행은 건너뛰고 줄 번호와 사유를 보고 (최대 MAX_REPORTED_ERRORS 건), 단계별 소요 시간과 처리량 보고
+ */
+@Service
+public class DailyProductionImportService {
+    private static final int PARSE_CHUNK_LINES = 5000;
+    private static final int PARSE_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final int MAX_ROWS = 200_000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final String HEADER_PREFIX = "itemcode";
+
+    private final DailyProductionRepository dailyProductionRepository;
+    private final DailyProductionBulkRepository dailyProductionBulkRepository;
+    private final ItemRepository itemRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public DailyProductionImportService(DailyProductionRepository dailyProductionRepository,
+            DailyProductionBulkRepository dailyProductionBulkRepository,
+            ItemRepository itemRepository,
+            PlatformTransactionManager transactionManager) {
+        this.dailyProductionRepository = dailyProductionRepository;
+        this.dailyProductionBulkRepository = dailyProductionBulkRepository;
+        this.itemRepository = itemRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public DailyProductionResponse.Import importCsv(InputStream body, boolean dryRun) {
+        long start = System.nanoTime();
+        List<DailyProductionResponse.ImportError> errors = new ArrayList<>();
+
+        // 1. 파싱
+        List<ParsedRow> parsed = new ArrayList<>();
+        for (ParsedChunk chunk : parse(body)) {
+            parsed.addAll(chunk.rows());
+            errors.addAll(chunk.errors());
+        }
+        int totalRows = parsed.size() + errors.size();
+        long parsedAt = System.nanoTime();
+
+        // 2. 부품 코드 검증
+        Map<String, Long> itemIds = itemRepository.findAll().stream()
+                .collect(Collectors.toMap(Item::getCode, Item::getId));
+        List<DailyProductionBulkRepository.Row> valid = new ArrayList<>(parsed.size());
+        List<Integer> validLines = new ArrayList<>(parsed.size());
+        for (ParsedRow row : parsed) {
+            Long itemId = itemIds.get(row.itemCode());
+            if (itemId == null) {
+                errors.add(new DailyProductionResponse.ImportError(row.line(), "부품을 찾을 수 없습니다: " + row.itemCode()));
+                continue;
+            }
+            valid.add(new DailyProductionBulkRepository.Row(new DailyProductionKey(itemId, row.productionDate()),
+                    row.totalQuantity()));
+            validLines.add(row.line());
+        }
+        int invalid = errors.size();
+        long validatedAt = System.nanoTime();
+
+        // 3~4. 중복 확인과 저장만 한 트랜잭션
+        Stored stored = transactionTemplate.execute(status -> {
+            // 3. 기존 데이터 및 파일 내 중복 제거
+            Set<DailyProductionKey> seen = new HashSet<>(existingKeys(valid));
+            List<DailyProductionBulkRepository.Row> accepted = new ArrayList<>(valid.size());
+            for (int i = 0; i < valid.size(); i++) {
+                DailyProductionBulkRepository.Row row = valid.get(i);
+                if (!seen.add(row.key())) {
+                    errors.add(new DailyProductionResponse.ImportError(validLines.get(i),
+                            "이미 존재하는 일별 생산 데이터입니다: 부품ID=" + row.key().itemId()
+                                    + ", 생산일자=" + row.key().productionDate()));
+                    continue;
+                }
+                accepted.add(row);
+            }
+            long dedupedAt = System.nanoTime();
+
+            // 4. 저장
+            if (dryRun) {
+                return new Stored(accepted.size(), 0, dedupedAt);
+            }
+            try {
+                return new Stored(accepted.size(), dailyProductionBulkRepository.insertAll(accepted), dedupedAt);
+            } catch (DataIntegrityViolationException e) {
+                // 중복 확인 이후 다른 요청이 같은 (부품, 생산일) 을 먼저 등록한 경우
+                throw new Exception400("동시에 등록된 일별 생산 데이터와 중복되어 가져오기를 취소했습니다");
+            }
+        });
+        int duplicates = errors.size() - invalid;
+        long end = System.nanoTime();
+
+        long elapsedMillis = millis(start, end);
+        errors.sort(Comparator.comparingInt(DailyProductionResponse.ImportError::line));
+        return new DailyProductionResponse.Import(
+                dryRun,
+                totalRows,
+                stored.accepted(),
+                stored.inserted(),
+                invalid,
+                duplicates,
+                elapsedMillis,
+                totalRows * 1000L / Math.max(1, elapsedMillis),
+                new DailyProductionResponse.ImportStages(
+                        millis(start, parsedAt),
+                        millis(parsedAt, validatedAt),
+                        millis(validatedAt, stored.dedupedAt()),
+                        millis(stored.dedupedAt(), end)),
+                errors.subList(0, Math.min(errors.size(), MAX_REPORTED_ERRORS)));
+    }
+
+    // 줄을 읽는 것은 순차, 묶음 파싱은 작업 스레드에서 수행하고 제출 순서대로 결과를 모음
+    private List<ParsedChunk> parse(InputStream body) {
+        List<Future<ParsedChunk>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(PARSE_THREADS);
+                BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            List<String> lines = new ArrayList<>(PARSE_CHUNK_LINES);
+            int lineNumber = 0;
+            int chunkFirstLine = 1;
+            int dataLines = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1) {
+                    line = stripBom(line);
+                    if (line.trim().toLowerCase().startsWith(HEADER_PREFIX)) {
+                        chunkFirstLine = 2;
+                        continue;
+                    }
+                }
+                if (!line.isBlank() && ++dataLines > MAX_ROWS) {
+                    throw new Exception400("한 번에 가져올 수 있는 일별 생산 데이터는 " + MAX_ROWS + "건 이하입니다");
+                }
+                lines.add(line);
+                if (lines.size() == PARSE_CHUNK_LINES) {
+                    futures.add(submit(executor, lines, chunkFirstLine));
+                    chunkFirstLine = lineNumber + 1;
+                    lines = new ArrayList<>(PARSE_CHUNK_LINES);
+                }
+            }
+            if (!lines.isEmpty()) {
+                futures.add(submit(executor, lines, chunkFirstLine));
+            }
+
+            List<ParsedChunk> chunks = new ArrayList<>(futures.size());
+            for (Future<ParsedChunk> future : futures) {
+                chunks.add(future.get());
+            }
+            return chunks;
+        } catch (IOException e) {
+            throw new Exception400("CSV 본문을 읽을 수 없습니다: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Exception500("CSV 파싱이 중단되었습니다");
+        } catch (ExecutionException e) {
+            throw new Exception500("CSV 파싱 중 오류가 발생했습니다: " + e.getCause().getMessage());
+        }
+    }
+
+    private Future<ParsedChunk> submit(ExecutorService executor, List<String> lines, int firstLine) {
+        return executor.submit(() -> parseChunk(lines, firstLine));
+    }
+
+    private static ParsedChunk parseChunk(List<String> lines, int firstLine) {
+        List<ParsedRow> rows = new ArrayList<>(lines.size());
+        List<DailyProductionResponse.ImportError> errors = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            int lineNumber = firstLine + i;
+            List<String> fields = tokenize(line);
+            if (fields == null) {
+                errors.add(new DailyProductionResponse.ImportError(lineNumber,
+                        "큰따옴표가 닫히지 않았습니다 (필드 안 줄바꿈은 지원하지 않음)"));
+                continue;
+            }
+            if (fields.size() != 3) {
+                errors.add(new DailyProductionResponse.ImportError(lineNumber,
+                        "컬럼 수가 올바르지 않습니다 (itemCode, productionDate, totalQuantity)"));
+                continue;
+            }
+            String itemCode = fields.get(0);
+            String date = fields.get(1);
+            String quantity = fields.get(2);
+            if (itemCode.isEmpty()) {
+                errors.add(new DailyProductionResponse.ImportError(lineNumber, "부품 코드는 필수입니다"));
+                continue;
+            }
+            LocalDate productionDate;
+            try {
+                productionDate = LocalDate.parse(date);
+            } catch (DateTimeParseException e) {
+                errors.add(new DailyProductionResponse.ImportError(lineNumber,
+                        "생산 일자 형식이 올바르지 않습니다 (yyyy-MM-dd): " + date));
+                continue;
+            }
+            int totalQuantity;
+            try {
+                totalQuantity = Integer.parseInt(quantity);
+            } catch (NumberFormatException e) {
+                totalQuantity = -1;
+            }
+            if (totalQuantity < 0) {
+                errors.add(new DailyProductionResponse.ImportError(lineNumber,
+                        "총 생산 수량은 0 이상의 정수여야 합니다: " + quantity));
+                continue;
+            }
+            rows.add(new ParsedRow(lineNumber, itemCode, productionDate, totalQuantity));
+        }
+        return new ParsedChunk(rows, errors);
+    }
+
+    // 파일의 부품/기간 범위에 해당하는 기존 키를 한 번에 조회
+    private List<DailyProductionKey> existingKeys(List<DailyProductionBulkRepository.Row> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> itemIds = new HashSet<>();
+        LocalDate startDate = LocalDate.MAX;
+        LocalDate endDate = LocalDate.MIN;
+        for (DailyProductionBulkRepository.Row row : rows) {
+            itemIds.add(row.key().itemId());
+            LocalDate date = row.key().productionDate();
+            startDate = date.isBefore(startDate) ? date : startDate;
+            endDate = date.isAfter(endDate) ? date : endDate;
+        }
+        return dailyProductionRepository.findKeys(itemIds, startDate, endDate);
+    }
+
+    // 한 줄을 필드로 분리 (큰따옴표 안의 쉼표는 값, "" 는 따옴표 한 개), 따옴표가 닫히지 않으면 null
+    private static List<String> tokenize(String line) {
+        List<String> fields = new ArrayList<>(3);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    private static long millis(long fromNanos, long toNanos) {
+        return (toNanos - fromNanos) / 1_000_000;
+    }
+
+    private record ParsedRow(int line, String itemCode, LocalDate productionDate, int totalQuantity) {
+    }
+
+    private record Stored(int accepted, int inserted, long dedupedAt) {
+    }
+
+    private record ParsedChunk(List<ParsedRow> rows, List<DailyProductionResponse.ImportError> errors) {
+    }
+}
@@ -0,0 +1,9 @@
+package dev.dote.qtrack.dailyproduction;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 생산 데이터 자연 키 (부품, 생산일) - 유니크 제약 uk_daily_production_item_date 와 동일
+ */
+public record DailyProductionKey(Long itemId, LocalDate productionDate) {
+}
@@ -0,0 +1,9 @@
+package dev.dote.qtrack.dailyproduction;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 생산 데이터 자연 키 (부품, 생산일) 와 ID - 키 → ID 캐시 적재용
+ */
+public record DailyProductionKeyId(Long id, Long itemId, LocalDate productionDate) {
+}
@@ -0,0 +1,69 @@
+package dev.dote.qtrack.dailyproduction;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 일별 생산/품질 기록 집합 삭제 (DB 외래 키가 없어 연쇄 삭제를 직접 수행)
+ * - 부품 단위 삭제는 ID 오름차순 chunkSize 건의 마지막 ID 를 상한으로 잡아 구간별로 삭제 (IN 서브쿼리에 LIMIT 을 쓰지 않음)
+ * - 품질 기록을 먼저 지우고 일별 생산을 지움 (중간에 멈춰도 고아 품질 기록이 생기지 않음)
+ * - 고아 조회/삭제: 부품이 없는 일별 생산, 일별 생산이 없는 품질 기록
+ * - 호출 측 JPA 트랜잭션과 같은 커넥션 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyProductionPurgeRepository {
+    private static final String CHUNK_IDS_BY_ITEM_SQL = "SELECT id FROM daily_production_tb "
+            + "WHERE item_id = ? ORDER BY id LIMIT ?";
+    private static final String DELETE_QUALITY_RECORDS_BY_ITEM_SQL = "DELETE FROM quality_record_tb "
+            + "WHERE daily_production_id IN (SELECT id FROM daily_production_tb WHERE item_id = ? AND id <= ?)";
+    private static final String DELETE_BY_ITEM_SQL = "DELETE FROM daily_production_tb WHERE item_id = ? AND id <= ?";
+    private static final String DELETE_QUALITY_RECORDS_SQL = "DELETE FROM quality_record_tb "
+            + "WHERE daily_production_id = ?";
+    private static final String ORPHAN_ITEM_IDS_SQL = "SELECT DISTINCT dp.item_id FROM daily_production_tb dp "
+            + "WHERE NOT EXISTS (SELECT 1 FROM item_tb i WHERE i.id = dp.item_id)";
+    private static final String ORPHAN_QUALITY_RECORD_IDS_SQL = "SELECT qr.id FROM quality_record_tb qr "
+            + "WHERE NOT EXISTS (SELECT 1 FROM daily_production_tb dp WHERE dp.id = qr.daily_production_id) "
+            + "ORDER BY qr.id LIMIT ?";
+    private static final String DELETE_ORPHAN_QUALITY_RECORDS_SQL = "DELETE FROM quality_record_tb "
+            + "WHERE id <= ? AND NOT EXISTS "
+            + "(SELECT 1 FROM daily_production_tb dp WHERE dp.id = quality_record_tb.daily_production_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 부품의 다음 삭제 구간 상한 ID, 남은 일별 생산이 없으면 null
+    public Long findChunkUpperId(Long itemId, int chunkSize) {
+        List<Long> ids = jdbcTemplate.queryForList(CHUNK_IDS_BY_ITEM_SQL, Long.class, itemId, chunkSize);
+        return ids.isEmpty() ? null : ids.getLast();
+    }
+
+    public int deleteQualityRecordsByItem(Long itemId, Long upperId) {
+        return jdbcTemplate.update(DELETE_QUALITY_RECORDS_BY_ITEM_SQL, itemId, upperId);
+    }
+
+    public int deleteByItem(Long itemId, Long upperId) {
+        return jdbcTemplate.update(DELETE_BY_ITEM_SQL, itemId, upperId);
+    }
+
+    public int deleteQualityRecords(Long dailyProductionId) {
+        return jdbcTemplate.update(DELETE_QUALITY_RECORDS_SQL, dailyProductionId);
+    }
+
+    // 일별 생산은 남아 있지만 부품이 삭제된 부품 ID
+    public List<Long> findOrphanItemIds() {
+        return jdbcTemplate.queryForList(ORPHAN_ITEM_IDS_SQL, Long.class);
+    }
+
+    // 일별 생산이 없는 품질 기록의 다음 삭제 구간 상한 ID, 없으면 null
+    public Long findOrphanQualityRecordUpperId(int chunkSize) {
+        List<Long> ids = jdbcTemplate.queryForList(ORPHAN_QUALITY_RECORD_IDS_SQL, Long.class, chunkSize);
+        return ids.isEmpty() ? null : ids.getLast();
+    }
+
+    public int deleteOrphanQualityRecords(Long upperId) {
+        return jdbcTemplate.update(DELETE_ORPHAN_QUALITY_RECORDS_SQL, upperId);
+    }
+}
@@ -0,0 +1,129 @@
+package dev.dote.qtrack.dailyproduction;
+
+import dev.dote.qtrack.item.ItemRepository;
+import dev.dote.qtrack.outlier.OutlierStatRepository;
+import dev.dote.qtrack.rollup.NgRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 부품 삭제 연쇄 처리와 고아 데이터 정리 (DB 외래 키가 없어 애플리케이션에서 수행)
+ * - 부품 삭제: 부품 행과 부품의 NG 집계/이상치 누적 통계를 한 트랜잭션에서 삭제한 뒤,
+ *   소속 일별 생산/품질 기록을 chunkSize 건 단위 집합 삭제 (DELETE ... WHERE daily_production_id IN (서브쿼리))
+ * - 호출 측 트랜잭션이 없으면 단위마다 커밋해 큰 부품도 잠금을 오래 잡지 않음 (있으면 그 트랜잭션에 참여)
+ * - 중간에 멈춰도 남은 일별 생산은 부품이 없는 고아가 되어 정리 작업이 마저 삭제
+ * - 정리 작업 (dailyproduction.purge.sweep-interval-ms 마다): 부품이 없는 일별 생산/품질 기록,
+ *   일별 생산이 없는 품질 기록, 부품이 없는 집계/누적 통계 삭제
+ *   (일별 생산 삭제 시 품질 기록 기여분은 이미 집계에서 제거되므로 고아 품질 기록 삭제는 집계를 바꾸지 않음)
+ * - 부품의 일별 생산을 삭제한 단위마다 DailyProductionChangedEvent 발행 (커밋 후 키 → ID 캐시 무효화)
+ */
+@Slf4j
+@Service
+public class DailyProductionPurgeService {
+    private final DailyProductionPurgeRepository dailyProductionPurgeRepository;
+    private final ItemRepository itemRepository;
+    private final NgRollupRepository ngRollupRepository;
+    private final OutlierStatRepository outlierStatRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public DailyProductionPurgeService(DailyProductionPurgeRepository dailyProductionPurgeRepository,
+            ItemRepository itemRepository,
+            NgRollupRepository ngRollupRepository,
+            OutlierStatRepository outlierStatRepository,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${dailyproduction.purge.chunk-size:500}") int chunkSize) {
+        this.dailyProductionPurgeRepository = dailyProductionPurgeRepository;
+        this.itemRepository = itemRepository;
+        this.ngRollupRepository = ngRollupRepository;
+        this.outlierStatRepository = outlierStatRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    // 부품 행과 파생 집계 삭제 후 소속 데이터 삭제
+    public Purge deleteItem(Long itemId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            itemRepository.deleteAllByIdInBatch(List.of(itemId));
+            ngRollupRepository.deleteByItemId(itemId);
+            outlierStatRepository.deleteByItemId(itemId);
+        });
+        return purgeItem(itemId);
+    }
+
+    @Scheduled(fixedDelayString = "${dailyproduction.purge.sweep-interval-ms:3600000}",
+            initialDelayString = "${dailyproduction.purge.sweep-interval-ms:3600000}")
+    public void scheduledSweep() {
+        sweepOrphans();
+    }
+
+    public Purge sweepOrphans() {
+        Purge purged = Purge.EMPTY;
+        for (Long itemId : dailyProductionPurgeRepository.findOrphanItemIds()) {
+            purged = purged.plus(purgeItem(itemId));
+        }
+
+        long orphanQualityRecords = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                Long upperId = dailyProductionPurgeRepository.findOrphanQualityRecordUpperId(chunkSize);
+                return upperId == null ? null : dailyProductionPurgeRepository.deleteOrphanQualityRecords(upperId);
+            });
+            if (deleted == null) {
+                break;
+            }
+            orphanQualityRecords += deleted;
+        }
+        purged = purged.plus(new Purge(0, orphanQualityRecords));
+
+        Integer aggregates = transactionTemplate.execute(status ->
+                ngRollupRepository.deleteOrphans() + outlierStatRepository.deleteOrphans());
+        if (purged.dailyProductions() > 0 || purged.qualityRecords() > 0 || aggregates > 0) {
+            log.info("고아 데이터 정리: 일별 생산 {}건, 품질 기록 {}건, 집계/누적 통계 {}건",
+                    purged.dailyProductions(), purged.qualityRecords(), aggregates);
+        }
+        return purged;
+    }
+
+    // 부품의 일별 생산/품질 기록을 ID 오름차순 chunkSize 건씩 삭제
+    private Purge purgeItem(Long itemId) {
+        Purge purged = Purge.EMPTY;
+        while (true) {
+            Purge chunk = transactionTemplate.execute(status -> {
+                Long upperId = dailyProductionPurgeRepository.findChunkUpperId(itemId, chunkSize);
+                if (upperId == null) {
+                    return null;
+                }
+                int qualityRecords = dailyProductionPurgeRepository.deleteQualityRecordsByItem(itemId, upperId);
+                int dailyProductions = dailyProductionPurgeRepository.deleteByItem(itemId, upperId);
+                if (dailyProductions > 0) {
+                    eventPublisher.publishEvent(new DailyProductionChangedEvent(itemId, null));
+                }
+                return new Purge(dailyProductions, qualityRecords);
+            });
+            if (chunk == null) {
+                return purged;
+            }
+            purged = purged.plus(chunk);
+        }
+    }
+
+    // 삭제한 일별 생산/품질 기록 수
+    public record Purge(long dailyProductions, long qualityRecords) {
+        static final Purge EMPTY = new Purge(0, 0);
+
+        Purge plus(Purge other) {
+            return new Purge(dailyProductions + other.dailyProductions, qualityRecords + other.qualityRecords);
+        }
+    }
+}
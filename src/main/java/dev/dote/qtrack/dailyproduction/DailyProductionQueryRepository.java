@@ -0,0 +1,22 @@
+package dev.dote.qtrack.dailyproduction;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일별 생산 데이터 동적 필터 조회
+ * - 전달된 조건만 WHERE 절에 포함 (IS NULL OR 형태의 범용 조건 없음)
+ */
+public interface DailyProductionQueryRepository {
+
+    Page<DailyProductionResponse.List> findListWithFilters(Pageable pageable, Long itemId, LocalDate startDate,
+            LocalDate endDate);
+
+    // 키셋 페이지 조회: 이전 페이지 마지막 행의 정렬 키 이후부터 limit 건 (OFFSET, COUNT 없음)
+    List<DailyProductionScrollRow> scroll(Long itemId, LocalDate startDate, LocalDate endDate,
+            LocalDate cursorDate, String cursorItemCode, Long cursorId, Limit limit);
+}
@@ -0,0 +1,98 @@
+package dev.dote.qtrack.dailyproduction;
+
+import dev.dote.qtrack.item.Item;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일별 생산 데이터 동적 필터 조회 (Criteria)
+ * - 부품 필터는 item_id 컬럼에 직접 적용해 (item_id, production_date) 인덱스 사용
+ * - 정렬: 생산일 DESC, 부품 코드 ASC (키셋 조회는 ID ASC 추가)
+ */
+@RequiredArgsConstructor
+public class DailyProductionQueryRepositoryImpl implements DailyProductionQueryRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<DailyProductionResponse.List> findListWithFilters(Pageable pageable, Long itemId,
+            LocalDate startDate, LocalDate endDate) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DailyProductionResponse.List> query = cb.createQuery(DailyProductionResponse.List.class);
+        Root<DailyProduction> dp = query.from(DailyProduction.class);
+        Join<DailyProduction, Item> i = dp.join("item");
+
+        query.select(cb.construct(DailyProductionResponse.List.class,
+                dp.get("id"), i.get("id"), dp.get("productionDate"), dp.get("totalQuantity")))
+                .where(filters(cb, dp, itemId, startDate, endDate).toArray(Predicate[]::new))
+                .orderBy(cb.desc(dp.get("productionDate")), cb.asc(i.get("code")));
+
+        List<DailyProductionResponse.List> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(itemId, startDate, endDate));
+    }
+
+    @Override
+    public List<DailyProductionScrollRow> scroll(Long itemId, LocalDate startDate, LocalDate endDate,
+            LocalDate cursorDate, String cursorItemCode, Long cursorId, Limit limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DailyProductionScrollRow> query = cb.createQuery(DailyProductionScrollRow.class);
+        Root<DailyProduction> dp = query.from(DailyProduction.class);
+        Join<DailyProduction, Item> i = dp.join("item");
+
+        List<Predicate> predicates = filters(cb, dp, itemId, startDate, endDate);
+        if (cursorDate != null) {
+            // (생산일 DESC, 부품 코드, ID) 기준으로 커서 이후 행
+            predicates.add(cb.or(
+                    cb.lessThan(dp.get("productionDate"), cursorDate),
+                    cb.and(cb.equal(dp.get("productionDate"), cursorDate), cb.or(
+                            cb.greaterThan(i.get("code"), cursorItemCode),
+                            cb.and(cb.equal(i.get("code"), cursorItemCode),
+                                    cb.greaterThan(dp.get("id"), cursorId))))));
+        }
+
+        query.select(cb.construct(DailyProductionScrollRow.class,
+                dp.get("id"), i.get("id"), dp.get("productionDate"), dp.get("totalQuantity"), i.get("code")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(dp.get("productionDate")), cb.asc(i.get("code")), cb.asc(dp.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit.max())
+                .getResultList();
+    }
+
+    private long count(Long itemId, LocalDate startDate, LocalDate endDate) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<DailyProduction> dp = query.from(DailyProduction.class);
+        query.select(cb.count(dp))
+                .where(filters(cb, dp, itemId, startDate, endDate).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    // 전달된 조건만 추가
+    private List<Predicate> filters(CriteriaBuilder cb, Root<DailyProduction> dp, Long itemId, LocalDate startDate,
+            LocalDate endDate) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (itemId != null) {
+            predicates.add(cb.equal(dp.get("item").get("id"), itemId));
+        }
+        if (startDate != null) {
+            predicates.add(cb.greaterThanOrEqualTo(dp.get("productionDate"), startDate));
+        }
+        if (endDate != null) {
+            predicates.add(cb.lessThanOrEqualTo(dp.get("productionDate"), endDate));
+        }
+        return predicates;
+    }
+}
@@ -1,17 +1,16 @@
 package dev.dote.qtrack.dailyproduction;
 
 import dev.dote.qtrack.item.Item;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface DailyProductionRepository extends JpaRepository<DailyProduction, Long> {
+public interface DailyProductionRepository extends JpaRepository<DailyProduction, Long>, DailyProductionQueryRepository {
     boolean existsByItemAndProductionDate(Item item, LocalDate productionDate);
 
     Optional<DailyProduction> findByItemAndProductionDate(Item item, LocalDate productionDate);
@@ -19,24 +18,31 @@ public interface DailyProductionRepository extends JpaRepository<DailyProduction
     @Query("SELECT dp FROM DailyProduction dp JOIN FETCH dp.item")
     List<DailyProduction> findAllWithItem();
 
-    @Query(value = "SELECT dp FROM DailyProduction dp JOIN dp.item i " +
-            "WHERE (:itemId IS NULL OR i.id = :itemId) " +
-            "AND (:startDate IS NULL OR dp.productionDate >= :startDate) " +
-            "AND (:endDate IS NULL OR dp.productionDate <= :endDate) " +
-            "ORDER BY dp.productionDate DESC, i.code ASC",
-            countQuery = "SELECT COUNT(dp) FROM DailyProduction dp JOIN dp.item i " +
-            "WHERE (:itemId IS NULL OR i.id = :itemId) " +
-            "AND (:startDate IS NULL OR dp.productionDate >= :startDate) " +
-            "AND (:endDate IS NULL OR dp.productionDate <= :endDate)")
-    Page<DailyProduction> findAllWithFilters(Pageable pageable,
-            @Param("itemId") Long itemId,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate);
-
     @Query("SELECT dp FROM DailyProduction dp JOIN FETCH dp.item WHERE dp.id = :id")
     Optional<DailyProduction> findByIdWithItem(@Param("id") Long id);
 
     @Query("SELECT dp FROM DailyProduction dp JOIN FETCH dp.item WHERE dp.item = :item AND dp.productionDate = :productionDate")
     Optional<DailyProduction> findByItemAndProductionDateWithItem(@Param("item") Item item,
             @Param("productionDate") LocalDate productionDate);
+
+    @Query("SELECT dp.id FROM DailyProduction dp WHERE dp.item.id = :itemId AND dp.productionDate = :productionDate")
+    Optional<Long> findIdByKey(@Param("itemId") Long itemId, @Param("productionDate") LocalDate productionDate);
+
+    // TCP 수집 게이트웨이 캐시 적재용: 기간 내 전체 (부품, 생산일) 키와 ID
+    @Query("SELECT new dev.dote.qtrack.dailyproduction.DailyProductionKeyId(dp.id, dp.item.id, dp.productionDate) " +
+            "FROM DailyProduction dp WHERE dp.productionDate BETWEEN :startDate AND :endDate")
+    List<DailyProductionKeyId> findKeyIds(@Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    // 낱개 수집 키 확인용: 주어진 ID 중 존재하는 ID
+    @Query("SELECT dp.id FROM DailyProduction dp WHERE dp.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 가져오기 중복 확인용: 부품들의 기간 내 기존 (부품, 생산일) 키
+    @Query("SELECT new dev.dote.qtrack.dailyproduction.DailyProductionKey(dp.item.id, dp.productionDate) " +
+            "FROM DailyProduction dp " +
+            "WHERE dp.item.id IN :itemIds AND dp.productionDate BETWEEN :startDate AND :endDate")
+    List<DailyProductionKey> findKeys(@Param("itemIds") Collection<Long> itemIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
 }
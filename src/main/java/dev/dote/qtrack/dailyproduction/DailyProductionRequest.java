@@ -1,9 +1,12 @@
 package dev.dote.qtrack.dailyproduction;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
+import java.util.Map;
 
 public class DailyProductionRequest {
     public record Create(
@@ -18,4 +21,31 @@ public class DailyProductionRequest {
             @NotNull(message = "총 생산 수량은 필수입니다")
             @Min(value = 0, message = "총 생산 수량은 0 이상이어야 합니다") Integer totalQuantity) {
     }
+
+    // (부품, 생산일) 키 기준 등록 또는 수정
+    public record Upsert(
+            @NotNull(message = "부품 ID는 필수입니다") Long itemId,
+            @NotNull(message = "생산 일자는 필수입니다")
+            @JsonFormat(pattern = "yyyy-MM-dd") LocalDate productionDate,
+            @NotNull(message = "총 생산 수량은 필수입니다")
+            @Min(value = 0, message = "총 생산 수량은 0 이상이어야 합니다") Integer totalQuantity) {
+    }
+
+    // 일별 생산과 공정별 품질 기록 일괄 등록 (qualityRecords: 공정 ID → 수량)
+    public record CreateWithQualityRecords(
+            @NotNull(message = "부품 ID는 필수입니다") Long itemId,
+            @NotNull(message = "생산 일자는 필수입니다")
+            @JsonFormat(pattern = "yyyy-MM-dd") LocalDate productionDate,
+            @NotNull(message = "총 생산 수량은 필수입니다")
+            @Min(value = 0, message = "총 생산 수량은 0 이상이어야 합니다") Integer totalQuantity,
+            @NotEmpty(message = "공정별 품질 기록은 1건 이상이어야 합니다")
+            Map<Long, @NotNull(message = "공정별 수량은 필수입니다") @Valid ProcessQuantity> qualityRecords) {
+    }
+
+    public record ProcessQuantity(
+            @NotNull(message = "OK 수량은 필수입니다")
+            @Min(value = 0, message = "OK 수량은 0 이상이어야 합니다") Integer okQuantity,
+            @NotNull(message = "NG 수량은 필수입니다")
+            @Min(value = 0, message = "NG 수량은 0 이상이어야 합니다") Integer ngQuantity) {
+    }
 }
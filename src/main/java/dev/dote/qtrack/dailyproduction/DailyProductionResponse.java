@@ -1,6 +1,7 @@
 package dev.dote.qtrack.dailyproduction;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 public class DailyProductionResponse {
@@ -34,4 +35,55 @@ public class DailyProductionResponse {
 
     public record Delete(Long id) {
     }
+
+    // created: 새로 등록했으면 true, 기존 데이터를 수정했으면 false
+    public record Upsert(
+            Long id,
+            Long itemId,
+            @JsonFormat(pattern = "yyyy-MM-dd") LocalDate productionDate,
+            Integer totalQuantity,
+            boolean created) {
+    }
+
+    // 일별 생산과 공정별 품질 기록 일괄 등록 결과 (품질 기록은 공정 순서대로)
+    public record CreateWithQualityRecords(
+            Long id,
+            Long itemId,
+            @JsonFormat(pattern = "yyyy-MM-dd") LocalDate productionDate,
+            Integer totalQuantity,
+            java.util.List<ProcessQualityRecord> qualityRecords) {
+    }
+
+    public record ProcessQualityRecord(
+            Long id,
+            Long processId,
+            Integer okQuantity,
+            Integer ngQuantity,
+            Integer totalQuantity,
+            BigDecimal ngRate,
+            Boolean evaluationRequired,
+            String evaluationReason) {
+    }
+
+    // CSV 가져오기 결과 (dryRun 이면 accepted 는 저장 가능 건수, inserted 는 0)
+    public record Import(
+            boolean dryRun,
+            int totalRows,
+            int accepted,
+            int inserted,
+            int invalid,
+            int duplicates,
+            long elapsedMillis,
+            long rowsPerSecond,
+            ImportStages stages,
+            java.util.List<ImportError> errors) {
+    }
+
+    // 단계별 소요 시간 (ms)
+    public record ImportStages(long parse, long validate, long dedupe, long insert) {
+    }
+
+    // line: CSV 파일 내 줄 번호 (1부터, 헤더 포함)
+    public record ImportError(int line, String message) {
+    }
 }
@@ -0,0 +1,26 @@
+package dev.dote.qtrack.dailyproduction;
+
+import dev.dote.qtrack._core.util.CursorUtil;
+
+import java.time.LocalDate;
+
+/**
+ * 커서 기반 목록 조회 행
+ * - 목록 응답 필드 + 정렬 키 (부품 코드)
+ */
+public record DailyProductionScrollRow(
+        Long id,
+        Long itemId,
+        LocalDate productionDate,
+        Integer totalQuantity,
+        String itemCode) {
+
+    public DailyProductionResponse.List toResponse() {
+        return new DailyProductionResponse.List(id, itemId, productionDate, totalQuantity);
+    }
+
+    // 정렬 키 순서: 생산일, ID, 부품 코드 (부품 코드는 구분자를 포함할 수 있어 마지막)
+    public String cursor() {
+        return CursorUtil.encode(productionDate, id, itemCode);
+    }
+}
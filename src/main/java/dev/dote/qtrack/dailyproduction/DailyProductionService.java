@@ -1,9 +1,16 @@
 package dev.dote.qtrack.dailyproduction;
 
 import dev.dote.qtrack._core.errors.ex.Exception400;
+import dev.dote.qtrack._core.util.CursorPage;
+import dev.dote.qtrack._core.util.CursorUtil;
 import dev.dote.qtrack.item.Item;
 import dev.dote.qtrack.item.ItemRepository;
+import dev.dote.qtrack.outlier.OutlierService;
+import dev.dote.qtrack.qualityrecord.NextDayReevaluator;
+import dev.dote.qtrack.rollup.NgRollupService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -15,14 +22,27 @@ import java.util.List;
 /**
  * 일별 생산 데이터 비즈니스 로직 처리
  * - 일별 생산 데이터 조회, 생성, 수정, 삭제 기능
+ * - 커서(키셋) 기반 목록 조회 (OFFSET, COUNT 없이 정렬 키로 탐색)
  * - 부품별 일일 생산 수량 관리 및 검증
+ * - (부품, 생산일) 키 기준 upsert: 존재 확인 없이 한 문장으로 등록 또는 수정 (단말 재전송에 멱등)
+ * - 삭제 시 소속 품질 기록의 NG 집계, 이상치 누적 통계 기여분 제거 후 품질 기록도 한 문장으로 삭제
+ * - 삭제 시 다음 날 같은 부품 기록은 커밋 직전에 재평가 (NextDayReevaluator)
+ * - 생성/삭제 시 DailyProductionChangedEvent 발행 (커밋 후 키 → ID 캐시 무효화)
  */
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class DailyProductionService {
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final DailyProductionRepository dailyProductionRepository;
+    private final DailyProductionBulkRepository dailyProductionBulkRepository;
+    private final DailyProductionPurgeRepository dailyProductionPurgeRepository;
     private final ItemRepository itemRepository;
+    private final NgRollupService ngRollupService;
+    private final OutlierService outlierService;
+    private final NextDayReevaluator nextDayReevaluator;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<DailyProductionResponse.List> findAll() {
         return dailyProductionRepository.findAllWithItem().stream()
@@ -35,12 +55,34 @@ public class DailyProductionService {
     }
 
     public Page<DailyProductionResponse.List> findAll(Pageable pageable, Long itemId, LocalDate startDate, LocalDate endDate) {
-        return dailyProductionRepository.findAllWithFilters(pageable, itemId, startDate, endDate)
-                .map(dp -> new DailyProductionResponse.List(
-                        dp.getId(),
-                        dp.getItem().getId(),
-                        dp.getProductionDate(),
-                        dp.getTotalQuantity()));
+        return dailyProductionRepository.findListWithFilters(pageable, itemId, startDate, endDate);
+    }
+
+    public CursorPage<DailyProductionResponse.List> scroll(String cursor, int size, Long itemId, LocalDate startDate,
+            LocalDate endDate) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new Exception400("페이지 크기는 1 이상 " + MAX_SCROLL_SIZE + " 이하여야 합니다: " + size);
+        }
+
+        // 커서: 생산일, ID, 부품 코드
+        LocalDate cursorDate = null;
+        Long cursorId = null;
+        String cursorItemCode = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] values = CursorUtil.decode(cursor, 3);
+            try {
+                cursorDate = LocalDate.parse(values[0]);
+                cursorId = Long.valueOf(values[1]);
+            } catch (RuntimeException e) {
+                throw new Exception400("잘못된 커서입니다: " + cursor);
+            }
+            cursorItemCode = values[2];
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회
+        List<DailyProductionScrollRow> rows = dailyProductionRepository.scroll(itemId, startDate, endDate,
+                cursorDate, cursorItemCode, cursorId, Limit.of(size + 1));
+        return CursorPage.of(rows, size, DailyProductionScrollRow::toResponse, DailyProductionScrollRow::cursor);
     }
 
     public DailyProductionResponse.Get findById(Long id) {
@@ -68,6 +110,7 @@ public class DailyProductionService {
 
         DailyProduction dailyProduction = new DailyProduction(item, productionDate, totalQuantity);
         DailyProduction saved = dailyProductionRepository.save(dailyProduction);
+        eventPublisher.publishEvent(new DailyProductionChangedEvent(itemId, productionDate));
         return new DailyProductionResponse.Create(
                 saved.getId(),
                 saved.getItem().getId(),
@@ -75,6 +118,26 @@ public class DailyProductionService {
                 saved.getTotalQuantity());
     }
 
+    // 존재 확인 없이 방언별 upsert 로 저장 (재전송/동시 요청에도 중복 오류 없음), 부품 확인도 같은 문장에서 수행
+    // - MySQL 은 한 문장으로 ID 와 생성 여부까지 받음, H2 는 키로 ID 를 한 번 더 조회 (DailyProductionBulkRepository)
+    @Transactional
+    public DailyProductionResponse.Upsert upsert(Long itemId, LocalDate productionDate, Integer totalQuantity) {
+        if (totalQuantity == null || totalQuantity < 0) {
+            throw new Exception400("총 생산 수량은 0 이상이어야 합니다: " + totalQuantity);
+        }
+
+        DailyProductionBulkRepository.Upserted upserted = dailyProductionBulkRepository.upsert(
+                new DailyProductionBulkRepository.Row(new DailyProductionKey(itemId, productionDate), totalQuantity));
+        if (upserted == null) {
+            throw new Exception400("부품을 찾을 수 없습니다: " + itemId);
+        }
+        if (upserted.created()) {
+            eventPublisher.publishEvent(new DailyProductionChangedEvent(itemId, productionDate));
+        }
+        return new DailyProductionResponse.Upsert(upserted.id(), itemId, productionDate, totalQuantity,
+                upserted.created());
+    }
+
     @Transactional
     public DailyProductionResponse.Update update(Long id, Integer totalQuantity) {
         if (totalQuantity == null || totalQuantity < 0) {
@@ -97,7 +160,14 @@ public class DailyProductionService {
     public DailyProductionResponse.Delete delete(Long id) {
         DailyProduction dailyProduction = dailyProductionRepository.findById(id)
                 .orElseThrow(() -> new Exception400("일별 생산 데이터를 찾을 수 없습니다: " + id));
+        ngRollupService.retractDailyProduction(id);
+        outlierService.retractDailyProduction(id);
+        dailyProductionPurgeRepository.deleteQualityRecords(id);
         dailyProductionRepository.delete(dailyProduction);
+        nextDayReevaluator.changedDailyProduction(dailyProduction.getItem().getId(),
+                dailyProduction.getProductionDate());
+        eventPublisher.publishEvent(new DailyProductionChangedEvent(dailyProduction.getItem().getId(),
+                dailyProduction.getProductionDate()));
         return new DailyProductionResponse.Delete(id);
     }
 }
@@ -0,0 +1,43 @@
+package dev.dote.qtrack.gateway;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * 연결용 direct ByteBuffer 풀 (게이트웨이 selector 스레드 전용, 동기화 없음)
+ * - 반납된 버퍼를 재사용하고, 모자라면 capacity 개까지만 새로 할당
+ */
+class DirectBufferPool {
+    private final int bufferBytes;
+    private final int capacity;
+    private final ArrayDeque<ByteBuffer> free = new ArrayDeque<>();
+    private int allocated;
+
+    DirectBufferPool(int bufferBytes, int capacity) {
+        this.bufferBytes = bufferBytes;
+        this.capacity = capacity;
+    }
+
+    // 남은 버퍼가 없으면 null
+    ByteBuffer acquire() {
+        ByteBuffer buffer = free.poll();
+        if (buffer != null) {
+            return buffer.clear();
+        }
+        if (allocated >= capacity) {
+            return null;
+        }
+        allocated++;
+        return ByteBuffer.allocateDirect(bufferBytes);
+    }
+
+    void release(ByteBuffer buffer) {
+        if (buffer != null) {
+            free.push(buffer);
+        }
+    }
+
+    int available() {
+        return free.size() + capacity - allocated;
+    }
+}
@@ -0,0 +1,99 @@
+package dev.dote.qtrack.gateway;
+
+import dev.dote.qtrack.qualityrecord.QualityRecordIngestBuffer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * selector 한 바퀴 동안 받은 COUNT 프레임을 (일별 생산, 공정) 별로 합산 (게이트웨이 selector 스레드 전용)
+ * - 원시 배열 개방 주소 해시 테이블이라 프레임마다 객체를 만들지 않음
+ * - drain 에서 수집 경로(QualityRecordIngestJournal.append)의 변화량 맵으로 바꾸고 비움 (키 수만큼만 할당)
+ */
+class GatewayAggregator {
+    private long[] dailyProductionIds;
+    private long[] processIds;
+    private long[] okQuantities;
+    private long[] ngQuantities;
+    // 사용 중인 칸 번호 (비울 때 전체를 훑지 않도록)
+    private int[] used;
+    private int size;
+
+    GatewayAggregator(int initialCapacity) {
+        allocate(Integer.highestOneBit(Math.max(16, initialCapacity)) * 2);
+    }
+
+    void add(long dailyProductionId, long processId, int okQuantity, int ngQuantity) {
+        if ((size + 1) * 2 > dailyProductionIds.length) {
+            grow();
+        }
+        int mask = dailyProductionIds.length - 1;
+        int slot = mix(dailyProductionId, processId) & mask;
+        while (dailyProductionIds[slot] != 0) {
+            if (dailyProductionIds[slot] == dailyProductionId && processIds[slot] == processId) {
+                okQuantities[slot] += okQuantity;
+                ngQuantities[slot] += ngQuantity;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        dailyProductionIds[slot] = dailyProductionId;
+        processIds[slot] = processId;
+        okQuantities[slot] = okQuantity;
+        ngQuantities[slot] = ngQuantity;
+        used[size++] = slot;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    Map<QualityRecordIngestBuffer.Key, QualityRecordIngestBuffer.Delta> drain() {
+        Map<QualityRecordIngestBuffer.Key, QualityRecordIngestBuffer.Delta> deltas = HashMap.newHashMap(size);
+        for (int i = 0; i < size; i++) {
+            int slot = used[i];
+            deltas.put(new QualityRecordIngestBuffer.Key(dailyProductionIds[slot], processIds[slot]),
+                    new QualityRecordIngestBuffer.Delta(okQuantities[slot], ngQuantities[slot]));
+            dailyProductionIds[slot] = 0;
+        }
+        size = 0;
+        return deltas;
+    }
+
+    private void grow() {
+        long[] oldDailyProductionIds = dailyProductionIds;
+        long[] oldProcessIds = processIds;
+        long[] oldOkQuantities = okQuantities;
+        long[] oldNgQuantities = ngQuantities;
+        int[] oldUsed = used;
+        int oldSize = size;
+        allocate(oldDailyProductionIds.length * 2);
+        int mask = dailyProductionIds.length - 1;
+        for (int i = 0; i < oldSize; i++) {
+            int oldSlot = oldUsed[i];
+            int slot = mix(oldDailyProductionIds[oldSlot], oldProcessIds[oldSlot]) & mask;
+            while (dailyProductionIds[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            dailyProductionIds[slot] = oldDailyProductionIds[oldSlot];
+            processIds[slot] = oldProcessIds[oldSlot];
+            okQuantities[slot] = oldOkQuantities[oldSlot];
+            ngQuantities[slot] = oldNgQuantities[oldSlot];
+            used[size++] = slot;
+        }
+    }
+
+    private void allocate(int capacity) {
+        dailyProductionIds = new long[capacity];
+        processIds = new long[capacity];
+        okQuantities = new long[capacity];
+        ngQuantities = new long[capacity];
+        used = new int[capacity / 2 + 1];
+        size = 0;
+    }
+
+    private static int mix(long dailyProductionId, long processId) {
+        long h = (dailyProductionId * 31 + processId) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,45 @@
+package dev.dote.qtrack.gateway;
+
+/**
+ * 라인 컨트롤러(PLC 게이트웨이) TCP 수집 프로토콜 (모든 정수는 big-endian)
+ * - 프레임: [길이 u16: 이후 바이트 수][종류 u8][본문]
+ * - 서버 → 게이트웨이
+ *   - CHALLENGE: [nonce 16] (접속 직후 1회)
+ *   - AUTH_OK: [서버가 알고 있는 마지막 순번 i64] (저널에 기록된 순번이라 재기동 후에도 유지, 저널 미사용 시 재기동 후 0)
+ *   - ACK: [순번 i64] 이 순번까지 저널 기록(fsync) 또는 거절 완료, 게이트웨이는 이후 순번부터 재전송
+ *   - REJECT: [순번 i64][사유 u8] 반영할 수 없는 프레임 (ACK 대상에 포함되므로 재전송하지 않음)
+ *   - RETRY: [순번 i64][사유 u8] 부품/공정/일별 생산을 아직 찾지 못해 지금은 반영할 수 없는 프레임 (사유는 REJECT 와 같음)
+ *            ACK 대상이 아니며, 게이트웨이는 잠시 뒤 이 순번부터 재전송 (그 전까지 받은 뒤 순번은 반영하지 않음)
+ * - 게이트웨이 → 서버
+ *   - AUTH: [게이트웨이 ID 길이 u8][게이트웨이 ID ASCII][HMAC-SHA256(사전 공유 키, nonce) 32] (첫 프레임)
+ *   - COUNT: [순번 i64][생산일 epochDay i32][OK 증분 i32][NG 증분 i32]
+ *            [부품 코드 길이 u8][부품 코드 UTF-8][공정 코드 길이 u8][공정 코드 UTF-8]
+ * - 순번은 게이트웨이별로 증가해야 하며, 이미 받은 순번 이하의 COUNT 는 반영하지 않고 ACK 만 보냄 (재전송 멱등)
+ * - 인증 실패, 잘못된 프레임은 연결 종료
+ */
+public final class GatewayProtocol {
+    public static final byte AUTH = 0x01;
+    public static final byte COUNT = 0x10;
+    public static final byte CHALLENGE = (byte) 0x81;
+    public static final byte AUTH_OK = (byte) 0x82;
+    public static final byte ACK = (byte) 0x90;
+    public static final byte REJECT = (byte) 0x91;
+    public static final byte RETRY = (byte) 0x92;
+
+    public static final byte REJECT_UNKNOWN_ITEM = 1;
+    public static final byte REJECT_UNKNOWN_PROCESS = 2;
+    public static final byte REJECT_NO_DAILY_PRODUCTION = 3;
+    public static final byte REJECT_INVALID_QUANTITY = 4;
+
+    public static final int LENGTH_BYTES = 2;
+    public static final int NONCE_BYTES = 16;
+    public static final int MAC_BYTES = 32;
+    public static final String MAC_ALGORITHM = "HmacSHA256";
+    // COUNT 본문의 고정 길이 부분 (순번, 생산일, OK, NG)
+    public static final int COUNT_FIXED_BYTES = Long.BYTES + 3 * Integer.BYTES;
+    // 종류 + COUNT 고정부 + 코드 길이 2개 + 코드 최대 255 바이트씩
+    public static final int MAX_FRAME_BYTES = 1 + COUNT_FIXED_BYTES + 2 * (1 + 255);
+
+    private GatewayProtocol() {
+    }
+}
@@ -0,0 +1,361 @@
+package dev.dote.qtrack.gateway;
+
+import dev.dote.qtrack.dailyproduction.DailyProductionKeyId;
+import dev.dote.qtrack.dailyproduction.DailyProductionRepository;
+import dev.dote.qtrack.item.Item;
+import dev.dote.qtrack.item.ItemRepository;
+import dev.dote.qtrack.process.Process;
+import dev.dote.qtrack.process.ProcessRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * 프레임의 부품/공정 코드, 생산일을 ID 로 변환 (조회 결과는 게이트웨이 selector 스레드 전용)
+ * - DB 조회는 모두 조회 전용 스레드에서 수행, 결과는 selector 스레드가 applyCompleted() 로 반영 (selector 는 DB 를 기다리지 않음)
+ * - 부품/공정 코드: 코드 UTF-8 바이트를 키로 하는 개방 주소 해시 테이블, 버퍼에서 바로 비교해 문자열을 만들지 않음
+ *   → 테이블에 없으면 코드로 다시 조회, 조회 중에는 PENDING, 다시 조회해도 없으면 그 프레임에만 NOT_FOUND
+ * - 일별 생산 ID: (부품 ID, epochDay) → ID 원시 배열 캐시, refresh 때 최근 PRELOAD_DAYS 일치를 미리 적재
+ *   → 캐시에 없으면 조회를 맡기고 PENDING, 없음은 캐시하지 않음 (나중에 등록된 일별 생산도 재전송 시 반영)
+ * - refresh: 코드 테이블과 최근 일별 생산을 조회 스레드에서 다시 읽어 교체 (새 부품, 삭제/재등록된 일별 생산 반영)
+ * - evict: 일별 생산 삭제/생성 커밋 후 해당 키를 캐시에서 제거 (refresh 를 기다리지 않음)
+ *   → 지난 ID 로 ACK 한 프레임이 반영 때 삭제된 일별 생산으로 버려지지 않고, 다음 프레임은 새 ID 를 조회
+ *   → 제거 전에 시작된 조회/refresh 결과는 지난 ID 일 수 있어 캐시에 넣지 않음 (dayGeneration 비교)
+ */
+@Slf4j
+class GatewayResolver implements AutoCloseable {
+    static final long NOT_FOUND = -1;
+    static final long PENDING = -2;
+    // 일별 생산 캐시 최대 키 수 (넘으면 비움)
+    private static final int MAX_CACHED_DAYS = 1 << 16;
+    private static final int EPOCH_DAY_BITS = 24;
+    // refresh 때 미리 적재하는 생산일 (오늘 기준 과거 일수, 내일까지)
+    private static final int PRELOAD_DAYS = 7;
+
+    private final ItemRepository itemRepository;
+    private final ProcessRepository processRepository;
+    private final DailyProductionRepository dailyProductionRepository;
+    private final ExecutorService lookupExecutor;
+    // 조회 스레드 → selector 스레드로 넘기는 결과 반영 작업
+    private final Queue<Runnable> completed = new ConcurrentLinkedQueue<>();
+    private final Runnable wakeup;
+
+    private CodeTable items = new CodeTable(List.of(), new long[0]);
+    private CodeTable processes = new CodeTable(List.of(), new long[0]);
+    // 테이블 이후 코드 조회로 찾은 코드 (다음 refresh 에서 테이블에 포함)
+    private final Map<CodeKey, Long> foundCodes = new HashMap<>();
+    // 조회 중인 코드 (값이 true 면 조회가 끝나 없음으로 확인, 한 프레임에 쓰고 지움)
+    private final Map<CodeKey, Boolean> codeLookups = new HashMap<>();
+    // 조회 중인 일별 생산 키
+    private final Set<Long> dayLookups = new HashSet<>();
+    private long[] dayKeys = new long[1024];
+    private long[] dayValues = new long[1024];
+    private int daySize;
+    // evict 가 반영될 때마다 증가
+    private long dayGeneration;
+    private boolean refreshing;
+
+    // wakeup: 조회가 끝났을 때 selector 를 깨움
+    GatewayResolver(ItemRepository itemRepository, ProcessRepository processRepository,
+            DailyProductionRepository dailyProductionRepository, Runnable wakeup) {
+        this.itemRepository = itemRepository;
+        this.processRepository = processRepository;
+        this.dailyProductionRepository = dailyProductionRepository;
+        this.wakeup = wakeup;
+        this.lookupExecutor = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("tcp-ingest-gateway-lookup").daemon().factory());
+    }
+
+    // 기동 시 호출 스레드에서 바로 적재 (selector 스레드 시작 전)
+    void load() {
+        apply(loadSnapshot());
+    }
+
+    // 조회 스레드에서 다시 읽음 (이전 refresh 가 진행 중이면 무시, 실패하면 이전 값 유지)
+    void refresh() {
+        if (refreshing) {
+            return;
+        }
+        refreshing = true;
+        long generation = dayGeneration;
+        submit(() -> {
+            Snapshot snapshot = loadSnapshot();
+            return () -> {
+                refreshing = false;
+                apply(generation == dayGeneration ? snapshot : snapshot.withoutDays());
+            };
+        }, "부품/공정 코드를 다시 읽지 못해 이전 값 사용", () -> refreshing = false);
+    }
+
+    // 끝난 조회 결과 반영 (selector 스레드에서 매 바퀴 호출)
+    void applyCompleted() {
+        for (Runnable result = completed.poll(); result != null; result = completed.poll()) {
+            result.run();
+        }
+    }
+
+    long itemId(ByteBuffer buffer, int offset, int length) {
+        long id = items.find(buffer, offset, length);
+        return id != NOT_FOUND ? id : lookupCode(CodeKind.ITEM, buffer, offset, length);
+    }
+
+    long processId(ByteBuffer buffer, int offset, int length) {
+        long id = processes.find(buffer, offset, length);
+        return id != NOT_FOUND ? id : lookupCode(CodeKind.PROCESS, buffer, offset, length);
+    }
+
+    long dailyProductionId(long itemId, int epochDay) {
+        if (epochDay < 0 || epochDay >= 1 << EPOCH_DAY_BITS) {
+            return NOT_FOUND;
+        }
+        // 부품 ID 는 1 부터이므로 키 0 은 빈 칸
+        long key = itemId << EPOCH_DAY_BITS | epochDay;
+        int mask = dayKeys.length - 1;
+        int slot = mix(key) & mask;
+        while (dayKeys[slot] != 0) {
+            if (dayKeys[slot] == key) {
+                return dayValues[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (dayLookups.add(key)) {
+            LocalDate productionDate = LocalDate.ofEpochDay(epochDay);
+            long generation = dayGeneration;
+            submit(() -> {
+                Optional<Long> id = dailyProductionRepository.findIdByKey(itemId, productionDate);
+                return () -> {
+                    dayLookups.remove(key);
+                    if (generation == dayGeneration) {
+                        id.ifPresent(value -> cacheDay(key, value));
+                    }
+                };
+            }, "일별 생산 조회 실패", () -> dayLookups.remove(key));
+        }
+        return PENDING;
+    }
+
+    // 다른 스레드에서 호출, selector 스레드에서 제거 (productionDate 가 null 이면 부품의 모든 생산일)
+    void evict(long itemId, LocalDate productionDate) {
+        completed.add(() -> {
+            dayGeneration++;
+            long[] oldKeys = dayKeys;
+            long[] oldValues = dayValues;
+            dayKeys = new long[oldKeys.length];
+            dayValues = new long[oldValues.length];
+            daySize = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                long key = oldKeys[i];
+                boolean evicted = key >>> EPOCH_DAY_BITS == itemId && (productionDate == null
+                        || (key & (1L << EPOCH_DAY_BITS) - 1) == productionDate.toEpochDay());
+                if (key != 0 && !evicted) {
+                    putDay(key, oldValues[i]);
+                }
+            }
+        });
+        wakeup.run();
+    }
+
+    @Override
+    public void close() {
+        lookupExecutor.shutdownNow();
+    }
+
+    private long lookupCode(CodeKind kind, ByteBuffer buffer, int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        CodeKey key = new CodeKey(kind, new String(bytes, StandardCharsets.UTF_8));
+        Long found = foundCodes.get(key);
+        if (found != null) {
+            return found;
+        }
+        Boolean missing = codeLookups.get(key);
+        if (missing == null) {
+            codeLookups.put(key, false);
+            submit(() -> {
+                Optional<Long> id = kind == CodeKind.ITEM
+                        ? itemRepository.findByCode(key.code()).map(Item::getId)
+                        : processRepository.findByCode(key.code()).map(Process::getId);
+                return () -> {
+                    if (id.isPresent()) {
+                        codeLookups.remove(key);
+                        foundCodes.put(key, id.get());
+                    } else {
+                        codeLookups.put(key, true);
+                    }
+                };
+            }, "코드 조회 실패", () -> codeLookups.remove(key));
+            return PENDING;
+        }
+        if (!missing) {
+            return PENDING;
+        }
+        codeLookups.remove(key);
+        return NOT_FOUND;
+    }
+
+    // 조회 스레드에서 task 실행, 돌려받은 반영 작업(실패 시 onFailure)은 selector 스레드에서 실행
+    private void submit(Supplier<Runnable> task, String failure, Runnable onFailure) {
+        lookupExecutor.execute(() -> {
+            Runnable result;
+            try {
+                result = task.get();
+            } catch (RuntimeException e) {
+                log.warn(failure, e);
+                result = onFailure;
+            }
+            completed.add(result);
+            wakeup.run();
+        });
+    }
+
+    private Snapshot loadSnapshot() {
+        List<Item> itemList = itemRepository.findAll();
+        List<Process> processList = processRepository.findAll();
+        LocalDate today = LocalDate.now();
+        List<DailyProductionKeyId> days = dailyProductionRepository.findKeyIds(
+                today.minusDays(PRELOAD_DAYS), today.plusDays(1));
+        return new Snapshot(
+                new CodeTable(itemList.stream().map(Item::getCode).toList(),
+                        itemList.stream().mapToLong(Item::getId).toArray()),
+                new CodeTable(processList.stream().map(Process::getCode).toList(),
+                        processList.stream().mapToLong(Process::getId).toArray()),
+                days);
+    }
+
+    private void apply(Snapshot snapshot) {
+        items = snapshot.items();
+        processes = snapshot.processes();
+        foundCodes.clear();
+        Arrays.fill(dayKeys, 0);
+        daySize = 0;
+        for (DailyProductionKeyId day : snapshot.days()) {
+            cacheDay(day.itemId() << EPOCH_DAY_BITS | day.productionDate().toEpochDay(), day.id());
+        }
+    }
+
+    private void cacheDay(long key, long id) {
+        if (daySize >= MAX_CACHED_DAYS) {
+            Arrays.fill(dayKeys, 0);
+            daySize = 0;
+        } else if ((daySize + 1) * 2 > dayKeys.length) {
+            growDays();
+        }
+        putDay(key, id);
+    }
+
+    private void putDay(long key, long value) {
+        int mask = dayKeys.length - 1;
+        int slot = mix(key) & mask;
+        while (dayKeys[slot] != 0) {
+            if (dayKeys[slot] == key) {
+                dayValues[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        dayKeys[slot] = key;
+        dayValues[slot] = value;
+        daySize++;
+    }
+
+    private void growDays() {
+        long[] oldKeys = dayKeys;
+        long[] oldValues = dayValues;
+        dayKeys = new long[oldKeys.length * 2];
+        dayValues = new long[oldKeys.length * 2];
+        daySize = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                putDay(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private enum CodeKind {
+        ITEM, PROCESS
+    }
+
+    private record CodeKey(CodeKind kind, String code) {
+    }
+
+    // 조회 스레드에서 읽은 코드 테이블과 최근 일별 생산
+    private record Snapshot(CodeTable items, CodeTable processes, List<DailyProductionKeyId> days) {
+        Snapshot withoutDays() {
+            return new Snapshot(items, processes, List.of());
+        }
+    }
+
+    // 코드 바이트 → ID (생성 후 변경 없음)
+    private static final class CodeTable {
+        private final byte[][] keys;
+        private final long[] ids;
+
+        private CodeTable(List<String> codes, long[] codeIds) {
+            int capacity = Integer.highestOneBit(Math.max(4, codes.size() * 4));
+            keys = new byte[capacity][];
+            ids = new long[capacity];
+            for (int i = 0; i < codes.size(); i++) {
+                byte[] code = codes.get(i).getBytes(StandardCharsets.UTF_8);
+                int slot = hash(ByteBuffer.wrap(code), 0, code.length) & (capacity - 1);
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                keys[slot] = code;
+                ids[slot] = codeIds[i];
+            }
+        }
+
+        private long find(ByteBuffer buffer, int offset, int length) {
+            int mask = keys.length - 1;
+            int slot = hash(buffer, offset, length) & mask;
+            for (byte[] key = keys[slot]; key != null; key = keys[slot]) {
+                if (matches(key, buffer, offset, length)) {
+                    return ids[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return NOT_FOUND;
+        }
+
+        private static boolean matches(byte[] key, ByteBuffer buffer, int offset, int length) {
+            if (key.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (key[i] != buffer.get(offset + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // FNV-1a
+        private static int hash(ByteBuffer buffer, int offset, int length) {
+            int h = 0x811C9DC5;
+            for (int i = 0; i < length; i++) {
+                h = (h ^ (buffer.get(offset + i) & 0xFF)) * 0x01000193;
+            }
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -0,0 +1,604 @@
+package dev.dote.qtrack.gateway;
+
+import dev.dote.qtrack.dailyproduction.DailyProductionChangedEvent;
+import dev.dote.qtrack.dailyproduction.DailyProductionRepository;
+import dev.dote.qtrack.item.ItemRepository;
+import dev.dote.qtrack.process.ProcessRepository;
+import dev.dote.qtrack.qualityrecord.QualityRecordIngestJournal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 라인 컨트롤러용 논블로킹 TCP 수집 게이트웨이 (gateway.tcp.enabled=true 일 때만 기동)
+ * - HTTP/JSON/JWT 대신 길이 접두 바이너리 프레임 (GatewayProtocol), 게이트웨이별 사전 공유 키로 HMAC 챌린지 인증
+ * - selector 스레드 하나가 접속/읽기/쓰기를 모두 처리, 연결마다 풀에서 꺼낸 direct ByteBuffer 로 읽고 씀
+ * - COUNT 프레임은 버퍼에서 바로 해석하고 코드/일별 생산 ID 를 원시 테이블에서 찾아 합산 (프레임당 객체 생성 없음)
+ * - 테이블에 없는 코드/일별 생산은 조회 스레드에 맡기고 RETRY (selector 스레드는 DB 를 기다리지 않음, GatewayResolver)
+ * - 일별 생산 삭제/생성이 커밋되면 (DailyProductionChangedEvent) 그 키의 캐시된 ID 를 제거
+ * - selector 한 바퀴에 받은 프레임을 모아 수집 경로(QualityRecordIngestJournal.append)에 한 번 넘김
+ *   → 저널 fsync 후 연결마다 마지막 순번 ACK, DB 반영은 낱개 수집과 같이 QualityRecordIngestFlusher 가 주기적으로 수행
+ * - 순번 중복 제거는 게이트웨이별 상태, 마지막 순번은 변화량과 같은 저널 레코드에 기록
+ *   → fsync 후 ACK 전에 죽어도 재기동 시 저널에서 복원한 순번을 AUTH_OK 로 알리고 재전송을 중복으로 거름
+ *   → 저널을 쓰지 않으면 메모리 상태만 있어 재기동 후 AUTH_OK 의 순번이 0
+ * - 지표: qtrack.gateway.frames (result=accepted|duplicate|rejected|retried), qtrack.gateway.connections
+ * - 종료 시 수집 반영(flusher) 보다 먼저 멈춰 받은 프레임이 마지막 반영에 포함되도록 함
+ */
+@Slf4j
+@Component
+@DependsOn("qualityRecordIngestFlusher")
+public class TcpIngestGateway {
+    private static final long SELECT_TIMEOUT_MILLIS = 100;
+
+    private final boolean enabled;
+    private final int configuredPort;
+    private final Map<String, byte[]> keys;
+    private final long refreshIntervalNanos;
+    private final QualityRecordIngestJournal journal;
+    private final GatewayResolver resolver;
+    private final DirectBufferPool bufferPool;
+    private final GatewayAggregator aggregator = new GatewayAggregator(1024);
+    private final Map<String, GatewayState> gateways = new HashMap<>();
+    // 이번 바퀴에 프레임을 받은 연결
+    private final List<Connection> touched = new ArrayList<>();
+    private final SecureRandom random = new SecureRandom();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter acceptedFrames;
+    private final Counter duplicateFrames;
+    private final Counter rejectedFrames;
+    private final Counter retriedFrames;
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread thread;
+    private volatile boolean running;
+    private long nextRefresh;
+
+    public TcpIngestGateway(
+            @Value("${gateway.tcp.enabled:false}") boolean enabled,
+            @Value("${gateway.tcp.port:9300}") int port,
+            @Value("${gateway.tcp.keys:}") String keys,
+            @Value("${gateway.tcp.max-connections:64}") int maxConnections,
+            @Value("${gateway.tcp.buffer-bytes:65536}") int bufferBytes,
+            @Value("${gateway.tcp.refresh-interval-ms:60000}") long refreshIntervalMillis,
+            QualityRecordIngestJournal journal,
+            ItemRepository itemRepository,
+            ProcessRepository processRepository,
+            DailyProductionRepository dailyProductionRepository,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.configuredPort = port;
+        this.keys = parseKeys(keys);
+        this.refreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(refreshIntervalMillis);
+        this.journal = journal;
+        this.resolver = new GatewayResolver(itemRepository, processRepository, dailyProductionRepository,
+                this::wakeup);
+        // 연결마다 읽기/쓰기 버퍼 2개, 한 프레임은 항상 읽기 버퍼에 들어가야 함
+        this.bufferPool = new DirectBufferPool(
+                Math.max(bufferBytes, GatewayProtocol.LENGTH_BYTES + GatewayProtocol.MAX_FRAME_BYTES),
+                maxConnections * 2);
+        this.acceptedFrames = frameCounter(meterRegistry, "accepted");
+        this.duplicateFrames = frameCounter(meterRegistry, "duplicate");
+        this.rejectedFrames = frameCounter(meterRegistry, "rejected");
+        this.retriedFrames = frameCounter(meterRegistry, "retried");
+        Gauge.builder("qtrack.gateway.connections", connections, AtomicInteger::get)
+                .description("TCP 수집 게이트웨이 연결 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        if (keys.isEmpty()) {
+            log.warn("gateway.tcp.keys 가 비어 있어 모든 게이트웨이 인증이 거절됩니다");
+        }
+        try {
+            selector = Selector.open();
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(configuredPort));
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            throw new UncheckedIOException("TCP 수집 게이트웨이를 열 수 없습니다: 포트 " + configuredPort, e);
+        }
+        // 코드 테이블과 최근 일별 생산은 selector 스레드 시작 전에 적재
+        try {
+            resolver.load();
+        } catch (RuntimeException e) {
+            log.warn("부품/공정 코드를 읽지 못해 빈 테이블로 시작 (다음 refresh 에서 다시 읽음)", e);
+        }
+        nextRefresh = System.nanoTime() + refreshIntervalNanos;
+        running = true;
+        thread = Thread.ofPlatform().name("tcp-ingest-gateway").daemon().start(this::run);
+        log.info("TCP 수집 게이트웨이 시작: 포트 {}", port());
+    }
+
+    // 실제로 열린 포트 (gateway.tcp.port=0 이면 임의 포트), 기동하지 않았으면 -1
+    public int port() {
+        try {
+            return serverChannel == null ? -1 : ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+        resolver.close();
+    }
+
+    // 커밋 후 호출 (이벤트를 발행한 트랜잭션이 롤백되면 호출되지 않음)
+    @TransactionalEventListener
+    public void dailyProductionChanged(DailyProductionChangedEvent event) {
+        if (running) {
+            resolver.evict(event.itemId(), event.productionDate());
+        }
+    }
+
+    // 조회 스레드가 결과를 넘겼을 때 selector 를 깨움
+    private void wakeup() {
+        Selector current = selector;
+        if (current != null) {
+            current.wakeup();
+        }
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select(SELECT_TIMEOUT_MILLIS);
+                // 조회 결과와 캐시 제거를 이번 바퀴에 받은 프레임보다 먼저 반영
+                resolver.applyCompleted();
+                refreshIfDue();
+                Iterator<SelectionKey> keyIterator = selector.selectedKeys().iterator();
+                while (keyIterator.hasNext()) {
+                    SelectionKey key = keyIterator.next();
+                    keyIterator.remove();
+                    handle(key);
+                }
+                commit();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("TCP 수집 게이트웨이 중단", e);
+        } finally {
+            // 남은 프레임까지 저널에 넘긴 뒤 연결 종료
+            commit();
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof Connection connection) {
+                    close(connection);
+                }
+            }
+            closeQuietly(serverChannel);
+            closeQuietly(selector);
+            log.info("TCP 수집 게이트웨이 종료");
+        }
+    }
+
+    // 다시 읽기는 조회 스레드에서 수행되고 결과는 다음 바퀴 이후 applyCompleted 에서 반영
+    private void refreshIfDue() {
+        long now = System.nanoTime();
+        if (now - nextRefresh < 0) {
+            return;
+        }
+        resolver.refresh();
+        nextRefresh = now + refreshIntervalNanos;
+    }
+
+    private void handle(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isReadable()) {
+                read(connection);
+            }
+            if (key.isValid() && key.isWritable()) {
+                flushOutput(connection);
+            }
+        } catch (IOException e) {
+            log.debug("게이트웨이 연결 오류: {}", connection.remote, e);
+            close(connection);
+        }
+    }
+
+    private void accept() {
+        SocketChannel channel = null;
+        try {
+            channel = serverChannel.accept();
+            if (channel == null) {
+                return;
+            }
+            if (bufferPool.available() < 2) {
+                log.warn("게이트웨이 연결 수 초과로 거절: {}", channel.getRemoteAddress());
+                channel.close();
+                return;
+            }
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            Connection connection = new Connection(channel, bufferPool.acquire(), bufferPool.acquire());
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            connections.incrementAndGet();
+            random.nextBytes(connection.nonce);
+            connection.output.putShort((short) (1 + GatewayProtocol.NONCE_BYTES))
+                    .put(GatewayProtocol.CHALLENGE)
+                    .put(connection.nonce);
+            flushOutput(connection);
+        } catch (IOException e) {
+            log.warn("게이트웨이 연결 수락 실패", e);
+            closeQuietly(channel);
+        }
+    }
+
+    private void read(Connection connection) throws IOException {
+        ByteBuffer input = connection.input;
+        if (connection.channel.read(input) < 0) {
+            close(connection);
+            return;
+        }
+        input.flip();
+        while (input.remaining() >= GatewayProtocol.LENGTH_BYTES) {
+            int length = input.getShort(input.position()) & 0xFFFF;
+            if (length == 0 || length > GatewayProtocol.MAX_FRAME_BYTES) {
+                protocolError(connection, "프레임 길이 " + length);
+                return;
+            }
+            if (input.remaining() < GatewayProtocol.LENGTH_BYTES + length) {
+                break;
+            }
+            int start = input.position() + GatewayProtocol.LENGTH_BYTES;
+            if (!frame(connection, input, start, length)) {
+                return;
+            }
+            input.position(start + length);
+        }
+        input.compact();
+        // 프레임을 받은 연결은 commit 에서 ACK 와 함께 보냄
+        if (!connection.touched && connection.output.position() > 0) {
+            flushOutput(connection);
+        }
+    }
+
+    // 프레임 하나 처리, 연결을 닫았으면 false
+    private boolean frame(Connection connection, ByteBuffer input, int start, int length) throws IOException {
+        byte type = input.get(start);
+        if (connection.gateway == null) {
+            if (type != GatewayProtocol.AUTH) {
+                protocolError(connection, "인증 전 프레임 " + type);
+                return false;
+            }
+            return authenticate(connection, input, start + 1, length - 1);
+        }
+        if (type != GatewayProtocol.COUNT) {
+            protocolError(connection, "알 수 없는 프레임 " + type);
+            return false;
+        }
+        return count(connection, input, start + 1, length - 1);
+    }
+
+    private boolean authenticate(Connection connection, ByteBuffer input, int offset, int length) throws IOException {
+        int idLength = length > 0 ? input.get(offset) & 0xFF : -1;
+        if (idLength <= 0 || length != 1 + idLength + GatewayProtocol.MAC_BYTES) {
+            protocolError(connection, "인증 프레임 길이 " + length);
+            return false;
+        }
+        byte[] idBytes = new byte[idLength];
+        input.get(offset + 1, idBytes);
+        String gatewayId = new String(idBytes, StandardCharsets.US_ASCII);
+        byte[] received = new byte[GatewayProtocol.MAC_BYTES];
+        input.get(offset + 1 + idLength, received);
+        byte[] key = keys.get(gatewayId);
+        if (key == null || !MessageDigest.isEqual(mac(key, connection.nonce), received)) {
+            log.warn("게이트웨이 인증 실패: id={}, {}", gatewayId, connection.remote);
+            close(connection);
+            return false;
+        }
+
+        connection.gateway = gateways.computeIfAbsent(gatewayId,
+                id -> new GatewayState(id, journal.lastSequence(id)));
+        connection.output.putShort((short) (1 + Long.BYTES))
+                .put(GatewayProtocol.AUTH_OK)
+                .putLong(connection.gateway.lastSequence);
+        log.info("게이트웨이 인증: id={}, {}, 마지막 순번 {}", gatewayId, connection.remote,
+                connection.gateway.lastSequence);
+        return true;
+    }
+
+    private boolean count(Connection connection, ByteBuffer input, int offset, int length) throws IOException {
+        int end = offset + length;
+        int itemLengthAt = offset + GatewayProtocol.COUNT_FIXED_BYTES;
+        if (itemLengthAt >= end) {
+            protocolError(connection, "COUNT 프레임 길이 " + length);
+            return false;
+        }
+        int itemOffset = itemLengthAt + 1;
+        int itemLength = input.get(itemLengthAt) & 0xFF;
+        int processLengthAt = itemOffset + itemLength;
+        if (processLengthAt >= end || processLengthAt + 1 + (input.get(processLengthAt) & 0xFF) != end) {
+            protocolError(connection, "COUNT 프레임 길이 " + length);
+            return false;
+        }
+        int processOffset = processLengthAt + 1;
+        int processLength = input.get(processLengthAt) & 0xFF;
+
+        long sequence = input.getLong(offset);
+        int epochDay = input.getInt(offset + 8);
+        int okQuantity = input.getInt(offset + 12);
+        int ngQuantity = input.getInt(offset + 16);
+
+        GatewayState gateway = connection.gateway;
+        if (sequence <= gateway.lastSequence) {
+            touch(connection);
+            connection.pendingAck = Math.max(connection.pendingAck, sequence);
+            duplicateFrames.increment();
+            return true;
+        }
+        if (gateway.retrySequence != 0 && sequence != gateway.retrySequence) {
+            // RETRY 를 보낸 순번이 다시 올 때까지 뒤 순번은 ACK 없이 버림 (게이트웨이가 그 순번부터 재전송)
+            return true;
+        }
+        gateway.retrySequence = 0;
+
+        // 없음으로 확인된 것은 REJECT, 조회 중인 것은 RETRY
+        byte reason = 0;
+        boolean retry = false;
+        long itemId = resolver.itemId(input, itemOffset, itemLength);
+        long processId = resolver.processId(input, processOffset, processLength);
+        long dailyProductionId = GatewayResolver.NOT_FOUND;
+        if (okQuantity < 0 || ngQuantity < 0) {
+            reason = GatewayProtocol.REJECT_INVALID_QUANTITY;
+        } else if (itemId == GatewayResolver.NOT_FOUND) {
+            reason = GatewayProtocol.REJECT_UNKNOWN_ITEM;
+        } else if (processId == GatewayResolver.NOT_FOUND) {
+            reason = GatewayProtocol.REJECT_UNKNOWN_PROCESS;
+        } else if (itemId == GatewayResolver.PENDING) {
+            reason = GatewayProtocol.REJECT_UNKNOWN_ITEM;
+            retry = true;
+        } else if (processId == GatewayResolver.PENDING) {
+            reason = GatewayProtocol.REJECT_UNKNOWN_PROCESS;
+            retry = true;
+        } else if ((dailyProductionId = resolver.dailyProductionId(itemId, epochDay)) < 0) {
+            reason = GatewayProtocol.REJECT_NO_DAILY_PRODUCTION;
+            retry = dailyProductionId == GatewayResolver.PENDING;
+        }
+        if (retry) {
+            // 받지 않은 것으로 두고 (ACK 대상 아님) 이 순번부터 다시 받음
+            gateway.retrySequence = sequence;
+            retriedFrames.increment();
+            return write(connection, 1 + Long.BYTES + 1, GatewayProtocol.RETRY, sequence, reason);
+        }
+        touch(connection);
+        connection.pendingAck = Math.max(connection.pendingAck, sequence);
+        gateway.lastSequence = sequence;
+        if (reason != 0) {
+            rejectedFrames.increment();
+            return write(connection, 1 + Long.BYTES + 1, GatewayProtocol.REJECT, sequence, reason);
+        }
+        aggregator.add(dailyProductionId, processId, okQuantity, ngQuantity);
+        acceptedFrames.increment();
+        return true;
+    }
+
+    // 이번 바퀴 프레임을 게이트웨이별 마지막 순번과 함께 저널에 넘기고(fsync) 연결마다 ACK
+    private void commit() {
+        if (touched.isEmpty()) {
+            return;
+        }
+        if (!aggregator.isEmpty()) {
+            Map<String, Long> sequences = HashMap.newHashMap(touched.size());
+            for (Connection connection : touched) {
+                sequences.put(connection.gateway.id, connection.gateway.lastSequence);
+            }
+            try {
+                journal.append(aggregator.drain(), sequences);
+            } catch (RuntimeException e) {
+                // ACK 하지 않은 순번부터 다시 받도록 되돌리고 연결 종료
+                log.error("게이트웨이 프레임 기록 실패, 연결 {}건 종료", touched.size(), e);
+                for (Connection connection : touched) {
+                    connection.gateway.lastSequence = connection.gateway.ackedSequence;
+                    connection.gateway.retrySequence = 0;
+                    connection.touched = false;
+                    close(connection);
+                }
+                touched.clear();
+                return;
+            }
+        }
+        for (Connection connection : touched) {
+            connection.touched = false;
+            long sequence = connection.pendingAck;
+            connection.pendingAck = -1;
+            if (connection.closed) {
+                continue;
+            }
+            connection.gateway.ackedSequence = Math.max(connection.gateway.ackedSequence, sequence);
+            try {
+                if (write(connection, 1 + Long.BYTES, GatewayProtocol.ACK, sequence, (byte) 0)) {
+                    flushOutput(connection);
+                }
+            } catch (IOException e) {
+                log.debug("게이트웨이 연결 오류: {}", connection.remote, e);
+                close(connection);
+            }
+        }
+        touched.clear();
+    }
+
+    private void touch(Connection connection) {
+        if (!connection.touched) {
+            connection.touched = true;
+            touched.add(connection);
+        }
+    }
+
+    // ACK/REJECT/RETRY 를 출력 버퍼에 추가, 게이트웨이가 읽지 않아 버퍼가 가득 찼으면 연결 종료 후 false
+    private boolean write(Connection connection, int length, byte type, long sequence, byte reason) {
+        if (connection.output.remaining() < GatewayProtocol.LENGTH_BYTES + length) {
+            log.warn("게이트웨이가 응답을 읽지 않아 연결 종료: {}", connection.remote);
+            close(connection);
+            return false;
+        }
+        connection.output.putShort((short) length).put(type).putLong(sequence);
+        if (type == GatewayProtocol.REJECT || type == GatewayProtocol.RETRY) {
+            connection.output.put(reason);
+        }
+        return true;
+    }
+
+    private void flushOutput(Connection connection) throws IOException {
+        ByteBuffer output = connection.output;
+        output.flip();
+        connection.channel.write(output);
+        output.compact();
+        if (connection.key.isValid()) {
+            connection.key.interestOps(output.position() > 0
+                    ? SelectionKey.OP_READ | SelectionKey.OP_WRITE
+                    : SelectionKey.OP_READ);
+        }
+    }
+
+    private void protocolError(Connection connection, String detail) {
+        log.warn("게이트웨이 프로토콜 오류로 연결 종료: {}, {}", detail, connection.remote);
+        close(connection);
+    }
+
+    private void close(Connection connection) {
+        if (connection.closed) {
+            return;
+        }
+        connection.closed = true;
+        if (connection.key != null) {
+            connection.key.cancel();
+        }
+        closeQuietly(connection.channel);
+        bufferPool.release(connection.input);
+        bufferPool.release(connection.output);
+        connections.decrementAndGet();
+    }
+
+    private static byte[] mac(byte[] key, byte[] nonce) {
+        try {
+            Mac mac = Mac.getInstance(GatewayProtocol.MAC_ALGORITHM);
+            mac.init(new SecretKeySpec(key, GatewayProtocol.MAC_ALGORITHM));
+            return mac.doFinal(nonce);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // "게이트웨이ID:키,게이트웨이ID:키"
+    private static Map<String, byte[]> parseKeys(String value) {
+        Map<String, byte[]> parsed = new HashMap<>();
+        for (String entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf(':');
+            if (separator <= 0 || separator == entry.length() - 1) {
+                throw new IllegalArgumentException("gateway.tcp.keys 형식이 올바르지 않습니다 (게이트웨이ID:키)");
+            }
+            parsed.put(entry.substring(0, separator).trim(),
+                    entry.substring(separator + 1).trim().getBytes(StandardCharsets.UTF_8));
+        }
+        return parsed;
+    }
+
+    private static Counter frameCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("qtrack.gateway.frames")
+                .description("TCP 수집 게이트웨이가 받은 COUNT 프레임 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            log.debug("닫기 실패", e);
+        }
+    }
+
+    // 게이트웨이별 순번 상태 (같은 게이트웨이의 재접속 사이에 유지, 처음 인증 시 저널에 기록된 순번에서 시작)
+    private static final class GatewayState {
+        private final String id;
+        // 받아들인(중복 제거 기준) 마지막 순번
+        private long lastSequence;
+        // ACK 한 마지막 순번
+        private long ackedSequence;
+        // RETRY 를 보내고 재전송을 기다리는 순번 (0 이면 없음)
+        private long retrySequence;
+
+        private GatewayState(String id, long lastSequence) {
+            this.id = id;
+            this.lastSequence = lastSequence;
+            this.ackedSequence = lastSequence;
+        }
+    }
+
+    private static final class Connection {
+        private final SocketChannel channel;
+        private final Object remote;
+        private final ByteBuffer input;
+        private final ByteBuffer output;
+        private final byte[] nonce = new byte[GatewayProtocol.NONCE_BYTES];
+        private SelectionKey key;
+        private GatewayState gateway;
+        // 이번 바퀴에 ACK 할 순번 (-1 이면 없음)
+        private long pendingAck = -1;
+        private boolean touched;
+        private boolean closed;
+
+        private Connection(SocketChannel channel, ByteBuffer input, ByteBuffer output) throws IOException {
+            this.channel = channel;
+            this.remote = channel.getRemoteAddress();
+            this.input = input;
+            this.output = output;
+        }
+    }
+}
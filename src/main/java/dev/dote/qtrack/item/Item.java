@@ -1,5 +1,6 @@
 package dev.dote.qtrack.item;
 
+import dev.dote.qtrack._core.jpa.PooledId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -17,7 +18,7 @@ import java.time.LocalDateTime;
 @Getter
 public class Item {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId
     private Long id;
 
     @Column(unique = true, nullable = false, length = 50)
@@ -1,8 +1,10 @@
 package dev.dote.qtrack.item;
 
 import dev.dote.qtrack._core.errors.ex.Exception400;
+import dev.dote.qtrack.dailyproduction.DailyProductionPurgeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -11,12 +13,14 @@ import java.util.List;
  * 부품 비즈니스 로직 처리
  * - 부품 조회, 생성, 수정, 삭제 기능
  * - 부품 코드 중복 검증
+ * - 삭제 시 소속 일별 생산/품질 기록과 NG 집계, 이상치 누적 통계까지 연쇄 삭제 (DailyProductionPurgeService)
  */
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ItemService {
     private final ItemRepository itemRepository;
+    private final DailyProductionPurgeService dailyProductionPurgeService;
 
     public List<ItemResponse.List> findAll() {
         return itemRepository.findAll().stream()
@@ -71,11 +75,13 @@ public class ItemService {
                 updatedItem.getCategory());
     }
 
-    @Transactional
+    // 트랜잭션 없이 호출되면 연쇄 삭제가 단위별로 커밋됨 (호출 측 트랜잭션이 있으면 참여)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ItemResponse.Delete delete(Long id) {
-        Item item = itemRepository.findById(id)
-                .orElseThrow(() -> new Exception400("부품을 찾을 수 없습니다: " + id));
-        itemRepository.delete(item);
+        if (!itemRepository.existsById(id)) {
+            throw new Exception400("부품을 찾을 수 없습니다: " + id);
+        }
+        dailyProductionPurgeService.deleteItem(id);
         return new ItemResponse.Delete(id);
     }
 }
@@ -0,0 +1,42 @@
+package dev.dote.qtrack.outlier;
+
+import dev.dote.qtrack._core.util.Resp;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 이상치 탐지 API
+ * - 평균 ± k 표준편차 기준 NG 비율 이상치 조회 (k 기본값 2)
+ * - 누적 통계 재구성 기능 제공
+ */
+@RestController
+@RequestMapping("/api/statistics/outliers")
+@RequiredArgsConstructor
+public class OutlierController {
+    private final OutlierService outlierService;
+
+    @GetMapping
+    public ResponseEntity<Resp<List<OutlierResponse.List>>> findOutliers(
+            @RequestParam(value = "k", required = false, defaultValue = "2") BigDecimal k,
+            @RequestParam(value = "itemId", required = false) Long itemId,
+            @RequestParam(value = "processId", required = false) Long processId,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        List<OutlierResponse.List> response = outlierService.findOutliers(k, itemId, processId, startDate, endDate);
+        return Resp.ok(response);
+    }
+
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Resp<OutlierResponse.Rebuild>> rebuild() {
+        OutlierResponse.Rebuild response = outlierService.rebuild();
+        return Resp.ok(response);
+    }
+}
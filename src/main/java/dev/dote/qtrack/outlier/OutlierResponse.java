@@ -0,0 +1,35 @@
+package dev.dote.qtrack.outlier;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+public class OutlierResponse {
+    public record List(
+            Long qualityRecordId,
+            Long dailyProductionId,
+            Long itemId,
+            Long processId,
+            @JsonFormat(pattern = "yyyy-MM-dd") LocalDate productionDate,
+            BigDecimal ngRate,
+            BigDecimal mean,
+            BigDecimal stdDev,
+            BigDecimal zScore) {
+        // JPQL 프로젝션용 생성자 (누적값으로 표준편차, z-score 계산)
+        public List(Long qualityRecordId, Long dailyProductionId, Long itemId, Long processId,
+                LocalDate productionDate, BigDecimal ngRate, Double mean, Double m2, Long sampleCount) {
+            this(qualityRecordId, dailyProductionId, itemId, processId, productionDate, ngRate,
+                    scale(mean),
+                    scale(Math.sqrt(m2 / (sampleCount - 1))),
+                    scale((ngRate.doubleValue() - mean) / Math.sqrt(m2 / (sampleCount - 1))));
+        }
+
+        private static BigDecimal scale(double value) {
+            return BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP);
+        }
+    }
+
+    public record Rebuild(Long samples, Long pairs) {
+    }
+}
@@ -0,0 +1,12 @@
+package dev.dote.qtrack.outlier;
+
+import java.math.BigDecimal;
+
+/**
+ * 누적 통계 반영 대상 (부품, 공정, NG 비율)
+ */
+public record OutlierSample(
+        Long itemId,
+        Long processId,
+        BigDecimal ngRate) {
+}
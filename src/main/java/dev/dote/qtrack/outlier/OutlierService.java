@@ -0,0 +1,122 @@
+package dev.dote.qtrack.outlier;
+
+import dev.dote.qtrack._core.errors.ex.Exception400;
+import dev.dote.qtrack.item.ItemRepository;
+import dev.dote.qtrack.process.ProcessRepository;
+import dev.dote.qtrack.qualityrecord.QualityRecordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 이상치 탐지 비즈니스 로직 처리
+ * - (부품, 공정) 별 NG 비율 누적 평균/분산을 품질 기록 쓰기 경로에서 O(1)로 갱신
+ * - 평균 ± k 표준편차 기준 이상치 조회
+ * - 누적 통계 재구성 (기동 시 비어 있으면 자동 백필)
+ * - 통계 행이 없는 (부품, 공정) 은 insert-if-absent 후 잠금 (동시 첫 표본에도 유니크 제약 위반 없음)
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class OutlierService {
+    private final OutlierStatRepository outlierStatRepository;
+    private final OutlierStatBulkRepository outlierStatBulkRepository;
+    private final QualityRecordRepository qualityRecordRepository;
+    private final ItemRepository itemRepository;
+    private final ProcessRepository processRepository;
+
+    public List<OutlierResponse.List> findOutliers(BigDecimal k, Long itemId, Long processId,
+            LocalDate startDate, LocalDate endDate) {
+        if (k == null || k.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new Exception400("k 는 0보다 커야 합니다: " + k);
+        }
+        return outlierStatRepository.findOutliers(itemId, processId, startDate, endDate, k);
+    }
+
+    @Transactional
+    public void add(OutlierSample sample) {
+        loadForUpdate(sample.itemId(), sample.processId()).add(sample.ngRate().doubleValue());
+    }
+
+    // 대량 등록: (부품, 공정) 별로 통계 행을 한 번만 잠그고 누적
+    @Transactional
+    public void addAll(Collection<OutlierSample> samples) {
+        Map<List<Long>, List<OutlierSample>> grouped = samples.stream()
+                .collect(Collectors.groupingBy(sample -> List.of(sample.itemId(), sample.processId()),
+                        LinkedHashMap::new, Collectors.toList()));
+        grouped.forEach((key, group) -> {
+            OutlierStat stat = loadForUpdate(key.get(0), key.get(1));
+            group.forEach(sample -> stat.add(sample.ngRate().doubleValue()));
+        });
+    }
+
+    @Transactional
+    public void remove(OutlierSample sample) {
+        loadForUpdate(sample.itemId(), sample.processId()).remove(sample.ngRate().doubleValue());
+    }
+
+    @Transactional
+    public void replace(OutlierSample oldSample, BigDecimal newNgRate) {
+        if (oldSample.ngRate().compareTo(newNgRate) == 0) {
+            return;
+        }
+        loadForUpdate(oldSample.itemId(), oldSample.processId())
+                .replace(oldSample.ngRate().doubleValue(), newNgRate.doubleValue());
+    }
+
+    // 일별 생산 데이터 삭제 시 소속 품질 기록을 누적 통계에서 제거
+    @Transactional
+    public void retractDailyProduction(Long dailyProductionId) {
+        qualityRecordRepository.findOutlierSamplesByDailyProductionId(dailyProductionId)
+                .forEach(this::remove);
+    }
+
+    @Transactional
+    public OutlierResponse.Rebuild rebuild() {
+        outlierStatRepository.deleteAllInBatch();
+
+        Map<List<Long>, OutlierStat> stats = new HashMap<>();
+        long samples = 0;
+        try (Stream<OutlierSample> stream = qualityRecordRepository.streamOutlierSamples()) {
+            for (OutlierSample sample : (Iterable<OutlierSample>) stream::iterator) {
+                stats.computeIfAbsent(List.of(sample.itemId(), sample.processId()), key -> new OutlierStat(
+                        itemRepository.getReferenceById(sample.itemId()),
+                        processRepository.getReferenceById(sample.processId())))
+                        .add(sample.ngRate().doubleValue());
+                samples++;
+            }
+        }
+        outlierStatRepository.saveAll(stats.values());
+        return new OutlierResponse.Rebuild(samples, (long) stats.size());
+    }
+
+    // 기동 시 누적 통계가 비어 있고 품질 기록이 있으면 백필
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (outlierStatRepository.count() == 0 && qualityRecordRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    // 행이 없으면 빈 행을 먼저 만든 뒤 잠금 (첫 표본이 동시에 들어와도 한 행에 누적)
+    private OutlierStat loadForUpdate(Long itemId, Long processId) {
+        return outlierStatRepository.findForUpdate(itemId, processId)
+                .orElseGet(() -> {
+                    outlierStatBulkRepository.insertIfAbsent(itemId, processId);
+                    return outlierStatRepository.findForUpdate(itemId, processId).orElseThrow();
+                });
+    }
+}
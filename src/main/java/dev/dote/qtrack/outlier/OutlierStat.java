@@ -0,0 +1,96 @@
+package dev.dote.qtrack.outlier;
+
+import dev.dote.qtrack.item.Item;
+import dev.dote.qtrack.process.Process;
+import dev.dote.qtrack._core.jpa.PooledId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * (부품, 공정) 별 NG 비율 누적 평균/분산 (Welford 알고리즘)
+ * - m2: 평균과의 편차 제곱합, 표본 분산 = m2 / (n - 1)
+ * - 추가/제거/교체 모두 O(1)
+ */
+@Entity
+@Table(name = "outlier_stat_tb", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_outlier_stat_item_process", columnNames = { "item_id", "process_id" })
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class OutlierStat {
+    @Id
+    @PooledId
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "item_id", nullable = false, foreignKey = @ForeignKey(value = ConstraintMode.NO_CONSTRAINT))
+    private Item item;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "process_id", nullable = false, foreignKey = @ForeignKey(value = ConstraintMode.NO_CONSTRAINT))
+    private Process process;
+
+    @Column(name = "sample_count", nullable = false)
+    private Long sampleCount;
+
+    @Column(nullable = false)
+    private Double mean;
+
+    @Column(nullable = false)
+    private Double m2;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public OutlierStat(Item item, Process process) {
+        this.item = item;
+        this.process = process;
+        this.sampleCount = 0L;
+        this.mean = 0.0;
+        this.m2 = 0.0;
+    }
+
+    public void add(double x) {
+        sampleCount++;
+        double delta = x - mean;
+        mean += delta / sampleCount;
+        m2 += delta * (x - mean);
+    }
+
+    public void remove(double x) {
+        if (sampleCount <= 1) {
+            sampleCount = 0L;
+            mean = 0.0;
+            m2 = 0.0;
+            return;
+        }
+        double previousMean = (sampleCount * mean - x) / (sampleCount - 1);
+        m2 -= (x - mean) * (x - previousMean);
+        mean = previousMean;
+        sampleCount--;
+        // 부동소수점 오차로 음수가 되는 것을 방지
+        if (m2 < 0) {
+            m2 = 0.0;
+        }
+    }
+
+    public void replace(double oldX, double newX) {
+        remove(oldX);
+        add(newX);
+    }
+
+    public double stdDev() {
+        return sampleCount < 2 ? 0.0 : Math.sqrt(m2 / (sampleCount - 1));
+    }
+}
@@ -0,0 +1,42 @@
+package dev.dote.qtrack.outlier;
+
+import dev.dote.qtrack._core.jpa.DatabaseDialect;
+import dev.dote.qtrack._core.jpa.IdAllocator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 누적 통계 빈 행 생성 (JDBC)
+ * - (부품, 공정) 유니크 키 기준 방언별 한 문장 (MySQL ON DUPLICATE KEY UPDATE, H2 MERGE)
+ *   → 같은 키의 첫 표본이 동시에 들어와도 유니크 제약 위반 없이 한 행만 생김
+ * - 호출 측 JPA 트랜잭션과 같은 커넥션 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutlierStatBulkRepository {
+    private static final String MYSQL_INSERT_IF_ABSENT_SQL = "INSERT INTO outlier_stat_tb "
+            + "(id, item_id, process_id, sample_count, mean, m2, created_at, updated_at) "
+            + "VALUES (?, ?, ?, 0, 0, 0, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE id = id";
+    private static final String MERGE_SQL = "MERGE INTO outlier_stat_tb t "
+            + "USING (SELECT CAST(? AS BIGINT) AS id, CAST(? AS BIGINT) AS item_id, CAST(? AS BIGINT) AS process_id, "
+            + "CAST(? AS TIMESTAMP) AS created_at, CAST(? AS TIMESTAMP) AS updated_at) s "
+            + "ON t.item_id = s.item_id AND t.process_id = s.process_id "
+            + "WHEN NOT MATCHED THEN INSERT (id, item_id, process_id, sample_count, mean, m2, created_at, updated_at) "
+            + "VALUES (s.id, s.item_id, s.process_id, 0, 0, 0, s.created_at, s.updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdAllocator idAllocator;
+    private final DatabaseDialect databaseDialect;
+
+    // (부품, 공정) 통계 행이 없으면 표본 0개 행 생성 (이미 있으면 변경 없음)
+    public void insertIfAbsent(Long itemId, Long processId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(databaseDialect.select(MYSQL_INSERT_IF_ABSENT_SQL, MERGE_SQL),
+                idAllocator.allocate(OutlierStat.class, 1).get(0), itemId, processId, now, now);
+    }
+}
@@ -0,0 +1,16 @@
+package dev.dote.qtrack.outlier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 이상치 동적 필터 조회
+ * - 전달된 조건만 WHERE 절에 포함 (IS NULL OR 형태의 범용 조건 없음)
+ */
+public interface OutlierStatQueryRepository {
+
+    // 누적 평균/표준편차 기준 |NG 비율 - 평균| > k * σ 인 기록만 DB에서 선별
+    List<OutlierResponse.List> findOutliers(Long itemId, Long processId, LocalDate startDate, LocalDate endDate,
+            BigDecimal k);
+}
@@ -0,0 +1,67 @@
+package dev.dote.qtrack.outlier;
+
+import dev.dote.qtrack.dailyproduction.DailyProduction;
+import dev.dote.qtrack.qualityrecord.QualityRecord;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이상치 동적 필터 조회 (Criteria)
+ * - 부품/공정은 외래 키 컬럼으로 비교해 부품/공정 테이블 조인 없음
+ * - 정렬: 생산일 DESC, 부품 ID ASC, 공정 ID ASC
+ */
+@RequiredArgsConstructor
+public class OutlierStatQueryRepositoryImpl implements OutlierStatQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<OutlierResponse.List> findOutliers(Long itemId, Long processId, LocalDate startDate,
+            LocalDate endDate, BigDecimal k) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<OutlierResponse.List> query = cb.createQuery(OutlierResponse.List.class);
+        Root<QualityRecord> qr = query.from(QualityRecord.class);
+        Join<QualityRecord, DailyProduction> dp = qr.join("dailyProduction");
+        Root<OutlierStat> s = query.from(OutlierStat.class);
+        Path<Long> recordItemId = dp.get("item").get("id");
+        Path<Long> recordProcessId = qr.get("process").get("id");
+        Path<Long> sampleCount = s.get("sampleCount");
+        Path<Double> m2 = s.get("m2");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(s.get("item").get("id"), recordItemId));
+        predicates.add(cb.equal(s.get("process").get("id"), recordProcessId));
+        predicates.add(cb.greaterThanOrEqualTo(sampleCount, 2L));
+        predicates.add(cb.gt(m2, 0));
+        if (itemId != null) {
+            predicates.add(cb.equal(recordItemId, itemId));
+        }
+        if (processId != null) {
+            predicates.add(cb.equal(recordProcessId, processId));
+        }
+        if (startDate != null) {
+            predicates.add(cb.greaterThanOrEqualTo(dp.get("productionDate"), startDate));
+        }
+        if (endDate != null) {
+            predicates.add(cb.lessThanOrEqualTo(dp.get("productionDate"), endDate));
+        }
+        Path<Number> ngRate = qr.get("ngRate");
+        Path<Number> mean = s.get("mean");
+        predicates.add(cb.gt(
+                cb.abs(cb.diff(ngRate, mean)),
+                cb.prod(cb.literal(k), cb.sqrt(cb.quot(m2, cb.diff(sampleCount, 1L))))));
+
+        query.select(cb.construct(OutlierResponse.List.class,
+                qr.get("id"), dp.get("id"), recordItemId, recordProcessId, dp.get("productionDate"),
+                qr.get("ngRate"), s.get("mean"), m2, sampleCount))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(dp.get("productionDate")), cb.asc(recordItemId), cb.asc(recordProcessId));
+        return entityManager.createQuery(query).getResultList();
+    }
+}
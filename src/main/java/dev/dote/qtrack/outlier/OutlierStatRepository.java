@@ -0,0 +1,28 @@
+package dev.dote.qtrack.outlier;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface OutlierStatRepository extends JpaRepository<OutlierStat, Long>, OutlierStatQueryRepository {
+
+    // 같은 (부품, 공정) 동시 갱신 시 누적값 유실 방지
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM OutlierStat s WHERE s.item.id = :itemId AND s.process.id = :processId")
+    Optional<OutlierStat> findForUpdate(@Param("itemId") Long itemId, @Param("processId") Long processId);
+
+    // 부품 삭제 시 해당 부품 누적 통계 삭제
+    @Modifying
+    @Query("DELETE FROM OutlierStat s WHERE s.item.id = :itemId")
+    int deleteByItemId(@Param("itemId") Long itemId);
+
+    // 삭제된 부품의 누적 통계 삭제 (고아 정리)
+    @Modifying
+    @Query("DELETE FROM OutlierStat s WHERE NOT EXISTS (SELECT 1 FROM Item i WHERE i.id = s.item.id)")
+    int deleteOrphans();
+}
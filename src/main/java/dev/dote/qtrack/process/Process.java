@@ -1,5 +1,6 @@
 package dev.dote.qtrack.process;
 
+import dev.dote.qtrack._core.jpa.PooledId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -15,7 +16,7 @@ import java.time.LocalDateTime;
 @Getter
 public class Process {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId
     private Long id;
 
     @Column(nullable = false, length = 50)
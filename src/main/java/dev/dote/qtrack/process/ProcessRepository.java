@@ -1,9 +1,17 @@
 package dev.dote.qtrack.process;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProcessRepository extends JpaRepository<Process, Long> {
     Optional<Process> findByCode(String code);
+
+    // 낱개 수집 키 확인용: 주어진 ID 중 존재하는 ID
+    @Query("SELECT p.id FROM Process p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
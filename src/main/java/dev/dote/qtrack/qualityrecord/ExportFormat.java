@@ -0,0 +1,40 @@
+package dev.dote.qtrack.qualityrecord;
+
+import dev.dote.qtrack._core.errors.ex.Exception400;
+
+/**
+ * 품질 기록 내보내기 형식
+ * - CSV: 헤더 1행 + 데이터 행 (엑셀 한글 인식을 위해 UTF-8 BOM 포함)
+ * - NDJSON: 행마다 JSON 객체 1개
+ */
+public enum ExportFormat {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson;charset=UTF-8", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static ExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        try {
+            return ExportFormat.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new Exception400("지원하지 않는 내보내기 형식입니다 (csv, ndjson): " + value);
+        }
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
@@ -0,0 +1,38 @@
+package dev.dote.qtrack.qualityrecord;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 낱개 수집 저널 반영 위치 (저널 식별자별 한 행)
+ * - 버퍼 반영 트랜잭션에서 함께 갱신되므로, 이 위치까지의 저널 레코드는 품질 기록에 정확히 한 번 반영됨
+ * - 기동 시 이 위치 이후의 저널 레코드만 다시 재생
+ * - 저널 디렉터리의 식별자(MappedJournal.id)를 키로 사용
+ *   → 노드마다 자기 저널 위치를 따로 가지고, 디렉터리를 새로 만들면 새 행에서 0 부터 시작 (예전 위치로 재생을 건너뛰지 않음)
+ */
+@Entity
+@Table(name = "ingest_journal_checkpoint_tb")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class IngestJournalCheckpoint {
+    @Id
+    @Column(length = 36)
+    private String journalId;
+
+    @Column(nullable = false)
+    private Long appliedPosition;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public IngestJournalCheckpoint(String journalId, Long appliedPosition) {
+        this.journalId = journalId;
+        this.appliedPosition = appliedPosition;
+    }
+}
@@ -0,0 +1,23 @@
+package dev.dote.qtrack.qualityrecord;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface IngestJournalCheckpointRepository extends JpaRepository<IngestJournalCheckpoint, String> {
+
+    @Query("SELECT c.appliedPosition FROM IngestJournalCheckpoint c WHERE c.journalId = :journalId")
+    Optional<Long> findAppliedPosition(@Param("journalId") String journalId);
+
+    // 위치는 앞으로만 이동
+    @Modifying
+    @Query("""
+            UPDATE IngestJournalCheckpoint c
+            SET c.appliedPosition = :position, c.updatedAt = LOCAL DATETIME
+            WHERE c.journalId = :journalId AND c.appliedPosition < :position
+            """)
+    int advance(@Param("journalId") String journalId, @Param("position") long position);
+}
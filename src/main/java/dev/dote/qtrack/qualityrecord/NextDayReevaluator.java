@@ -0,0 +1,146 @@
+package dev.dote.qtrack.qualityrecord;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 품질 기록 변경 시 다음 날 같은 부품/공정 기록의 "전일 대비 급증" 재평가
+ * - 생성/수정/삭제 경로는 changed(...) 로 (부품, 공정, 다음 날) 키만 모으고, 커밋 직전에 한 번에 재평가
+ * - 같은 트랜잭션의 중복 키는 합쳐지고, 날짜를 간격 MAX_GAP_DAYS 이하 구간으로 묶어 구간마다 범위 조회 1회
+ *   (연속된 여러 날을 고쳐도 날짜별 조회 없음)
+ * - 평가 결과가 저장된 값과 다른 기록만 배치 UPDATE 1회로 반영
+ * - 평가는 NG 비율과 전일 NG 비율로만 정해지고 재평가는 NG 비율을 바꾸지 않으므로 한 단계만 전파
+ * - 트랜잭션 밖에서 호출되면 즉시 재평가
+ */
+@Component
+@RequiredArgsConstructor
+public class NextDayReevaluator {
+    private static final int MAX_GAP_DAYS = 31;
+
+    private final QualityRecordRepository qualityRecordRepository;
+    private final QualityRecordBulkRepository qualityRecordBulkRepository;
+    private final QualityRecordEvaluator qualityRecordEvaluator;
+
+    // productionDate 의 (부품, 공정) 기록이 바뀜
+    public void changed(Long itemId, Long processId, LocalDate productionDate) {
+        enqueue(new Key(itemId, processId, productionDate.plusDays(1)));
+    }
+
+    // productionDate 의 부품 기록이 공정 구분 없이 바뀜 (일별 생산 단위 생성/삭제)
+    public void changedDailyProduction(Long itemId, LocalDate productionDate) {
+        enqueue(new Key(itemId, null, productionDate.plusDays(1)));
+    }
+
+    // 현재 트랜잭션에 모인 키를 커밋 전에 바로 재평가
+    public void reevaluatePending() {
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            pending.reevaluateKeys();
+        }
+    }
+
+    private void enqueue(Key key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reevaluate(Set.of(key));
+            return;
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new Pending();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.keys.add(key);
+    }
+
+    // 키를 날짜 구간으로 묶어 구간마다 조회 1회, 바뀐 평가만 모아 배치 UPDATE 1회
+    int reevaluate(Set<Key> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        TreeMap<LocalDate, List<Key>> byDate = new TreeMap<>();
+        for (Key key : keys) {
+            byDate.computeIfAbsent(key.productionDate(), date -> new ArrayList<>()).add(key);
+        }
+
+        List<QualityRecordBulkRepository.EvaluationUpdate> updates = new ArrayList<>();
+        List<Key> range = new ArrayList<>();
+        LocalDate startDate = null;
+        LocalDate endDate = null;
+        for (var entry : byDate.entrySet()) {
+            if (endDate != null && endDate.plusDays(MAX_GAP_DAYS).isBefore(entry.getKey())) {
+                collectUpdates(range, startDate, endDate, updates);
+                range = new ArrayList<>();
+                startDate = null;
+            }
+            if (startDate == null) {
+                startDate = entry.getKey();
+            }
+            endDate = entry.getKey();
+            range.addAll(entry.getValue());
+        }
+        collectUpdates(range, startDate, endDate, updates);
+
+        qualityRecordBulkRepository.updateEvaluations(updates);
+        return updates.size();
+    }
+
+    private void collectUpdates(List<Key> keys, LocalDate startDate, LocalDate endDate,
+            List<QualityRecordBulkRepository.EvaluationUpdate> updates) {
+        Set<Key> exact = new LinkedHashSet<>(keys);
+        Set<Long> itemIds = new LinkedHashSet<>();
+        for (Key key : keys) {
+            itemIds.add(key.itemId());
+        }
+
+        for (QualityRecordIncrementContext context : qualityRecordRepository.findEvaluationContexts(
+                itemIds, startDate, endDate)) {
+            if (!exact.contains(new Key(context.itemId(), context.processId(), context.productionDate()))
+                    && !exact.contains(new Key(context.itemId(), null, context.productionDate()))) {
+                continue;
+            }
+            QualityRecordEvaluator.Evaluation evaluation = qualityRecordEvaluator.evaluate(
+                    context.ngRate(), context.previousNgRate());
+            if (evaluation.required() != Boolean.TRUE.equals(context.evaluationRequired())
+                    || !Objects.equals(evaluation.reason(), context.evaluationReason())) {
+                updates.add(new QualityRecordBulkRepository.EvaluationUpdate(
+                        context.id(), evaluation.required(), evaluation.reason()));
+            }
+        }
+    }
+
+    // 재평가 대상 (processId 가 null 이면 그 날짜 부품의 모든 공정)
+    record Key(Long itemId, Long processId, LocalDate productionDate) {
+    }
+
+    // 트랜잭션마다 하나, 커밋 직전에 모인 키를 재평가
+    private class Pending implements TransactionSynchronization {
+        private final Set<Key> keys = new LinkedHashSet<>();
+
+        void reevaluateKeys() {
+            Set<Key> batch = new LinkedHashSet<>(keys);
+            keys.clear();
+            reevaluate(batch);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            reevaluateKeys();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(NextDayReevaluator.this);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package dev.dote.qtrack.qualityrecord;
+
+import dev.dote.qtrack._core.errors.ex.Exception400;
+
+/**
+ * 낱개 검사 결과
+ */
+public enum PieceResult {
+    OK, NG;
+
+    public static PieceResult from(String value) {
+        try {
+            return PieceResult.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new Exception400("지원하지 않는 검사 결과입니다 (ok, ng): " + value);
+        }
+    }
+}
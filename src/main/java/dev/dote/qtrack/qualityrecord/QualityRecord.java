@@ -1,8 +1,10 @@
 package dev.dote.qtrack.qualityrecord;
 
+import dev.dote.qtrack._core.util.NgRateUtil;
 import dev.dote.qtrack.dailyproduction.DailyProduction;
 import dev.dote.qtrack.process.Process;
 import dev.dote.qtrack.user.User;
+import dev.dote.qtrack._core.jpa.PooledId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -11,18 +13,21 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "quality_record_tb", uniqueConstraints = {
-        @UniqueConstraint(columnNames = { "daily_production_id", "process_id" })
+        // 일별 생산 → 품질 기록 조인 인덱스 겸용
+        @UniqueConstraint(name = "uk_quality_record_daily_production_process", columnNames = { "daily_production_id", "process_id" })
+}, indexes = {
+        // 일별 생산 내 공정 순서 정렬용
+        @Index(name = "idx_quality_record_daily_production_sequence", columnList = "daily_production_id, process_sequence")
 })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class QualityRecord {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,6 +38,10 @@ public class QualityRecord {
     @JoinColumn(name = "process_id", nullable = false, foreignKey = @ForeignKey(value = ConstraintMode.NO_CONSTRAINT))
     private Process process;
 
+    // 정렬용 공정 순서 (Process.sequence 비정규화, 생성 시점 값)
+    @Column(name = "process_sequence", nullable = false)
+    private Integer processSequence;
+
     @Column(name = "ok_quantity", nullable = false)
     private Integer okQuantity;
 
@@ -70,8 +79,15 @@ public class QualityRecord {
     private LocalDateTime updatedAt;
 
     public QualityRecord(DailyProduction dailyProduction, Process process, Integer okQuantity, Integer ngQuantity) {
+        this(dailyProduction, process, process.getSequence(), okQuantity, ngQuantity);
+    }
+
+    // 공정을 프록시로 참조하는 경우 공정 순서를 함께 전달해 추가 조회를 피함
+    public QualityRecord(DailyProduction dailyProduction, Process process, Integer processSequence,
+            Integer okQuantity, Integer ngQuantity) {
         this.dailyProduction = dailyProduction;
         this.process = process;
+        this.processSequence = processSequence;
         this.okQuantity = okQuantity;
         this.ngQuantity = ngQuantity;
         this.totalQuantity = okQuantity + ngQuantity;
@@ -101,11 +117,7 @@ public class QualityRecord {
     @PreUpdate
     private void calculateNgRate() {
         if (totalQuantity != null && totalQuantity > 0) {
-            BigDecimal ngQty = BigDecimal.valueOf(ngQuantity);
-            BigDecimal totalQty = BigDecimal.valueOf(totalQuantity);
-            this.ngRate = ngQty.divide(totalQty, 4, RoundingMode.HALF_UP)
-                    .multiply(BigDecimal.valueOf(100))
-                    .setScale(2, RoundingMode.HALF_UP);
+            this.ngRate = NgRateUtil.ngRate(ngQuantity, totalQuantity);
         } else {
             this.ngRate = BigDecimal.ZERO;
         }
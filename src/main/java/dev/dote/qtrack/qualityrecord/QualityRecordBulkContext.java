@@ -0,0 +1,21 @@
+package dev.dote.qtrack.qualityrecord;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 대량 등록 시 청크 단위로 한 번에 조회하는 검증/평가 정보
+ * - Target: 대상 일별 생산의 부품, 생산일
+ * - Existing: 이미 등록된 (일별 생산, 공정) 조합
+ * - Rate: 전일 대비 급증 판단용 (부품, 생산일, 공정) 별 NG 비율
+ */
+public class QualityRecordBulkContext {
+    public record Target(Long dailyProductionId, Long itemId, LocalDate productionDate) {
+    }
+
+    public record Existing(Long dailyProductionId, Long processId) {
+    }
+
+    public record Rate(Long itemId, LocalDate productionDate, Long processId, BigDecimal ngRate) {
+    }
+}
@@ -0,0 +1,226 @@
+package dev.dote.qtrack.qualityrecord;
+
+import dev.dote.qtrack._core.jpa.DatabaseDialect;
+import dev.dote.qtrack._core.jpa.IdAllocator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 품질 기록 대량 INSERT/UPDATE (JDBC 배치)
+ * - 엔티티/영속성 컨텍스트 비용 없이 JdbcTemplate 배치로 한 번에 전송
+ * - ID 는 엔티티와 같은 생성기에서 미리 할당하므로 생성 키 조회(RETURN_GENERATED_KEYS) 불필요
+ * - 낱개 수집 반영: (일별 생산, 공정) 키별 수량 증감과 평가 결과 갱신을 각각 한 번의 배치로 전송
+ * - 키 기준 upsert: 없던 키는 INSERT (중복 키만 DuplicateKeyException), 있던 키는 행 잠금 조회로 이전 값을 받은 뒤
+ *   방언별 한 문장 (MySQL ON DUPLICATE KEY UPDATE, H2 MERGE) 으로 덮어씀
+ * - 전문가 일괄 평가: 평가 내용/평가자/평가 시각 갱신을 한 번의 배치로 전송
+ * - 호출 측 JPA 트랜잭션과 같은 커넥션 사용
+ * - MySQL은 URL에 rewriteBatchedStatements=true 가 있어야 다중 행 INSERT로 전송됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class QualityRecordBulkRepository {
+    private static final String INSERT_SQL = "INSERT INTO quality_record_tb "
+            + "(id, daily_production_id, process_id, process_sequence, ok_quantity, ng_quantity, total_quantity, "
+            + "ng_rate, evaluation_required, evaluation_reason, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 키가 이미 있으면 수량/NG 비율/평가만 덮어씀 (공정 순서, 생성 시각 유지)
+    private static final String MYSQL_UPSERT_SQL = INSERT_SQL + " "
+            + "ON DUPLICATE KEY UPDATE ok_quantity = VALUES(ok_quantity), ng_quantity = VALUES(ng_quantity), "
+            + "total_quantity = VALUES(total_quantity), ng_rate = VALUES(ng_rate), "
+            + "evaluation_required = VALUES(evaluation_required), evaluation_reason = VALUES(evaluation_reason), "
+            + "updated_at = VALUES(updated_at)";
+    private static final String MERGE_SQL = "MERGE INTO quality_record_tb t "
+            + "USING (SELECT CAST(? AS BIGINT) AS id, CAST(? AS BIGINT) AS daily_production_id, "
+            + "CAST(? AS BIGINT) AS process_id, CAST(? AS INTEGER) AS process_sequence, "
+            + "CAST(? AS INTEGER) AS ok_quantity, CAST(? AS INTEGER) AS ng_quantity, "
+            + "CAST(? AS INTEGER) AS total_quantity, CAST(? AS DECIMAL(5, 2)) AS ng_rate, "
+            + "CAST(? AS BOOLEAN) AS evaluation_required, CAST(? AS VARCHAR(200)) AS evaluation_reason, "
+            + "CAST(? AS TIMESTAMP) AS created_at, CAST(? AS TIMESTAMP) AS updated_at) s "
+            + "ON t.daily_production_id = s.daily_production_id AND t.process_id = s.process_id "
+            + "WHEN MATCHED THEN UPDATE SET ok_quantity = s.ok_quantity, ng_quantity = s.ng_quantity, "
+            + "total_quantity = s.total_quantity, ng_rate = s.ng_rate, "
+            + "evaluation_required = s.evaluation_required, evaluation_reason = s.evaluation_reason, "
+            + "updated_at = s.updated_at "
+            + "WHEN NOT MATCHED THEN INSERT (id, daily_production_id, process_id, process_sequence, ok_quantity, "
+            + "ng_quantity, total_quantity, ng_rate, evaluation_required, evaluation_reason, created_at, updated_at) "
+            + "VALUES (s.id, s.daily_production_id, s.process_id, s.process_sequence, s.ok_quantity, s.ng_quantity, "
+            + "s.total_quantity, s.ng_rate, s.evaluation_required, s.evaluation_reason, s.created_at, s.updated_at)";
+    // 덮어쓰기 전 값 (행 잠금과 같은 문장)
+    private static final String LOCK_BY_KEY_SQL = "SELECT id, ok_quantity, ng_quantity, ng_rate "
+            + "FROM quality_record_tb WHERE daily_production_id = ? AND process_id = ? FOR UPDATE";
+
+    // QualityRecordRepository.increment 와 같은 계산 (SET 순서 포함), 키는 (일별 생산, 공정) 유니크 제약
+    private static final String INCREMENT_SQL = "UPDATE quality_record_tb SET "
+            + "ng_rate = CASE WHEN ok_quantity + ng_quantity + ? > 0 "
+            + "THEN ROUND(ROUND((ng_quantity + ?) * 1.0000000000 / (ok_quantity + ng_quantity + ?), 4) * 100, 2) "
+            + "ELSE 0 END, "
+            + "total_quantity = ok_quantity + ng_quantity + ?, "
+            + "ok_quantity = ok_quantity + ?, "
+            + "ng_quantity = ng_quantity + ?, "
+            + "updated_at = ? "
+            + "WHERE daily_production_id = ? AND process_id = ?";
+    private static final String UPDATE_EVALUATION_SQL = "UPDATE quality_record_tb "
+            + "SET evaluation_required = ?, evaluation_reason = ? WHERE id = ?";
+    private static final String EXPERT_EVALUATION_SQL = "UPDATE quality_record_tb "
+            + "SET expert_evaluation = ?, evaluated_by = ?, evaluated_at = ?, updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdAllocator idAllocator;
+    private final DatabaseDialect databaseDialect;
+
+    // rows 순서대로 생성된 ID 반환
+    public List<Long> insertAll(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> ids = idAllocator.allocate(QualityRecord.class, rows.size());
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Row row = rows.get(i);
+                ps.setLong(1, ids.get(i));
+                ps.setLong(2, row.dailyProductionId());
+                ps.setLong(3, row.processId());
+                ps.setInt(4, row.processSequence());
+                ps.setInt(5, row.okQuantity());
+                ps.setInt(6, row.ngQuantity());
+                ps.setInt(7, row.okQuantity() + row.ngQuantity());
+                ps.setBigDecimal(8, row.ngRate());
+                ps.setBoolean(9, row.evaluationRequired());
+                ps.setString(10, row.evaluationReason());
+                ps.setTimestamp(11, now);
+                ps.setTimestamp(12, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+        return ids;
+    }
+
+    // 생성된 ID 반환 (같은 키가 이미 있으면 DuplicateKeyException, 그 밖의 오류는 그대로 전파)
+    public Long insert(Row row) {
+        Long id = idAllocator.allocate(QualityRecord.class, 1).getFirst();
+        write(INSERT_SQL, id, row);
+        return id;
+    }
+
+    // 키의 행을 잠그고 덮어쓰기 전 값 반환, 행이 없으면 empty
+    public Optional<Locked> lockByKey(Long dailyProductionId, Long processId) {
+        return jdbcTemplate.query(LOCK_BY_KEY_SQL,
+                (rs, rowNum) -> new Locked(
+                        rs.getLong("id"),
+                        rs.getInt("ok_quantity"),
+                        rs.getInt("ng_quantity"),
+                        rs.getBigDecimal("ng_rate")),
+                dailyProductionId, processId)
+                .stream().findFirst();
+    }
+
+    // 새로 만들 경우 사용할 ID 반환 (기존 행이 갱신되었으면 반환 ID 는 실제 ID 와 다름)
+    public Long upsert(Row row) {
+        Long id = idAllocator.allocate(QualityRecord.class, 1).getFirst();
+        write(databaseDialect.select(MYSQL_UPSERT_SQL, MERGE_SQL), id, row);
+        return id;
+    }
+
+    private void write(String sql, Long id, Row row) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(sql,
+                id,
+                row.dailyProductionId(),
+                row.processId(),
+                row.processSequence(),
+                row.okQuantity(),
+                row.ngQuantity(),
+                row.okQuantity() + row.ngQuantity(),
+                row.ngRate(),
+                row.evaluationRequired(),
+                row.evaluationReason(),
+                now,
+                now);
+    }
+
+    // 수량 증감을 한 번의 배치로 전송 (행이 없는 키는 갱신 0 건)
+    public void incrementAll(List<Increment> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, increments, increments.size(), (ps, increment) -> {
+            int totalDelta = increment.okDelta() + increment.ngDelta();
+            ps.setInt(1, totalDelta);
+            ps.setInt(2, increment.ngDelta());
+            ps.setInt(3, totalDelta);
+            ps.setInt(4, totalDelta);
+            ps.setInt(5, increment.okDelta());
+            ps.setInt(6, increment.ngDelta());
+            ps.setTimestamp(7, now);
+            ps.setLong(8, increment.dailyProductionId());
+            ps.setLong(9, increment.processId());
+        });
+    }
+
+    public void updateEvaluations(List<EvaluationUpdate> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_EVALUATION_SQL, updates, updates.size(), (ps, update) -> {
+            ps.setBoolean(1, update.evaluationRequired());
+            ps.setString(2, update.evaluationReason());
+            ps.setLong(3, update.id());
+        });
+    }
+
+    // 평가자/평가 시각은 요청 전체에 같은 값
+    public void evaluateAll(List<ExpertEvaluation> evaluations, Long evaluatedBy, LocalDateTime evaluatedAt) {
+        if (evaluations.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(evaluatedAt);
+        jdbcTemplate.batchUpdate(EXPERT_EVALUATION_SQL, evaluations, evaluations.size(), (ps, evaluation) -> {
+            ps.setString(1, evaluation.expertEvaluation());
+            ps.setLong(2, evaluatedBy);
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+            ps.setLong(5, evaluation.id());
+        });
+    }
+
+    public record Row(
+            Long dailyProductionId,
+            Long processId,
+            Integer processSequence,
+            Integer okQuantity,
+            Integer ngQuantity,
+            BigDecimal ngRate,
+            Boolean evaluationRequired,
+            String evaluationReason) {
+    }
+
+    public record Locked(Long id, int okQuantity, int ngQuantity, BigDecimal ngRate) {
+    }
+
+    public record Increment(Long dailyProductionId, Long processId, Integer okDelta, Integer ngDelta) {
+    }
+
+    public record EvaluationUpdate(Long id, Boolean evaluationRequired, String evaluationReason) {
+    }
+
+    public record ExpertEvaluation(Long id, String expertEvaluation) {
+    }
+}
@@ -0,0 +1,239 @@
+package dev.dote.qtrack.qualityrecord;
+
+import dev.dote.qtrack._core.errors.ex.Exception400;
+import dev.dote.qtrack._core.util.NgRateUtil;
+import dev.dote.qtrack.outlier.OutlierSample;
+import dev.dote.qtrack.outlier.OutlierService;
+import dev.dote.qtrack.process.Process;
+import dev.dote.qtrack.process.ProcessRepository;
+import dev.dote.qtrack.rollup.NgRollupService;
+import dev.dote.qtrack.rollup.RollupDelta;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 품질 기록 대량 등록
+ * - 요청 본문(JSON 배열)을 스트리밍 파서로 한 건씩 읽어 CHUNK_SIZE 단위로 처리 (전체 목록을 바인딩하지 않음)
+ * - 청크마다 일별 생산/공정/기존 기록/전일 NG 비율을 IN 조회로 한 번에 확인 후 JDBC 배치 INSERT
+ * - 평가 필요 여부는 DB의 NG 비율과 이번 요청에서 앞서 등록한 행의 NG 비율을 함께 사용해 메모리에서 판단
+ *   (생산일 역순이거나 청크를 넘는 전일 데이터는 커밋 직전 다음 날 재평가로 맞춰짐 - NextDayReevaluator)
+ * - 잘못된 행은 건너뛰고 행별 결과로 보고, 나머지는 하나의 트랜잭션으로 저장
+ * - NG 집계, 이상치 누적 통계는 청크 단위로 합산해 반영
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class QualityRecordBulkService {
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_ROWS = 20_000;
+
+    private final QualityRecordRepository qualityRecordRepository;
+    private final QualityRecordBulkRepository qualityRecordBulkRepository;
+    private final ProcessRepository processRepository;
+    private final QualityRecordEvaluator qualityRecordEvaluator;
+    private final NgRollupService ngRollupService;
+    private final OutlierService outlierService;
+    private final NextDayReevaluator nextDayReevaluator;
+    private final JsonMapper jsonMapper;
+    private final Validator validator;
+
+    @Transactional
+    public QualityRecordResponse.Bulk bulkCreate(InputStream body) {
+        BulkState state = new BulkState();
+        List<QualityRecordResponse.BulkRow> results = new ArrayList<>();
+        List<Pending> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (JsonParser parser = jsonMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new Exception400("품질 기록 배열이 필요합니다");
+            }
+            int index = 0;
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == null) {
+                    throw new Exception400("잘못된 JSON 형식입니다: 배열이 닫히지 않았습니다");
+                }
+                if (index >= MAX_ROWS) {
+                    throw new Exception400("한 번에 등록할 수 있는 품질 기록은 " + MAX_ROWS + "건 이하입니다");
+                }
+                // 요소 단위로 읽어 한 행의 형식 오류가 파서 위치에 영향을 주지 않도록 함
+                chunk.add(new Pending(index++, parser.readValueAsTree()));
+                if (chunk.size() == CHUNK_SIZE) {
+                    results.addAll(importChunk(chunk, state));
+                    chunk.clear();
+                }
+            }
+        } catch (JacksonException e) {
+            throw new Exception400("잘못된 JSON 형식입니다: " + e.getOriginalMessage());
+        }
+        results.addAll(importChunk(chunk, state));
+
+        int succeeded = (int) results.stream().filter(QualityRecordResponse.BulkRow::success).count();
+        return new QualityRecordResponse.Bulk(results.size(), succeeded, results.size() - succeeded, results);
+    }
+
+    private List<QualityRecordResponse.BulkRow> importChunk(List<Pending> chunk, BulkState state) {
+        if (chunk.isEmpty()) {
+            return List.of();
+        }
+        QualityRecordResponse.BulkRow[] results = new QualityRecordResponse.BulkRow[chunk.size()];
+
+        // 1. 형식/필수값 검증
+        List<Candidate> candidates = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            Pending pending = chunk.get(i);
+            QualityRecordRequest.Create request;
+            try {
+                request = jsonMapper.treeToValue(pending.node(), QualityRecordRequest.Create.class);
+            } catch (JacksonException e) {
+                results[i] = QualityRecordResponse.BulkRow.failure(pending.index(), null, null,
+                        "잘못된 형식입니다: " + e.getOriginalMessage());
+                continue;
+            }
+            Set<ConstraintViolation<QualityRecordRequest.Create>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                results[i] = QualityRecordResponse.BulkRow.failure(pending.index(), request.dailyProductionId(),
+                        request.processId(), violations.stream()
+                                .map(ConstraintViolation::getMessage)
+                                .sorted()
+                                .collect(Collectors.joining(", ")));
+                continue;
+            }
+            candidates.add(new Candidate(i, pending.index(), request));
+        }
+
+        // 2. 청크 전체의 일별 생산, 공정, 기존 기록을 한 번에 조회
+        Set<Long> dailyProductionIds = candidates.stream()
+                .map(candidate -> candidate.request().dailyProductionId())
+                .collect(Collectors.toSet());
+        Set<Long> processIds = candidates.stream()
+                .map(candidate -> candidate.request().processId())
+                .collect(Collectors.toSet());
+        Map<Long, QualityRecordBulkContext.Target> targets = dailyProductionIds.isEmpty() ? Map.of()
+                : qualityRecordRepository.findBulkTargets(dailyProductionIds).stream()
+                        .collect(Collectors.toMap(QualityRecordBulkContext.Target::dailyProductionId,
+                                Function.identity()));
+        Map<Long, Integer> processSequences = processRepository.findAllById(processIds).stream()
+                .collect(Collectors.toMap(Process::getId, Process::getSequence));
+        if (!dailyProductionIds.isEmpty()) {
+            qualityRecordRepository.findBulkExisting(dailyProductionIds)
+                    .forEach(state.pairs::add);
+        }
+
+        // 3. 대상 확인 후 이번 요청의 NG 비율을 먼저 모두 등록 (청크 내 순서와 무관하게 전일 값 참조)
+        List<Accepted> accepted = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            QualityRecordRequest.Create request = candidate.request();
+            QualityRecordBulkContext.Target target = targets.get(request.dailyProductionId());
+            String error = null;
+            if (target == null) {
+                error = "일별 생산 데이터를 찾을 수 없습니다: " + request.dailyProductionId();
+            } else if (!processSequences.containsKey(request.processId())) {
+                error = "공정을 찾을 수 없습니다: " + request.processId();
+            } else if (!state.pairs.add(
+                    new QualityRecordBulkContext.Existing(request.dailyProductionId(), request.processId()))) {
+                error = "이미 존재하는 품질 기록입니다: 일별생산ID=" + request.dailyProductionId()
+                        + ", 공정ID=" + request.processId();
+            }
+            if (error != null) {
+                results[candidate.position()] = QualityRecordResponse.BulkRow.failure(candidate.index(),
+                        request.dailyProductionId(), request.processId(), error);
+                continue;
+            }
+            BigDecimal ngRate = NgRateUtil.ngRate(request.ngQuantity(),
+                    (long) request.okQuantity() + request.ngQuantity());
+            state.rates.put(new RateKey(target.itemId(), target.productionDate(), request.processId()), ngRate);
+            accepted.add(new Accepted(candidate, target, ngRate));
+        }
+        if (accepted.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        // 4. DB의 전일 NG 비율 보충 (이번 요청 값이 우선)
+        Set<Long> itemIds = accepted.stream().map(a -> a.target().itemId()).collect(Collectors.toSet());
+        LocalDate minDate = accepted.stream().map(a -> a.target().productionDate()).min(Comparator.naturalOrder())
+                .orElseThrow();
+        LocalDate maxDate = accepted.stream().map(a -> a.target().productionDate()).max(Comparator.naturalOrder())
+                .orElseThrow();
+        qualityRecordRepository.findBulkRates(itemIds, minDate.minusDays(1), maxDate.minusDays(1))
+                .forEach(rate -> state.rates.putIfAbsent(
+                        new RateKey(rate.itemId(), rate.productionDate(), rate.processId()), rate.ngRate()));
+
+        // 5. 평가 후 JDBC 배치 INSERT
+        List<QualityRecordBulkRepository.Row> rows = new ArrayList<>(accepted.size());
+        List<QualityRecordEvaluator.Evaluation> evaluations = new ArrayList<>(accepted.size());
+        for (Accepted a : accepted) {
+            QualityRecordRequest.Create request = a.candidate().request();
+            BigDecimal previousNgRate = state.rates.get(new RateKey(a.target().itemId(),
+                    a.target().productionDate().minusDays(1), request.processId()));
+            QualityRecordEvaluator.Evaluation evaluation = qualityRecordEvaluator.evaluate(a.ngRate(), previousNgRate);
+            evaluations.add(evaluation);
+            rows.add(new QualityRecordBulkRepository.Row(request.dailyProductionId(), request.processId(),
+                    processSequences.get(request.processId()), request.okQuantity(), request.ngQuantity(),
+                    a.ngRate(), evaluation.required(), evaluation.reason()));
+        }
+        List<Long> ids;
+        try {
+            ids = qualityRecordBulkRepository.insertAll(rows);
+        } catch (DataIntegrityViolationException e) {
+            // 검증 이후 다른 요청이 같은 (일별 생산, 공정) 을 먼저 등록한 경우
+            throw new Exception400("동시에 등록된 품질 기록과 중복되어 대량 등록을 취소했습니다");
+        }
+
+        // 6. 파생 집계 반영
+        ngRollupService.applyAll(accepted.stream()
+                .map(a -> RollupDelta.of(a.target().itemId(), a.candidate().request().processId(),
+                        a.target().productionDate(), 1, a.candidate().request().okQuantity(),
+                        a.candidate().request().ngQuantity()))
+                .toList());
+        outlierService.addAll(accepted.stream()
+                .map(a -> new OutlierSample(a.target().itemId(), a.candidate().request().processId(), a.ngRate()))
+                .toList());
+        for (Accepted a : accepted) {
+            nextDayReevaluator.changed(a.target().itemId(), a.candidate().request().processId(),
+                    a.target().productionDate());
+        }
+
+        for (int i = 0; i < accepted.size(); i++) {
+            Accepted a = accepted.get(i);
+            QualityRecordRequest.Create request = a.candidate().request();
+            results[a.candidate().position()] = QualityRecordResponse.BulkRow.success(a.candidate().index(),
+                    ids.get(i), request.dailyProductionId(), request.processId(), evaluations.get(i).required(),
+                    evaluations.get(i).reason());
+        }
+        return Arrays.asList(results);
+    }
+
+    // 요청 전체에 걸쳐 유지: 등록(예정)된 (일별 생산, 공정) 조합과 (부품, 생산일, 공정) 별 NG 비율
+    private static class BulkState {
+        private final Set<QualityRecordBulkContext.Existing> pairs = new HashSet<>();
+        private final Map<RateKey, BigDecimal> rates = new HashMap<>();
+    }
+
+    private record Pending(int index, JsonNode node) {
+    }
+
+    private record Candidate(int position, int index, QualityRecordRequest.Create request) {
+    }
+
+    private record Accepted(Candidate candidate, QualityRecordBulkContext.Target target, BigDecimal ngRate) {
+    }
+
+    private record RateKey(Long itemId, LocalDate productionDate, Long processId) {
+    }
+}
@@ -1,5 +1,6 @@
 package dev.dote.qtrack.qualityrecord;
 
+import dev.dote.qtrack._core.util.CursorPage;
 import dev.dote.qtrack._core.util.Resp;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -7,26 +8,42 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * 품질 기록 관리 API
  * - 품질 기록의 CRUD 기능 제공
+ * - 커서 기반 목록 조회 기능 제공 (/scroll)
+ * - CSV/NDJSON 내보내기 기능 제공 (/export, Accept-Encoding: gzip 지원, 동시 실행/시간 제한 - QualityRecordExportLimiter)
+ * - 대량 등록 기능 제공 (/bulk, 행별 결과 보고)
+ * - (일별 생산, 공정) 키 기준 등록 또는 수정 (/by-key)
  * - 평가 필요 목록 조회 기능 제공
- * - 품질 기록 평가 기능 제공
+ * - 품질 기록 평가 기능 제공 (/evaluate-batch 로 여러 건을 한 번에 평가)
  * - 공정별/부품별 NG 비율 통계 기능 제공
  */
 @RestController
 @RequestMapping("/api/quality-records")
 @RequiredArgsConstructor
 public class QualityRecordController {
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
     private final QualityRecordService qualityRecordService;
+    private final QualityRecordBulkService qualityRecordBulkService;
+    private final QualityRecordIngestService qualityRecordIngestService;
+    private final QualityRecordExportLimiter qualityRecordExportLimiter;
 
     @GetMapping
     public ResponseEntity<Resp<Page<QualityRecordResponse.List>>> findAll(
@@ -41,6 +58,65 @@ public class QualityRecordController {
         return Resp.ok(response);
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<Resp<CursorPage<QualityRecordResponse.List>>> scroll(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false, defaultValue = "20") Integer size,
+            @RequestParam(value = "itemId", required = false) Long itemId,
+            @RequestParam(value = "productionDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate productionDate,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(value = "year", required = false) Integer year,
+            @RequestParam(value = "month", required = false) Integer month) {
+        CursorPage<QualityRecordResponse.List> response = qualityRecordService.scroll(cursor, size, itemId,
+                productionDate, startDate, endDate, year, month);
+        return Resp.ok(response);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(value = "format", required = false, defaultValue = "csv") String format,
+            @RequestParam(value = "itemId", required = false) Long itemId,
+            @RequestParam(value = "productionDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate productionDate,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(value = "year", required = false) Integer year,
+            @RequestParam(value = "month", required = false) Integer month,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        // 허가는 본문 스트리밍이 끝날 때 반환 (커넥션과 커서를 잡는 구간)
+        qualityRecordExportLimiter.acquire();
+        StreamingResponseBody body = response -> {
+            try {
+                OutputStream out = qualityRecordExportLimiter.withDeadline(response);
+                if (gzip) {
+                    GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                    qualityRecordService.export(gzipOut, exportFormat, itemId, productionDate, startDate, endDate,
+                            year, month);
+                    gzipOut.finish();
+                } else {
+                    qualityRecordService.export(out, exportFormat, itemId, productionDate, startDate, endDate,
+                            year, month);
+                }
+            } finally {
+                qualityRecordExportLimiter.release();
+            }
+        };
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(exportFormat.contentType()));
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename("quality-records." + exportFormat.extension())
+                .build());
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            headers.add(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Resp<QualityRecordResponse.Get>> findById(@PathVariable Long id) {
         QualityRecordResponse.Get response = qualityRecordService.findById(id);
@@ -59,6 +135,33 @@ public class QualityRecordController {
         return Resp.ok(response);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('USER', 'MANAGER', 'ADMIN')")
+    public ResponseEntity<Resp<QualityRecordResponse.Bulk>> bulkCreate(InputStream body) {
+        QualityRecordResponse.Bulk response = qualityRecordBulkService.bulkCreate(body);
+        return Resp.ok(response);
+    }
+
+    @PostMapping("/ingest")
+    @PreAuthorize("hasAnyRole('USER', 'MANAGER', 'ADMIN')")
+    public ResponseEntity<Resp<QualityRecordResponse.Ingest>> ingest(
+            @Valid @RequestBody QualityRecordRequest.Ingest request) {
+        QualityRecordResponse.Ingest response = qualityRecordIngestService.ingest(request.pieces());
+        return Resp.ok(response);
+    }
+
+    @PutMapping("/by-key")
+    @PreAuthorize("hasAnyRole('USER', 'MANAGER', 'ADMIN')")
+    public ResponseEntity<Resp<QualityRecordResponse.Upsert>> upsert(
+            @Valid @RequestBody QualityRecordRequest.Upsert request) {
+        QualityRecordResponse.Upsert response = qualityRecordService.upsert(
+                request.dailyProductionId(),
+                request.processId(),
+                request.okQuantity(),
+                request.ngQuantity());
+        return Resp.ok(response);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('USER', 'MANAGER', 'ADMIN')")
     public ResponseEntity<Resp<QualityRecordResponse.Update>> update(
@@ -71,6 +174,18 @@ public class QualityRecordController {
         return Resp.ok(response);
     }
 
+    @PostMapping("/{id}/increment")
+    @PreAuthorize("hasAnyRole('USER', 'MANAGER', 'ADMIN')")
+    public ResponseEntity<Resp<QualityRecordResponse.Increment>> increment(
+            @PathVariable Long id,
+            @Valid @RequestBody QualityRecordRequest.Increment request) {
+        QualityRecordResponse.Increment response = qualityRecordService.increment(
+                id,
+                request.okDelta(),
+                request.ngDelta());
+        return Resp.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyRole('MANAGER', 'ADMIN')")
     public ResponseEntity<Resp<QualityRecordResponse.Delete>> delete(@PathVariable Long id) {
@@ -91,6 +206,17 @@ public class QualityRecordController {
         return Resp.ok(response);
     }
 
+    @PutMapping("/evaluate-batch")
+    @PreAuthorize("hasAnyRole('USER', 'MANAGER', 'ADMIN')")
+    public ResponseEntity<Resp<QualityRecordResponse.EvaluateBatch>> evaluateBatch(
+            @AuthenticationPrincipal Long userId,
+            @Valid @RequestBody QualityRecordRequest.EvaluateBatch request) {
+        QualityRecordResponse.EvaluateBatch response = qualityRecordService.evaluateBatch(
+                userId,
+                request.evaluations());
+        return Resp.ok(response);
+    }
+
     @GetMapping("/evaluation-required")
     public ResponseEntity<Resp<List<QualityRecordResponse.List>>> getEvaluationRequiredList() {
         List<QualityRecordResponse.List> response = qualityRecordService.getEvaluationRequiredList();
@@ -0,0 +1,21 @@
+package dev.dote.qtrack.qualityrecord;
+
+import dev.dote.qtrack.dailyproduction.DailyProduction;
+
+import java.math.BigDecimal;
+
+/**
+ * 품질 기록 생성에 필요한 정보를 한 번의 조인 쿼리로 조회한 결과
+ * - dailyProduction: 대상 일별 생산 데이터
+ * - processId: 공정 존재 시 ID (없으면 null)
+ * - processSequence: 공정 순서 (공정이 없으면 null)
+ * - previousNgRate: 같은 부품/공정의 전일 NG 비율 (없으면 null)
+ * - existingRecordId: 같은 일별 생산/공정의 기존 품질 기록 ID (없으면 null)
+ */
+public record QualityRecordCreateContext(
+        DailyProduction dailyProduction,
+        Long processId,
+        Integer processSequence,
+        BigDecimal previousNgRate,
+        Long existingRecordId) {
+}
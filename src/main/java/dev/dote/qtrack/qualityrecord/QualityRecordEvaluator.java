@@ -0,0 +1,69 @@
+package dev.dote.qtrack.qualityrecord;
+
+import dev.dote.qtrack._core.errors.ex.Exception400;
+import dev.dote.qtrack.systemcode.SystemCodeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 품질 기록 평가 필요 여부 판단
+ * - NG 비율 임계값 초과 (INDUSTRY_AVERAGE.NG_RATE_THRESHOLD)
+ * - 전일 대비 NG 비율 급증 (EVALUATION.INCREASE_RATE_THRESHOLD 배 이상)
+ * - 임계값은 시스템 코드 스냅샷에서 조회하므로 판단 자체는 I/O 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class QualityRecordEvaluator {
+    private final SystemCodeService systemCodeService;
+
+    public Evaluation evaluate(BigDecimal ngRate, BigDecimal previousNgRate) {
+        if (ngRate == null) {
+            return new Evaluation(false, null);
+        }
+
+        boolean requiresEvaluation = false;
+        String reason = null;
+
+        try {
+            // NG 비율 임계값 확인
+            BigDecimal threshold = systemCodeService.getDecimal("INDUSTRY_AVERAGE", "NG_RATE_THRESHOLD");
+            if (ngRate.compareTo(threshold) > 0) {
+                requiresEvaluation = true;
+                reason = "NG 비율 임계값 초과";
+            }
+
+            // 전일 대비 NG 비율 급증 확인
+            BigDecimal increaseRateThreshold = systemCodeService.getDecimal("EVALUATION", "INCREASE_RATE_THRESHOLD");
+            if (previousNgRate != null && previousNgRate.compareTo(BigDecimal.ZERO) > 0) {
+                BigDecimal increaseRate = ngRate.divide(previousNgRate, 4, RoundingMode.HALF_UP);
+                if (increaseRate.compareTo(increaseRateThreshold) >= 0) {
+                    requiresEvaluation = true;
+                    reason = reason != null ? reason + ", 전일 대비 급증" : "전일 대비 급증";
+                }
+            }
+        } catch (Exception400 e) {
+            // 시스템 코드가 없으면 그때까지 판단한 결과 사용
+        }
+
+        return new Evaluation(requiresEvaluation, reason);
+    }
+
+    // NG 비율이 바뀌면서 판단 구간(임계값 초과 여부, 전일 대비 급증 여부)을 넘나드는지 여부
+    public boolean crossesBand(BigDecimal fromNgRate, BigDecimal toNgRate, BigDecimal previousNgRate) {
+        if (fromNgRate != null && toNgRate != null && fromNgRate.compareTo(toNgRate) == 0) {
+            return false;
+        }
+        return !evaluate(fromNgRate, previousNgRate).equals(evaluate(toNgRate, previousNgRate));
+    }
+
+    public void apply(QualityRecord qualityRecord, BigDecimal previousNgRate) {
+        Evaluation evaluation = evaluate(qualityRecord.getNgRate(), previousNgRate);
+        qualityRecord.setEvaluationRequired(evaluation.required(), evaluation.reason());
+    }
+
+    public record Evaluation(boolean required, String reason) {
+    }
+}
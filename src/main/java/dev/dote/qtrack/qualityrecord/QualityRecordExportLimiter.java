@@ -0,0 +1,92 @@
+package dev.dote.qtrack.qualityrecord;
+
+import dev.dote.qtrack._core.errors.ex.Exception429;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 품질 기록 내보내기 동시 실행 제한과 실행 시간 상한
+ * - 내보내기는 다운로드가 끝날 때까지 커넥션과 커서를 잡으므로 동시 실행을 max-concurrent 건으로 제한,
+ *   허가가 없으면 대기하지 않고 429 + Retry-After (쓰기 허가와 별개, 조회용 예약 커넥션 수 이하로 설정)
+ * - 허가는 응답 본문 스트리밍이 끝나거나 실패할 때 반환
+ * - timeout-seconds: 내보내기 트랜잭션 시간 제한(쿼리 시간 제한)과 같은 값으로, 다운로드가 이 시간을 넘으면 쓰기를 중단
+ * - 지표: qtrack.export.active, qtrack.export.rejected, qtrack.export.timeout
+ */
+@Slf4j
+@Component
+public class QualityRecordExportLimiter {
+    private final int permits;
+    private final long timeoutNanos;
+    private final long retryAfterSeconds;
+    private final Semaphore semaphore;
+    private final Counter rejections;
+    private final Counter timeouts;
+
+    public QualityRecordExportLimiter(
+            @Value("${qualityrecord.export.max-concurrent:2}") int maxConcurrent,
+            @Value("${qualityrecord.export.timeout-seconds:300}") long timeoutSeconds,
+            @Value("${qualityrecord.export.retry-after-seconds:30}") long retryAfterSeconds,
+            MeterRegistry meterRegistry) {
+        this.permits = Math.max(1, maxConcurrent);
+        this.timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.semaphore = new Semaphore(permits, true);
+        this.rejections = Counter.builder("qtrack.export.rejected")
+                .description("동시 실행 제한으로 거절된 내보내기 수")
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("qtrack.export.timeout")
+                .description("실행 시간 상한을 넘어 중단된 내보내기 수")
+                .register(meterRegistry);
+        Gauge.builder("qtrack.export.active", semaphore, s -> permits - s.availablePermits())
+                .description("진행 중인 내보내기 수")
+                .register(meterRegistry);
+    }
+
+    // 허가를 얻지 못하면 Exception429, 얻었으면 스트리밍이 끝날 때 release() 호출
+    public void acquire() {
+        if (!semaphore.tryAcquire()) {
+            rejections.increment();
+            log.warn("내보내기 거절: 동시 실행 {}건 초과", permits);
+            throw new Exception429("진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해 주세요", retryAfterSeconds);
+        }
+    }
+
+    public void release() {
+        semaphore.release();
+    }
+
+    // 지금부터 timeout-seconds 가 지나면 쓰기마다 IOException 을 던지는 스트림 (out 은 그대로 감쌈)
+    public OutputStream withDeadline(OutputStream out) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        return new FilterOutputStream(out) {
+            @Override
+            public void write(int b) throws IOException {
+                checkDeadline();
+                out.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                checkDeadline();
+                out.write(b, off, len);
+            }
+
+            private void checkDeadline() throws IOException {
+                if (System.nanoTime() - deadline > 0) {
+                    timeouts.increment();
+                    throw new IOException("내보내기 제한 시간을 초과했습니다");
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package dev.dote.qtrack.qualityrecord;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 수량 증감(UPDATE) 직후 응답과 집계 반영에 필요한 정보를 한 번의 조인 쿼리로 조회한 결과
+ * - okQuantity ~ evaluationReason: 증감이 반영된 현재 값
+ * - previousNgRate: 같은 부품/공정의 전일 NG 비율 (없으면 null)
+ */
+public record QualityRecordIncrementContext(
+        Long id,
+        Long dailyProductionId,
+        Long itemId,
+        Long processId,
+        LocalDate productionDate,
+        Integer okQuantity,
+        Integer ngQuantity,
+        Integer totalQuantity,
+        BigDecimal ngRate,
+        Boolean evaluationRequired,
+        String evaluationReason,
+        BigDecimal previousNgRate) {
+}
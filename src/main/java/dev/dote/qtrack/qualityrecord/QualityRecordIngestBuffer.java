@@ -0,0 +1,119 @@
+package dev.dote.qtrack.qualityrecord;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 낱개 검사 결과(OK/NG) 누적 버퍼
+ * - (일별 생산, 공정) 키마다 LongAdder 카운터에 더함 (키가 있으면 잠금 없이 셀 단위 CAS)
+ * - drain: 카운터를 sumThenReset 으로 비우며 변화량을 꺼냄 (비우는 도중 더해진 값은 다음 drain 에 포함)
+ * - IDLE_DRAINS_BEFORE_REMOVE 회 연속 변화가 없던 키는 evictIdle 에서 맵에서 제거
+ *   (add 가 카운터를 꺼낸 뒤 더하기 전에 제거되면 그 값이 유실되므로, add 가 진행 중일 수 없는 시점에만 호출
+ *   → QualityRecordIngestJournal 이 쓰기 잠금 안에서 drain 직후 호출)
+ * - drain/restore 는 flusher 한 곳에서만 호출 (drain 은 저널과 맞물려야 하므로 QualityRecordIngestJournal 을 거침)
+ */
+@Component
+public class QualityRecordIngestBuffer {
+    private static final int IDLE_DRAINS_BEFORE_REMOVE = 12;
+
+    private final ConcurrentHashMap<Key, Counter> counters = new ConcurrentHashMap<>();
+    // 아직 flush 되지 않은 가장 오래된 누적 시각 (System.nanoTime, 0 이면 대기 없음)
+    private final AtomicLong pendingSince = new AtomicLong();
+
+    public void add(Long dailyProductionId, Long processId, long okQuantity, long ngQuantity) {
+        Key key = new Key(dailyProductionId, processId);
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key, k -> new Counter());
+        }
+        counter.ok.add(okQuantity);
+        counter.ng.add(ngQuantity);
+        if (pendingSince.get() == 0) {
+            pendingSince.compareAndSet(0, System.nanoTime());
+        }
+    }
+
+    // journalPosition: 이번에 꺼낸 변화량이 포함하는 저널 끝 위치 (저널 미사용 시 0)
+    public synchronized Batch drain(long journalPosition) {
+        long since = pendingSince.getAndSet(0);
+        Map<Key, Delta> deltas = new HashMap<>();
+        for (Map.Entry<Key, Counter> entry : counters.entrySet()) {
+            Counter counter = entry.getValue();
+            if (collect(deltas, entry.getKey(), counter)) {
+                counter.idleDrains = 0;
+            } else {
+                counter.idleDrains++;
+            }
+        }
+        return new Batch(deltas, deltas.isEmpty() ? 0 : since, journalPosition);
+    }
+
+    // drain 직후 오래 변화가 없던 키 제거, 제거한 키 수 반환 (add 와 동시에 호출하지 않아야 함)
+    public synchronized int evictIdle() {
+        int before = counters.size();
+        counters.values().removeIf(counter -> counter.idleDrains >= IDLE_DRAINS_BEFORE_REMOVE);
+        return before - counters.size();
+    }
+
+    // flush 실패 시 꺼낸 변화량을 되돌려 다음 주기에 다시 반영
+    public synchronized void restore(Batch batch) {
+        batch.deltas().forEach((key, delta) -> add(key.dailyProductionId(), key.processId(),
+                delta.okQuantity(), delta.ngQuantity()));
+        if (batch.pendingSince() != 0) {
+            pendingSince.accumulateAndGet(batch.pendingSince(),
+                    (current, restored) -> current == 0 ? restored : Math.min(current, restored));
+        }
+    }
+
+    // 이미 누적 중인 키 (수집 시 존재 확인을 건너뛰는 용도, 제거된 키는 다시 확인)
+    public boolean contains(Key key) {
+        return counters.containsKey(key);
+    }
+
+    public long pendingKeys() {
+        return counters.size();
+    }
+
+    // 가장 오래된 미반영 누적 이후 경과 시간 (flush 지연)
+    public long lagNanos() {
+        long since = pendingSince.get();
+        return since == 0 ? 0 : System.nanoTime() - since;
+    }
+
+    private static boolean collect(Map<Key, Delta> deltas, Key key, Counter counter) {
+        long ok = counter.ok.sumThenReset();
+        long ng = counter.ng.sumThenReset();
+        if (ok == 0 && ng == 0) {
+            return false;
+        }
+        deltas.merge(key, new Delta(ok, ng), Delta::plus);
+        return true;
+    }
+
+    public record Key(Long dailyProductionId, Long processId) {
+    }
+
+    public record Delta(long okQuantity, long ngQuantity) {
+        public Delta plus(Delta other) {
+            return new Delta(okQuantity + other.okQuantity, ngQuantity + other.ngQuantity);
+        }
+    }
+
+    public record Batch(Map<Key, Delta> deltas, long pendingSince, long journalPosition) {
+        public boolean isEmpty() {
+            return deltas.isEmpty();
+        }
+    }
+
+    private static final class Counter {
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder ng = new LongAdder();
+        // drain 에서만 접근
+        private int idleDrains;
+    }
+}
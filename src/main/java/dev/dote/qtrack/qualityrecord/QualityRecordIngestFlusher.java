@@ -0,0 +1,77 @@
+package dev.dote.qtrack.qualityrecord;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 낱개 수집 버퍼를 주기적으로 DB 에 반영 (write-behind)
+ * - qualityrecord.ingest.flush-interval-ms 마다 버퍼를 비워 한 트랜잭션으로 반영
+ * - 반영 실패 시 꺼낸 변화량을 버퍼로 되돌려 다음 주기에 재시도, 성공 시 반영된 저널 세그먼트 삭제
+ * - 종료 시(@PreDestroy) 남은 버퍼를 마지막으로 반영 (웹 서버가 먼저 멈춘 뒤 호출됨)
+ * - 지표: qtrack.ingest.flush.lag (가장 오래된 미반영 누적 이후 경과), qtrack.ingest.pending.keys, qtrack.ingest.flush
+ */
+@Slf4j
+@Component
+public class QualityRecordIngestFlusher {
+    private final QualityRecordIngestBuffer buffer;
+    private final QualityRecordIngestJournal journal;
+    private final QualityRecordIngestService qualityRecordIngestService;
+    private final Timer flushTimer;
+
+    public QualityRecordIngestFlusher(QualityRecordIngestBuffer buffer,
+            QualityRecordIngestJournal journal,
+            QualityRecordIngestService qualityRecordIngestService,
+            MeterRegistry meterRegistry) {
+        this.buffer = buffer;
+        this.journal = journal;
+        this.qualityRecordIngestService = qualityRecordIngestService;
+        this.flushTimer = Timer.builder("qtrack.ingest.flush")
+                .description("낱개 수집 버퍼 반영 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("qtrack.ingest.flush.lag", buffer, b -> b.lagNanos() / 1e9)
+                .description("가장 오래된 미반영 검사 결과 이후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("qtrack.ingest.pending.keys", buffer, QualityRecordIngestBuffer::pendingKeys)
+                .description("버퍼의 (일별 생산, 공정) 키 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${qualityrecord.ingest.flush-interval-ms:5000}",
+            initialDelayString = "${qualityrecord.ingest.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    public synchronized QualityRecordIngestService.FlushResult flush() {
+        QualityRecordIngestBuffer.Batch batch = journal.drain();
+        if (batch.isEmpty()) {
+            return new QualityRecordIngestService.FlushResult(0, 0, 0);
+        }
+        long start = System.nanoTime();
+        QualityRecordIngestService.FlushResult result;
+        try {
+            result = qualityRecordIngestService.flush(batch);
+        } catch (RuntimeException e) {
+            buffer.restore(batch);
+            log.error("낱개 수집 반영 실패, 다음 주기에 재시도: 키 {}건", batch.deltas().size(), e);
+            throw e;
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        journal.truncate(batch.journalPosition());
+        return result;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,205 @@
+package dev.dote.qtrack.qualityrecord;
+
+import dev.dote.qtrack._core.journal.MappedJournal;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 낱개 수집 저널 (버퍼 앞단의 write-ahead 기록)
+ * - 요청의 (일별 생산, 공정) 별 변화량을 저널 레코드 하나로 쓰고 그룹 fsync 한 뒤 버퍼에 누적 → 그 후 응답
+ * - drain 은 쓰기 잠금으로 진행 중인 기록/누적이 끝나기를 기다려, 배치의 저널 위치 이전 레코드가 모두 배치에 들어 있음을 보장
+ * - 같은 쓰기 잠금 안에서 유휴 키를 버퍼에서 제거 (진행 중인 누적이 없어 제거된 카운터에 더해지는 값이 없음)
+ * - 반영 트랜잭션이 이 저널 식별자의 IngestJournalCheckpoint 를 배치의 저널 위치로 옮기고, 커밋 후 그 이전 세그먼트를 삭제
+ * - 기동 시 체크포인트 이후 레코드를 버퍼로 재생 (반영이 커밋되기 전에는 체크포인트가 그대로이므로 다시 재생해도 한 번만 반영)
+ * - qualityrecord.ingest.journal.dir 이 비어 있으면 저널 없이 버퍼만 사용
+ * - TCP 수집 게이트웨이의 게이트웨이별 마지막 순번도 변화량과 같은 레코드에 기록 (fsync 후 ACK 전에 죽어도 재전송을 중복으로 거름)
+ *   → 레코드마다 모든 게이트웨이 순번을 담아, 반영된 세그먼트가 삭제되어도 남은 마지막 레코드로 복원
+ *   → 기동 시 남은 레코드 전체에서 게이트웨이별 최대 순번 복원 (변화량은 체크포인트 이후 레코드만 재생)
+ * - 레코드 본문: [키 수 int] + 키마다 [일별생산ID long][공정ID long][OK long][NG long]
+ *              + [게이트웨이 수 int] + 게이트웨이마다 [ID 길이 u8][ID ASCII][순번 long]
+ */
+@Slf4j
+@Component
+public class QualityRecordIngestJournal {
+    private static final int ENTRY_BYTES = 4 * Long.BYTES;
+
+    private final QualityRecordIngestBuffer buffer;
+    private final IngestJournalCheckpointRepository ingestJournalCheckpointRepository;
+    // null 이면 저널 미사용
+    private final MappedJournal journal;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 게이트웨이 ID → 저널에 기록된 마지막 순번 (sequenceLock 안에서 교체, 기록 순서와 같은 순서로 커짐)
+    private final Object sequenceLock = new Object();
+    private volatile Map<String, Long> sequences = Map.of();
+
+    public QualityRecordIngestJournal(QualityRecordIngestBuffer buffer,
+            IngestJournalCheckpointRepository ingestJournalCheckpointRepository,
+            @Value("${qualityrecord.ingest.journal.dir:}") String directory,
+            @Value("${qualityrecord.ingest.journal.segment-bytes:67108864}") int segmentBytes) {
+        this.buffer = buffer;
+        this.ingestJournalCheckpointRepository = ingestJournalCheckpointRepository;
+        this.journal = directory.isBlank() ? null : MappedJournal.open(Path.of(directory), segmentBytes);
+    }
+
+    // 저널에 기록(fsync)한 뒤 버퍼에 누적
+    public void append(Map<QualityRecordIngestBuffer.Key, QualityRecordIngestBuffer.Delta> deltas) {
+        append(deltas, Map.of());
+    }
+
+    // gatewaySequences: 이 변화량까지 받은 게이트웨이별 마지막 순번 (같은 레코드에 기록)
+    public void append(Map<QualityRecordIngestBuffer.Key, QualityRecordIngestBuffer.Delta> deltas,
+            Map<String, Long> gatewaySequences) {
+        lock.readLock().lock();
+        try {
+            if (journal != null) {
+                long position;
+                // 순번 합치기와 기록을 한 순서로 묶어 뒤 레코드가 항상 최신 순번 전체를 담게 함
+                // (기록이 실패하면 합친 순번을 버려 재전송이 중복으로 걸러지지 않게 함)
+                synchronized (sequenceLock) {
+                    Map<String, Long> merged = gatewaySequences.isEmpty()
+                            ? sequences
+                            : merge(sequences, gatewaySequences);
+                    position = journal.append(encode(deltas, merged));
+                    sequences = merged;
+                }
+                journal.sync(position);
+            }
+            deltas.forEach((key, delta) -> buffer.add(key.dailyProductionId(), key.processId(),
+                    delta.okQuantity(), delta.ngQuantity()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 진행 중인 add 가 없으므로 유휴 키 제거도 함께 수행
+    public QualityRecordIngestBuffer.Batch drain() {
+        lock.writeLock().lock();
+        try {
+            QualityRecordIngestBuffer.Batch batch = buffer.drain(journal == null ? 0 : journal.position());
+            buffer.evictIdle();
+            return batch;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 저널에 기록된 게이트웨이의 마지막 순번, 없거나 저널 미사용이면 0
+    public long lastSequence(String gatewayId) {
+        return sequences.getOrDefault(gatewayId, 0L);
+    }
+
+    // 저널 미사용이면 null
+    public String journalId() {
+        return journal == null ? null : journal.id();
+    }
+
+    // 반영 트랜잭션 커밋 후 호출, 반영된 세그먼트 삭제
+    public void truncate(long appliedPosition) {
+        if (journal != null && appliedPosition > 0) {
+            journal.truncate(appliedPosition);
+        }
+    }
+
+    // 체크포인트 이후 레코드를 버퍼로 재생, 재생한 레코드 수 반환 (게이트웨이 순번은 남은 레코드 전체에서 복원)
+    @PostConstruct
+    public int recover() {
+        if (journal == null) {
+            return 0;
+        }
+        lock.writeLock().lock();
+        try {
+            long applied = ingestJournalCheckpointRepository.findAppliedPosition(journal.id()).orElse(0L);
+            int[] replayed = new int[1];
+            Map<String, Long> restored = new HashMap<>(sequences);
+            journal.replay(0, (end, payload) -> {
+                ByteBuffer in = payload.duplicate();
+                Map<QualityRecordIngestBuffer.Key, QualityRecordIngestBuffer.Delta> deltas = decodeDeltas(in);
+                decodeSequences(in).forEach((gatewayId, sequence) -> restored.merge(gatewayId, sequence, Math::max));
+                if (end > applied) {
+                    deltas.forEach((key, delta) -> buffer.add(key.dailyProductionId(), key.processId(),
+                            delta.okQuantity(), delta.ngQuantity()));
+                    replayed[0]++;
+                }
+            });
+            synchronized (sequenceLock) {
+                sequences = restored;
+            }
+            if (replayed[0] > 0) {
+                log.info("낱개 수집 저널 재생: 레코드 {}건 (반영 위치 {} 이후)", replayed[0], applied);
+            }
+            return replayed[0];
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private static Map<String, Long> merge(Map<String, Long> sequences, Map<String, Long> gatewaySequences) {
+        Map<String, Long> merged = new HashMap<>(sequences);
+        gatewaySequences.forEach((gatewayId, sequence) -> merged.merge(gatewayId, sequence, Math::max));
+        return merged;
+    }
+
+    private static byte[] encode(Map<QualityRecordIngestBuffer.Key, QualityRecordIngestBuffer.Delta> deltas,
+            Map<String, Long> gatewaySequences) {
+        int sequenceBytes = 0;
+        for (String gatewayId : gatewaySequences.keySet()) {
+            sequenceBytes += 1 + gatewayId.length() + Long.BYTES;
+        }
+        ByteBuffer out = ByteBuffer.allocate(2 * Integer.BYTES + deltas.size() * ENTRY_BYTES + sequenceBytes);
+        out.putInt(deltas.size());
+        deltas.forEach((key, delta) -> out
+                .putLong(key.dailyProductionId())
+                .putLong(key.processId())
+                .putLong(delta.okQuantity())
+                .putLong(delta.ngQuantity()));
+        out.putInt(gatewaySequences.size());
+        gatewaySequences.forEach((gatewayId, sequence) -> out
+                .put((byte) gatewayId.length())
+                .put(gatewayId.getBytes(StandardCharsets.US_ASCII))
+                .putLong(sequence));
+        return out.array();
+    }
+
+    private static Map<QualityRecordIngestBuffer.Key, QualityRecordIngestBuffer.Delta> decodeDeltas(ByteBuffer in) {
+        int count = in.getInt();
+        Map<QualityRecordIngestBuffer.Key, QualityRecordIngestBuffer.Delta> deltas = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            deltas.put(new QualityRecordIngestBuffer.Key(in.getLong(), in.getLong()),
+                    new QualityRecordIngestBuffer.Delta(in.getLong(), in.getLong()));
+        }
+        return deltas;
+    }
+
+    // 순번 부분이 없는 레코드(게이트웨이 순번 기록 전 형식)는 빈 맵
+    private static Map<String, Long> decodeSequences(ByteBuffer in) {
+        if (!in.hasRemaining()) {
+            return Map.of();
+        }
+        int count = in.getInt();
+        Map<String, Long> gatewaySequences = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            byte[] gatewayId = new byte[in.get() & 0xFF];
+            in.get(gatewayId);
+            gatewaySequences.put(new String(gatewayId, StandardCharsets.US_ASCII), in.getLong());
+        }
+        return gatewaySequences;
+    }
+}
@@ -0,0 +1,196 @@
+package dev.dote.qtrack.qualityrecord;
+
+import dev.dote.qtrack._core.errors.ex.Exception400;
+import dev.dote.qtrack._core.util.NgRateUtil;
+import dev.dote.qtrack.dailyproduction.DailyProductionRepository;
+import dev.dote.qtrack.outlier.OutlierSample;
+import dev.dote.qtrack.outlier.OutlierService;
+import dev.dote.qtrack.process.ProcessRepository;
+import dev.dote.qtrack.rollup.NgRollupService;
+import dev.dote.qtrack.rollup.RollupDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 낱개 검사 결과 수집 및 일괄 반영
+ * - 수집: 요청의 검사 결과를 (일별 생산, 공정) 별로 합쳐 저널에 기록한 뒤 버퍼 카운터에 더함 (트랜잭션 없음)
+ *   - 버퍼에 없는 키만 일별 생산/공정 존재를 확인해 없으면 요청 전체를 400 으로 거절 (누적 중인 키는 DB 접근 없음)
+ * - 반영: 버퍼에서 꺼낸 (일별 생산, 공정) 별 변화량을 한 트랜잭션에서 처리
+ *   - 품질 기록이 없는 키: 일반 생성 경로로 등록 (그 사이 다른 경로에서 생성되었으면 기존 기록으로 보고 증감)
+ *   - 기존 품질 기록: 수량 증감 배치 UPDATE 1회 → 갱신 값/전일 NG 비율 조회 1회 → 키마다 한 번 평가, 바뀐 평가만 배치 UPDATE
+ *   - 수집 이후 일별 생산/공정이 삭제된 키만 버림
+ *   - NG 집계, 이상치 누적 통계, 저널 반영 위치도 같은 트랜잭션에서 갱신
+ *   - NG 비율이 바뀐 키는 다음 날 기록을 커밋 직전에 재평가 (NextDayReevaluator)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QualityRecordIngestService {
+    private final QualityRecordIngestBuffer buffer;
+    private final QualityRecordIngestJournal journal;
+    private final IngestJournalCheckpointRepository ingestJournalCheckpointRepository;
+    private final QualityRecordRepository qualityRecordRepository;
+    private final QualityRecordBulkRepository qualityRecordBulkRepository;
+    private final QualityRecordService qualityRecordService;
+    private final QualityRecordEvaluator qualityRecordEvaluator;
+    private final DailyProductionRepository dailyProductionRepository;
+    private final ProcessRepository processRepository;
+    private final NgRollupService ngRollupService;
+    private final OutlierService outlierService;
+    private final NextDayReevaluator nextDayReevaluator;
+
+    public QualityRecordResponse.Ingest ingest(List<QualityRecordRequest.Piece> pieces) {
+        // 결과 값을 먼저 모두 확인해 요청 일부만 누적되는 일이 없도록 함
+        List<PieceResult> results = pieces.stream()
+                .map(piece -> PieceResult.from(piece.result()))
+                .toList();
+        Map<QualityRecordIngestBuffer.Key, QualityRecordIngestBuffer.Delta> deltas = new HashMap<>();
+        for (int i = 0; i < pieces.size(); i++) {
+            QualityRecordRequest.Piece piece = pieces.get(i);
+            boolean ok = results.get(i) == PieceResult.OK;
+            deltas.merge(new QualityRecordIngestBuffer.Key(piece.dailyProductionId(), piece.processId()),
+                    new QualityRecordIngestBuffer.Delta(ok ? 1 : 0, ok ? 0 : 1),
+                    QualityRecordIngestBuffer.Delta::plus);
+        }
+        validateKeys(deltas.keySet());
+        journal.append(deltas);
+        return new QualityRecordResponse.Ingest(pieces.size(), buffer.pendingKeys());
+    }
+
+    // 버퍼에 없는 키만 일별 생산/공정 존재 확인 (각 1회 조회)
+    private void validateKeys(Set<QualityRecordIngestBuffer.Key> keys) {
+        Set<Long> dailyProductionIds = new HashSet<>();
+        Set<Long> processIds = new HashSet<>();
+        for (QualityRecordIngestBuffer.Key key : keys) {
+            if (!buffer.contains(key)) {
+                dailyProductionIds.add(key.dailyProductionId());
+                processIds.add(key.processId());
+            }
+        }
+        if (dailyProductionIds.isEmpty()) {
+            return;
+        }
+        dailyProductionIds.removeAll(dailyProductionRepository.findExistingIds(dailyProductionIds));
+        if (!dailyProductionIds.isEmpty()) {
+            throw new Exception400("일별 생산 데이터를 찾을 수 없습니다: " + dailyProductionIds.iterator().next());
+        }
+        processIds.removeAll(processRepository.findExistingIds(processIds));
+        if (!processIds.isEmpty()) {
+            throw new Exception400("공정을 찾을 수 없습니다: " + processIds.iterator().next());
+        }
+    }
+
+    @Transactional
+    public FlushResult flush(QualityRecordIngestBuffer.Batch batch) {
+        Map<QualityRecordIngestBuffer.Key, QualityRecordIngestBuffer.Delta> deltas = batch.deltas();
+        Set<Long> dailyProductionIds = deltas.keySet().stream()
+                .map(QualityRecordIngestBuffer.Key::dailyProductionId)
+                .collect(Collectors.toSet());
+        Set<QualityRecordIngestBuffer.Key> existing = qualityRecordRepository.findBulkExisting(dailyProductionIds)
+                .stream()
+                .map(row -> new QualityRecordIngestBuffer.Key(row.dailyProductionId(), row.processId()))
+                .filter(deltas::containsKey)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        // 1. 품질 기록이 아직 없는 키는 생성 (그 사이 다른 경로에서 생성되었으면 증감 대상으로 넘김)
+        int created = 0;
+        int dropped = 0;
+        for (Map.Entry<QualityRecordIngestBuffer.Key, QualityRecordIngestBuffer.Delta> entry : deltas.entrySet()) {
+            QualityRecordIngestBuffer.Key key = entry.getKey();
+            if (existing.contains(key)) {
+                continue;
+            }
+            QualityRecordCreateContext context = qualityRecordRepository
+                    .findCreateContext(key.dailyProductionId(), key.processId())
+                    .orElse(null);
+            if (context != null && context.existingRecordId() != null) {
+                existing.add(key);
+                continue;
+            }
+            if (context == null || context.processId() == null) {
+                log.warn("수집 이후 일별 생산/공정이 삭제되어 버림: 일별생산ID={}, 공정ID={}, OK={}, NG={}",
+                        key.dailyProductionId(), key.processId(),
+                        entry.getValue().okQuantity(), entry.getValue().ngQuantity());
+                dropped++;
+                continue;
+            }
+            qualityRecordService.create(key.dailyProductionId(), key.processId(),
+                    Math.toIntExact(entry.getValue().okQuantity()),
+                    Math.toIntExact(entry.getValue().ngQuantity()));
+            created++;
+        }
+
+        // 2. 기존 품질 기록 수량 증감
+        List<QualityRecordBulkRepository.Increment> increments = new ArrayList<>(existing.size());
+        for (QualityRecordIngestBuffer.Key key : existing) {
+            QualityRecordIngestBuffer.Delta delta = deltas.get(key);
+            increments.add(new QualityRecordBulkRepository.Increment(key.dailyProductionId(), key.processId(),
+                    Math.toIntExact(delta.okQuantity()), Math.toIntExact(delta.ngQuantity())));
+        }
+        qualityRecordBulkRepository.incrementAll(increments);
+
+        // 3. 키마다 한 번 평가, 집계/이상치 반영
+        List<QualityRecordBulkRepository.EvaluationUpdate> evaluationUpdates = new ArrayList<>();
+        List<RollupDelta> rollupDeltas = new ArrayList<>(existing.size());
+        for (QualityRecordIncrementContext context : qualityRecordRepository.findIncrementContexts(dailyProductionIds)) {
+            QualityRecordIngestBuffer.Key key = new QualityRecordIngestBuffer.Key(
+                    context.dailyProductionId(), context.processId());
+            if (!existing.contains(key)) {
+                continue;
+            }
+            QualityRecordIngestBuffer.Delta delta = deltas.get(key);
+
+            QualityRecordEvaluator.Evaluation evaluation = qualityRecordEvaluator.evaluate(
+                    context.ngRate(), context.previousNgRate());
+            if (evaluation.required() != context.evaluationRequired()
+                    || !Objects.equals(evaluation.reason(), context.evaluationReason())) {
+                evaluationUpdates.add(new QualityRecordBulkRepository.EvaluationUpdate(
+                        context.id(), evaluation.required(), evaluation.reason()));
+            }
+
+            rollupDeltas.add(RollupDelta.of(context.itemId(), context.processId(), context.productionDate(),
+                    0, delta.okQuantity(), delta.ngQuantity()));
+            BigDecimal previousRecordNgRate = NgRateUtil.ngRate(
+                    context.ngQuantity() - delta.ngQuantity(),
+                    context.totalQuantity() - delta.okQuantity() - delta.ngQuantity());
+            outlierService.replace(new OutlierSample(context.itemId(), context.processId(), previousRecordNgRate),
+                    context.ngRate());
+            if (previousRecordNgRate.compareTo(context.ngRate()) != 0) {
+                nextDayReevaluator.changed(context.itemId(), context.processId(), context.productionDate());
+            }
+        }
+        qualityRecordBulkRepository.updateEvaluations(evaluationUpdates);
+        ngRollupService.applyAll(rollupDeltas);
+
+        // 4. 저널 반영 위치 (이 트랜잭션과 함께 커밋되어야 재생 시 중복 반영이 없음)
+        if (batch.journalPosition() > 0) {
+            advanceCheckpoint(batch.journalPosition());
+        }
+
+        return new FlushResult(existing.size(), created, dropped);
+    }
+
+    // 저널 식별자별 행, 새 저널 디렉터리면 첫 반영에서 행 생성
+    private void advanceCheckpoint(long position) {
+        String journalId = journal.journalId();
+        if (ingestJournalCheckpointRepository.advance(journalId, position) == 0
+                && ingestJournalCheckpointRepository.findAppliedPosition(journalId).isEmpty()) {
+            ingestJournalCheckpointRepository.saveAndFlush(new IngestJournalCheckpoint(journalId, position));
+        }
+    }
+
+    public record FlushResult(int updated, int created, int dropped) {
+    }
+}
@@ -0,0 +1,28 @@
+package dev.dote.qtrack.qualityrecord;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 품질 기록 동적 필터 조회
+ * - 전달된 조건만 WHERE 절에 포함 (IS NULL OR 형태의 범용 조건 없음)
+ */
+public interface QualityRecordQueryRepository {
+
+    Page<QualityRecordResponse.List> findListWithFilters(Pageable pageable, Long itemId, LocalDate productionDate,
+            LocalDate startDate, LocalDate endDate);
+
+    // 내보내기용: 목록과 같은 조건/정렬로 전체 행을 스트리밍 (호출 측에서 스트림을 닫아야 함)
+    Stream<QualityRecordResponse.List> streamWithFilters(Long itemId, LocalDate productionDate,
+            LocalDate startDate, LocalDate endDate);
+
+    // 키셋 페이지 조회: 이전 페이지 마지막 행의 정렬 키 이후부터 limit 건 (OFFSET, COUNT 없음)
+    List<QualityRecordScrollRow> scroll(Long itemId, LocalDate productionDate, LocalDate startDate,
+            LocalDate endDate, LocalDate cursorDate, String cursorItemCode, Integer cursorProcessSequence,
+            Long cursorId, Limit limit);
+}
@@ -0,0 +1,137 @@
+package dev.dote.qtrack.qualityrecord;
+
+import dev.dote.qtrack.dailyproduction.DailyProduction;
+import dev.dote.qtrack.item.Item;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 품질 기록 동적 필터 조회 (Criteria)
+ * - 부품 필터는 daily_production_tb.item_id 에 직접 적용해 (item_id, production_date) 인덱스 사용
+ * - 정렬: 생산일 DESC, 부품 코드 ASC, 공정 순서 ASC (키셋 조회는 ID ASC 추가)
+ * - 공정 순서는 quality_record_tb.process_sequence 를 사용해 공정 조인 없이
+ *   (daily_production_id, process_sequence) 인덱스 순서로 읽음
+ */
+@RequiredArgsConstructor
+public class QualityRecordQueryRepositoryImpl implements QualityRecordQueryRepository {
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<QualityRecordResponse.List> findListWithFilters(Pageable pageable, Long itemId,
+            LocalDate productionDate, LocalDate startDate, LocalDate endDate) {
+        List<QualityRecordResponse.List> content = entityManager
+                .createQuery(listQuery(itemId, productionDate, startDate, endDate))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> count(itemId, productionDate, startDate, endDate));
+    }
+
+    @Override
+    public Stream<QualityRecordResponse.List> streamWithFilters(Long itemId, LocalDate productionDate,
+            LocalDate startDate, LocalDate endDate) {
+        // DTO 프로젝션이라 영속성 컨텍스트에 엔티티가 쌓이지 않음, 드라이버는 fetch size 단위로 읽음
+        return entityManager.createQuery(listQuery(itemId, productionDate, startDate, endDate))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    @Override
+    public List<QualityRecordScrollRow> scroll(Long itemId, LocalDate productionDate, LocalDate startDate,
+            LocalDate endDate, LocalDate cursorDate, String cursorItemCode, Integer cursorProcessSequence,
+            Long cursorId, Limit limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<QualityRecordScrollRow> query = cb.createQuery(QualityRecordScrollRow.class);
+        Root<QualityRecord> qr = query.from(QualityRecord.class);
+        Join<QualityRecord, DailyProduction> dp = qr.join("dailyProduction");
+        Join<DailyProduction, Item> i = dp.join("item");
+        Path<Integer> processSequence = qr.get("processSequence");
+
+        List<Predicate> predicates = filters(cb, dp, itemId, productionDate, startDate, endDate);
+        if (cursorDate != null) {
+            // (생산일 DESC, 부품 코드, 공정 순서, ID) 기준으로 커서 이후 행
+            predicates.add(cb.or(
+                    cb.lessThan(dp.get("productionDate"), cursorDate),
+                    cb.and(cb.equal(dp.get("productionDate"), cursorDate), cb.or(
+                            cb.greaterThan(i.get("code"), cursorItemCode),
+                            cb.and(cb.equal(i.get("code"), cursorItemCode), cb.or(
+                                    cb.greaterThan(processSequence, cursorProcessSequence),
+                                    cb.and(cb.equal(processSequence, cursorProcessSequence),
+                                            cb.greaterThan(qr.get("id"), cursorId))))))));
+        }
+
+        query.select(cb.construct(QualityRecordScrollRow.class,
+                qr.get("id"), dp.get("id"), qr.get("process").get("id"), i.get("id"), dp.get("productionDate"),
+                qr.get("okQuantity"), qr.get("ngQuantity"), qr.get("totalQuantity"), qr.get("ngRate"),
+                qr.get("expertEvaluation"), qr.get("evaluationRequired"), qr.get("evaluationReason"),
+                i.get("code"), processSequence))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(dp.get("productionDate")), cb.asc(i.get("code")), cb.asc(processSequence),
+                        cb.asc(qr.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit.max())
+                .getResultList();
+    }
+
+    private CriteriaQuery<QualityRecordResponse.List> listQuery(Long itemId, LocalDate productionDate,
+            LocalDate startDate, LocalDate endDate) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<QualityRecordResponse.List> query = cb.createQuery(QualityRecordResponse.List.class);
+        Root<QualityRecord> qr = query.from(QualityRecord.class);
+        Join<QualityRecord, DailyProduction> dp = qr.join("dailyProduction");
+        Join<DailyProduction, Item> i = dp.join("item");
+
+        return query.select(cb.construct(QualityRecordResponse.List.class,
+                qr.get("id"), dp.get("id"), qr.get("process").get("id"), i.get("id"), dp.get("productionDate"),
+                qr.get("okQuantity"), qr.get("ngQuantity"), qr.get("totalQuantity"), qr.get("ngRate"),
+                qr.get("expertEvaluation"), qr.get("evaluationRequired"), qr.get("evaluationReason")))
+                .where(filters(cb, dp, itemId, productionDate, startDate, endDate).toArray(Predicate[]::new))
+                // 같은 순서 값이 있어도 페이지 경계가 흔들리지 않도록 id 로 마지막 정렬
+                .orderBy(cb.desc(dp.get("productionDate")), cb.asc(i.get("code")), cb.asc(qr.get("processSequence")),
+                        cb.asc(qr.get("id")));
+    }
+
+    private long count(Long itemId, LocalDate productionDate, LocalDate startDate, LocalDate endDate) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<QualityRecord> qr = query.from(QualityRecord.class);
+        Join<QualityRecord, DailyProduction> dp = qr.join("dailyProduction");
+        query.select(cb.count(qr))
+                .where(filters(cb, dp, itemId, productionDate, startDate, endDate).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    // 전달된 조건만 추가
+    private List<Predicate> filters(CriteriaBuilder cb, Join<QualityRecord, DailyProduction> dp, Long itemId,
+            LocalDate productionDate, LocalDate startDate, LocalDate endDate) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (itemId != null) {
+            predicates.add(cb.equal(dp.get("item").get("id"), itemId));
+        }
+        if (productionDate != null) {
+            predicates.add(cb.equal(dp.get("productionDate"), productionDate));
+        }
+        if (startDate != null) {
+            predicates.add(cb.greaterThanOrEqualTo(dp.get("productionDate"), startDate));
+        }
+        if (endDate != null) {
+            predicates.add(cb.lessThanOrEqualTo(dp.get("productionDate"), endDate));
+        }
+        return predicates;
+    }
+}
@@ -1,18 +1,25 @@
 package dev.dote.qtrack.qualityrecord;
 
 import dev.dote.qtrack.dailyproduction.DailyProduction;
+import dev.dote.qtrack.outlier.OutlierSample;
 import dev.dote.qtrack.process.Process;
+import dev.dote.qtrack.rollup.RollupDelta;
+import dev.dote.qtrack.statistics.TrendSample;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface QualityRecordRepository extends JpaRepository<QualityRecord, Long> {
+public interface QualityRecordRepository extends JpaRepository<QualityRecord, Long>, QualityRecordQueryRepository {
         boolean existsByDailyProductionAndProcess(DailyProduction dailyProduction, Process process);
 
         Optional<QualityRecord> findByDailyProductionAndProcess(DailyProduction dailyProduction, Process process);
@@ -27,32 +34,6 @@ public interface QualityRecordRepository extends JpaRepository<QualityRecord, Lo
                         "LEFT JOIN FETCH qr.evaluatedBy")
         List<QualityRecord> findAllWithJoins();
 
-        @Query(value = "SELECT qr FROM QualityRecord qr " +
-                        "JOIN qr.dailyProduction dp " +
-                        "JOIN dp.item i " +
-                        "JOIN qr.process p " +
-                        "LEFT JOIN qr.evaluatedBy " +
-                        "WHERE (:itemId IS NULL OR i.id = :itemId) " +
-                        "AND (:productionDate IS NULL OR dp.productionDate = :productionDate) " +
-                        "AND (:startDate IS NULL OR dp.productionDate >= :startDate) " +
-                        "AND (:endDate IS NULL OR dp.productionDate <= :endDate) " +
-                        "ORDER BY dp.productionDate DESC, i.code ASC, " +
-                        "CASE WHEN UPPER(p.code) = 'W' THEN 1 " +
-                        "WHEN UPPER(p.code) = 'P' THEN 2 " +
-                        "WHEN p.code = '검' THEN 3 " +
-                        "ELSE 4 END ASC", countQuery = "SELECT COUNT(qr) FROM QualityRecord qr " +
-                                        "JOIN qr.dailyProduction dp " +
-                                        "JOIN dp.item i " +
-                                        "WHERE (:itemId IS NULL OR i.id = :itemId) " +
-                                        "AND (:productionDate IS NULL OR dp.productionDate = :productionDate) " +
-                                        "AND (:startDate IS NULL OR dp.productionDate >= :startDate) " +
-                                        "AND (:endDate IS NULL OR dp.productionDate <= :endDate)")
-        Page<QualityRecord> findAllWithFilters(Pageable pageable,
-                        @Param("itemId") Long itemId,
-                        @Param("productionDate") LocalDate productionDate,
-                        @Param("startDate") LocalDate startDate,
-                        @Param("endDate") LocalDate endDate);
-
         @Query("SELECT qr FROM QualityRecord qr " +
                         "JOIN FETCH qr.dailyProduction " +
                         "JOIN FETCH qr.process " +
@@ -67,11 +48,166 @@ public interface QualityRecordRepository extends JpaRepository<QualityRecord, Lo
                         "WHERE qr.id = :id")
         Optional<QualityRecord> findByIdWithJoins(@Param("id") Long id);
 
-        @Query("SELECT qr FROM QualityRecord qr " +
-                        "JOIN FETCH qr.dailyProduction dp " +
-                        "JOIN FETCH qr.process " +
-                        "WHERE (:startDate IS NULL OR dp.productionDate >= :startDate) " +
-                        "AND (:endDate IS NULL OR dp.productionDate <= :endDate)")
-        List<QualityRecord> findByDateRange(@Param("startDate") LocalDate startDate,
+        // NG 집계 재구성용: (부품, 공정, 생산일) 단위 합계 스트리밍 (엔티티 로딩 없음)
+        @Query("SELECT new dev.dote.qtrack.rollup.RollupDelta(" +
+                        "i.id, p.id, dp.productionDate, COUNT(qr), SUM(qr.okQuantity), SUM(qr.ngQuantity)) " +
+                        "FROM QualityRecord qr " +
+                        "JOIN qr.dailyProduction dp " +
+                        "JOIN dp.item i " +
+                        "JOIN qr.process p " +
+                        "GROUP BY i.id, p.id, dp.productionDate")
+        Stream<RollupDelta> streamRollupDeltas();
+
+        @Query("SELECT new dev.dote.qtrack.rollup.RollupDelta(" +
+                        "i.id, p.id, dp.productionDate, COUNT(qr), SUM(qr.okQuantity), SUM(qr.ngQuantity)) " +
+                        "FROM QualityRecord qr " +
+                        "JOIN qr.dailyProduction dp " +
+                        "JOIN dp.item i " +
+                        "JOIN qr.process p " +
+                        "WHERE dp.id = :dailyProductionId " +
+                        "GROUP BY i.id, p.id, dp.productionDate")
+        List<RollupDelta> findRollupDeltasByDailyProductionId(@Param("dailyProductionId") Long dailyProductionId);
+
+        // 추세 분석용: 부품/공정의 기간 내 기록을 생산일 오름차순으로 스트리밍 (엔티티 로딩 없음)
+        @Query("SELECT new dev.dote.qtrack.statistics.TrendSample(" +
+                        "dp.productionDate, qr.ngQuantity, qr.totalQuantity) " +
+                        "FROM QualityRecord qr " +
+                        "JOIN qr.dailyProduction dp " +
+                        "WHERE dp.item.id = :itemId " +
+                        "AND qr.process.id = :processId " +
+                        "AND dp.productionDate >= :startDate " +
+                        "AND dp.productionDate <= :endDate " +
+                        "ORDER BY dp.productionDate ASC")
+        Stream<TrendSample> streamTrendSamples(@Param("itemId") Long itemId,
+                        @Param("processId") Long processId,
+                        @Param("startDate") LocalDate startDate,
                         @Param("endDate") LocalDate endDate);
+
+        // 이상치 누적 통계 재구성용: (부품, 공정, NG 비율) 스트리밍
+        @Query("SELECT new dev.dote.qtrack.outlier.OutlierSample(i.id, p.id, qr.ngRate) " +
+                        "FROM QualityRecord qr " +
+                        "JOIN qr.dailyProduction dp " +
+                        "JOIN dp.item i " +
+                        "JOIN qr.process p " +
+                        "WHERE qr.ngRate IS NOT NULL")
+        Stream<OutlierSample> streamOutlierSamples();
+
+        @Query("SELECT new dev.dote.qtrack.outlier.OutlierSample(i.id, p.id, qr.ngRate) " +
+                        "FROM QualityRecord qr " +
+                        "JOIN qr.dailyProduction dp " +
+                        "JOIN dp.item i " +
+                        "JOIN qr.process p " +
+                        "WHERE dp.id = :dailyProductionId AND qr.ngRate IS NOT NULL")
+        List<OutlierSample> findOutlierSamplesByDailyProductionId(@Param("dailyProductionId") Long dailyProductionId);
+
+        // 생성 경로용: 일별 생산, 공정 존재, 전일 NG 비율, 중복 여부를 한 번에 조회
+        @Query("SELECT new dev.dote.qtrack.qualityrecord.QualityRecordCreateContext(dp, p.id, p.sequence, prevQr.ngRate, curQr.id) " +
+                        "FROM DailyProduction dp " +
+                        "LEFT JOIN Process p ON p.id = :processId " +
+                        "LEFT JOIN DailyProduction prevDp ON prevDp.item = dp.item " +
+                        "AND prevDp.productionDate = dp.productionDate - 1 day " +
+                        "LEFT JOIN QualityRecord prevQr ON prevQr.dailyProduction = prevDp AND prevQr.process.id = :processId " +
+                        "LEFT JOIN QualityRecord curQr ON curQr.dailyProduction = dp AND curQr.process.id = :processId " +
+                        "WHERE dp.id = :dailyProductionId")
+        Optional<QualityRecordCreateContext> findCreateContext(@Param("dailyProductionId") Long dailyProductionId,
+                        @Param("processId") Long processId);
+
+        // 같은 부품/공정의 특정 생산일 NG 비율 (전일 대비 급증 판단용)
+        @Query("SELECT qr.ngRate FROM QualityRecord qr " +
+                        "JOIN qr.dailyProduction dp " +
+                        "WHERE dp.item.id = :itemId AND dp.productionDate = :productionDate " +
+                        "AND qr.process.id = :processId")
+        Optional<BigDecimal> findNgRate(@Param("itemId") Long itemId,
+                        @Param("productionDate") LocalDate productionDate,
+                        @Param("processId") Long processId);
+
+        // 대량 등록용: 청크의 일별 생산 대상 정보
+        @Query("SELECT new dev.dote.qtrack.qualityrecord.QualityRecordBulkContext$Target(dp.id, dp.item.id, dp.productionDate) " +
+                        "FROM DailyProduction dp WHERE dp.id IN :dailyProductionIds")
+        List<QualityRecordBulkContext.Target> findBulkTargets(
+                        @Param("dailyProductionIds") Collection<Long> dailyProductionIds);
+
+        // 대량 등록용: 청크의 일별 생산에 이미 등록된 공정
+        @Query("SELECT new dev.dote.qtrack.qualityrecord.QualityRecordBulkContext$Existing(qr.dailyProduction.id, qr.process.id) " +
+                        "FROM QualityRecord qr WHERE qr.dailyProduction.id IN :dailyProductionIds")
+        List<QualityRecordBulkContext.Existing> findBulkExisting(
+                        @Param("dailyProductionIds") Collection<Long> dailyProductionIds);
+
+        // 대량 등록용: 부품들의 기간 내 NG 비율 (전일 대비 급증 판단)
+        @Query("SELECT new dev.dote.qtrack.qualityrecord.QualityRecordBulkContext$Rate(dp.item.id, dp.productionDate, qr.process.id, qr.ngRate) " +
+                        "FROM QualityRecord qr JOIN qr.dailyProduction dp " +
+                        "WHERE dp.item.id IN :itemIds AND dp.productionDate BETWEEN :startDate AND :endDate")
+        List<QualityRecordBulkContext.Rate> findBulkRates(@Param("itemIds") Collection<Long> itemIds,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
+        // 수량 증감: 현재 값 기준으로 한 번의 UPDATE 로 더하고 총 수량/NG 비율도 SQL 에서 재계산
+        // - NG 비율은 NgRateUtil 과 같은 식 (소수점 4자리로 나눈 뒤 100 곱하고 2자리), 나눗셈은 소수점 10자리 이상으로 계산
+        // - MySQL 은 SET 을 왼쪽부터 적용해 앞서 바뀐 값을 참조하므로, 수량을 참조하는 식을 먼저 두고 수량을 마지막에 갱신
+        // - 결과 수량이 음수가 되면 갱신하지 않음 (0 건)
+        @Modifying
+        @Query("UPDATE QualityRecord qr SET " +
+                        "qr.ngRate = CASE WHEN qr.okQuantity + qr.ngQuantity + :okDelta + :ngDelta > 0 " +
+                        "THEN ROUND(ROUND((qr.ngQuantity + :ngDelta) * 1.0000000000BD / (qr.okQuantity + qr.ngQuantity + :okDelta + :ngDelta), 4) * 100, 2) " +
+                        "ELSE 0 END, " +
+                        "qr.totalQuantity = qr.okQuantity + qr.ngQuantity + :okDelta + :ngDelta, " +
+                        "qr.okQuantity = qr.okQuantity + :okDelta, " +
+                        "qr.ngQuantity = qr.ngQuantity + :ngDelta, " +
+                        "qr.updatedAt = LOCAL DATETIME " +
+                        "WHERE qr.id = :id AND qr.okQuantity + :okDelta >= 0 AND qr.ngQuantity + :ngDelta >= 0")
+        int increment(@Param("id") Long id, @Param("okDelta") int okDelta, @Param("ngDelta") int ngDelta);
+
+        // 수량 증감 후: 갱신된 값과 전일 NG 비율을 한 번에 조회
+        @Query("SELECT new dev.dote.qtrack.qualityrecord.QualityRecordIncrementContext(" +
+                        "qr.id, dp.id, dp.item.id, qr.process.id, dp.productionDate, " +
+                        "qr.okQuantity, qr.ngQuantity, qr.totalQuantity, qr.ngRate, " +
+                        "qr.evaluationRequired, qr.evaluationReason, prevQr.ngRate) " +
+                        "FROM QualityRecord qr " +
+                        "JOIN qr.dailyProduction dp " +
+                        "LEFT JOIN DailyProduction prevDp ON prevDp.item = dp.item " +
+                        "AND prevDp.productionDate = dp.productionDate - 1 day " +
+                        "LEFT JOIN QualityRecord prevQr ON prevQr.dailyProduction = prevDp AND prevQr.process = qr.process " +
+                        "WHERE qr.id = :id")
+        Optional<QualityRecordIncrementContext> findIncrementContext(@Param("id") Long id);
+
+        // 낱개 수집 반영 후: 일별 생산들의 품질 기록 갱신 값과 전일 NG 비율
+        @Query("SELECT new dev.dote.qtrack.qualityrecord.QualityRecordIncrementContext(" +
+                        "qr.id, dp.id, dp.item.id, qr.process.id, dp.productionDate, " +
+                        "qr.okQuantity, qr.ngQuantity, qr.totalQuantity, qr.ngRate, " +
+                        "qr.evaluationRequired, qr.evaluationReason, prevQr.ngRate) " +
+                        "FROM QualityRecord qr " +
+                        "JOIN qr.dailyProduction dp " +
+                        "LEFT JOIN DailyProduction prevDp ON prevDp.item = dp.item " +
+                        "AND prevDp.productionDate = dp.productionDate - 1 day " +
+                        "LEFT JOIN QualityRecord prevQr ON prevQr.dailyProduction = prevDp AND prevQr.process = qr.process " +
+                        "WHERE dp.id IN :dailyProductionIds")
+        List<QualityRecordIncrementContext> findIncrementContexts(
+                        @Param("dailyProductionIds") Collection<Long> dailyProductionIds);
+
+        // 다음 날 재평가: 부품들의 기간 내 품질 기록 현재 평가 값과 전일 NG 비율
+        @Query("SELECT new dev.dote.qtrack.qualityrecord.QualityRecordIncrementContext(" +
+                        "qr.id, dp.id, dp.item.id, qr.process.id, dp.productionDate, " +
+                        "qr.okQuantity, qr.ngQuantity, qr.totalQuantity, qr.ngRate, " +
+                        "qr.evaluationRequired, qr.evaluationReason, prevQr.ngRate) " +
+                        "FROM QualityRecord qr " +
+                        "JOIN qr.dailyProduction dp " +
+                        "LEFT JOIN DailyProduction prevDp ON prevDp.item = dp.item " +
+                        "AND prevDp.productionDate = dp.productionDate - 1 day " +
+                        "LEFT JOIN QualityRecord prevQr ON prevQr.dailyProduction = prevDp AND prevQr.process = qr.process " +
+                        "WHERE dp.item.id IN :itemIds AND dp.productionDate BETWEEN :startDate AND :endDate")
+        List<QualityRecordIncrementContext> findEvaluationContexts(
+                        @Param("itemIds") Collection<Long> itemIds,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
+        @Modifying
+        @Query("UPDATE QualityRecord qr SET qr.evaluationRequired = :required, qr.evaluationReason = :reason " +
+                        "WHERE qr.id = :id")
+        int updateEvaluation(@Param("id") Long id,
+                        @Param("required") boolean required,
+                        @Param("reason") String reason);
+
+        // 일괄 평가 대상 중 실제로 있는 ID
+        @Query("SELECT qr.id FROM QualityRecord qr WHERE qr.id IN :ids")
+        List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -1,7 +1,12 @@
 package dev.dote.qtrack.qualityrecord;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
 
 public class QualityRecordRequest {
     public record Create(
@@ -20,7 +25,48 @@ public class QualityRecordRequest {
             @Min(value = 0, message = "NG 수량은 0 이상이어야 합니다") Integer ngQuantity) {
     }
 
+    // (일별 생산, 공정) 키 기준 등록 또는 수정
+    public record Upsert(
+            @NotNull(message = "일별 생산 ID는 필수입니다") Long dailyProductionId,
+            @NotNull(message = "공정 ID는 필수입니다") Long processId,
+            @NotNull(message = "OK 수량은 필수입니다")
+            @Min(value = 0, message = "OK 수량은 0 이상이어야 합니다") Integer okQuantity,
+            @NotNull(message = "NG 수량은 필수입니다")
+            @Min(value = 0, message = "NG 수량은 0 이상이어야 합니다") Integer ngQuantity) {
+    }
+
+    // 증감량은 음수 가능 (정정), 결과 수량은 0 이상이어야 함
+    public record Increment(
+            @NotNull(message = "OK 증감량은 필수입니다") Integer okDelta,
+            @NotNull(message = "NG 증감량은 필수입니다") Integer ngDelta) {
+    }
+
+    // 낱개 검사 결과 수집 (result: OK, NG)
+    public record Ingest(
+            @NotEmpty(message = "검사 결과는 1건 이상이어야 합니다")
+            @Size(max = 10000, message = "한 번에 보낼 수 있는 검사 결과는 10000건 이하입니다")
+            List<@Valid Piece> pieces) {
+    }
+
+    public record Piece(
+            @NotNull(message = "일별 생산 ID는 필수입니다") Long dailyProductionId,
+            @NotNull(message = "공정 ID는 필수입니다") Long processId,
+            @NotNull(message = "검사 결과는 필수입니다") String result) {
+    }
+
     public record Evaluate(
             @NotNull(message = "전문가 평가 내용은 필수입니다") String expertEvaluation) {
     }
+
+    // 전문가 일괄 평가
+    public record EvaluateBatch(
+            @NotEmpty(message = "평가 항목은 1건 이상이어야 합니다")
+            @Size(max = 1000, message = "한 번에 평가할 수 있는 품질 기록은 1000건 이하입니다")
+            List<@NotNull @Valid EvaluateItem> evaluations) {
+    }
+
+    public record EvaluateItem(
+            @NotNull(message = "품질 기록 ID는 필수입니다") Long id,
+            @NotNull(message = "전문가 평가 내용은 필수입니다") String expertEvaluation) {
+    }
 }
@@ -1,6 +1,7 @@
 package dev.dote.qtrack.qualityrecord;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import dev.dote.qtrack._core.util.NgRateUtil;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -60,6 +61,37 @@ public class QualityRecordResponse {
                         String evaluationReason) {
         }
 
+        // created: 새로 등록했으면 true, 기존 기록을 수정했으면 false
+        public record Upsert(
+                        Long id,
+                        Long dailyProductionId,
+                        Long processId,
+                        Integer okQuantity,
+                        Integer ngQuantity,
+                        Integer totalQuantity,
+                        BigDecimal ngRate,
+                        Boolean evaluationRequired,
+                        String evaluationReason,
+                        boolean created) {
+        }
+
+        public record Increment(
+                        Long id,
+                        Long dailyProductionId,
+                        Long processId,
+                        Integer okQuantity,
+                        Integer ngQuantity,
+                        Integer totalQuantity,
+                        BigDecimal ngRate,
+                        Boolean evaluationRequired,
+                        String evaluationReason,
+                        Boolean reevaluated) {
+        }
+
+        // accepted: 누적한 검사 결과 수, pendingKeys: 반영 대기 중인 (일별 생산, 공정) 키 수
+        public record Ingest(Integer accepted, Long pendingKeys) {
+        }
+
         public record Delete(Long id) {
         }
 
@@ -72,21 +104,80 @@ public class QualityRecordResponse {
                         @JsonFormat(pattern = "yyyy-MM-dd") LocalDate evaluatedAt) {
         }
 
+        // 일괄 평가 결과 (평가자/평가일은 성공한 항목 공통)
+        public record EvaluateBatch(
+                        int total,
+                        int succeeded,
+                        int failed,
+                        Long evaluatedBy,
+                        @JsonFormat(pattern = "yyyy-MM-dd") LocalDate evaluatedAt,
+                        java.util.List<EvaluateBatchRow> results) {
+        }
+
+        // 일괄 평가 항목별 결과 (index: 요청 배열 내 순번, 0부터)
+        public record EvaluateBatchRow(
+                        int index,
+                        Long id,
+                        boolean success,
+                        String message) {
+        }
+
+        public record Bulk(
+                        int total,
+                        int succeeded,
+                        int failed,
+                        java.util.List<BulkRow> results) {
+        }
+
+        // 대량 등록 행별 결과 (index: 요청 배열 내 순번, 0부터)
+        public record BulkRow(
+                        int index,
+                        Long id,
+                        Long dailyProductionId,
+                        Long processId,
+                        boolean success,
+                        Boolean evaluationRequired,
+                        String evaluationReason,
+                        String message) {
+
+                static BulkRow success(int index, Long id, Long dailyProductionId, Long processId,
+                                boolean evaluationRequired, String evaluationReason) {
+                        return new BulkRow(index, id, dailyProductionId, processId, true, evaluationRequired,
+                                        evaluationReason, null);
+                }
+
+                static BulkRow failure(int index, Long dailyProductionId, Long processId, String message) {
+                        return new BulkRow(index, null, dailyProductionId, processId, false, null, null, message);
+                }
+        }
+
         public record StatisticsByProcess(
                         Long processId,
                         String processCode,
                         String processName,
-                        Integer totalNgQuantity,
-                        Integer totalQuantity,
+                        Long totalNgQuantity,
+                        Long totalQuantity,
                         BigDecimal ngRate) {
+                // JPQL GROUP BY 프로젝션용 생성자 (SUM 결과로 NG 비율 계산)
+                public StatisticsByProcess(Long processId, String processCode, String processName,
+                                Long totalNgQuantity, Long totalQuantity) {
+                        this(processId, processCode, processName, totalNgQuantity, totalQuantity,
+                                        NgRateUtil.ngRate(totalNgQuantity, totalQuantity));
+                }
         }
 
         public record StatisticsByItem(
                         Long itemId,
                         String itemCode,
                         String itemName,
-                        Integer totalNgQuantity,
-                        Integer totalQuantity,
+                        Long totalNgQuantity,
+                        Long totalQuantity,
                         BigDecimal ngRate) {
+                // JPQL GROUP BY 프로젝션용 생성자 (SUM 결과로 NG 비율 계산)
+                public StatisticsByItem(Long itemId, String itemCode, String itemName,
+                                Long totalNgQuantity, Long totalQuantity) {
+                        this(itemId, itemCode, itemName, totalNgQuantity, totalQuantity,
+                                        NgRateUtil.ngRate(totalNgQuantity, totalQuantity));
+                }
         }
 }
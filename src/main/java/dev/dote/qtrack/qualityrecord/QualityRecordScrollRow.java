@@ -0,0 +1,37 @@
+package dev.dote.qtrack.qualityrecord;
+
+import dev.dote.qtrack._core.util.CursorUtil;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 커서 기반 목록 조회 행
+ * - 목록 응답 필드 + 정렬 키 (부품 코드, 공정 순서)
+ */
+public record QualityRecordScrollRow(
+        Long id,
+        Long dailyProductionId,
+        Long processId,
+        Long itemId,
+        LocalDate productionDate,
+        Integer okQuantity,
+        Integer ngQuantity,
+        Integer totalQuantity,
+        BigDecimal ngRate,
+        String expertEvaluation,
+        Boolean evaluationRequired,
+        String evaluationReason,
+        String itemCode,
+        Integer processSequence) {
+
+    public QualityRecordResponse.List toResponse() {
+        return new QualityRecordResponse.List(id, dailyProductionId, processId, itemId, productionDate, okQuantity,
+                ngQuantity, totalQuantity, ngRate, expertEvaluation, evaluationRequired, evaluationReason);
+    }
+
+    // 정렬 키 순서: 생산일, 공정 순서, ID, 부품 코드 (부품 코드는 구분자를 포함할 수 있어 마지막)
+    public String cursor() {
+        return CursorUtil.encode(productionDate, processSequence, id, itemCode);
+    }
+}
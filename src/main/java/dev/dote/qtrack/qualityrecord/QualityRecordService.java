@@ -1,43 +1,86 @@
 package dev.dote.qtrack.qualityrecord;
 
 import dev.dote.qtrack._core.errors.ex.Exception400;
+import dev.dote.qtrack._core.util.CursorPage;
+import dev.dote.qtrack._core.util.CursorUtil;
+import dev.dote.qtrack._core.util.NgRateUtil;
 import dev.dote.qtrack.dailyproduction.DailyProduction;
-import dev.dote.qtrack.dailyproduction.DailyProductionRepository;
+import dev.dote.qtrack.outlier.OutlierSample;
+import dev.dote.qtrack.outlier.OutlierService;
 import dev.dote.qtrack.process.Process;
 import dev.dote.qtrack.process.ProcessRepository;
-import dev.dote.qtrack.systemcode.SystemCodeService;
+import dev.dote.qtrack.rollup.NgRollupService;
+import dev.dote.qtrack.rollup.RollupDelta;
 import dev.dote.qtrack.user.User;
 import dev.dote.qtrack.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 품질 기록 비즈니스 로직 처리
  * - 품질 기록 조회, 생성, 수정, 삭제 기능
+ * - OK/NG 수량 증감: UPDATE 1회로 원자적 반영 (동시 요청이 서로 덮어쓰지 않음), NG 비율이 판단 구간을 넘나들 때만 재평가
  * - NG 비율 자동 계산
- * - 평가 필요 여부 자동 판단 (NG 비율 임계값 초과, 전일 대비 급증)
+ * - 평가 필요 여부 자동 판단 (NG 비율 임계값 초과, 전일 대비 급증 - QualityRecordEvaluator)
+ * - 생성 시 조인 쿼리 1회 + INSERT 1회로 검증/저장 (중복은 유니크 제약으로 최종 차단)
+ * - (일별 생산, 공정) 키 기준 upsert: 없으면 INSERT 1회, 있으면 행 잠금 조회로 이전 값을 받고 upsert 한 문장으로 덮어쓰기
+ *   (동시 생성 경합으로 잠금 실패 시 새 트랜잭션으로 1회 재시도)
  * - 평가 필요 목록 조회
- * - 품질 기록 평가 기능
- * - 공정별/부품별 NG 비율 통계
+ * - 커서(키셋) 기반 목록 조회 (OFFSET, COUNT 없이 정렬 키로 탐색)
+ * - 목록 조건 그대로 CSV/NDJSON 내보내기 (행 단위 스트리밍, 전체 결과를 메모리에 올리지 않음)
+ * - 품질 기록 평가 기능 (일괄 평가: 사용자 조회 1회, ID 존재 확인 1회, 배치 UPDATE 1회)
+ * - 공정별/부품별 NG 비율 통계 (일/월/연 집계 테이블 기반)
+ * - 생성/수정/삭제 시 NG 집계, 이상치 누적 통계를 같은 트랜잭션에서 갱신
+ * - 생성/수정/삭제 시 다음 날 같은 부품/공정 기록을 커밋 직전에 재평가 (NextDayReevaluator)
  */
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class QualityRecordService {
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final List<String> CSV_HEADER = List.of("id", "dailyProductionId", "itemId", "processId",
+            "productionDate", "okQuantity", "ngQuantity", "totalQuantity", "ngRate", "evaluationRequired",
+            "evaluationReason", "expertEvaluation");
+
     private final QualityRecordRepository qualityRecordRepository;
-    private final DailyProductionRepository dailyProductionRepository;
+    private final QualityRecordBulkRepository qualityRecordBulkRepository;
     private final ProcessRepository processRepository;
-    private final SystemCodeService systemCodeService;
+    private final QualityRecordEvaluator qualityRecordEvaluator;
     private final UserRepository userRepository;
+    private final NgRollupService ngRollupService;
+    private final OutlierService outlierService;
+    private final NextDayReevaluator nextDayReevaluator;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate transactionTemplate;
 
     public List<QualityRecordResponse.List> findAll() {
         return qualityRecordRepository.findAllWithJoins().stream()
@@ -58,34 +101,68 @@ public class QualityRecordService {
     }
 
     public Page<QualityRecordResponse.List> findAll(Pageable pageable, Long itemId, LocalDate productionDate, LocalDate startDate, LocalDate endDate, Integer year, Integer month) {
-        // year와 month를 LocalDate 범위로 변환
-        LocalDate calculatedStartDate = startDate;
-        LocalDate calculatedEndDate = endDate;
-        
-        if (year != null && month != null) {
-            // 특정 년월: 해당 월의 시작일 ~ 종료일
-            calculatedStartDate = LocalDate.of(year, month, 1);
-            calculatedEndDate = calculatedStartDate.withDayOfMonth(calculatedStartDate.lengthOfMonth());
-        } else if (year != null) {
-            // 특정 년도: 해당 년도의 시작일 ~ 종료일
-            calculatedStartDate = LocalDate.of(year, 1, 1);
-            calculatedEndDate = LocalDate.of(year, 12, 31);
+        DateRange range = DateRange.of(startDate, endDate, year, month);
+        return qualityRecordRepository.findListWithFilters(pageable, itemId, productionDate, range.startDate(),
+                range.endDate());
+    }
+
+    public CursorPage<QualityRecordResponse.List> scroll(String cursor, int size, Long itemId, LocalDate productionDate,
+            LocalDate startDate, LocalDate endDate, Integer year, Integer month) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new Exception400("페이지 크기는 1 이상 " + MAX_SCROLL_SIZE + " 이하여야 합니다: " + size);
         }
-        
-        return qualityRecordRepository.findAllWithFilters(pageable, itemId, productionDate, calculatedStartDate, calculatedEndDate)
-                .map(qr -> new QualityRecordResponse.List(
-                        qr.getId(),
-                        qr.getDailyProduction().getId(),
-                        qr.getProcess().getId(),
-                        qr.getDailyProduction().getItem().getId(),
-                        qr.getDailyProduction().getProductionDate(),
-                        qr.getOkQuantity(),
-                        qr.getNgQuantity(),
-                        qr.getTotalQuantity(),
-                        qr.getNgRate(),
-                        qr.getExpertEvaluation(),
-                        qr.getEvaluationRequired(),
-                        qr.getEvaluationReason()));
+        DateRange range = DateRange.of(startDate, endDate, year, month);
+
+        // 커서: 생산일, 공정 순서, ID, 부품 코드
+        LocalDate cursorDate = null;
+        Integer cursorProcessSequence = null;
+        Long cursorId = null;
+        String cursorItemCode = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] values = CursorUtil.decode(cursor, 4);
+            try {
+                cursorDate = LocalDate.parse(values[0]);
+                cursorProcessSequence = Integer.valueOf(values[1]);
+                cursorId = Long.valueOf(values[2]);
+            } catch (RuntimeException e) {
+                throw new Exception400("잘못된 커서입니다: " + cursor);
+            }
+            cursorItemCode = values[3];
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회
+        List<QualityRecordScrollRow> rows = qualityRecordRepository.scroll(itemId, productionDate, range.startDate(),
+                range.endDate(), cursorDate, cursorItemCode, cursorProcessSequence, cursorId, Limit.of(size + 1));
+        return CursorPage.of(rows, size, QualityRecordScrollRow::toResponse, QualityRecordScrollRow::cursor);
+    }
+
+    /**
+     * 목록 조회와 같은 조건/정렬로 전체 행을 out 에 기록
+     * - 응답 스트림에 직접 쓰는 동안 트랜잭션(커넥션)을 유지하므로 StreamingResponseBody 안에서 호출
+     * - 트랜잭션 시간 제한(qualityrecord.export.timeout-seconds)이 조회 쿼리 시간 제한으로 걸림,
+     *   전송 중 시간 상한은 호출 측 out 에서 처리 (QualityRecordExportLimiter)
+     * - out 은 닫지 않음 (버퍼만 비움)
+     */
+    @Transactional(readOnly = true, timeoutString = "${qualityrecord.export.timeout-seconds:300}")
+    public void export(OutputStream out, ExportFormat format, Long itemId, LocalDate productionDate,
+            LocalDate startDate, LocalDate endDate, Integer year, Integer month) throws IOException {
+        DateRange range = DateRange.of(startDate, endDate, year, month);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (Stream<QualityRecordResponse.List> rows = qualityRecordRepository.streamWithFilters(itemId,
+                productionDate, range.startDate(), range.endDate())) {
+            if (format == ExportFormat.CSV) {
+                writer.write('\uFEFF');
+                writer.write(String.join(",", CSV_HEADER));
+                writer.write('\n');
+            }
+            Iterator<QualityRecordResponse.List> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                QualityRecordResponse.List row = iterator.next();
+                writer.write(format == ExportFormat.CSV ? toCsvLine(row) : jsonMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
     }
 
     public List<QualityRecordResponse.List> getEvaluationRequiredList() {
@@ -135,20 +212,32 @@ public class QualityRecordService {
             throw new Exception400("OK 수량과 NG 수량은 0 이상이어야 합니다");
         }
 
-        DailyProduction dailyProduction = dailyProductionRepository.findById(dailyProductionId)
+        // 일별 생산, 공정 존재, 전일 NG 비율, 중복 여부를 한 번의 조인 쿼리로 확인
+        QualityRecordCreateContext context = qualityRecordRepository.findCreateContext(dailyProductionId, processId)
                 .orElseThrow(() -> new Exception400("일별 생산 데이터를 찾을 수 없습니다: " + dailyProductionId));
+        if (context.processId() == null) {
+            throw new Exception400("공정을 찾을 수 없습니다: " + processId);
+        }
+        if (context.existingRecordId() != null) {
+            throw duplicateRecord(dailyProductionId, processId);
+        }
 
-        Process process = processRepository.findById(processId)
-                .orElseThrow(() -> new Exception400("공정을 찾을 수 없습니다: " + processId));
+        Process process = processRepository.getReferenceById(processId);
+        QualityRecord qualityRecord = new QualityRecord(context.dailyProduction(), process, context.processSequence(),
+                okQuantity, ngQuantity);
+        qualityRecordEvaluator.apply(qualityRecord, context.previousNgRate());
 
-        // 중복 검증
-        if (qualityRecordRepository.existsByDailyProductionAndProcess(dailyProduction, process)) {
-            throw new Exception400("이미 존재하는 품질 기록입니다: 일별생산ID=" + dailyProductionId + ", 공정ID=" + processId);
+        // 동시 생성 경합은 (일별 생산, 공정) 유니크 제약으로 차단
+        QualityRecord saved;
+        try {
+            saved = qualityRecordRepository.saveAndFlush(qualityRecord);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateRecord(dailyProductionId, processId);
         }
-
-        QualityRecord qualityRecord = new QualityRecord(dailyProduction, process, okQuantity, ngQuantity);
-        calculateEvaluationRequired(qualityRecord);
-        QualityRecord saved = qualityRecordRepository.save(qualityRecord);
+        ngRollupService.apply(rollupDelta(saved, 1, saved.getOkQuantity(), saved.getNgQuantity()));
+        outlierService.add(outlierSample(saved));
+        nextDayReevaluator.changed(context.dailyProduction().getItem().getId(), processId,
+                context.dailyProduction().getProductionDate());
 
         return new QualityRecordResponse.Create(
                 saved.getId(),
@@ -174,10 +263,7 @@ public class QualityRecordService {
 
         QualityRecord qualityRecord = qualityRecordRepository.findByIdWithJoins(id)
                 .orElseThrow(() -> new Exception400("품질 기록을 찾을 수 없습니다: " + id));
-
-        qualityRecord.update(okQuantity, ngQuantity);
-        calculateEvaluationRequired(qualityRecord);
-        QualityRecord updated = qualityRecordRepository.save(qualityRecord);
+        QualityRecord updated = overwrite(qualityRecord, okQuantity, ngQuantity);
 
         return new QualityRecordResponse.Update(
                 updated.getId(),
@@ -191,11 +277,163 @@ public class QualityRecordService {
                 updated.getEvaluationReason());
     }
 
+    // (일별 생산, 공정) 키 기준 등록 또는 수정 (단말 재전송에 멱등, 동시 요청에도 중복 오류 없음)
+    // - 새 NG 비율과 평가는 생성 조회 1회 (전일 NG 비율 포함) 로 미리 계산
+    // - 기록이 없으면 INSERT 1회 (create 와 같은 왕복 수), 다른 요청이 먼저 생성했으면 아래 덮어쓰기로 진행
+    // - 기록이 있으면 행 잠금 조회로 이전 값을 받고 upsert 한 문장으로 덮어씀, 집계/이상치 증분은 이전 값과의 차이
+    // - 같은 새 키 동시 생성 시 중복 오류 뒤 잠금 조회가 InnoDB 교착 상태 희생자가 될 수 있음
+    //   → 호출 측 트랜잭션이 없으면 자체 트랜잭션으로 실행하고 잠금 실패 시 새 트랜잭션으로 1회 재시도
+    //   (교착 상태는 트랜잭션 전체가 롤백되므로 재시도는 처음부터, 두 번째는 이미 커밋된 기록의 덮어쓰기 경로)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public QualityRecordResponse.Upsert upsert(
+            Long dailyProductionId,
+            Long processId,
+            Integer okQuantity,
+            Integer ngQuantity) {
+        if (okQuantity == null || ngQuantity == null || okQuantity < 0 || ngQuantity < 0) {
+            throw new Exception400("OK 수량과 NG 수량은 0 이상이어야 합니다");
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // 호출 측 트랜잭션에 참여하면 롤백 범위가 호출 측이므로 재시도하지 않음
+            return upsertByKey(dailyProductionId, processId, okQuantity, ngQuantity);
+        }
+
+        try {
+            return transactionTemplate.execute(status ->
+                    upsertByKey(dailyProductionId, processId, okQuantity, ngQuantity));
+        } catch (PessimisticLockingFailureException e) {
+            return transactionTemplate.execute(status ->
+                    upsertByKey(dailyProductionId, processId, okQuantity, ngQuantity));
+        }
+    }
+
+    private QualityRecordResponse.Upsert upsertByKey(
+            Long dailyProductionId,
+            Long processId,
+            Integer okQuantity,
+            Integer ngQuantity) {
+        QualityRecordCreateContext context = qualityRecordRepository.findCreateContext(dailyProductionId, processId)
+                .orElseThrow(() -> new Exception400("일별 생산 데이터를 찾을 수 없습니다: " + dailyProductionId));
+        if (context.processId() == null) {
+            throw new Exception400("공정을 찾을 수 없습니다: " + processId);
+        }
+
+        BigDecimal ngRate = NgRateUtil.ngRate(ngQuantity, okQuantity + ngQuantity);
+        QualityRecordEvaluator.Evaluation evaluation = qualityRecordEvaluator.evaluate(
+                ngRate, context.previousNgRate());
+        QualityRecordBulkRepository.Row row = new QualityRecordBulkRepository.Row(
+                dailyProductionId, processId, context.processSequence(), okQuantity, ngQuantity, ngRate,
+                evaluation.required(), evaluation.reason());
+        DailyProduction dailyProduction = context.dailyProduction();
+        Long itemId = dailyProduction.getItem().getId();
+        LocalDate productionDate = dailyProduction.getProductionDate();
+
+        Long createdId = null;
+        QualityRecordBulkRepository.Locked previous = null;
+        if (context.existingRecordId() == null) {
+            try {
+                createdId = qualityRecordBulkRepository.insert(row);
+            } catch (DuplicateKeyException e) {
+                // 생성 조회 이후 다른 요청이 같은 키를 먼저 생성함
+            }
+        }
+        if (createdId == null) {
+            previous = qualityRecordBulkRepository.lockByKey(dailyProductionId, processId).orElse(null);
+            Long upsertedId = qualityRecordBulkRepository.upsert(row);
+            if (previous == null) {
+                // 잠금 조회 직전에 삭제됨 → upsert 가 새로 생성
+                createdId = upsertedId;
+            }
+        }
+
+        if (previous == null) {
+            ngRollupService.apply(RollupDelta.of(itemId, processId, productionDate, 1, okQuantity, ngQuantity));
+            outlierService.add(new OutlierSample(itemId, processId, ngRate));
+            nextDayReevaluator.changed(itemId, processId, productionDate);
+        } else {
+            ngRollupService.apply(RollupDelta.of(itemId, processId, productionDate, 0,
+                    okQuantity - previous.okQuantity(), ngQuantity - previous.ngQuantity()));
+            outlierService.replace(new OutlierSample(itemId, processId, previous.ngRate()), ngRate);
+            if (previous.ngRate().compareTo(ngRate) != 0) {
+                nextDayReevaluator.changed(itemId, processId, productionDate);
+            }
+        }
+        return new QualityRecordResponse.Upsert(
+                previous == null ? createdId : previous.id(),
+                dailyProductionId,
+                processId,
+                okQuantity,
+                ngQuantity,
+                okQuantity + ngQuantity,
+                ngRate,
+                evaluation.required(),
+                evaluation.reason(),
+                previous == null);
+    }
+
+    // 갱신 후 조회 1회로 응답 값과 전일 NG 비율 확보, 증감 전 NG 비율은 증감량으로 역산
+    @Transactional
+    public QualityRecordResponse.Increment increment(Long id, Integer okDelta, Integer ngDelta) {
+        if (okDelta == 0 && ngDelta == 0) {
+            throw new Exception400("OK 증감량과 NG 증감량이 모두 0입니다");
+        }
+        if (qualityRecordRepository.increment(id, okDelta, ngDelta) == 0) {
+            if (!qualityRecordRepository.existsById(id)) {
+                throw new Exception400("품질 기록을 찾을 수 없습니다: " + id);
+            }
+            throw new Exception400("증감 후 OK 수량과 NG 수량은 0 이상이어야 합니다");
+        }
+
+        QualityRecordIncrementContext context = qualityRecordRepository.findIncrementContext(id)
+                .orElseThrow(() -> new Exception400("품질 기록을 찾을 수 없습니다: " + id));
+        BigDecimal previousRecordNgRate = NgRateUtil.ngRate(
+                context.ngQuantity() - ngDelta,
+                context.totalQuantity() - okDelta - ngDelta);
+
+        boolean evaluationRequired = context.evaluationRequired();
+        String evaluationReason = context.evaluationReason();
+        boolean reevaluated = qualityRecordEvaluator.crossesBand(
+                previousRecordNgRate, context.ngRate(), context.previousNgRate());
+        if (reevaluated) {
+            QualityRecordEvaluator.Evaluation evaluation = qualityRecordEvaluator.evaluate(
+                    context.ngRate(), context.previousNgRate());
+            evaluationRequired = evaluation.required();
+            evaluationReason = evaluation.reason();
+            qualityRecordRepository.updateEvaluation(id, evaluationRequired, evaluationReason);
+        }
+
+        ngRollupService.apply(RollupDelta.of(context.itemId(), context.processId(), context.productionDate(),
+                0, okDelta, ngDelta));
+        outlierService.replace(new OutlierSample(context.itemId(), context.processId(), previousRecordNgRate),
+                context.ngRate());
+        if (previousRecordNgRate.compareTo(context.ngRate()) != 0) {
+            nextDayReevaluator.changed(context.itemId(), context.processId(), context.productionDate());
+        }
+
+        return new QualityRecordResponse.Increment(
+                context.id(),
+                context.dailyProductionId(),
+                context.processId(),
+                context.okQuantity(),
+                context.ngQuantity(),
+                context.totalQuantity(),
+                context.ngRate(),
+                evaluationRequired,
+                evaluationReason,
+                reevaluated);
+    }
+
     @Transactional
     public QualityRecordResponse.Delete delete(Long id) {
-        QualityRecord qualityRecord = qualityRecordRepository.findById(id)
+        QualityRecord qualityRecord = qualityRecordRepository.findByIdWithJoins(id)
                 .orElseThrow(() -> new Exception400("품질 기록을 찾을 수 없습니다: " + id));
         qualityRecordRepository.delete(qualityRecord);
+        ngRollupService.apply(rollupDelta(qualityRecord, -1,
+                -qualityRecord.getOkQuantity(),
+                -qualityRecord.getNgQuantity()));
+        outlierService.remove(outlierSample(qualityRecord));
+        nextDayReevaluator.changed(qualityRecord.getDailyProduction().getItem().getId(),
+                qualityRecord.getProcess().getId(), qualityRecord.getDailyProduction().getProductionDate());
         return new QualityRecordResponse.Delete(id);
     }
 
@@ -219,138 +457,137 @@ public class QualityRecordService {
                 updated.getEvaluatedAt() != null ? updated.getEvaluatedAt().toLocalDate() : null);
     }
 
-    private void calculateEvaluationRequired(QualityRecord qualityRecord) {
-        BigDecimal ngRate = qualityRecord.getNgRate();
-        if (ngRate == null) {
-            qualityRecord.setEvaluationRequired(false, null);
-            return;
-        }
-
-        boolean requiresEvaluation = false;
-        String reason = null;
-
-        try {
-            // NG 비율 임계값 확인 (0.5%)
-            String thresholdStr = systemCodeService.getCodeValue("INDUSTRY_AVERAGE", "NG_RATE_THRESHOLD");
-            BigDecimal threshold = new BigDecimal(thresholdStr);
-
-            if (ngRate.compareTo(threshold) > 0) {
-                requiresEvaluation = true;
-                reason = "NG 비율 임계값 초과";
-            }
+    // 없는 ID, 요청 안에서 중복된 ID 는 해당 항목만 실패 처리
+    @Transactional
+    public QualityRecordResponse.EvaluateBatch evaluateBatch(Long userId,
+            List<QualityRecordRequest.EvaluateItem> evaluations) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new Exception400("사용자를 찾을 수 없습니다: " + userId));
 
-            // 전일 대비 NG 비율 급증 확인 (2배 이상)
-            String increaseRateThresholdStr = systemCodeService.getCodeValue("EVALUATION", "INCREASE_RATE_THRESHOLD");
-            BigDecimal increaseRateThreshold = new BigDecimal(increaseRateThresholdStr);
-
-            Optional<QualityRecord> previousRecord = findPreviousDayRecord(qualityRecord);
-            if (previousRecord.isPresent() && previousRecord.get().getNgRate() != null) {
-                BigDecimal previousNgRate = previousRecord.get().getNgRate();
-                if (previousNgRate.compareTo(BigDecimal.ZERO) > 0) {
-                    BigDecimal increaseRate = ngRate.divide(previousNgRate, 4, java.math.RoundingMode.HALF_UP);
-                    if (increaseRate.compareTo(increaseRateThreshold) >= 0) {
-                        requiresEvaluation = true;
-                        reason = reason != null ? reason + ", 전일 대비 급증" : "전일 대비 급증";
-                    }
-                }
+        Set<Long> existingIds = new HashSet<>(qualityRecordRepository.findExistingIds(
+                evaluations.stream().map(QualityRecordRequest.EvaluateItem::id).collect(Collectors.toSet())));
+        Set<Long> seen = new HashSet<>();
+        List<QualityRecordBulkRepository.ExpertEvaluation> updates = new ArrayList<>();
+        List<QualityRecordResponse.EvaluateBatchRow> results = new ArrayList<>(evaluations.size());
+        for (int i = 0; i < evaluations.size(); i++) {
+            QualityRecordRequest.EvaluateItem evaluation = evaluations.get(i);
+            Long id = evaluation.id();
+            if (!existingIds.contains(id)) {
+                results.add(new QualityRecordResponse.EvaluateBatchRow(i, id, false, "품질 기록을 찾을 수 없습니다: " + id));
+            } else if (!seen.add(id)) {
+                results.add(new QualityRecordResponse.EvaluateBatchRow(i, id, false, "요청에 중복된 품질 기록입니다: " + id));
+            } else {
+                updates.add(new QualityRecordBulkRepository.ExpertEvaluation(id, evaluation.expertEvaluation()));
+                results.add(new QualityRecordResponse.EvaluateBatchRow(i, id, true, null));
             }
-        } catch (Exception e) {
-            // 시스템 코드를 찾을 수 없는 경우 기본값 사용
-            // 또는 로그만 남기고 계속 진행
         }
 
-        qualityRecord.setEvaluationRequired(requiresEvaluation, reason);
+        LocalDateTime evaluatedAt = LocalDateTime.now();
+        qualityRecordBulkRepository.evaluateAll(updates, user.getId(), evaluatedAt);
+        return new QualityRecordResponse.EvaluateBatch(
+                evaluations.size(),
+                updates.size(),
+                evaluations.size() - updates.size(),
+                user.getId(),
+                evaluatedAt.toLocalDate(),
+                results);
     }
 
-    private Optional<QualityRecord> findPreviousDayRecord(QualityRecord currentRecord) {
-        LocalDate currentDate = currentRecord.getDailyProduction().getProductionDate();
-        LocalDate previousDate = currentDate.minusDays(1);
+    // 수량을 덮어쓰고 재평가, NG 집계/이상치에는 이전 값과의 차이만 반영
+    private QualityRecord overwrite(QualityRecord qualityRecord, int okQuantity, int ngQuantity) {
+        int previousOkQuantity = qualityRecord.getOkQuantity();
+        int previousNgQuantity = qualityRecord.getNgQuantity();
+        OutlierSample previousSample = outlierSample(qualityRecord);
 
-        Optional<DailyProduction> previousDailyProduction = dailyProductionRepository
-                .findByItemAndProductionDateWithItem(
-                        currentRecord.getDailyProduction().getItem(),
-                        previousDate);
-
-        if (previousDailyProduction.isPresent()) {
-            return qualityRecordRepository.findByDailyProductionAndProcess(
-                    previousDailyProduction.get(),
-                    currentRecord.getProcess());
+        qualityRecord.update(okQuantity, ngQuantity);
+        DailyProduction dailyProduction = qualityRecord.getDailyProduction();
+        BigDecimal previousNgRate = qualityRecordRepository.findNgRate(
+                dailyProduction.getItem().getId(),
+                dailyProduction.getProductionDate().minusDays(1),
+                qualityRecord.getProcess().getId())
+                .orElse(null);
+        qualityRecordEvaluator.apply(qualityRecord, previousNgRate);
+        QualityRecord updated = qualityRecordRepository.save(qualityRecord);
+        ngRollupService.apply(rollupDelta(updated, 0,
+                okQuantity - previousOkQuantity,
+                ngQuantity - previousNgQuantity));
+        outlierService.replace(previousSample, updated.getNgRate());
+        if (previousSample.ngRate().compareTo(updated.getNgRate()) != 0) {
+            nextDayReevaluator.changed(dailyProduction.getItem().getId(), qualityRecord.getProcess().getId(),
+                    dailyProduction.getProductionDate());
         }
+        return updated;
+    }
 
-        return Optional.empty();
+    private RollupDelta rollupDelta(QualityRecord qualityRecord, long recordCount, long okQuantity, long ngQuantity) {
+        DailyProduction dailyProduction = qualityRecord.getDailyProduction();
+        return RollupDelta.of(
+                dailyProduction.getItem().getId(),
+                qualityRecord.getProcess().getId(),
+                dailyProduction.getProductionDate(),
+                recordCount,
+                okQuantity,
+                ngQuantity);
     }
 
-    public List<QualityRecordResponse.StatisticsByProcess> getNgRateByProcess(LocalDate startDate, LocalDate endDate) {
-        List<QualityRecord> records;
-        if (startDate != null || endDate != null) {
-            records = qualityRecordRepository.findByDateRange(startDate, endDate);
-        } else {
-            records = qualityRecordRepository.findAllWithJoins();
-        }
+    private OutlierSample outlierSample(QualityRecord qualityRecord) {
+        return new OutlierSample(
+                qualityRecord.getDailyProduction().getItem().getId(),
+                qualityRecord.getProcess().getId(),
+                qualityRecord.getNgRate());
+    }
+
+    private Exception400 duplicateRecord(Long dailyProductionId, Long processId) {
+        return new Exception400("이미 존재하는 품질 기록입니다: 일별생산ID=" + dailyProductionId + ", 공정ID=" + processId);
+    }
 
-        // 공정별로 그룹화하여 통계 계산
-        return records.stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        QualityRecord::getProcess,
-                        java.util.stream.Collectors.collectingAndThen(
-                                java.util.stream.Collectors.toList(),
-                                list -> {
-                                    int totalNg = list.stream().mapToInt(QualityRecord::getNgQuantity).sum();
-                                    int totalQty = list.stream().mapToInt(QualityRecord::getTotalQuantity).sum();
-                                    BigDecimal ngRate = totalQty > 0
-                                            ? BigDecimal.valueOf(totalNg)
-                                                    .divide(BigDecimal.valueOf(totalQty), 4, RoundingMode.HALF_UP)
-                                                    .multiply(BigDecimal.valueOf(100))
-                                                    .setScale(2, RoundingMode.HALF_UP)
-                                            : BigDecimal.ZERO;
-                                    return new QualityRecordResponse.StatisticsByProcess(
-                                            list.get(0).getProcess().getId(),
-                                            list.get(0).getProcess().getCode(),
-                                            list.get(0).getProcess().getName(),
-                                            totalNg,
-                                            totalQty,
-                                            ngRate);
-                                })))
-                .values()
-                .stream()
-                .sorted((a, b) -> a.processCode().compareTo(b.processCode()))
+    public List<QualityRecordResponse.StatisticsByProcess> getNgRateByProcess(LocalDate startDate, LocalDate endDate) {
+        // 원본 기록 대신 일/월/연 집계 행만 조회
+        // 정렬은 DB collation에 의존하지 않도록 기존과 동일하게 Java 문자열 비교로 수행
+        return ngRollupService.sumByProcess(startDate, endDate).stream()
+                .sorted(Comparator.comparing(QualityRecordResponse.StatisticsByProcess::processCode))
                 .toList();
     }
 
     public List<QualityRecordResponse.StatisticsByItem> getNgRateByItem(LocalDate startDate, LocalDate endDate) {
-        List<QualityRecord> records;
-        if (startDate != null || endDate != null) {
-            records = qualityRecordRepository.findByDateRange(startDate, endDate);
-        } else {
-            records = qualityRecordRepository.findAllWithJoins();
+        // 원본 기록 대신 일/월/연 집계 행만 조회
+        return ngRollupService.sumByItem(startDate, endDate).stream()
+                .sorted(Comparator.comparing(QualityRecordResponse.StatisticsByItem::itemCode))
+                .toList();
+    }
+
+    private static String toCsvLine(QualityRecordResponse.List row) {
+        return Stream.of(row.id(), row.dailyProductionId(), row.itemId(), row.processId(), row.productionDate(),
+                row.okQuantity(), row.ngQuantity(), row.totalQuantity(), row.ngRate(), row.evaluationRequired(),
+                row.evaluationReason(), row.expertEvaluation())
+                .map(QualityRecordService::csvValue)
+                .collect(Collectors.joining(","));
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감싸고 내부 따옴표는 두 번 씀
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
         }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
 
-        // 부품별로 그룹화하여 통계 계산
-        return records.stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        qr -> qr.getDailyProduction().getItem(),
-                        java.util.stream.Collectors.collectingAndThen(
-                                java.util.stream.Collectors.toList(),
-                                list -> {
-                                    int totalNg = list.stream().mapToInt(QualityRecord::getNgQuantity).sum();
-                                    int totalQty = list.stream().mapToInt(QualityRecord::getTotalQuantity).sum();
-                                    BigDecimal ngRate = totalQty > 0
-                                            ? BigDecimal.valueOf(totalNg)
-                                                    .divide(BigDecimal.valueOf(totalQty), 4, RoundingMode.HALF_UP)
-                                                    .multiply(BigDecimal.valueOf(100))
-                                                    .setScale(2, RoundingMode.HALF_UP)
-                                            : BigDecimal.ZERO;
-                                    return new QualityRecordResponse.StatisticsByItem(
-                                            list.get(0).getDailyProduction().getItem().getId(),
-                                            list.get(0).getDailyProduction().getItem().getCode(),
-                                            list.get(0).getDailyProduction().getItem().getName(),
-                                            totalNg,
-                                            totalQty,
-                                            ngRate);
-                                })))
-                .values()
-                .stream()
-                .sorted((a, b) -> a.itemCode().compareTo(b.itemCode()))
-                .toList();
+    // year/month 파라미터를 생산일 범위로 변환 (지정하지 않으면 startDate/endDate 그대로)
+    private record DateRange(LocalDate startDate, LocalDate endDate) {
+        static DateRange of(LocalDate startDate, LocalDate endDate, Integer year, Integer month) {
+            if (year != null && month != null) {
+                // 특정 년월: 해당 월의 시작일 ~ 종료일
+                LocalDate monthStart = LocalDate.of(year, month, 1);
+                return new DateRange(monthStart, monthStart.withDayOfMonth(monthStart.lengthOfMonth()));
+            } else if (year != null) {
+                // 특정 년도: 해당 년도의 시작일 ~ 종료일
+                return new DateRange(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+            }
+            return new DateRange(startDate, endDate);
+        }
     }
 }
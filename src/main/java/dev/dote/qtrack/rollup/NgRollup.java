@@ -0,0 +1,80 @@
+package dev.dote.qtrack.rollup;
+
+import dev.dote.qtrack.item.Item;
+import dev.dote.qtrack.process.Process;
+import dev.dote.qtrack._core.jpa.PooledId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ng_rollup_tb", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_ng_rollup_item_process_period",
+                columnNames = { "item_id", "process_id", "granularity", "period_start" })
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class NgRollup {
+    @Id
+    @PooledId
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "item_id", nullable = false, foreignKey = @ForeignKey(value = ConstraintMode.NO_CONSTRAINT))
+    private Item item;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "process_id", nullable = false, foreignKey = @ForeignKey(value = ConstraintMode.NO_CONSTRAINT))
+    private Process process;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "record_count", nullable = false)
+    private Long recordCount;
+
+    @Column(name = "ok_quantity", nullable = false)
+    private Long okQuantity;
+
+    @Column(name = "ng_quantity", nullable = false)
+    private Long ngQuantity;
+
+    @Column(name = "total_quantity", nullable = false)
+    private Long totalQuantity;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public NgRollup(Item item, Process process, RollupGranularity granularity, LocalDate periodStart) {
+        this.item = item;
+        this.process = process;
+        this.granularity = granularity;
+        this.periodStart = periodStart;
+        this.recordCount = 0L;
+        this.okQuantity = 0L;
+        this.ngQuantity = 0L;
+        this.totalQuantity = 0L;
+    }
+
+    public void add(RollupDelta delta) {
+        this.recordCount += delta.recordCount();
+        this.okQuantity += delta.okQuantity();
+        this.ngQuantity += delta.ngQuantity();
+        this.totalQuantity += delta.totalQuantity();
+    }
+}
@@ -0,0 +1,78 @@
+package dev.dote.qtrack.rollup;
+
+import dev.dote.qtrack._core.jpa.DatabaseDialect;
+import dev.dote.qtrack._core.jpa.IdAllocator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * NG 집계 행 증분 upsert (JDBC 배치)
+ * - (부품, 공정, 주기, 기간 시작일) 유니크 키 기준 방언별 한 문장 (MySQL ON DUPLICATE KEY UPDATE, H2 MERGE)
+ *   → 같은 키의 첫 기록이 동시에 들어와도 유니크 제약 위반 없이 먼저 생긴 행에 더해짐
+ * - ID 는 엔티티와 같은 생성기에서 미리 할당 (기존 행에 더해지면 할당한 ID 는 사용되지 않음)
+ * - 호출 측 JPA 트랜잭션과 같은 커넥션 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class NgRollupBulkRepository {
+    private static final String MYSQL_UPSERT_SQL = "INSERT INTO ng_rollup_tb "
+            + "(id, item_id, process_id, granularity, period_start, record_count, ok_quantity, ng_quantity, "
+            + "total_quantity, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE record_count = record_count + VALUES(record_count), "
+            + "ok_quantity = ok_quantity + VALUES(ok_quantity), ng_quantity = ng_quantity + VALUES(ng_quantity), "
+            + "total_quantity = total_quantity + VALUES(total_quantity), updated_at = VALUES(updated_at)";
+    private static final String MERGE_SQL = "MERGE INTO ng_rollup_tb t "
+            + "USING (SELECT CAST(? AS BIGINT) AS id, CAST(? AS BIGINT) AS item_id, CAST(? AS BIGINT) AS process_id, "
+            + "CAST(? AS VARCHAR(10)) AS granularity, CAST(? AS DATE) AS period_start, "
+            + "CAST(? AS BIGINT) AS record_count, CAST(? AS BIGINT) AS ok_quantity, CAST(? AS BIGINT) AS ng_quantity, "
+            + "CAST(? AS BIGINT) AS total_quantity, CAST(? AS TIMESTAMP) AS created_at, "
+            + "CAST(? AS TIMESTAMP) AS updated_at) s "
+            + "ON t.item_id = s.item_id AND t.process_id = s.process_id "
+            + "AND t.granularity = s.granularity AND t.period_start = s.period_start "
+            + "WHEN MATCHED THEN UPDATE SET record_count = t.record_count + s.record_count, "
+            + "ok_quantity = t.ok_quantity + s.ok_quantity, ng_quantity = t.ng_quantity + s.ng_quantity, "
+            + "total_quantity = t.total_quantity + s.total_quantity, updated_at = s.updated_at "
+            + "WHEN NOT MATCHED THEN INSERT (id, item_id, process_id, granularity, period_start, record_count, "
+            + "ok_quantity, ng_quantity, total_quantity, created_at, updated_at) "
+            + "VALUES (s.id, s.item_id, s.process_id, s.granularity, s.period_start, s.record_count, "
+            + "s.ok_quantity, s.ng_quantity, s.total_quantity, s.created_at, s.updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdAllocator idAllocator;
+    private final DatabaseDialect databaseDialect;
+
+    // rows 순서대로 반영 (동시 트랜잭션끼리 행 잠금 순서가 같도록 호출 측에서 키 순 정렬)
+    public void addAll(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Iterator<Long> ids = idAllocator.allocate(NgRollup.class, rows.size()).iterator();
+        jdbcTemplate.batchUpdate(databaseDialect.select(MYSQL_UPSERT_SQL, MERGE_SQL), rows, rows.size(),
+                (ps, row) -> {
+                    ps.setLong(1, ids.next());
+                    ps.setLong(2, row.itemId());
+                    ps.setLong(3, row.processId());
+                    ps.setString(4, row.granularity().name());
+                    ps.setDate(5, Date.valueOf(row.periodStart()));
+                    ps.setLong(6, row.recordCount());
+                    ps.setLong(7, row.okQuantity());
+                    ps.setLong(8, row.ngQuantity());
+                    ps.setLong(9, row.okQuantity() + row.ngQuantity());
+                    ps.setTimestamp(10, now);
+                    ps.setTimestamp(11, now);
+                });
+    }
+
+    public record Row(Long itemId, Long processId, RollupGranularity granularity, LocalDate periodStart,
+            long recordCount, long okQuantity, long ngQuantity) {
+    }
+}
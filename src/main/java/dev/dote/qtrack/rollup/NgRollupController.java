@@ -0,0 +1,25 @@
+package dev.dote.qtrack.rollup;
+
+import dev.dote.qtrack._core.util.Resp;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * NG 집계 관리 API
+ * - 품질 기록으로부터 일/월/연 집계 테이블 재구성 (백필)
+ */
+@RestController
+@RequestMapping("/api/rollups")
+@RequiredArgsConstructor
+public class NgRollupController {
+    private final NgRollupService ngRollupService;
+
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Resp<NgRollupResponse.Rebuild>> rebuild() {
+        NgRollupResponse.Rebuild response = ngRollupService.rebuild();
+        return Resp.ok(response);
+    }
+}
@@ -0,0 +1,32 @@
+package dev.dote.qtrack.rollup;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * NG 집계 재구성 잠금 (단일 행)
+ * - 증분 반영은 트랜잭션마다 공유 잠금, 재구성은 배타 잠금을 잡아 서로 겹치지 않게 함
+ * - 행은 db/ng-rollup-migration.sql (dev: data-dev.sql) 에서 생성
+ */
+@Entity
+@Table(name = "ng_rollup_lock_tb")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class NgRollupLock {
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    // 마지막 재구성 시각 (재구성 전이면 null)
+    @Column(name = "rebuilt_at")
+    private LocalDateTime rebuiltAt;
+
+    public void rebuilt(LocalDateTime rebuiltAt) {
+        this.rebuiltAt = rebuiltAt;
+    }
+}
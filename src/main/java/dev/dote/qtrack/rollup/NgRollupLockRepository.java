@@ -0,0 +1,22 @@
+package dev.dote.qtrack.rollup;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface NgRollupLockRepository extends JpaRepository<NgRollupLock, Long> {
+
+    // 증분 반영용 공유 잠금 (재구성이 끝날 때까지 대기)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT l FROM NgRollupLock l WHERE l.id = :id")
+    Optional<NgRollupLock> findForShare(@Param("id") Long id);
+
+    // 재구성용 배타 잠금 (진행 중인 증분 반영 트랜잭션이 끝날 때까지 대기)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM NgRollupLock l WHERE l.id = :id")
+    Optional<NgRollupLock> findForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,73 @@
+package dev.dote.qtrack.rollup;
+
+import dev.dote.qtrack.qualityrecord.QualityRecordResponse;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface NgRollupRepository extends JpaRepository<NgRollup, Long> {
+
+    // 공정별 합계 (기록이 하나도 남지 않은 집계 행은 제외)
+    @Query("SELECT new dev.dote.qtrack.qualityrecord.QualityRecordResponse$StatisticsByProcess(" +
+            "p.id, p.code, p.name, SUM(r.ngQuantity), SUM(r.totalQuantity)) " +
+            "FROM NgRollup r " +
+            "JOIN r.item i " +
+            "JOIN r.process p " +
+            "WHERE r.granularity = :granularity " +
+            "AND (:fromPeriod IS NULL OR r.periodStart >= :fromPeriod) " +
+            "AND (:toPeriod IS NULL OR r.periodStart <= :toPeriod) " +
+            "GROUP BY p.id, p.code, p.name " +
+            "HAVING SUM(r.recordCount) > 0")
+    List<QualityRecordResponse.StatisticsByProcess> sumByProcess(
+            @Param("granularity") RollupGranularity granularity,
+            @Param("fromPeriod") LocalDate fromPeriod,
+            @Param("toPeriod") LocalDate toPeriod);
+
+    // 부품별 합계 (기록이 하나도 남지 않은 집계 행은 제외)
+    @Query("SELECT new dev.dote.qtrack.qualityrecord.QualityRecordResponse$StatisticsByItem(" +
+            "i.id, i.code, i.name, SUM(r.ngQuantity), SUM(r.totalQuantity)) " +
+            "FROM NgRollup r " +
+            "JOIN r.item i " +
+            "JOIN r.process p " +
+            "WHERE r.granularity = :granularity " +
+            "AND (:fromPeriod IS NULL OR r.periodStart >= :fromPeriod) " +
+            "AND (:toPeriod IS NULL OR r.periodStart <= :toPeriod) " +
+            "GROUP BY i.id, i.code, i.name " +
+            "HAVING SUM(r.recordCount) > 0")
+    List<QualityRecordResponse.StatisticsByItem> sumByItem(
+            @Param("granularity") RollupGranularity granularity,
+            @Param("fromPeriod") LocalDate fromPeriod,
+            @Param("toPeriod") LocalDate toPeriod);
+
+    // (부품, 공정, 주기, 기간 시작일) 유니크 키 조회 - 비교 대상 기간 수만큼의 행만 읽음
+    @Query("SELECT r FROM NgRollup r " +
+            "WHERE r.item.id = :itemId AND r.process.id = :processId " +
+            "AND r.granularity = :granularity AND r.periodStart IN :periodStarts")
+    List<NgRollup> findPeriods(@Param("itemId") Long itemId,
+            @Param("processId") Long processId,
+            @Param("granularity") RollupGranularity granularity,
+            @Param("periodStarts") Collection<LocalDate> periodStarts);
+
+    // 공정의 전체 부품에 대한 기간별 집계 행 조회 (부품별 일괄 비교용)
+    @Query("SELECT r FROM NgRollup r " +
+            "WHERE r.process.id = :processId " +
+            "AND r.granularity = :granularity AND r.periodStart IN :periodStarts")
+    List<NgRollup> findPeriodsByProcess(@Param("processId") Long processId,
+            @Param("granularity") RollupGranularity granularity,
+            @Param("periodStarts") Collection<LocalDate> periodStarts);
+
+    // 부품 삭제 시 해당 부품 집계 행 전체 삭제
+    @Modifying
+    @Query("DELETE FROM NgRollup r WHERE r.item.id = :itemId")
+    int deleteByItemId(@Param("itemId") Long itemId);
+
+    // 삭제된 부품의 집계 행 삭제 (고아 정리)
+    @Modifying
+    @Query("DELETE FROM NgRollup r WHERE NOT EXISTS (SELECT 1 FROM Item i WHERE i.id = r.item.id)")
+    int deleteOrphans();
+}
@@ -0,0 +1,6 @@
+package dev.dote.qtrack.rollup;
+
+public class NgRollupResponse {
+    public record Rebuild(Long sourceRecords, Long rollupRows) {
+    }
+}
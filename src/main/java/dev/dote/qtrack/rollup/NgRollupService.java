@@ -0,0 +1,272 @@
+package dev.dote.qtrack.rollup;
+
+import dev.dote.qtrack.item.ItemRepository;
+import dev.dote.qtrack.process.ProcessRepository;
+import dev.dote.qtrack.qualityrecord.QualityRecordRepository;
+import dev.dote.qtrack.qualityrecord.QualityRecordResponse;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * NG 집계(일/월/연) 비즈니스 로직 처리
+ * - 품질 기록 생성/수정/삭제 시 같은 트랜잭션에서 일/월/연 집계 행을 증분 갱신
+ *   (키 순으로 정렬한 upsert 배치 1회, 첫 기록이 동시에 들어와도 유니크 제약 위반 없음)
+ * - 집계 테이블 전체 재구성 (백필)
+ *   (NgRollupLock 배타 잠금: 진행 중인 증분 반영이 커밋된 뒤 시작하고, 재구성 중의 증분 반영은 커밋 후로 미뤄짐)
+ * - 기간 통계: 기간을 연/월/일 구간으로 분해하여 집계 행만 조회
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class NgRollupService {
+    private static final int REBUILD_FLUSH_SIZE = 500;
+    // 동시 트랜잭션이 집계 행을 같은 순서로 잠그도록 키 순 정렬 (교착 방지)
+    private static final Comparator<RollupKey> ROLLUP_KEY_ORDER = Comparator.comparing(RollupKey::itemId)
+            .thenComparing(RollupKey::processId)
+            .thenComparing(RollupKey::granularity)
+            .thenComparing(RollupKey::periodStart);
+
+    private final NgRollupRepository ngRollupRepository;
+    private final NgRollupBulkRepository ngRollupBulkRepository;
+    private final NgRollupLockRepository ngRollupLockRepository;
+    private final QualityRecordRepository qualityRecordRepository;
+    private final ItemRepository itemRepository;
+    private final ProcessRepository processRepository;
+    private final EntityManager entityManager;
+
+    @Transactional
+    public void apply(RollupDelta delta) {
+        applyAll(List.of(delta));
+    }
+
+    // 대량 변경: 같은 (부품, 공정, 주기, 기간) 변화량을 합산해 집계 행마다 한 번만 반영
+    @Transactional
+    public void applyAll(Collection<RollupDelta> deltas) {
+        Map<RollupKey, RollupDelta> merged = new TreeMap<>(ROLLUP_KEY_ORDER);
+        for (RollupDelta delta : deltas) {
+            if (delta.isEmpty()) {
+                continue;
+            }
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                RollupKey key = new RollupKey(delta.itemId(), delta.processId(), granularity,
+                        granularity.periodStart(delta.productionDate()));
+                merged.merge(key, delta, RollupDelta::plus);
+            }
+        }
+        if (merged.isEmpty()) {
+            return;
+        }
+
+        lockShared();
+        List<NgRollupBulkRepository.Row> rows = new ArrayList<>(merged.size());
+        merged.forEach((key, delta) -> {
+            if (!delta.isEmpty()) {
+                rows.add(new NgRollupBulkRepository.Row(key.itemId(), key.processId(), key.granularity(),
+                        key.periodStart(), delta.recordCount(), delta.okQuantity(), delta.ngQuantity()));
+            }
+        });
+        ngRollupBulkRepository.addAll(rows);
+    }
+
+    // 일별 생산 데이터 삭제 시 소속 품질 기록의 기여분을 집계에서 제거
+    @Transactional
+    public void retractDailyProduction(Long dailyProductionId) {
+        qualityRecordRepository.findRollupDeltasByDailyProductionId(dailyProductionId)
+                .forEach(delta -> apply(delta.negate()));
+    }
+
+    @Transactional
+    public NgRollupResponse.Rebuild rebuild() {
+        // 진행 중인 증분 반영이 모두 커밋된 뒤에 읽기 시작 (이후 증분 반영은 이 트랜잭션이 끝날 때까지 대기)
+        ngRollupLockRepository.findForUpdate(NgRollupLock.SINGLETON_ID)
+                .orElseThrow(NgRollupService::missingLock)
+                .rebuilt(LocalDateTime.now());
+        ngRollupRepository.deleteAllInBatch();
+
+        // 일별 집계는 스트리밍으로 바로 저장하고, 월/연 집계는 메모리에서 누적 후 저장
+        Map<RollupKey, RollupDelta> periodTotals = new HashMap<>();
+        long sourceRows = 0;
+        long rollupRows = 0;
+        try (Stream<RollupDelta> deltas = qualityRecordRepository.streamRollupDeltas()) {
+            Iterator<RollupDelta> iterator = deltas.iterator();
+            while (iterator.hasNext()) {
+                RollupDelta delta = iterator.next();
+                sourceRows += delta.recordCount();
+
+                NgRollup day = newRollup(delta, RollupGranularity.DAY);
+                day.add(delta);
+                entityManager.persist(day);
+                rollupRows++;
+
+                for (RollupGranularity granularity : List.of(RollupGranularity.MONTH, RollupGranularity.YEAR)) {
+                    RollupKey key = new RollupKey(delta.itemId(), delta.processId(), granularity,
+                            granularity.periodStart(delta.productionDate()));
+                    periodTotals.merge(key, delta, RollupDelta::plus);
+                }
+
+                if (rollupRows % REBUILD_FLUSH_SIZE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+
+        for (Map.Entry<RollupKey, RollupDelta> entry : periodTotals.entrySet()) {
+            NgRollup rollup = newRollup(entry.getValue(), entry.getKey().granularity());
+            rollup.add(entry.getValue());
+            entityManager.persist(rollup);
+            rollupRows++;
+            if (rollupRows % REBUILD_FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        return new NgRollupResponse.Rebuild(sourceRows, rollupRows);
+    }
+
+    // 기동 시 집계 테이블이 비어 있고 품질 기록이 있으면 백필
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (ngRollupRepository.count() == 0 && qualityRecordRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    public List<QualityRecordResponse.StatisticsByProcess> sumByProcess(LocalDate startDate, LocalDate endDate) {
+        return merge(startDate, endDate,
+                segment -> ngRollupRepository.sumByProcess(segment.granularity(), segment.from(), segment.to()),
+                QualityRecordResponse.StatisticsByProcess::processId,
+                (a, b) -> new QualityRecordResponse.StatisticsByProcess(
+                        a.processId(), a.processCode(), a.processName(),
+                        a.totalNgQuantity() + b.totalNgQuantity(),
+                        a.totalQuantity() + b.totalQuantity()));
+    }
+
+    public List<QualityRecordResponse.StatisticsByItem> sumByItem(LocalDate startDate, LocalDate endDate) {
+        return merge(startDate, endDate,
+                segment -> ngRollupRepository.sumByItem(segment.granularity(), segment.from(), segment.to()),
+                QualityRecordResponse.StatisticsByItem::itemId,
+                (a, b) -> new QualityRecordResponse.StatisticsByItem(
+                        a.itemId(), a.itemCode(), a.itemName(),
+                        a.totalNgQuantity() + b.totalNgQuantity(),
+                        a.totalQuantity() + b.totalQuantity()));
+    }
+
+    private <T> List<T> merge(LocalDate startDate, LocalDate endDate,
+            Function<Segment, List<T>> query,
+            Function<T, Long> idOf,
+            BinaryOperator<T> combiner) {
+        Map<Long, T> merged = new LinkedHashMap<>();
+        for (Segment segment : plan(startDate, endDate)) {
+            for (T row : query.apply(segment)) {
+                merged.merge(idOf.apply(row), row, combiner);
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    /**
+     * [startDate, endDate] 구간을 연 → 월 → 일 집계 구간으로 분해
+     * - 완전히 포함되는 연도는 YEAR 행, 남는 앞/뒤 구간은 MONTH 행, 그래도 남는 날짜는 DAY 행으로 조회
+     * - null 경계는 열린 구간으로 취급 (YEAR 행에서만 발생)
+     */
+    static List<Segment> plan(LocalDate startDate, LocalDate endDate) {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            return List.of();
+        }
+
+        Integer firstFullYear = startDate == null ? null
+                : startDate.getDayOfYear() == 1 ? startDate.getYear() : startDate.getYear() + 1;
+        Integer lastFullYear = endDate == null ? null
+                : endDate.equals(endDate.withDayOfYear(endDate.lengthOfYear())) ? endDate.getYear()
+                        : endDate.getYear() - 1;
+
+        boolean hasFullYear = firstFullYear == null || lastFullYear == null || firstFullYear <= lastFullYear;
+        if (!hasFullYear) {
+            return planMonths(startDate, endDate);
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        segments.add(new Segment(RollupGranularity.YEAR,
+                firstFullYear == null ? null : LocalDate.of(firstFullYear, 1, 1),
+                lastFullYear == null ? null : LocalDate.of(lastFullYear, 1, 1)));
+        if (firstFullYear != null && startDate.getYear() < firstFullYear) {
+            segments.addAll(planMonths(startDate, LocalDate.of(startDate.getYear(), 12, 31)));
+        }
+        if (lastFullYear != null && endDate.getYear() > lastFullYear) {
+            segments.addAll(planMonths(LocalDate.of(endDate.getYear(), 1, 1), endDate));
+        }
+        return segments;
+    }
+
+    private static List<Segment> planMonths(LocalDate from, LocalDate to) {
+        LocalDate firstFullMonth = from.getDayOfMonth() == 1 ? from : from.plusMonths(1).withDayOfMonth(1);
+        LocalDate lastFullMonth = to.getDayOfMonth() == to.lengthOfMonth() ? to.withDayOfMonth(1)
+                : to.withDayOfMonth(1).minusMonths(1);
+
+        if (firstFullMonth.isAfter(lastFullMonth)) {
+            return List.of(new Segment(RollupGranularity.DAY, from, to));
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        segments.add(new Segment(RollupGranularity.MONTH, firstFullMonth, lastFullMonth));
+        if (from.isBefore(firstFullMonth)) {
+            segments.add(new Segment(RollupGranularity.DAY, from, firstFullMonth.minusDays(1)));
+        }
+        LocalDate afterLastFullMonth = lastFullMonth.plusMonths(1);
+        if (!to.isBefore(afterLastFullMonth)) {
+            segments.add(new Segment(RollupGranularity.DAY, afterLastFullMonth, to));
+        }
+        return segments;
+    }
+
+    // 재구성과 겹치지 않도록 트랜잭션마다 한 번 공유 잠금
+    private void lockShared() {
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        ngRollupLockRepository.findForShare(NgRollupLock.SINGLETON_ID).orElseThrow(NgRollupService::missingLock);
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(NgRollupService.this);
+            }
+        });
+    }
+
+    private static IllegalStateException missingLock() {
+        return new IllegalStateException("NG 집계 잠금 행이 없습니다 (db/ng-rollup-migration.sql 실행 필요)");
+    }
+
+    private NgRollup newRollup(RollupDelta delta, RollupGranularity granularity) {
+        return new NgRollup(
+                itemRepository.getReferenceById(delta.itemId()),
+                processRepository.getReferenceById(delta.processId()),
+                granularity,
+                granularity.periodStart(delta.productionDate()));
+    }
+
+    record Segment(RollupGranularity granularity, LocalDate from, LocalDate to) {
+    }
+
+    private record RollupKey(Long itemId, Long processId, RollupGranularity granularity, LocalDate periodStart) {
+    }
+}
@@ -0,0 +1,41 @@
+package dev.dote.qtrack.rollup;
+
+import java.time.LocalDate;
+
+/**
+ * 집계 테이블에 반영할 (부품, 공정, 생산일) 단위 변화량
+ * - 생성: recordCount=+1, 수정: recordCount=0 (수량 차이만), 삭제: recordCount=-1
+ */
+public record RollupDelta(
+        Long itemId,
+        Long processId,
+        LocalDate productionDate,
+        Long recordCount,
+        Long okQuantity,
+        Long ngQuantity) {
+
+    public static RollupDelta of(Long itemId, Long processId, LocalDate productionDate,
+            long recordCount, long okQuantity, long ngQuantity) {
+        return new RollupDelta(itemId, processId, productionDate, recordCount, okQuantity, ngQuantity);
+    }
+
+    public Long totalQuantity() {
+        return okQuantity + ngQuantity;
+    }
+
+    // 같은 (부품, 공정) 의 변화량 합산 (생산일은 왼쪽 값을 유지)
+    public RollupDelta plus(RollupDelta other) {
+        return new RollupDelta(itemId, processId, productionDate,
+                recordCount + other.recordCount,
+                okQuantity + other.okQuantity,
+                ngQuantity + other.ngQuantity);
+    }
+
+    public RollupDelta negate() {
+        return new RollupDelta(itemId, processId, productionDate, -recordCount, -okQuantity, -ngQuantity);
+    }
+
+    public boolean isEmpty() {
+        return recordCount == 0 && okQuantity == 0 && ngQuantity == 0;
+    }
+}
@@ -0,0 +1,21 @@
+package dev.dote.qtrack.rollup;
+
+import java.time.LocalDate;
+
+/**
+ * NG 집계 주기
+ * - DAY: 일별 (period_start = 생산일)
+ * - MONTH: 월별 (period_start = 해당 월 1일)
+ * - YEAR: 연별 (period_start = 해당 연도 1월 1일)
+ */
+public enum RollupGranularity {
+    DAY, MONTH, YEAR;
+
+    public LocalDate periodStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case MONTH -> date.withDayOfMonth(1);
+            case YEAR -> date.withDayOfYear(1);
+        };
+    }
+}
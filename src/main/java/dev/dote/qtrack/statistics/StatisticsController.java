@@ -0,0 +1,68 @@
+package dev.dote.qtrack.statistics;
+
+import dev.dote.qtrack._core.util.Resp;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 고급 통계 API
+ * - 기간별 NG 비율 추세 분석 기능 제공
+ * - 전월 대비/전년 동월 대비 NG 비율, 생산량 비교 기능 제공 (단건, 부품별 일괄)
+ */
+@RestController
+@RequestMapping("/api/statistics")
+@RequiredArgsConstructor
+public class StatisticsController {
+    private final StatisticsService statisticsService;
+
+    @GetMapping("/trend")
+    public ResponseEntity<Resp<StatisticsResponse.Trend>> trend(
+            @RequestParam("itemId") Long itemId,
+            @RequestParam("processId") Long processId,
+            @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(value = "period", required = false, defaultValue = "day") String period) {
+        StatisticsResponse.Trend response = statisticsService.trend(itemId, processId, startDate, endDate, period);
+        return Resp.ok(response);
+    }
+
+    @GetMapping("/compare-monthly")
+    public ResponseEntity<Resp<StatisticsResponse.Compare>> compareMonthly(
+            @RequestParam("itemId") Long itemId,
+            @RequestParam("processId") Long processId,
+            @RequestParam("month") @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        StatisticsResponse.Compare response = statisticsService.compareMonthly(itemId, processId, month);
+        return Resp.ok(response);
+    }
+
+    @GetMapping("/compare-yearly")
+    public ResponseEntity<Resp<StatisticsResponse.Compare>> compareYearly(
+            @RequestParam("itemId") Long itemId,
+            @RequestParam("processId") Long processId,
+            @RequestParam("month") @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        StatisticsResponse.Compare response = statisticsService.compareYearly(itemId, processId, month);
+        return Resp.ok(response);
+    }
+
+    @GetMapping("/compare-monthly/items")
+    public ResponseEntity<Resp<List<StatisticsResponse.Compare>>> compareMonthlyByItem(
+            @RequestParam("processId") Long processId,
+            @RequestParam("month") @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        List<StatisticsResponse.Compare> response = statisticsService.compareMonthlyByItem(processId, month);
+        return Resp.ok(response);
+    }
+
+    @GetMapping("/compare-yearly/items")
+    public ResponseEntity<Resp<List<StatisticsResponse.Compare>>> compareYearlyByItem(
+            @RequestParam("processId") Long processId,
+            @RequestParam("month") @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        List<StatisticsResponse.Compare> response = statisticsService.compareYearlyByItem(processId, month);
+        return Resp.ok(response);
+    }
+}
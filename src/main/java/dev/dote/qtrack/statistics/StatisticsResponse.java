@@ -0,0 +1,80 @@
+package dev.dote.qtrack.statistics;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import dev.dote.qtrack._core.util.NgRateUtil;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+
+public class StatisticsResponse {
+    public record Trend(
+            Long itemId,
+            Long processId,
+            String period,
+            @JsonFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @JsonFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            List<TrendBucket> buckets,
+            BigDecimal slope,
+            String direction) {
+    }
+
+    public record TrendBucket(
+            @JsonFormat(pattern = "yyyy-MM-dd") LocalDate bucketStart,
+            Long ngQuantity,
+            Long totalQuantity,
+            BigDecimal ngRate,
+            Boolean filled) {
+    }
+
+    public record PeriodSummary(
+            String period,
+            Long recordCount,
+            Long ngQuantity,
+            Long totalQuantity,
+            BigDecimal ngRate) {
+        // 집계 행 기준 생성자 (기록이 없으면 NG 비율 null)
+        public PeriodSummary(String period, long recordCount, long ngQuantity, long totalQuantity) {
+            this(period, recordCount, ngQuantity, totalQuantity,
+                    recordCount > 0 ? NgRateUtil.ngRate(ngQuantity, totalQuantity) : null);
+        }
+    }
+
+    public record Compare(
+            Long itemId,
+            String itemCode,
+            String itemName,
+            Long processId,
+            String basis,
+            PeriodSummary current,
+            PeriodSummary previous,
+            BigDecimal ngRateDelta,
+            BigDecimal ngRateChangeRate,
+            Long totalQuantityDelta,
+            BigDecimal totalQuantityChangeRate) {
+        // 두 기간 요약으로 절대/상대 증감 계산 (비교 기준이 없으면 null)
+        public Compare(Long itemId, String itemCode, String itemName, Long processId, String basis,
+                PeriodSummary current, PeriodSummary previous) {
+            this(itemId, itemCode, itemName, processId, basis, current, previous,
+                    current.ngRate() != null && previous.ngRate() != null
+                            ? current.ngRate().subtract(previous.ngRate())
+                            : null,
+                    current.ngRate() != null && previous.ngRate() != null
+                            ? changeRate(current.ngRate(), previous.ngRate())
+                            : null,
+                    current.totalQuantity() - previous.totalQuantity(),
+                    changeRate(BigDecimal.valueOf(current.totalQuantity()),
+                            BigDecimal.valueOf(previous.totalQuantity())));
+        }
+
+        // 상대 증감률(%) = (현재 - 이전) / 이전 * 100 (소수점 2자리, 이전 값이 0이면 null)
+        private static BigDecimal changeRate(BigDecimal current, BigDecimal previous) {
+            if (previous.signum() == 0) {
+                return null;
+            }
+            return current.subtract(previous)
+                    .multiply(BigDecimal.valueOf(100))
+                    .divide(previous, 2, RoundingMode.HALF_UP);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package dev.dote.qtrack.statistics;
+
+import dev.dote.qtrack._core.errors.ex.Exception400;
+import dev.dote.qtrack.item.Item;
+import dev.dote.qtrack.item.ItemRepository;
+import dev.dote.qtrack.process.ProcessRepository;
+import dev.dote.qtrack.qualityrecord.QualityRecordRepository;
+import dev.dote.qtrack.rollup.NgRollup;
+import dev.dote.qtrack.rollup.NgRollupRepository;
+import dev.dote.qtrack.rollup.RollupGranularity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 고급 통계 비즈니스 로직 처리
+ * - 기간별 추세 분석 (일/주/월 버킷, 빈 구간 채우기, 최소제곱 기울기 기반 추세 방향)
+ * - 전월/전년 동월 대비 비교 (월별 NG 집계 행을 유니크 키로 조회하므로 이력 크기와 무관)
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class StatisticsService {
+    private final QualityRecordRepository qualityRecordRepository;
+    private final NgRollupRepository ngRollupRepository;
+    private final ItemRepository itemRepository;
+    private final ProcessRepository processRepository;
+
+    public StatisticsResponse.Trend trend(Long itemId, Long processId, LocalDate startDate, LocalDate endDate,
+            String period) {
+        if (startDate.isAfter(endDate)) {
+            throw new Exception400("시작일은 종료일보다 이후일 수 없습니다: " + startDate + " ~ " + endDate);
+        }
+        TrendPeriod trendPeriod = TrendPeriod.from(period);
+
+        // 생산일 오름차순 프로젝션을 한 번만 순회 (엔티티 로딩 없음)
+        TrendCollector collector = new TrendCollector(trendPeriod, startDate, endDate);
+        try (Stream<TrendSample> samples = qualityRecordRepository.streamTrendSamples(itemId, processId, startDate,
+                endDate)) {
+            samples.forEach(collector::accept);
+        }
+
+        return new StatisticsResponse.Trend(
+                itemId,
+                processId,
+                trendPeriod.name().toLowerCase(),
+                startDate,
+                endDate,
+                collector.buckets(),
+                collector.slope(),
+                collector.direction());
+    }
+
+    public StatisticsResponse.Compare compareMonthly(Long itemId, Long processId, YearMonth month) {
+        return compare(itemId, processId, month, month.minusMonths(1), "monthly");
+    }
+
+    public StatisticsResponse.Compare compareYearly(Long itemId, Long processId, YearMonth month) {
+        return compare(itemId, processId, month, month.minusYears(1), "yearly");
+    }
+
+    public List<StatisticsResponse.Compare> compareMonthlyByItem(Long processId, YearMonth month) {
+        return compareByItem(processId, month, month.minusMonths(1), "monthly");
+    }
+
+    public List<StatisticsResponse.Compare> compareYearlyByItem(Long processId, YearMonth month) {
+        return compareByItem(processId, month, month.minusYears(1), "yearly");
+    }
+
+    private StatisticsResponse.Compare compare(Long itemId, Long processId, YearMonth current, YearMonth previous,
+            String basis) {
+        Item item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new Exception400("부품을 찾을 수 없습니다: " + itemId));
+        processRepository.findById(processId)
+                .orElseThrow(() -> new Exception400("공정을 찾을 수 없습니다: " + processId));
+
+        Map<LocalDate, NgRollup> rows = ngRollupRepository.findPeriods(itemId, processId, RollupGranularity.MONTH,
+                List.of(current.atDay(1), previous.atDay(1))).stream()
+                .collect(Collectors.toMap(NgRollup::getPeriodStart, Function.identity()));
+
+        return new StatisticsResponse.Compare(item.getId(), item.getCode(), item.getName(), processId, basis,
+                summary(current, rows.get(current.atDay(1))),
+                summary(previous, rows.get(previous.atDay(1))));
+    }
+
+    // 공정의 두 기간 집계 행을 한 번에 읽고 부품 코드 순으로 비교 결과 생성
+    private List<StatisticsResponse.Compare> compareByItem(Long processId, YearMonth current, YearMonth previous,
+            String basis) {
+        processRepository.findById(processId)
+                .orElseThrow(() -> new Exception400("공정을 찾을 수 없습니다: " + processId));
+
+        Map<Long, Map<LocalDate, NgRollup>> rowsByItem = ngRollupRepository.findPeriodsByProcess(processId,
+                RollupGranularity.MONTH, List.of(current.atDay(1), previous.atDay(1))).stream()
+                .collect(Collectors.groupingBy(r -> r.getItem().getId(),
+                        Collectors.toMap(NgRollup::getPeriodStart, Function.identity())));
+
+        return itemRepository.findAll(Sort.by("code")).stream()
+                .map(item -> {
+                    Map<LocalDate, NgRollup> rows = rowsByItem.getOrDefault(item.getId(), Map.of());
+                    return new StatisticsResponse.Compare(item.getId(), item.getCode(), item.getName(), processId,
+                            basis,
+                            summary(current, rows.get(current.atDay(1))),
+                            summary(previous, rows.get(previous.atDay(1))));
+                })
+                .toList();
+    }
+
+    private StatisticsResponse.PeriodSummary summary(YearMonth month, NgRollup row) {
+        if (row == null) {
+            return new StatisticsResponse.PeriodSummary(month.toString(), 0L, 0L, 0L);
+        }
+        return new StatisticsResponse.PeriodSummary(month.toString(), row.getRecordCount(), row.getNgQuantity(),
+                row.getTotalQuantity());
+    }
+}
@@ -0,0 +1,99 @@
+package dev.dote.qtrack.statistics;
+
+import dev.dote.qtrack._core.util.NgRateUtil;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 생산일 오름차순 행을 한 번만 순회하면서 버킷 집계, 빈 구간 채우기, 최소제곱 기울기를 함께 계산
+ * - 데이터가 없는 버킷은 수량 0, ngRate null, filled=true 로 채움
+ * - 기울기는 데이터가 있는 버킷만 사용 (x = 버킷 순번, y = NG 비율 %)
+ */
+class TrendCollector {
+    // |기울기| 가 이 값(버킷당 %p) 미만이면 stable 로 판단
+    private static final double STABLE_SLOPE_THRESHOLD = 0.01;
+
+    private final TrendPeriod period;
+    private final LocalDate lastBucketStart;
+    private final List<StatisticsResponse.TrendBucket> buckets = new ArrayList<>();
+
+    private LocalDate currentBucketStart;
+    private long currentNg;
+    private long currentTotal;
+    private boolean currentHasData;
+
+    // 최소제곱 누적값
+    private long n;
+    private double sumX;
+    private double sumY;
+    private double sumXY;
+    private double sumXX;
+
+    TrendCollector(TrendPeriod period, LocalDate startDate, LocalDate endDate) {
+        this.period = period;
+        this.currentBucketStart = period.bucketStart(startDate);
+        this.lastBucketStart = period.bucketStart(endDate);
+    }
+
+    void accept(TrendSample sample) {
+        LocalDate bucketStart = period.bucketStart(sample.productionDate());
+        while (currentBucketStart.isBefore(bucketStart)) {
+            closeBucket();
+        }
+        currentNg += sample.ngQuantity();
+        currentTotal += sample.totalQuantity();
+        currentHasData = true;
+    }
+
+    List<StatisticsResponse.TrendBucket> buckets() {
+        while (!currentBucketStart.isAfter(lastBucketStart)) {
+            closeBucket();
+        }
+        return buckets;
+    }
+
+    BigDecimal slope() {
+        double denominator = n * sumXX - sumX * sumX;
+        if (n < 2 || denominator == 0) {
+            return BigDecimal.ZERO.setScale(4);
+        }
+        double slope = (n * sumXY - sumX * sumY) / denominator;
+        return BigDecimal.valueOf(slope).setScale(4, RoundingMode.HALF_UP);
+    }
+
+    String direction() {
+        double slope = slope().doubleValue();
+        if (slope >= STABLE_SLOPE_THRESHOLD) {
+            return "increasing";
+        }
+        if (slope <= -STABLE_SLOPE_THRESHOLD) {
+            return "decreasing";
+        }
+        return "stable";
+    }
+
+    private void closeBucket() {
+        BigDecimal ngRate = null;
+        if (currentHasData) {
+            ngRate = NgRateUtil.ngRate(currentNg, currentTotal);
+            double x = buckets.size();
+            double y = ngRate.doubleValue();
+            n++;
+            sumX += x;
+            sumY += y;
+            sumXY += x * y;
+            sumXX += x * x;
+        }
+        buckets.add(new StatisticsResponse.TrendBucket(
+                currentBucketStart, currentNg, currentTotal, ngRate, !currentHasData));
+
+        currentBucketStart = period.nextBucketStart(currentBucketStart);
+        currentNg = 0;
+        currentTotal = 0;
+        currentHasData = false;
+    }
+}
@@ -0,0 +1,42 @@
+package dev.dote.qtrack.statistics;
+
+import dev.dote.qtrack._core.errors.ex.Exception400;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 추세 분석 집계 단위
+ * - DAY: 일별, WEEK: 주별 (월요일 시작), MONTH: 월별 (1일 시작)
+ */
+public enum TrendPeriod {
+    DAY, WEEK, MONTH;
+
+    public static TrendPeriod from(String value) {
+        if (value == null || value.isBlank()) {
+            return DAY;
+        }
+        try {
+            return TrendPeriod.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new Exception400("지원하지 않는 집계 단위입니다 (day, week, month): " + value);
+        }
+    }
+
+    public LocalDate bucketStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate nextBucketStart(LocalDate bucketStart) {
+        return switch (this) {
+            case DAY -> bucketStart.plusDays(1);
+            case WEEK -> bucketStart.plusWeeks(1);
+            case MONTH -> bucketStart.plusMonths(1);
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package dev.dote.qtrack.statistics;
+
+import java.time.LocalDate;
+
+/**
+ * 추세 분석용 품질 기록 행 (생산일 오름차순 스트리밍 프로젝션)
+ */
+public record TrendSample(
+        LocalDate productionDate,
+        Integer ngQuantity,
+        Integer totalQuantity) {
+}
@@ -1,5 +1,6 @@
 package dev.dote.qtrack.systemcode;
 
+import dev.dote.qtrack._core.jpa.PooledId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -17,7 +18,7 @@ import java.time.LocalDateTime;
 @Getter
 public class SystemCode {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId
     private Long id;
 
     @Column(name = "code_group", nullable = false, length = 50)
@@ -50,4 +51,10 @@ public class SystemCode {
         this.description = description;
         this.isActive = isActive;
     }
+
+    public void update(String codeValue, String description, Boolean isActive) {
+        this.codeValue = codeValue;
+        this.description = description;
+        this.isActive = isActive;
+    }
 }
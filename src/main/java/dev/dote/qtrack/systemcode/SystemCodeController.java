@@ -1,8 +1,10 @@
 package dev.dote.qtrack.systemcode;
 
 import dev.dote.qtrack._core.util.Resp;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -11,7 +13,7 @@ import java.util.List;
  * 시스템 코드 관리 API
  * - 시스템 코드 조회 기능 제공
  * - 코드 그룹별 조회 지원
- * - 시스템 설정값 관리
+ * - 시스템 설정값 관리 (수정은 ADMIN 권한 필요)
  */
 @RestController
 @RequestMapping("/api/system-codes")
@@ -32,4 +34,17 @@ public class SystemCodeController {
 
         return Resp.ok(response);
     }
+
+    @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Resp<SystemCodeResponse.Update>> update(
+            @PathVariable Long id,
+            @Valid @RequestBody SystemCodeRequest.Update request) {
+        SystemCodeResponse.Update response = systemCodeService.update(
+                id,
+                request.codeValue(),
+                request.description(),
+                request.isActive());
+        return Resp.ok(response);
+    }
 }
@@ -8,4 +8,5 @@ import java.util.Optional;
 public interface SystemCodeRepository extends JpaRepository<SystemCode, Long> {
     Optional<SystemCode> findByCodeGroupAndCodeKey(String codeGroup, String codeKey);
     List<SystemCode> findByCodeGroup(String codeGroup);
+    List<SystemCode> findByIsActiveTrue();
 }
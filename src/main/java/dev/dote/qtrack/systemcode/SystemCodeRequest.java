@@ -0,0 +1,12 @@
+package dev.dote.qtrack.systemcode;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public class SystemCodeRequest {
+    public record Update(
+            @NotBlank(message = "코드 값은 필수입니다") String codeValue,
+            String description,
+            @NotNull(message = "활성화 여부는 필수입니다") Boolean isActive) {
+    }
+}
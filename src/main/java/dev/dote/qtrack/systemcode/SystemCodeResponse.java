@@ -3,4 +3,8 @@ package dev.dote.qtrack.systemcode;
 public class SystemCodeResponse {
     public record List(Long id, String codeGroup, String codeKey, String codeValue, String description, Boolean isActive) {
     }
+
+    public record Update(Long id, String codeGroup, String codeKey, String codeValue, String description, Boolean isActive,
+            Long version) {
+    }
 }
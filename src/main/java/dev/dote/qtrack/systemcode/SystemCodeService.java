@@ -2,22 +2,32 @@ package dev.dote.qtrack.systemcode;
 
 import dev.dote.qtrack._core.errors.ex.Exception400;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
  * 시스템 코드 비즈니스 로직 처리
  * - 시스템 코드 조회 기능
  * - 코드 그룹별 조회
- * - 시스템 설정값 조회 (getCodeValue)
+ * - 시스템 설정값 조회 (getCodeValue, getDecimal) - 메모리 스냅샷에서 조회 (DB 조회, 파싱 없음)
+ * - 시스템 코드 수정 시 버전 증가, 각 노드는 버전 비교로 스냅샷 갱신
  */
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class SystemCodeService {
     private final SystemCodeRepository systemCodeRepository;
+    private final SystemCodeVersionRepository systemCodeVersionRepository;
+
+    private volatile SystemCodeSnapshot snapshot;
 
     public List<SystemCodeResponse.List> findAll() {
         return systemCodeRepository.findAll().stream()
@@ -44,8 +54,86 @@ public class SystemCodeService {
     }
 
     public String getCodeValue(String codeGroup, String codeKey) {
-        return systemCodeRepository.findByCodeGroupAndCodeKey(codeGroup, codeKey)
-                .map(SystemCode::getCodeValue)
-                .orElseThrow(() -> new Exception400("시스템 코드를 찾을 수 없습니다: " + codeGroup + "." + codeKey));
+        String value = snapshot().value(codeGroup, codeKey);
+        if (value == null) {
+            throw new Exception400("시스템 코드를 찾을 수 없습니다: " + codeGroup + "." + codeKey);
+        }
+        return value;
+    }
+
+    public BigDecimal getDecimal(String codeGroup, String codeKey) {
+        BigDecimal value = snapshot().decimal(codeGroup, codeKey);
+        if (value == null) {
+            throw new Exception400("숫자 시스템 코드를 찾을 수 없습니다: " + codeGroup + "." + codeKey);
+        }
+        return value;
+    }
+
+    @Transactional
+    public SystemCodeResponse.Update update(Long id, String codeValue, String description, Boolean isActive) {
+        SystemCode systemCode = systemCodeRepository.findById(id)
+                .orElseThrow(() -> new Exception400("시스템 코드를 찾을 수 없습니다: " + id));
+
+        // 숫자 설정값은 숫자로만 변경 가능 (평가 경로의 getDecimal 보호)
+        if (SystemCodeSnapshot.parseDecimal(systemCode.getCodeValue()).isPresent()
+                && SystemCodeSnapshot.parseDecimal(codeValue).isEmpty()) {
+            throw new Exception400("숫자 형식의 코드 값이어야 합니다: " + codeValue);
+        }
+
+        systemCode.update(codeValue, description, isActive);
+        systemCodeRepository.save(systemCode);
+        Long version = incrementVersion();
+
+        // 커밋 후 이 노드의 스냅샷은 즉시 갱신, 다른 노드는 버전 확인 주기에 갱신
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+        });
+
+        return new SystemCodeResponse.Update(
+                systemCode.getId(),
+                systemCode.getCodeGroup(),
+                systemCode.getCodeKey(),
+                systemCode.getCodeValue(),
+                systemCode.getDescription(),
+                systemCode.getIsActive(),
+                version);
+    }
+
+    // 저장된 버전이 스냅샷 버전과 다르면 다시 적재
+    @Scheduled(fixedDelayString = "${systemcode.refresh-interval-ms:5000}",
+            initialDelayString = "${systemcode.refresh-interval-ms:5000}")
+    public void refreshIfChanged() {
+        long version = systemCodeVersionRepository.findCurrentVersion().orElse(0L);
+        if (snapshot == null || snapshot.version() != version) {
+            refresh();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void refresh() {
+        // 버전을 먼저 읽어 적재 도중 변경되면 다음 확인에서 다시 적재되도록 함
+        long version = systemCodeVersionRepository.findCurrentVersion().orElse(0L);
+        snapshot = SystemCodeSnapshot.of(version, systemCodeRepository.findByIsActiveTrue());
+    }
+
+    private SystemCodeSnapshot snapshot() {
+        SystemCodeSnapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    // 버전 행은 db/system-code-version-migration.sql (dev: data-dev.sql) 에서 생성
+    private Long incrementVersion() {
+        if (systemCodeVersionRepository.increment() == 0) {
+            throw new IllegalStateException(
+                    "시스템 코드 버전 행이 없습니다 (db/system-code-version-migration.sql 실행 필요)");
+        }
+        return systemCodeVersionRepository.findCurrentVersion().orElseThrow();
     }
 }
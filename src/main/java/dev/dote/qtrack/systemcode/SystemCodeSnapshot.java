@@ -0,0 +1,46 @@
+package dev.dote.qtrack.systemcode;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 활성 시스템 코드의 불변 스냅샷
+ * - 코드 값과 숫자로 해석 가능한 값을 미리 파싱해 보관
+ * - 갱신 시 새 스냅샷으로 통째로 교체 (부분 수정 없음)
+ */
+record SystemCodeSnapshot(long version, Map<String, String> values, Map<String, BigDecimal> decimals) {
+
+    static SystemCodeSnapshot of(long version, List<SystemCode> activeCodes) {
+        Map<String, String> values = new HashMap<>();
+        Map<String, BigDecimal> decimals = new HashMap<>();
+        for (SystemCode code : activeCodes) {
+            String key = key(code.getCodeGroup(), code.getCodeKey());
+            values.put(key, code.getCodeValue());
+            parseDecimal(code.getCodeValue()).ifPresent(decimal -> decimals.put(key, decimal));
+        }
+        return new SystemCodeSnapshot(version, Map.copyOf(values), Map.copyOf(decimals));
+    }
+
+    String value(String codeGroup, String codeKey) {
+        return values.get(key(codeGroup, codeKey));
+    }
+
+    BigDecimal decimal(String codeGroup, String codeKey) {
+        return decimals.get(key(codeGroup, codeKey));
+    }
+
+    static Optional<BigDecimal> parseDecimal(String value) {
+        try {
+            return Optional.of(new BigDecimal(value.trim()));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String key(String codeGroup, String codeKey) {
+        return codeGroup + "." + codeKey;
+    }
+}
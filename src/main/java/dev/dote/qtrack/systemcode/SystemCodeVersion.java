@@ -0,0 +1,33 @@
+package dev.dote.qtrack.systemcode;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시스템 코드 변경 버전 (단일 행)
+ * - 시스템 코드가 수정될 때마다 증가
+ * - 각 노드는 주기적으로 버전을 비교해 메모리 스냅샷을 갱신
+ * - 행은 db/system-code-version-migration.sql (dev: data-dev.sql) 에서 생성
+ */
+@Entity
+@Table(name = "system_code_version_tb")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class SystemCodeVersion {
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
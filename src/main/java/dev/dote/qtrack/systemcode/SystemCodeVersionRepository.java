@@ -0,0 +1,17 @@
+package dev.dote.qtrack.systemcode;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface SystemCodeVersionRepository extends JpaRepository<SystemCodeVersion, Long> {
+
+    @Query("SELECT v.version FROM SystemCodeVersion v WHERE v.id = 1")
+    Optional<Long> findCurrentVersion();
+
+    @Modifying
+    @Query("UPDATE SystemCodeVersion v SET v.version = v.version + 1, v.updatedAt = LOCAL DATETIME WHERE v.id = 1")
+    int increment();
+}
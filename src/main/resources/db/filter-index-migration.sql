@@ -0,0 +1,53 @@
+-- ============================================
+-- 목록 필터용 인덱스 이름 지정 / 생산일 인덱스 추가 (MySQL)
+-- ============================================
+-- prod 는 ddl-auto=validate 이므로 인덱스는 이 스크립트로 맞춥니다. 배포 전에 한 번 실행합니다.
+-- 기존 유니크 키 (이름 없이 생성되어 자동 이름) 는 새로 만들지 않고 엔티티에 지정한 이름으로 바꿉니다.
+-- 유니크 키가 없으면 생성하고, 이미 맞춰진 인덱스는 건너뜁니다 (여러 번 실행해도 안전).
+
+-- 일별 생산 (item_id, production_date) 유니크 키 → uk_daily_production_item_date
+SET @old_name = (
+    SELECT INDEX_NAME FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'daily_production_tb'
+      AND NON_UNIQUE = 0 AND INDEX_NAME <> 'PRIMARY'
+    GROUP BY INDEX_NAME
+    HAVING GROUP_CONCAT(COLUMN_NAME ORDER BY SEQ_IN_INDEX) = 'item_id,production_date'
+    LIMIT 1);
+SET @ddl = CASE
+    WHEN @old_name IS NULL THEN
+        'ALTER TABLE daily_production_tb ADD CONSTRAINT uk_daily_production_item_date UNIQUE (item_id, production_date)'
+    WHEN @old_name = 'uk_daily_production_item_date' THEN 'DO 0'
+    ELSE CONCAT('ALTER TABLE daily_production_tb RENAME INDEX `', @old_name, '` TO uk_daily_production_item_date')
+END;
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 품질 기록 (daily_production_id, process_id) 유니크 키 → uk_quality_record_daily_production_process
+SET @old_name = (
+    SELECT INDEX_NAME FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'quality_record_tb'
+      AND NON_UNIQUE = 0 AND INDEX_NAME <> 'PRIMARY'
+    GROUP BY INDEX_NAME
+    HAVING GROUP_CONCAT(COLUMN_NAME ORDER BY SEQ_IN_INDEX) = 'daily_production_id,process_id'
+    LIMIT 1);
+SET @ddl = CASE
+    WHEN @old_name IS NULL THEN
+        'ALTER TABLE quality_record_tb ADD CONSTRAINT uk_quality_record_daily_production_process UNIQUE (daily_production_id, process_id)'
+    WHEN @old_name = 'uk_quality_record_daily_production_process' THEN 'DO 0'
+    ELSE CONCAT('ALTER TABLE quality_record_tb RENAME INDEX `', @old_name, '` TO uk_quality_record_daily_production_process')
+END;
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 부품 없이 기간만 주는 필터용 생산일 인덱스
+SET @ddl = IF(EXISTS(
+        SELECT 1 FROM information_schema.STATISTICS
+        WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'daily_production_tb'
+          AND INDEX_NAME = 'idx_daily_production_date'),
+    'DO 0',
+    'CREATE INDEX idx_daily_production_date ON daily_production_tb (production_date)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,29 @@
+-- ============================================
+-- IDENTITY → @PooledId (id_sequence_tb) 전환 마이그레이션 (MySQL)
+-- ============================================
+-- prod 는 ddl-auto=validate 이므로 새 버전 배포 전에 한 번 실행합니다.
+-- 기존 행의 ID 는 그대로 두고, 테이블별 다음 ID 를 현재 최대값 이후로 지정합니다.
+-- 실행 중인 구 버전 서버가 INSERT 하지 않도록 배포 중에는 쓰기를 멈춘 상태에서 실행합니다.
+-- ng_rollup_tb, outlier_stat_tb 의 최대 ID 도 읽으므로 두 테이블을 만드는
+-- db/ng-rollup-migration.sql, db/outlier-stat-migration.sql 을 먼저 실행합니다.
+
+CREATE TABLE IF NOT EXISTS id_sequence_tb (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (sequence_name)
+) ENGINE = InnoDB;
+
+INSERT INTO id_sequence_tb (sequence_name, next_val)
+SELECT 'user_tb', COALESCE(MAX(id), 0) + 1 FROM user_tb
+UNION ALL SELECT 'process_tb', COALESCE(MAX(id), 0) + 1 FROM process_tb
+UNION ALL SELECT 'system_code_tb', COALESCE(MAX(id), 0) + 1 FROM system_code_tb
+UNION ALL SELECT 'item_tb', COALESCE(MAX(id), 0) + 1 FROM item_tb
+UNION ALL SELECT 'daily_production_tb', COALESCE(MAX(id), 0) + 1 FROM daily_production_tb
+UNION ALL SELECT 'quality_record_tb', COALESCE(MAX(id), 0) + 1 FROM quality_record_tb
+UNION ALL SELECT 'ng_rollup_tb', COALESCE(MAX(id), 0) + 1 FROM ng_rollup_tb
+UNION ALL SELECT 'outlier_stat_tb', COALESCE(MAX(id), 0) + 1 FROM outlier_stat_tb
+ON DUPLICATE KEY UPDATE next_val = GREATEST(id_sequence_tb.next_val, VALUES(next_val));
+
+-- (선택) 애플리케이션이 항상 ID 를 지정하므로 AUTO_INCREMENT 는 더 이상 사용되지 않습니다.
+-- 다른 경로의 INSERT 가 없음을 확인한 뒤 제거해도 됩니다. 예)
+-- ALTER TABLE quality_record_tb MODIFY id BIGINT NOT NULL;
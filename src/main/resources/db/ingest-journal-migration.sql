@@ -0,0 +1,12 @@
+-- ============================================
+-- 낱개 수집 저널 반영 위치 테이블 (MySQL)
+-- ============================================
+-- prod 는 ddl-auto=validate 이므로 저널을 쓰는 버전 배포 전에 한 번 실행합니다.
+-- 행은 저널 디렉터리(journal.id 파일의 식별자)마다 첫 반영 시 애플리케이션이 만들기 때문에 테이블만 생성합니다.
+
+CREATE TABLE IF NOT EXISTS ingest_journal_checkpoint_tb (
+    journal_id VARCHAR(36) NOT NULL,
+    applied_position BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (journal_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,31 @@
+-- ============================================
+-- NG 집계(일/월/연) 테이블과 재구성 잠금 행 (MySQL)
+-- ============================================
+-- prod 는 ddl-auto=validate 이므로 집계를 쓰는 버전 배포 전에 한 번 실행합니다.
+-- 집계 행은 기동 시 테이블이 비어 있으면 애플리케이션이 품질 기록으로부터 채웁니다 (NgRollupService.rebuildIfEmpty).
+-- 잠금 행은 증분 반영(공유 잠금)과 재구성(배타 잠금)이 함께 사용하므로 반드시 있어야 합니다.
+
+CREATE TABLE IF NOT EXISTS ng_rollup_tb (
+    id BIGINT NOT NULL,
+    item_id BIGINT NOT NULL,
+    process_id BIGINT NOT NULL,
+    granularity ENUM('DAY', 'MONTH', 'YEAR') NOT NULL,
+    period_start DATE NOT NULL,
+    record_count BIGINT NOT NULL,
+    ok_quantity BIGINT NOT NULL,
+    ng_quantity BIGINT NOT NULL,
+    total_quantity BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_ng_rollup_item_process_period UNIQUE (item_id, process_id, granularity, period_start)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS ng_rollup_lock_tb (
+    id BIGINT NOT NULL,
+    rebuilt_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+INSERT INTO ng_rollup_lock_tb (id, rebuilt_at) VALUES (1, NULL)
+ON DUPLICATE KEY UPDATE id = id;
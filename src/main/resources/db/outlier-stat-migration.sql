@@ -0,0 +1,19 @@
+-- ============================================
+-- 이상치 탐지 누적 통계 테이블 (MySQL)
+-- ============================================
+-- prod 는 ddl-auto=validate 이므로 이상치 탐지를 쓰는 버전 배포 전에 한 번 실행합니다.
+-- 통계 행은 기동 시 테이블이 비어 있으면 애플리케이션이 품질 기록으로부터 채웁니다 (OutlierService.rebuildIfEmpty).
+-- 이후 새 (부품, 공정) 행은 INSERT ... ON DUPLICATE KEY UPDATE 로 생성되므로 유니크 키가 반드시 있어야 합니다.
+
+CREATE TABLE IF NOT EXISTS outlier_stat_tb (
+    id BIGINT NOT NULL,
+    item_id BIGINT NOT NULL,
+    process_id BIGINT NOT NULL,
+    sample_count BIGINT NOT NULL,
+    mean DOUBLE NOT NULL,
+    m2 DOUBLE NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_outlier_stat_item_process UNIQUE (item_id, process_id)
+) ENGINE = InnoDB;
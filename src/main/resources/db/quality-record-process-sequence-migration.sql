@@ -0,0 +1,34 @@
+-- ============================================
+-- 품질 기록 공정 순서 비정규화 컬럼 / 정렬 인덱스 (MySQL)
+-- ============================================
+-- prod 는 ddl-auto=validate 이므로 process_sequence 를 쓰는 버전 배포 전에 한 번 실행합니다.
+-- 컬럼을 NULL 허용으로 추가하고 공정 테이블의 현재 순서로 채운 뒤 NOT NULL 로 바꿉니다.
+-- 구 버전 서버가 process_sequence 없이 INSERT 하지 않도록 배포 중에는 쓰기를 멈춘 상태에서 실행합니다.
+-- 이미 적용된 단계는 건너뜁니다 (여러 번 실행해도 안전).
+
+SET @ddl = IF(EXISTS(
+        SELECT 1 FROM information_schema.COLUMNS
+        WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'quality_record_tb'
+          AND COLUMN_NAME = 'process_sequence'),
+    'DO 0',
+    'ALTER TABLE quality_record_tb ADD COLUMN process_sequence INT NULL');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+UPDATE quality_record_tb qr
+JOIN process_tb p ON p.id = qr.process_id
+SET qr.process_sequence = p.sequence
+WHERE qr.process_sequence IS NULL;
+
+ALTER TABLE quality_record_tb MODIFY COLUMN process_sequence INT NOT NULL;
+
+SET @ddl = IF(EXISTS(
+        SELECT 1 FROM information_schema.STATISTICS
+        WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'quality_record_tb'
+          AND INDEX_NAME = 'idx_quality_record_daily_production_sequence'),
+    'DO 0',
+    'CREATE INDEX idx_quality_record_daily_production_sequence ON quality_record_tb (daily_production_id, process_sequence)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,16 @@
+-- ============================================
+-- 시스템 코드 변경 버전 테이블과 단일 행 (MySQL)
+-- ============================================
+-- prod 는 ddl-auto=validate 이므로 시스템 코드 스냅샷을 쓰는 버전 배포 전에 한 번 실행합니다.
+-- 애플리케이션은 행을 만들지 않고 UPDATE 로 버전만 올리므로 단일 행이 반드시 있어야 합니다.
+-- 이미 행이 있으면 버전을 유지합니다 (여러 번 실행해도 안전).
+
+CREATE TABLE IF NOT EXISTS system_code_version_tb (
+    id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+INSERT INTO system_code_version_tb (id, version, updated_at) VALUES (1, 1, NOW(6))
+ON DUPLICATE KEY UPDATE id = id;
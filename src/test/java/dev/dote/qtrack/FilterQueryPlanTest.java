@@ -0,0 +1,119 @@
+package dev.dote.qtrack;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.dote.qtrack.dailyproduction.DailyProductionQueryRepositoryImpl;
+import dev.dote.qtrack.qualityrecord.QualityRecordQueryRepositoryImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * 동적 필터 조회의 실행 계획 검증 (H2 EXPLAIN)
+ * - 필터 조합마다 Hibernate가 생성한 SQL을 캡처해 EXPLAIN 결과에 전체 스캔(tableScan)이 없는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("dev")
+class FilterQueryPlanTest {
+
+    private static final Long ITEM_ID = 1L;
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 1, 31);
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void daily_production_filters_use_index_test() throws Exception {
+        assertIndexed(captureSql(session -> new DailyProductionQueryRepositoryImpl(session)
+                .findListWithFilters(PageRequest.of(1, 5), ITEM_ID, null, null)));
+        assertIndexed(captureSql(session -> new DailyProductionQueryRepositoryImpl(session)
+                .findListWithFilters(PageRequest.of(1, 5), ITEM_ID, START, END)));
+        assertIndexed(captureSql(session -> new DailyProductionQueryRepositoryImpl(session)
+                .findListWithFilters(PageRequest.of(1, 5), null, START, END)));
+        assertIndexed(captureSql(session -> new DailyProductionQueryRepositoryImpl(session)
+                .scroll(ITEM_ID, START, END, END, "ITEM001", 10L, Limit.of(5))));
+    }
+
+    @Test
+    void quality_record_filters_use_index_test() throws Exception {
+        assertIndexed(captureSql(session -> new QualityRecordQueryRepositoryImpl(session)
+                .findListWithFilters(PageRequest.of(1, 5), ITEM_ID, null, null, null)));
+        assertIndexed(captureSql(session -> new QualityRecordQueryRepositoryImpl(session)
+                .findListWithFilters(PageRequest.of(1, 5), ITEM_ID, null, START, END)));
+        assertIndexed(captureSql(session -> new QualityRecordQueryRepositoryImpl(session)
+                .findListWithFilters(PageRequest.of(1, 5), null, END, null, null)));
+        assertIndexed(captureSql(session -> new QualityRecordQueryRepositoryImpl(session)
+                .findListWithFilters(PageRequest.of(1, 5), null, null, START, END)));
+        assertIndexed(captureSql(session -> new QualityRecordQueryRepositoryImpl(session)
+                .scroll(ITEM_ID, null, START, END, END, "ITEM001", 1, 10L, Limit.of(5))));
+    }
+
+    // 캡처한 모든 SQL(목록 + COUNT)에 대해 전체 스캔이 없어야 함
+    private void assertIndexed(List<String> sqls) throws Exception {
+        assertFalse(sqls.isEmpty());
+        for (String sql : sqls) {
+            String plan = explain(sql);
+            assertFalse(plan.contains(".tableScan"), () -> "전체 스캔 발생:\n" + plan);
+        }
+    }
+
+    private List<String> captureSql(Consumer<Session> action) {
+        List<String> sqls = new ArrayList<>();
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        try (Session session = sessionFactory.withOptions()
+                .statementInspector((UnaryOperator<String>) sql -> {
+                    sqls.add(sql);
+                    return sql;
+                })
+                .openSession()) {
+            action.accept(session);
+        }
+        return sqls;
+    }
+
+    // 파라미터는 타입별 대표값으로 바인딩 (계획은 값보다 조건 형태에 좌우됨)
+    private String explain(String sql) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            ParameterMetaData metaData = statement.getParameterMetaData();
+            for (int index = 1; index <= metaData.getParameterCount(); index++) {
+                switch (metaData.getParameterType(index)) {
+                    case Types.DATE -> statement.setObject(index, START);
+                    case Types.VARCHAR, Types.CHAR -> statement.setString(index, "ITEM001");
+                    case Types.INTEGER, Types.SMALLINT -> statement.setInt(index, 1);
+                    default -> statement.setLong(index, ITEM_ID);
+                }
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        }
+    }
+}
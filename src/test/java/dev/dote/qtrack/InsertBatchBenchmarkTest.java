@@ -0,0 +1,88 @@
+package dev.dote.qtrack;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import dev.dote.qtrack.dailyproduction.DailyProduction;
+import dev.dote.qtrack.item.Item;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+/**
+ * 대량 INSERT 처리량 비교 (gradle benchmark 로 실행, 기본 test 에서는 제외)
+ * - 같은 @PooledId 엔티티를 JDBC 배치 크기 1 (IDENTITY 처럼 행마다 전송) 과 설정된 배치 크기로 저장해 행/초 비교
+ * - 각 측정은 롤백하므로 데이터는 남지 않음
+ */
+@Tag("benchmark")
+// SQL 로그 출력 시간이 측정값을 가리지 않도록 끔
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@ActiveProfiles("dev")
+class InsertBatchBenchmarkTest {
+
+    // 더미 데이터에 일별 생산이 없는 부품
+    private static final Long ITEM_ID = 5L;
+    private static final int ROWS = 20_000;
+    private static final int FLUSH_SIZE = 1000;
+    private static final int WARMUP_ROWS = 2_000;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2000, 1, 1);
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void insert_throughput_test() {
+        insert(WARMUP_ROWS, 1);
+        insert(WARMUP_ROWS, null);
+
+        long unbatched = insert(ROWS, 1);
+        long batched = insert(ROWS, null);
+
+        System.out.printf("[benchmark] daily_production_tb %d rows%n", ROWS);
+        System.out.printf("[benchmark]   batch_size=1       : %6d ms (%,d rows/s)%n", unbatched, rowsPerSecond(unbatched));
+        System.out.printf("[benchmark]   batch_size=default : %6d ms (%,d rows/s)%n", batched, rowsPerSecond(batched));
+    }
+
+    // 저장 후 롤백, 소요 시간(ms) 반환. batchSize 가 null 이면 hibernate.jdbc.batch_size 설정값 사용
+    private long insert(int rows, Integer batchSize) {
+        try (EntityManager em = entityManagerFactory.createEntityManager()) {
+            Session session = em.unwrap(Session.class);
+            session.setJdbcBatchSize(batchSize);
+            em.getTransaction().begin();
+            Item item = em.find(Item.class, ITEM_ID);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < rows; i++) {
+                em.persist(new DailyProduction(item, FIRST_DATE.plusDays(i), 1000));
+                if ((i + 1) % FLUSH_SIZE == 0) {
+                    em.flush();
+                    em.clear();
+                    item = em.getReference(Item.class, ITEM_ID);
+                }
+            }
+            em.flush();
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+            Long count = em.createQuery("select count(dp) from DailyProduction dp where dp.item.id = :itemId", Long.class)
+                    .setParameter("itemId", ITEM_ID)
+                    .getSingleResult();
+            assertEquals(rows, count.intValue());
+            em.getTransaction().rollback();
+            return Math.max(1, elapsed);
+        }
+    }
+
+    private static long rowsPerSecond(long millis) {
+        return ROWS * 1000L / millis;
+    }
+}
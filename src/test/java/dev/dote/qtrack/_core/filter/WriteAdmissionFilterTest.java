@@ -0,0 +1,154 @@
+package dev.dote.qtrack._core.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class WriteAdmissionFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger passed = new AtomicInteger();
+
+    // 첫 요청은 release 될 때까지 허가를 잡고 있음
+    private final FilterChain holdingChain = (request, response) -> {
+        passed.incrementAndGet();
+        entered.countDown();
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    };
+
+    private final FilterChain passingChain = (request, response) -> passed.incrementAndGet();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void write_rejected_with_retry_after_when_saturated_test() throws Exception {
+        // given - 허가 1, 대기열 없음, 쓰기 요청 하나가 처리 중
+        WriteAdmissionFilter filter = filter(1, 0, 50);
+        Future<MockHttpServletResponse> holding = executor.submit(() -> perform(filter, "POST",
+                "/api/quality-records", holdingChain));
+        org.junit.jupiter.api.Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        // when
+        MockHttpServletResponse rejected = perform(filter, "POST", "/api/daily-productions", passingChain);
+        MockHttpServletResponse read = perform(filter, "GET", "/api/quality-records", passingChain);
+        MockHttpServletResponse ingest = perform(filter, "POST", "/api/quality-records/ingest", passingChain);
+
+        // then - 쓰기만 거절, 조회와 메모리 수집은 그대로 처리
+        org.junit.jupiter.api.Assertions.assertEquals(429, rejected.getStatus());
+        org.junit.jupiter.api.Assertions.assertEquals("1", rejected.getHeader("Retry-After"));
+        org.junit.jupiter.api.Assertions.assertTrue(rejected.getContentAsString().contains("\"status\":429"));
+        org.junit.jupiter.api.Assertions.assertEquals(200, read.getStatus());
+        org.junit.jupiter.api.Assertions.assertEquals(200, ingest.getStatus());
+        org.junit.jupiter.api.Assertions.assertEquals(3, passed.get());
+        org.junit.jupiter.api.Assertions.assertEquals(1.0, meterRegistry.get("qtrack.admission.write.rejected")
+                .tag("reason", "queue_full").counter().count());
+        org.junit.jupiter.api.Assertions.assertEquals(1.0,
+                meterRegistry.get("qtrack.admission.write.active").gauge().value());
+
+        // when - 처리 중인 요청이 끝나면 다시 허가
+        release.countDown();
+        holding.get(5, TimeUnit.SECONDS);
+        MockHttpServletResponse admitted = perform(filter, "PUT", "/api/items/1", passingChain);
+
+        // then
+        org.junit.jupiter.api.Assertions.assertEquals(200, admitted.getStatus());
+        org.junit.jupiter.api.Assertions.assertEquals(0.0,
+                meterRegistry.get("qtrack.admission.write.active").gauge().value());
+    }
+
+    @Test
+    void queued_write_admitted_when_permit_released_test() throws Exception {
+        // given - 허가 1, 대기열 1
+        WriteAdmissionFilter filter = filter(1, 1, 5000);
+        executor.submit(() -> perform(filter, "POST", "/api/quality-records", holdingChain));
+        org.junit.jupiter.api.Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        // when - 두 번째 요청은 대기, 세 번째는 대기열 초과로 거절
+        Future<MockHttpServletResponse> queued = executor.submit(() -> perform(filter, "DELETE",
+                "/api/quality-records/1", passingChain));
+        awaitQueueDepth(1);
+        MockHttpServletResponse rejected = perform(filter, "POST", "/api/quality-records", passingChain);
+        release.countDown();
+
+        // then
+        org.junit.jupiter.api.Assertions.assertEquals(429, rejected.getStatus());
+        org.junit.jupiter.api.Assertions.assertEquals(200, queued.get(5, TimeUnit.SECONDS).getStatus());
+        org.junit.jupiter.api.Assertions.assertEquals(2, passed.get());
+        org.junit.jupiter.api.Assertions.assertEquals(0.0,
+                meterRegistry.get("qtrack.admission.write.queue.depth").gauge().value());
+        // 허가를 얻은 두 요청만 대기 시간 기록
+        org.junit.jupiter.api.Assertions.assertEquals(2,
+                meterRegistry.get("qtrack.admission.write.wait").timer().count());
+    }
+
+    @Test
+    void queued_write_rejected_after_max_wait_test() throws Exception {
+        // given
+        WriteAdmissionFilter filter = filter(1, 10, 50);
+        executor.submit(() -> perform(filter, "POST", "/api/quality-records", holdingChain));
+        org.junit.jupiter.api.Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        // when
+        MockHttpServletResponse rejected = perform(filter, "PATCH", "/api/quality-records/1", passingChain);
+
+        // then
+        org.junit.jupiter.api.Assertions.assertEquals(429, rejected.getStatus());
+        org.junit.jupiter.api.Assertions.assertNotNull(rejected.getHeader("Retry-After"));
+        org.junit.jupiter.api.Assertions.assertEquals(1.0, meterRegistry.get("qtrack.admission.write.rejected")
+                .tag("reason", "timeout").counter().count());
+    }
+
+    @Test
+    void retry_after_grows_with_queue_depth_test() {
+        // 평균 처리 시간 초기값 100ms, 허가 2 → 대기 99건이면 (100 × 100ms) / 2 = 5초
+        WriteAdmissionFilter filter = filter(2, 100, 50);
+
+        org.junit.jupiter.api.Assertions.assertEquals(1, filter.retryAfterSeconds(0));
+        org.junit.jupiter.api.Assertions.assertEquals(5, filter.retryAfterSeconds(99));
+        org.junit.jupiter.api.Assertions.assertEquals(60, filter.retryAfterSeconds(100_000));
+    }
+
+    private WriteAdmissionFilter filter(int permits, int maxQueue, long maxWaitMillis) {
+        return new WriteAdmissionFilter(permits, maxQueue, maxWaitMillis, JsonMapper.builder().build(),
+                meterRegistry);
+    }
+
+    private static MockHttpServletResponse perform(WriteAdmissionFilter filter, String method, String uri,
+            FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("qtrack.admission.write.queue.depth").gauge().value() < depth
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package dev.dote.qtrack._core.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+class MappedJournalTest {
+
+    // 헤더 8 + 본문 8 = 레코드 16 바이트, 세그먼트당 4 건
+    private static final int SEGMENT_BYTES = 64;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void append_and_replay_across_segments_test() {
+        // given
+        long[] ends = new long[10];
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_BYTES)) {
+            for (int i = 0; i < ends.length; i++) {
+                ends[i] = journal.append(payload(i));
+            }
+            journal.sync(ends[ends.length - 1]);
+            org.junit.jupiter.api.Assertions.assertEquals(3, journal.segmentCount());
+        }
+
+        // when - 다시 열어서 재생
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_BYTES)) {
+            List<String> all = replay(journal, 0);
+            List<String> afterFourth = replay(journal, ends[3]);
+
+            // then
+            org.junit.jupiter.api.Assertions.assertEquals(10, all.size());
+            org.junit.jupiter.api.Assertions.assertEquals("rec-0000", all.get(0));
+            org.junit.jupiter.api.Assertions.assertEquals("rec-0009", all.get(9));
+            org.junit.jupiter.api.Assertions.assertEquals(6, afterFourth.size());
+            org.junit.jupiter.api.Assertions.assertEquals("rec-0004", afterFourth.get(0));
+            org.junit.jupiter.api.Assertions.assertEquals(ends[9], journal.position());
+        }
+    }
+
+    @Test
+    void torn_tail_is_discarded_on_open_test() throws Exception {
+        // given - 마지막 레코드 본문 손상 (fsync 전에 죽은 경우)
+        long secondEnd;
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_BYTES)) {
+            journal.append(payload(0));
+            secondEnd = journal.append(payload(1));
+            journal.append(payload(2));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(onlySegment().toFile(), "rw")) {
+            file.seek(secondEnd + 8);
+            file.write('X');
+        }
+
+        // when - 다시 열면 손상 직전 위치부터 이어 씀
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_BYTES)) {
+            org.junit.jupiter.api.Assertions.assertEquals(secondEnd, journal.position());
+            journal.append(payload(7));
+
+            // then - 손상된 레코드는 버려지고 새 레코드 뒤에 예전 내용이 읽히지 않음
+            org.junit.jupiter.api.Assertions.assertEquals(List.of("rec-0000", "rec-0001", "rec-0007"),
+                    replay(journal, 0));
+        }
+    }
+
+    @Test
+    void truncate_deletes_applied_segments_test() {
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_BYTES)) {
+            // given - 세그먼트 3개 (4건, 4건, 2건)
+            long[] ends = new long[10];
+            for (int i = 0; i < ends.length; i++) {
+                ends[i] = journal.append(payload(i));
+            }
+
+            // when - 여섯 번째 레코드까지 반영
+            int deleted = journal.truncate(ends[5]);
+
+            // then - 첫 세그먼트만 삭제, 반영 이후 레코드는 그대로 재생
+            org.junit.jupiter.api.Assertions.assertEquals(1, deleted);
+            org.junit.jupiter.api.Assertions.assertEquals(2, journal.segmentCount());
+            org.junit.jupiter.api.Assertions.assertEquals(4, replay(journal, ends[5]).size());
+
+            // when - 전부 반영되어도 현재 세그먼트는 남김
+            journal.truncate(ends[9]);
+            org.junit.jupiter.api.Assertions.assertEquals(1, journal.segmentCount());
+        }
+    }
+
+    @Test
+    void id_survives_reopen_and_changes_with_new_directory_test() throws Exception {
+        // given
+        String id;
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_BYTES)) {
+            id = journal.id();
+            journal.append(payload(0));
+        }
+
+        // when - 같은 디렉터리를 다시 열면 같은 식별자
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_BYTES)) {
+            org.junit.jupiter.api.Assertions.assertEquals(id, journal.id());
+        }
+
+        // then - 디렉터리를 지우고 다시 만들면 새 식별자, 위치는 0 부터
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_BYTES)) {
+            org.junit.jupiter.api.Assertions.assertNotEquals(id, journal.id());
+            org.junit.jupiter.api.Assertions.assertEquals(0, journal.position());
+        }
+    }
+
+    private static byte[] payload(int i) {
+        return "rec-%04d".formatted(i).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static List<String> replay(MappedJournal journal, long from) {
+        List<String> records = new ArrayList<>();
+        journal.replay(from, (end, payload) -> {
+            ByteBuffer copy = payload.duplicate();
+            byte[] bytes = new byte[copy.remaining()];
+            copy.get(bytes);
+            records.add(new String(bytes, StandardCharsets.US_ASCII));
+        });
+        return records;
+    }
+
+    private Path onlySegment() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".seg")).findFirst().orElseThrow();
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package dev.dote.qtrack.dailyproduction;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -8,11 +11,17 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.relaxedResponseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 
 import java.time.LocalDate;
+import com.jayway.jsonpath.JsonPath;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,6 +36,8 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import jakarta.persistence.EntityManager;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -34,6 +45,15 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import dev.dote.qtrack._core.security.JwtUtil;
 import dev.dote.qtrack.item.Item;
 import dev.dote.qtrack.item.ItemRepository;
+import dev.dote.qtrack.outlier.OutlierStatRepository;
+import dev.dote.qtrack.rollup.NgRollupRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import dev.dote.qtrack.process.Process;
+import dev.dote.qtrack.process.ProcessRepository;
+import dev.dote.qtrack.qualityrecord.QualityRecord;
+import dev.dote.qtrack.qualityrecord.QualityRecordRepository;
 import dev.dote.qtrack.user.Role;
 import dev.dote.qtrack.user.User;
 import dev.dote.qtrack.user.UserRepository;
@@ -64,6 +84,12 @@ class DailyProductionControllerTest {
         @Autowired
         private ItemRepository itemRepository;
 
+        @Autowired
+        private ProcessRepository processRepository;
+
+        @Autowired
+        private QualityRecordRepository qualityRecordRepository;
+
         @Autowired
         private UserRepository userRepository;
 
@@ -73,6 +99,27 @@ class DailyProductionControllerTest {
         @Autowired
         private JwtUtil jwtUtil;
 
+        @Autowired
+        private EntityManager entityManager;
+
+        @Autowired
+        private DailyProductionPurgeRepository dailyProductionPurgeRepository;
+
+        @Autowired
+        private NgRollupRepository ngRollupRepository;
+
+        @Autowired
+        private OutlierStatRepository outlierStatRepository;
+
+        @Autowired
+        private PlatformTransactionManager transactionManager;
+
+        @Autowired
+        private ApplicationEventPublisher eventPublisher;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
         private String userToken;
         private String managerToken;
         private String adminToken;
@@ -151,6 +198,84 @@ class DailyProductionControllerTest {
                                                                 fieldWithPath("body.last").description("마지막 페이지 여부"))));
         }
 
+        @Test
+        void scroll_test() throws Exception {
+                // given - data-dev.sql의 DailyProduction 데이터 사용
+
+                // when
+                ResultActions result = mvc.perform(
+                                get("/api/daily-productions/scroll")
+                                                .param("size", "3")
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then
+                result.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.status").value(200))
+                                .andExpect(jsonPath("$.body.content.length()").value(3))
+                                .andExpect(jsonPath("$.body.hasNext").value(true))
+                                .andExpect(jsonPath("$.body.nextCursor").isString())
+                                .andExpect(jsonPath("$.body.totalElements").doesNotExist())
+                                .andDo(MockMvcRestDocumentation.document("dailyproduction-scroll",
+                                                requestHeaders(
+                                                                headerWithName("Authorization").description(
+                                                                                "JWT 토큰 (Bearer {token})")),
+                                                queryParameters(
+                                                                parameterWithName("cursor").optional().description(
+                                                                                "이전 응답의 nextCursor (첫 페이지는 생략)"),
+                                                                parameterWithName("size").optional()
+                                                                                .description("페이지 크기 (기본값 20, 최대 100)")),
+                                                relaxedResponseFields(
+                                                                fieldWithPath("status").description("HTTP 상태 코드"),
+                                                                fieldWithPath("msg").description("응답 메시지"),
+                                                                fieldWithPath("body.content[]").description("일별 생산 데이터 목록"),
+                                                                fieldWithPath("body.size").description("페이지 크기"),
+                                                                fieldWithPath("body.nextCursor")
+                                                                                .description("다음 페이지 커서 (마지막 페이지면 null)"),
+                                                                fieldWithPath("body.hasNext").description("다음 페이지 존재 여부"))));
+        }
+
+        @Test
+        void scroll_matches_offset_order_test() throws Exception {
+                // given - 오프셋 방식 전체 조회 순서
+                String offsetBody = mvc.perform(
+                                get("/api/daily-productions")
+                                                .param("size", "1000")
+                                                .header("Authorization", "Bearer " + userToken))
+                                .andReturn().getResponse().getContentAsString();
+                List<Integer> expected = JsonPath.read(offsetBody, "$.body.content[*].id");
+
+                // when - 커서로 4건씩 끝까지 조회
+                List<Integer> actual = new ArrayList<>();
+                String cursor = null;
+                do {
+                        var request = get("/api/daily-productions/scroll")
+                                        .param("size", "4")
+                                        .header("Authorization", "Bearer " + userToken);
+                        if (cursor != null) {
+                                request.param("cursor", cursor);
+                        }
+                        String body = mvc.perform(request).andReturn().getResponse().getContentAsString();
+                        actual.addAll(JsonPath.read(body, "$.body.content[*].id"));
+                        cursor = JsonPath.read(body, "$.body.nextCursor");
+                } while (cursor != null);
+
+                // then - 누락/중복 없이 같은 순서
+                assertEquals(expected, actual);
+        }
+
+        @Test
+        void scroll_invalid_cursor_test() throws Exception {
+                // when
+                ResultActions result = mvc.perform(
+                                get("/api/daily-productions/scroll")
+                                                .param("cursor", "not-a-cursor")
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then
+                result.andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.msg", containsString("잘못된 커서입니다")));
+        }
+
         @Test
         void findById_test() throws Exception {
                 // given - data-dev.sql의 오늘 날짜 DailyProduction 사용
@@ -282,6 +407,359 @@ class DailyProductionControllerTest {
                                 .andExpect(jsonPath("$.msg", containsString("부품을 찾을 수 없습니다")));
         }
 
+        @Test
+        void create_with_quality_records_test() throws Exception {
+                // given - 전일 W 공정 NG 비율 0.5%
+                Process w = processRepository.findByCode("W").orElseThrow();
+                Process p = processRepository.findByCode("P").orElseThrow();
+                Process inspection = processRepository.findByCode("검").orElseThrow();
+                DailyProduction previous = dailyProductionRepository.saveAndFlush(
+                                new DailyProduction(testItem, LocalDate.of(2025, 3, 1), 1000));
+                qualityRecordRepository.saveAndFlush(new QualityRecord(previous, w, 995, 5));
+
+                // 공정 순서와 다르게 전송
+                Map<Long, DailyProductionRequest.ProcessQuantity> quantities = new LinkedHashMap<>();
+                quantities.put(inspection.getId(), new DailyProductionRequest.ProcessQuantity(1000, 0));
+                quantities.put(w.getId(), new DailyProductionRequest.ProcessQuantity(990, 10));
+                quantities.put(p.getId(), new DailyProductionRequest.ProcessQuantity(900, 100));
+                DailyProductionRequest.CreateWithQualityRecords request = new DailyProductionRequest.CreateWithQualityRecords(
+                                testItem.getId(),
+                                LocalDate.of(2025, 3, 2),
+                                1000,
+                                quantities);
+                String requestBody = om.writeValueAsString(request);
+
+                // when
+                ResultActions result = mvc.perform(
+                                post("/api/daily-productions/with-quality-records")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(requestBody)
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then - 공정 순서대로 응답, 공정별 평가 (W: 전일 대비 2배, P: 임계값 초과, 검: 정상)
+                result.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.status").value(200))
+                                .andExpect(jsonPath("$.body.id").exists())
+                                .andExpect(jsonPath("$.body.productionDate").value("2025-03-02"))
+                                .andExpect(jsonPath("$.body.qualityRecords.length()").value(3))
+                                .andExpect(jsonPath("$.body.qualityRecords[0].processId").value(w.getId().intValue()))
+                                .andExpect(jsonPath("$.body.qualityRecords[0].ngRate").value(1.0))
+                                .andExpect(jsonPath("$.body.qualityRecords[0].evaluationRequired").value(true))
+                                .andExpect(jsonPath("$.body.qualityRecords[0].evaluationReason").value("전일 대비 급증"))
+                                .andExpect(jsonPath("$.body.qualityRecords[1].processId").value(p.getId().intValue()))
+                                .andExpect(jsonPath("$.body.qualityRecords[1].evaluationReason").value("NG 비율 임계값 초과"))
+                                .andExpect(jsonPath("$.body.qualityRecords[2].processId")
+                                                .value(inspection.getId().intValue()))
+                                .andExpect(jsonPath("$.body.qualityRecords[2].evaluationRequired").value(false))
+                                .andDo(MockMvcRestDocumentation.document("dailyproduction-create-with-quality-records",
+                                                requestHeaders(
+                                                                headerWithName("Authorization").description(
+                                                                                "JWT 토큰 (Bearer {token})")),
+                                                requestFields(
+                                                                fieldWithPath("itemId").description("부품 ID"),
+                                                                fieldWithPath("productionDate")
+                                                                                .description("생산일 (yyyy-MM-dd)"),
+                                                                fieldWithPath("totalQuantity").description("총 생산 수량"),
+                                                                subsectionWithPath("qualityRecords").description(
+                                                                                "공정 ID → { okQuantity: OK 수량, ngQuantity: NG 수량 }")),
+                                                responseFields(
+                                                                fieldWithPath("status").description("HTTP 상태 코드"),
+                                                                fieldWithPath("msg").description("응답 메시지"),
+                                                                fieldWithPath("body.id")
+                                                                                .description("생성된 일별 생산 데이터 ID"),
+                                                                fieldWithPath("body.itemId").description("부품 ID"),
+                                                                fieldWithPath("body.productionDate").description("생산일"),
+                                                                fieldWithPath("body.totalQuantity")
+                                                                                .description("총 생산 수량"),
+                                                                fieldWithPath("body.qualityRecords[].id")
+                                                                                .description("생성된 품질 기록 ID"),
+                                                                fieldWithPath("body.qualityRecords[].processId")
+                                                                                .description("공정 ID"),
+                                                                fieldWithPath("body.qualityRecords[].okQuantity")
+                                                                                .description("OK 수량"),
+                                                                fieldWithPath("body.qualityRecords[].ngQuantity")
+                                                                                .description("NG 수량"),
+                                                                fieldWithPath("body.qualityRecords[].totalQuantity")
+                                                                                .description("총 수량"),
+                                                                fieldWithPath("body.qualityRecords[].ngRate")
+                                                                                .description("NG 비율 (%) - 자동 계산"),
+                                                                fieldWithPath("body.qualityRecords[].evaluationRequired")
+                                                                                .description("평가 필요 여부 - 자동 판단"),
+                                                                fieldWithPath("body.qualityRecords[].evaluationReason")
+                                                                                .description("평가 필요 사유").optional())));
+
+                entityManager.clear();
+                Long dailyProductionId = dailyProductionRepository.findIdByKey(testItem.getId(), LocalDate.of(2025, 3, 2))
+                                .orElseThrow();
+                assertEquals(3, qualityRecordRepository.findByDailyProduction(
+                                dailyProductionRepository.findById(dailyProductionId).orElseThrow()).size());
+        }
+
+        @Test
+        void create_with_quality_records_invalid_test() throws Exception {
+                // given - 이미 있는 (부품, 생산일), 없는 공정
+                LocalDate date = LocalDate.of(2025, 3, 2);
+                dailyProductionRepository.saveAndFlush(new DailyProduction(testItem, date, 1000));
+                Process w = processRepository.findByCode("W").orElseThrow();
+                String duplicate = om.writeValueAsString(new DailyProductionRequest.CreateWithQualityRecords(
+                                testItem.getId(), date, 1000,
+                                Map.of(w.getId(), new DailyProductionRequest.ProcessQuantity(990, 10))));
+                String unknownProcess = om.writeValueAsString(new DailyProductionRequest.CreateWithQualityRecords(
+                                testItem.getId(), date.plusDays(1), 1000,
+                                Map.of(w.getId(), new DailyProductionRequest.ProcessQuantity(990, 10),
+                                                999L, new DailyProductionRequest.ProcessQuantity(990, 10))));
+
+                // when & then
+                mvc.perform(post("/api/daily-productions/with-quality-records")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(duplicate)
+                                .header("Authorization", "Bearer " + userToken))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.msg", containsString("이미 존재하는 일별 생산 데이터")));
+                mvc.perform(post("/api/daily-productions/with-quality-records")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(unknownProcess)
+                                .header("Authorization", "Bearer " + userToken))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.msg", containsString("공정을 찾을 수 없습니다: 999")));
+                assertTrue(dailyProductionRepository
+                                .findIdByKey(testItem.getId(), date.plusDays(1)).isEmpty());
+        }
+
+        @Test
+        void upsert_create_test() throws Exception {
+                // given
+                LocalDate date = LocalDate.of(2025, 2, 1);
+                DailyProductionRequest.Upsert request = new DailyProductionRequest.Upsert(
+                                testItem.getId(),
+                                date,
+                                1200);
+                String requestBody = om.writeValueAsString(request);
+
+                // when
+                ResultActions result = mvc.perform(
+                                put("/api/daily-productions/by-key")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(requestBody)
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then
+                result.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.status").value(200))
+                                .andExpect(jsonPath("$.body.id").exists())
+                                .andExpect(jsonPath("$.body.itemId").value(testItem.getId().intValue()))
+                                .andExpect(jsonPath("$.body.productionDate").value("2025-02-01"))
+                                .andExpect(jsonPath("$.body.totalQuantity").value(1200))
+                                .andExpect(jsonPath("$.body.created").value(true))
+                                .andDo(MockMvcRestDocumentation.document("dailyproduction-upsert",
+                                                requestHeaders(
+                                                                headerWithName("Authorization").description(
+                                                                                "JWT 토큰 (Bearer {token})")),
+                                                requestFields(
+                                                                fieldWithPath("itemId").description("부품 ID"),
+                                                                fieldWithPath("productionDate")
+                                                                                .description("생산일 (yyyy-MM-dd)"),
+                                                                fieldWithPath("totalQuantity").description("총 생산 수량")),
+                                                responseFields(
+                                                                fieldWithPath("status").description("HTTP 상태 코드"),
+                                                                fieldWithPath("msg").description("응답 메시지"),
+                                                                fieldWithPath("body.id").description("일별 생산 데이터 ID"),
+                                                                fieldWithPath("body.itemId").description("부품 ID"),
+                                                                fieldWithPath("body.productionDate").description("생산일"),
+                                                                fieldWithPath("body.totalQuantity")
+                                                                                .description("총 생산 수량"),
+                                                                fieldWithPath("body.created").description(
+                                                                                "새로 등록했으면 true, 기존 데이터를 수정했으면 false"))));
+        }
+
+        @Test
+        void upsert_existing_key_test() throws Exception {
+                // given - 같은 (부품, 생산일) 데이터가 이미 존재
+                LocalDate date = LocalDate.of(2025, 2, 1);
+                DailyProduction existing = dailyProductionRepository.saveAndFlush(
+                                new DailyProduction(testItem, date, 1000));
+                String requestBody = om.writeValueAsString(new DailyProductionRequest.Upsert(
+                                testItem.getId(),
+                                date,
+                                1500));
+
+                // when - 같은 요청을 두 번 전송 (재전송)
+                for (int i = 0; i < 2; i++) {
+                        ResultActions result = mvc.perform(
+                                        put("/api/daily-productions/by-key")
+                                                        .contentType(MediaType.APPLICATION_JSON)
+                                                        .content(requestBody)
+                                                        .header("Authorization", "Bearer " + userToken));
+
+                        // then - 중복 오류 없이 기존 데이터를 수정
+                        result.andExpect(status().isOk())
+                                        .andExpect(jsonPath("$.body.id").value(existing.getId().intValue()))
+                                        .andExpect(jsonPath("$.body.totalQuantity").value(1500))
+                                        .andExpect(jsonPath("$.body.created").value(false));
+                }
+                entityManager.clear();
+                assertEquals(1500, dailyProductionRepository
+                                .findIdByKey(testItem.getId(), date)
+                                .flatMap(dailyProductionRepository::findById)
+                                .map(DailyProduction::getTotalQuantity)
+                                .orElseThrow());
+        }
+
+        @Test
+        void upsert_invalid_item_id_test() throws Exception {
+                // given
+                DailyProductionRequest.Upsert request = new DailyProductionRequest.Upsert(
+                                999L,
+                                LocalDate.of(2025, 2, 1),
+                                1000);
+                String requestBody = om.writeValueAsString(request);
+
+                // when
+                ResultActions result = mvc.perform(
+                                put("/api/daily-productions/by-key")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(requestBody)
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then
+                result.andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.status").value(400))
+                                .andExpect(jsonPath("$.msg", containsString("부품을 찾을 수 없습니다")));
+        }
+
+        @Test
+        void import_csv_test() throws Exception {
+                // given - 정상 2건, 없는 부품, 날짜 형식 오류, 파일 내 중복, 기존 데이터 중복(data-dev.sql의 오늘자 ITEM001)
+                String csv = "itemCode,productionDate,totalQuantity\n"
+                                + "ITEM001,2030-01-01,1000\n"
+                                + "ITEM002,2030-01-01,2000\n"
+                                + "NOPE,2030-01-01,100\n"
+                                + "ITEM001,2030/01/02,100\n"
+                                + "ITEM001,2030-01-01,500\n"
+                                + "ITEM001," + LocalDate.now() + ",100\n";
+
+                // when
+                ResultActions result = mvc.perform(
+                                post("/api/daily-productions/import")
+                                                .contentType("text/csv")
+                                                .content(csv)
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then
+                result.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.body.dryRun").value(false))
+                                .andExpect(jsonPath("$.body.totalRows").value(6))
+                                .andExpect(jsonPath("$.body.inserted").value(2))
+                                .andExpect(jsonPath("$.body.invalid").value(2))
+                                .andExpect(jsonPath("$.body.duplicates").value(2))
+                                .andExpect(jsonPath("$.body.errors[0].line").value(4))
+                                .andExpect(jsonPath("$.body.errors[0].message", containsString("부품을 찾을 수 없습니다")))
+                                .andExpect(jsonPath("$.body.errors[1].line").value(5))
+                                .andExpect(jsonPath("$.body.errors[2].line").value(6))
+                                .andExpect(jsonPath("$.body.errors[3].line").value(7))
+                                .andDo(MockMvcRestDocumentation.document("dailyproduction-import",
+                                                requestHeaders(
+                                                                headerWithName("Authorization").description(
+                                                                                "JWT 토큰 (Bearer {token})")),
+                                                queryParameters(
+                                                                parameterWithName("dryRun").optional()
+                                                                                .description("true 이면 검증만 하고 저장하지 않음 (기본값 false)")),
+                                                relaxedResponseFields(
+                                                                fieldWithPath("status").description("HTTP 상태 코드"),
+                                                                fieldWithPath("msg").description("응답 메시지"),
+                                                                fieldWithPath("body.dryRun").description("검증만 수행했는지 여부"),
+                                                                fieldWithPath("body.totalRows").description("데이터 행 수 (헤더, 빈 줄 제외)"),
+                                                                fieldWithPath("body.accepted").description("저장 가능 건수"),
+                                                                fieldWithPath("body.inserted").description("저장 건수"),
+                                                                fieldWithPath("body.invalid").description("형식/부품 코드 오류 건수"),
+                                                                fieldWithPath("body.duplicates").description("중복 건수 (기존 데이터, 파일 내)"),
+                                                                fieldWithPath("body.elapsedMillis").description("전체 소요 시간 (ms)"),
+                                                                fieldWithPath("body.rowsPerSecond").description("초당 처리 행 수"),
+                                                                fieldWithPath("body.stages").description("단계별 소요 시간 (parse, validate, dedupe, insert / ms)"),
+                                                                fieldWithPath("body.errors[].line").description("줄 번호 (헤더 포함, 1부터)"),
+                                                                fieldWithPath("body.errors[].message").description("오류 사유"))));
+
+                Item item2 = itemRepository.findByCode("ITEM002").orElseThrow();
+                assertTrue(dailyProductionRepository
+                                .existsByItemAndProductionDate(testItem, LocalDate.of(2030, 1, 1)));
+                assertTrue(dailyProductionRepository
+                                .existsByItemAndProductionDate(item2, LocalDate.of(2030, 1, 1)));
+        }
+
+        @Test
+        void import_csv_dry_run_test() throws Exception {
+                // given
+                String csv = "ITEM001,2030-02-01,1000\n";
+
+                // when
+                ResultActions result = mvc.perform(
+                                post("/api/daily-productions/import")
+                                                .param("dryRun", "true")
+                                                .contentType("text/csv")
+                                                .content(csv)
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then - 저장 가능 건수만 보고하고 저장하지 않음
+                result.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.body.dryRun").value(true))
+                                .andExpect(jsonPath("$.body.accepted").value(1))
+                                .andExpect(jsonPath("$.body.inserted").value(0));
+                assertFalse(dailyProductionRepository
+                                .existsByItemAndProductionDate(testItem, LocalDate.of(2030, 2, 1)));
+        }
+
+        @Test
+        void import_csv_quoted_fields_test() throws Exception {
+                // given - 큰따옴표 안의 쉼표는 구분자가 아님, 닫히지 않은 따옴표는 오류
+                String csv = "\"ITEM001\",\"2030-03-01\",\"1000\"\n"
+                                + "ITEM002,2030-03-01,\"1,000\"\n"
+                                + "ITEM003,\"2030-03-01,100\n";
+
+                // when
+                ResultActions result = mvc.perform(
+                                post("/api/daily-productions/import")
+                                                .contentType("text/csv")
+                                                .content(csv)
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then - 2번째 줄은 컬럼 수가 아니라 수량 형식 오류로 보고
+                result.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.body.inserted").value(1))
+                                .andExpect(jsonPath("$.body.invalid").value(2))
+                                .andExpect(jsonPath("$.body.errors[0].line").value(2))
+                                .andExpect(jsonPath("$.body.errors[0].message")
+                                                .value("총 생산 수량은 0 이상의 정수여야 합니다: 1,000"))
+                                .andExpect(jsonPath("$.body.errors[1].line").value(3))
+                                .andExpect(jsonPath("$.body.errors[1].message", containsString("큰따옴표가 닫히지 않았습니다")));
+                assertTrue(dailyProductionRepository.existsByItemAndProductionDate(testItem, LocalDate.of(2030, 3, 1)));
+        }
+
+        @Test
+        void import_csv_multiple_chunks_test() throws Exception {
+                // given - 여러 파싱 묶음에 걸친 12,000행, 10,001번째 줄만 오류
+                StringBuilder csv = new StringBuilder("itemCode,productionDate,totalQuantity\n");
+                LocalDate base = LocalDate.of(2040, 1, 1);
+                for (int i = 0; i < 12_000; i++) {
+                        int line = i + 2;
+                        String date = line == 10_001 ? "bad-date" : base.plusDays(i / 5).toString();
+                        csv.append("ITEM00").append(i % 5 + 1).append(',').append(date).append(",100\n");
+                }
+
+                // when
+                ResultActions result = mvc.perform(
+                                post("/api/daily-productions/import")
+                                                .contentType("text/csv")
+                                                .content(csv.toString())
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then - 줄 번호는 파일 기준으로 유지
+                result.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.body.totalRows").value(12_000))
+                                .andExpect(jsonPath("$.body.inserted").value(11_999))
+                                .andExpect(jsonPath("$.body.errors.length()").value(1))
+                                .andExpect(jsonPath("$.body.errors[0].line").value(10_001));
+        }
+
         @Test
         void update_as_user_test() throws Exception {
                 // given
@@ -368,4 +846,60 @@ class DailyProductionControllerTest {
                 // then
                 result.andExpect(status().isForbidden());
         }
+
+        @Test
+        void delete_removes_quality_records_test() throws Exception {
+                // given
+                Process process = processRepository.findByCode("W").orElseThrow();
+                DailyProduction dp = dailyProductionRepository.save(
+                                new DailyProduction(testItem, LocalDate.of(2025, 1, 15), 1000));
+                QualityRecord qr = qualityRecordRepository.saveAndFlush(new QualityRecord(dp, process, 990, 10));
+
+                // when
+                ResultActions result = mvc.perform(
+                                delete("/api/daily-productions/{id}", dp.getId())
+                                                .header("Authorization", "Bearer " + managerToken));
+
+                // then
+                result.andExpect(status().isOk());
+                entityManager.clear();
+                assertTrue(qualityRecordRepository.findById(qr.getId()).isEmpty());
+        }
+
+        @Test
+        void sweep_orphans_in_chunks_test() throws Exception {
+                // given - 부품이 없는 일별 생산 3건(각 품질 기록 1건), 일별 생산이 없는 품질 기록 1건
+                String insertDailyProduction = "INSERT INTO daily_production_tb "
+                                + "(id, item_id, production_date, total_quantity, created_at, updated_at) "
+                                + "VALUES (?, 999999, ?, 100, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+                String insertQualityRecord = "INSERT INTO quality_record_tb "
+                                + "(id, daily_production_id, process_id, process_sequence, ok_quantity, ng_quantity, "
+                                + "total_quantity, ng_rate, evaluation_required, created_at, updated_at) "
+                                + "VALUES (?, ?, 1, 1, 100, 0, 100, 0, FALSE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+                for (int i = 0; i < 3; i++) {
+                        jdbcTemplate.update(insertDailyProduction, 9_000_001L + i, LocalDate.of(2025, 1, 1 + i));
+                        jdbcTemplate.update(insertQualityRecord, 9_100_001L + i, 9_000_001L + i);
+                }
+                jdbcTemplate.update(insertQualityRecord, 9_100_004L, 9_999_999L);
+
+                // 2건 단위로 삭제
+                DailyProductionPurgeService purgeService = new DailyProductionPurgeService(
+                                dailyProductionPurgeRepository, itemRepository, ngRollupRepository,
+                                outlierStatRepository, transactionManager, eventPublisher, 2);
+
+                // when
+                DailyProductionPurgeService.Purge purged = purgeService.sweepOrphans();
+
+                // then
+                assertTrue(purged.dailyProductions() >= 3);
+                assertTrue(purged.qualityRecords() >= 4);
+                assertEquals(0, jdbcTemplate.queryForObject(
+                                "SELECT COUNT(*) FROM daily_production_tb WHERE item_id = 999999", Integer.class));
+                assertEquals(0, jdbcTemplate.queryForObject(
+                                "SELECT COUNT(*) FROM quality_record_tb WHERE id BETWEEN 9100001 AND 9100004",
+                                Integer.class));
+                // 다시 실행하면 정리할 것이 없음
+                assertEquals(new DailyProductionPurgeService.Purge(0, 0),
+                                purgeService.sweepOrphans());
+        }
 }
@@ -0,0 +1,185 @@
+package dev.dote.qtrack.gateway;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 라인 컨트롤러 역할의 루프백 테스트 클라이언트 (블로킹 SocketChannel)
+ * - count 는 출력 버퍼에 쌓기만 하고 flush 로 한 번에 전송 (게이트웨이의 일괄 전송 흉내)
+ * - awaitAck 는 지정 순번 이상의 ACK 까지 읽으며, 그 사이 받은 REJECT 는 rejects 에 모음
+ * - RETRY 를 받으면 잠시 뒤 그 순번부터 ACK 받지 못한 프레임을 재전송 (retries 에 횟수 기록)
+ */
+class GatewayTestClient implements AutoCloseable {
+    private static final long RETRY_DELAY_MILLIS = 20;
+
+    private final SocketChannel channel;
+    private final ByteBuffer input = ByteBuffer.allocate(64 * 1024);
+    private final ByteBuffer output = ByteBuffer.allocate(256 * 1024);
+    // 순번 → 거절 사유
+    final Map<Long, Byte> rejects = new HashMap<>();
+    // 순번 → RETRY 받은 횟수
+    final Map<Long, Integer> retries = new HashMap<>();
+    // ACK 받지 못한 프레임 (순번 순)
+    private final Map<Long, byte[]> unacked = new LinkedHashMap<>();
+    long lastAck = -1;
+
+    GatewayTestClient(int port) throws IOException {
+        channel = SocketChannel.open(new InetSocketAddress("127.0.0.1", port));
+        input.flip();
+    }
+
+    // 인증 후 서버가 알고 있는 마지막 순번 반환
+    long auth(String gatewayId, String key) throws IOException {
+        ByteBuffer challenge = readFrame(GatewayProtocol.CHALLENGE);
+        byte[] nonce = new byte[GatewayProtocol.NONCE_BYTES];
+        challenge.get(nonce);
+
+        byte[] id = gatewayId.getBytes(StandardCharsets.US_ASCII);
+        output.putShort((short) (1 + 1 + id.length + GatewayProtocol.MAC_BYTES))
+                .put(GatewayProtocol.AUTH)
+                .put((byte) id.length)
+                .put(id)
+                .put(mac(key.getBytes(StandardCharsets.UTF_8), nonce));
+        flush();
+        return readFrame(GatewayProtocol.AUTH_OK).getLong();
+    }
+
+    void count(long sequence, long epochDay, int okQuantity, int ngQuantity, String itemCode, String processCode)
+            throws IOException {
+        byte[] item = itemCode.getBytes(StandardCharsets.UTF_8);
+        byte[] process = processCode.getBytes(StandardCharsets.UTF_8);
+        int length = 1 + GatewayProtocol.COUNT_FIXED_BYTES + 1 + item.length + 1 + process.length;
+        ByteBuffer frame = ByteBuffer.allocate(GatewayProtocol.LENGTH_BYTES + length)
+                .putShort((short) length)
+                .put(GatewayProtocol.COUNT)
+                .putLong(sequence)
+                .putInt((int) epochDay)
+                .putInt(okQuantity)
+                .putInt(ngQuantity)
+                .put((byte) item.length)
+                .put(item)
+                .put((byte) process.length)
+                .put(process);
+        unacked.put(sequence, frame.array());
+        send(frame.array());
+    }
+
+    // sequence 이후의 ACK 받지 못한 프레임을 다시 보냄
+    void resendFrom(long sequence) throws IOException {
+        for (Map.Entry<Long, byte[]> entry : unacked.entrySet()) {
+            if (entry.getKey() >= sequence) {
+                send(entry.getValue());
+            }
+        }
+        flush();
+    }
+
+    void flush() throws IOException {
+        output.flip();
+        while (output.hasRemaining()) {
+            channel.write(output);
+        }
+        output.clear();
+    }
+
+    void awaitAck(long sequence) throws IOException, InterruptedException {
+        while (lastAck < sequence) {
+            long retry = readResponse();
+            if (retry > 0) {
+                Thread.sleep(RETRY_DELAY_MILLIS);
+                resendFrom(retry);
+            }
+        }
+    }
+
+    // 지정 순번의 RETRY 를 받을 때까지 읽음 (재전송하지 않음)
+    void awaitRetry(long sequence) throws IOException {
+        while (readResponse() != sequence) {
+            // ACK/REJECT 는 readResponse 에서 반영
+        }
+    }
+
+    // 응답 프레임 하나를 읽어 반영, RETRY 면 그 순번 아니면 0 반환
+    private long readResponse() throws IOException {
+        ByteBuffer frame = readFrame((byte) 0);
+        byte type = frame.get();
+        long sequence = frame.getLong();
+        if (type == GatewayProtocol.REJECT) {
+            rejects.put(sequence, frame.get());
+        } else if (type == GatewayProtocol.RETRY) {
+            retries.merge(sequence, 1, Integer::sum);
+            return sequence;
+        } else if (type == GatewayProtocol.ACK) {
+            lastAck = Math.max(lastAck, sequence);
+            unacked.keySet().removeIf(unackedSequence -> unackedSequence <= lastAck);
+        } else {
+            throw new IllegalStateException("예상하지 못한 프레임: " + type);
+        }
+        return 0;
+    }
+
+    private void send(byte[] frame) throws IOException {
+        if (output.remaining() < frame.length) {
+            flush();
+        }
+        output.put(frame);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // 프레임 하나를 읽어 본문 위치로 반환, expectedType 이 0 이 아니면 종류를 확인하고 건너뜀
+    private ByteBuffer readFrame(byte expectedType) throws IOException {
+        fill(GatewayProtocol.LENGTH_BYTES);
+        int length = input.getShort(input.position()) & 0xFFFF;
+        fill(GatewayProtocol.LENGTH_BYTES + length);
+        input.position(input.position() + GatewayProtocol.LENGTH_BYTES);
+        ByteBuffer frame = input.slice(input.position(), length);
+        input.position(input.position() + length);
+        if (expectedType != 0) {
+            byte type = frame.get();
+            if (type != expectedType) {
+                throw new IllegalStateException("예상하지 못한 프레임: " + type);
+            }
+        }
+        return frame;
+    }
+
+    private void fill(int bytes) throws IOException {
+        if (input.remaining() >= bytes) {
+            return;
+        }
+        // 앞의 프레임은 이미 소비했으므로 남은 바이트를 앞으로 당김
+        byte[] rest = new byte[input.remaining()];
+        input.get(rest);
+        input.clear().put(rest);
+        while (input.position() < bytes) {
+            if (channel.read(input) < 0) {
+                throw new EOFException();
+            }
+        }
+        input.flip();
+    }
+
+    private static byte[] mac(byte[] key, byte[] nonce) {
+        try {
+            Mac mac = Mac.getInstance(GatewayProtocol.MAC_ALGORITHM);
+            mac.init(new SecretKeySpec(key, GatewayProtocol.MAC_ALGORITHM));
+            return mac.doFinal(nonce);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
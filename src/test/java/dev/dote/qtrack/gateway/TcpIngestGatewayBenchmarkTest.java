@@ -0,0 +1,139 @@
+package dev.dote.qtrack.gateway;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.dote.qtrack.dailyproduction.DailyProduction;
+import dev.dote.qtrack.dailyproduction.DailyProductionRepository;
+import dev.dote.qtrack.item.Item;
+import dev.dote.qtrack.item.ItemRepository;
+import dev.dote.qtrack.process.Process;
+import dev.dote.qtrack.process.ProcessRepository;
+import dev.dote.qtrack.qualityrecord.QualityRecord;
+import dev.dote.qtrack.qualityrecord.QualityRecordIngestFlusher;
+import dev.dote.qtrack.qualityrecord.QualityRecordRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * TCP 수집 게이트웨이 처리량 (gradle benchmark 로 실행, 기본 test 에서는 제외)
+ * - 게이트웨이 CONNECTIONS 개가 BATCH 개씩 보내고 ACK 를 기다리는 방식으로 FRAMES 개씩 전송
+ * - 저널 fsync 를 포함한 ACK 까지의 프레임/초를 출력하고, 반영 후 합계가 맞는지 확인
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "gateway.tcp.enabled=true",
+        "gateway.tcp.port=0",
+        "gateway.tcp.keys=LINE-1:secret-1,LINE-2:secret-2,LINE-3:secret-3,LINE-4:secret-4",
+        "qualityrecord.ingest.flush-interval-ms=3600000",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "spring.datasource.url=jdbc:h2:mem:gateway-benchmark"
+})
+@ActiveProfiles("dev")
+class TcpIngestGatewayBenchmarkTest {
+
+    private static final int CONNECTIONS = 4;
+    private static final int FRAMES = 500_000;
+    private static final int BATCH = 2_000;
+    private static final LocalDate PRODUCTION_DATE = LocalDate.of(2031, 1, 1);
+    private static final String[] PROCESS_CODES = { "W", "P", "검" };
+
+    @Autowired
+    private TcpIngestGateway tcpIngestGateway;
+
+    @Autowired
+    private QualityRecordIngestFlusher qualityRecordIngestFlusher;
+
+    @Autowired
+    private QualityRecordRepository qualityRecordRepository;
+
+    @Autowired
+    private DailyProductionRepository dailyProductionRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ProcessRepository processRepository;
+
+    @DynamicPropertySource
+    static void journalDirectory(DynamicPropertyRegistry registry) throws IOException {
+        Path directory = Files.createTempDirectory("gateway-journal-benchmark");
+        registry.add("qualityrecord.ingest.journal.dir", directory::toString);
+    }
+
+    @Test
+    void gateway_throughput_test() throws Exception {
+        Item item = itemRepository.findByCode("ITEM005").orElseThrow();
+        DailyProduction dailyProduction = dailyProductionRepository.save(
+                new DailyProduction(item, PRODUCTION_DATE, 0));
+        List<QualityRecord> records = new ArrayList<>();
+        for (String code : PROCESS_CODES) {
+            Process process = processRepository.findByCode(code).orElseThrow();
+            records.add(qualityRecordRepository.save(new QualityRecord(dailyProduction, process, 0, 0)));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONNECTIONS);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 1; i <= CONNECTIONS; i++) {
+                int line = i;
+                futures.add(executor.submit(() -> {
+                    send(line);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+            long frames = (long) CONNECTIONS * FRAMES;
+            System.out.printf("[benchmark] tcp gateway %d connections x %,d frames (batch %d)%n",
+                    CONNECTIONS, FRAMES, BATCH);
+            System.out.printf("[benchmark]   acked : %6d ms (%,d frames/s)%n",
+                    elapsed, frames * 1000 / Math.max(1, elapsed));
+        } finally {
+            executor.shutdown();
+        }
+
+        qualityRecordIngestFlusher.flush();
+        long okTotal = 0;
+        for (QualityRecord record : records) {
+            okTotal += qualityRecordRepository.findById(record.getId()).orElseThrow().getOkQuantity();
+        }
+        assertEquals((long) CONNECTIONS * FRAMES, okTotal);
+    }
+
+    private void send(int line) throws IOException, InterruptedException {
+        long epochDay = PRODUCTION_DATE.toEpochDay();
+        try (GatewayTestClient client = new GatewayTestClient(tcpIngestGateway.port())) {
+            long sequence = client.auth("LINE-" + line, "secret-" + line);
+            for (int sent = 0; sent < FRAMES; sent += BATCH) {
+                for (int i = 0; i < BATCH; i++) {
+                    client.count(++sequence, epochDay, 1, 0, "ITEM005", PROCESS_CODES[i % PROCESS_CODES.length]);
+                }
+                client.flush();
+                client.awaitAck(sequence);
+            }
+            assertTrue(client.rejects.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package dev.dote.qtrack.gateway;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.dote.qtrack.dailyproduction.DailyProduction;
+import dev.dote.qtrack.dailyproduction.DailyProductionRepository;
+import dev.dote.qtrack.dailyproduction.DailyProductionService;
+import dev.dote.qtrack.item.Item;
+import dev.dote.qtrack.item.ItemRepository;
+import dev.dote.qtrack.process.Process;
+import dev.dote.qtrack.process.ProcessRepository;
+import dev.dote.qtrack.qualityrecord.IngestJournalCheckpointRepository;
+import dev.dote.qtrack.qualityrecord.QualityRecord;
+import dev.dote.qtrack.qualityrecord.QualityRecordIngestBuffer;
+import dev.dote.qtrack.qualityrecord.QualityRecordIngestFlusher;
+import dev.dote.qtrack.qualityrecord.QualityRecordIngestJournal;
+import dev.dote.qtrack.qualityrecord.QualityRecordRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * TCP 수집 게이트웨이 루프백 테스트
+ * - 게이트웨이 스레드가 별도 트랜잭션으로 커밋된 데이터를 읽으므로 테스트 트랜잭션 없이 실행, 테스트마다 다른 생산일 사용
+ * - 예약 반영 주기를 길게 두고 flush() 를 직접 호출
+ */
+@SpringBootTest(properties = {
+        "gateway.tcp.enabled=true",
+        "gateway.tcp.port=0",
+        "gateway.tcp.keys=LINE-1:test-secret,LINE-2:other-secret,LINE-3:third-secret",
+        "qualityrecord.ingest.flush-interval-ms=3600000",
+        "spring.datasource.url=jdbc:h2:mem:gateway-test"
+})
+@ActiveProfiles("dev")
+class TcpIngestGatewayTest {
+
+    @Autowired
+    private TcpIngestGateway tcpIngestGateway;
+
+    @Autowired
+    private QualityRecordIngestFlusher qualityRecordIngestFlusher;
+
+    @Autowired
+    private QualityRecordRepository qualityRecordRepository;
+
+    @Autowired
+    private DailyProductionRepository dailyProductionRepository;
+
+    @Autowired
+    private DailyProductionService dailyProductionService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ProcessRepository processRepository;
+
+    @Autowired
+    private IngestJournalCheckpointRepository ingestJournalCheckpointRepository;
+
+    private Item item;
+    private Process process;
+
+    @DynamicPropertySource
+    static void journalDirectory(DynamicPropertyRegistry registry) throws IOException {
+        Path directory = Files.createTempDirectory("gateway-journal-test");
+        registry.add("qualityrecord.ingest.journal.dir", directory::toString);
+    }
+
+    @BeforeEach
+    void setUp() {
+        item = itemRepository.findByCode("ITEM005")
+                .orElseThrow(() -> new RuntimeException("data-dev.sql의 ITEM005를 찾을 수 없습니다"));
+        process = processRepository.findByCode("W")
+                .orElseThrow(() -> new RuntimeException("data-dev.sql의 'W' 공정을 찾을 수 없습니다"));
+    }
+
+    @Test
+    void count_frames_applied_after_flush_test() throws Exception {
+        // given - NG 비율 0.5%
+        QualityRecord qr = saveQualityRecord(LocalDate.of(2030, 1, 1), 995, 5);
+
+        // when - 같은 키 프레임 3개를 한 번에 전송
+        try (GatewayTestClient client = new GatewayTestClient(tcpIngestGateway.port())) {
+            client.auth("LINE-1", "test-secret");
+            long epochDay = LocalDate.of(2030, 1, 1).toEpochDay();
+            client.count(101, epochDay, 10, 0, "ITEM005", "W");
+            client.count(102, epochDay, 0, 2, "ITEM005", "W");
+            client.count(103, epochDay, 5, 1, "ITEM005", "W");
+            client.flush();
+            client.awaitAck(103);
+
+            // then - ACK 시점에는 버퍼에만 누적
+            assertTrue(client.rejects.isEmpty());
+            assertEquals(5, qualityRecordRepository.findById(qr.getId()).orElseThrow().getNgQuantity());
+        }
+
+        qualityRecordIngestFlusher.flush();
+
+        // then - 1010 OK, 8 NG
+        QualityRecord saved = qualityRecordRepository.findById(qr.getId()).orElseThrow();
+        assertEquals(1010, saved.getOkQuantity());
+        assertEquals(8, saved.getNgQuantity());
+        assertEquals(1018, saved.getTotalQuantity());
+    }
+
+    @Test
+    void duplicate_sequence_acked_but_not_applied_test() throws Exception {
+        // given
+        QualityRecord qr = saveQualityRecord(LocalDate.of(2030, 2, 1), 100, 0);
+        long epochDay = LocalDate.of(2030, 2, 1).toEpochDay();
+        try (GatewayTestClient client = new GatewayTestClient(tcpIngestGateway.port())) {
+            client.auth("LINE-2", "other-secret");
+            client.count(1, epochDay, 7, 0, "ITEM005", "W");
+            client.flush();
+            client.awaitAck(1);
+        }
+
+        // when - 재접속 후 ACK 받은 순번을 다시 전송
+        try (GatewayTestClient client = new GatewayTestClient(tcpIngestGateway.port())) {
+            long lastSequence = client.auth("LINE-2", "other-secret");
+            client.count(1, epochDay, 7, 0, "ITEM005", "W");
+            client.count(2, epochDay, 3, 0, "ITEM005", "W");
+            client.flush();
+            client.awaitAck(2);
+
+            // then - 서버가 마지막 순번을 알려 주고, 중복 순번은 한 번만 반영
+            assertEquals(1, lastSequence);
+        }
+        qualityRecordIngestFlusher.flush();
+        assertEquals(110, qualityRecordRepository.findById(qr.getId()).orElseThrow().getOkQuantity());
+    }
+
+    @Test
+    void unknown_codes_rejected_test() throws Exception {
+        // given
+        saveQualityRecord(LocalDate.of(2030, 3, 1), 100, 0);
+        long epochDay = LocalDate.of(2030, 3, 1).toEpochDay();
+
+        // when
+        try (GatewayTestClient client = new GatewayTestClient(tcpIngestGateway.port())) {
+            long sequence = client.auth("LINE-1", "test-secret");
+            client.count(sequence + 1, epochDay, 1, 0, "NO-SUCH-ITEM", "W");
+            client.count(sequence + 2, epochDay, 1, 0, "ITEM005", "NO-SUCH-PROCESS");
+            client.count(sequence + 3, epochDay, -1, 0, "ITEM005", "W");
+            client.flush();
+            client.awaitAck(sequence + 3);
+
+            // then - 코드를 다시 조회하는 동안은 RETRY, 다시 조회해도 없으면 거절 (ACK 대상에 포함, 재전송하지 않음)
+            assertEquals(3, client.rejects.size());
+            assertEquals(GatewayProtocol.REJECT_UNKNOWN_ITEM, client.rejects.get(sequence + 1));
+            assertEquals(GatewayProtocol.REJECT_UNKNOWN_PROCESS, client.rejects.get(sequence + 2));
+            assertEquals(GatewayProtocol.REJECT_INVALID_QUANTITY, client.rejects.get(sequence + 3));
+            assertTrue(client.retries.containsKey(sequence + 1));
+        }
+    }
+
+    @Test
+    void daily_production_created_after_miss_applied_test() throws Exception {
+        // given - 일별 생산 등록 전
+        LocalDate productionDate = LocalDate.of(2030, 4, 1);
+        long epochDay = productionDate.toEpochDay();
+        try (GatewayTestClient client = new GatewayTestClient(tcpIngestGateway.port())) {
+            long sequence = client.auth("LINE-1", "test-secret");
+            client.count(sequence + 1, epochDay, 4, 1, "ITEM005", "W");
+            client.count(sequence + 2, epochDay, 6, 0, "ITEM005", "W");
+            client.flush();
+            client.awaitRetry(sequence + 1);
+
+            // 조회가 끝난 뒤 재전송해도 없음을 캐시하지 않고 다시 RETRY
+            Thread.sleep(200);
+            client.resendFrom(sequence + 1);
+            client.awaitRetry(sequence + 1);
+
+            // when - 일별 생산/품질 기록 등록 후 재전송
+            QualityRecord qr = saveQualityRecord(productionDate, 100, 0);
+            client.resendFrom(sequence + 1);
+            client.awaitAck(sequence + 2);
+
+            // then - 거절 없이 두 프레임 모두 반영
+            assertTrue(client.rejects.isEmpty());
+            qualityRecordIngestFlusher.flush();
+            QualityRecord saved = qualityRecordRepository.findById(qr.getId()).orElseThrow();
+            assertEquals(110, saved.getOkQuantity());
+            assertEquals(1, saved.getNgQuantity());
+        }
+    }
+
+    @Test
+    void daily_production_recreated_evicts_cached_id_test() throws Exception {
+        // given - 프레임 반영으로 일별 생산 ID 가 캐시됨
+        LocalDate productionDate = LocalDate.of(2030, 6, 1);
+        long epochDay = productionDate.toEpochDay();
+        QualityRecord previous = saveQualityRecord(productionDate, 100, 0);
+        Long recreatedId;
+        try (GatewayTestClient client = new GatewayTestClient(tcpIngestGateway.port())) {
+            long sequence = client.auth("LINE-3", "third-secret");
+            client.count(sequence + 1, epochDay, 5, 0, "ITEM005", "W");
+            client.flush();
+            client.awaitAck(sequence + 1);
+            qualityRecordIngestFlusher.flush();
+
+            // when - 일별 생산을 삭제하고 다시 등록한 뒤 전송
+            dailyProductionService.delete(previous.getDailyProduction().getId());
+            recreatedId = dailyProductionService.create(item.getId(), productionDate, 100).id();
+            client.count(sequence + 2, epochDay, 7, 1, "ITEM005", "W");
+            client.flush();
+            client.awaitAck(sequence + 2);
+        }
+        qualityRecordIngestFlusher.flush();
+
+        // then - 지난 ID 로 ACK 한 뒤 버려지지 않고 다시 등록한 일별 생산에 반영
+        DailyProduction recreated = dailyProductionRepository.findById(recreatedId).orElseThrow();
+        QualityRecord saved = qualityRecordRepository.findByDailyProductionAndProcess(recreated, process)
+                .orElseThrow();
+        assertEquals(7, saved.getOkQuantity());
+        assertEquals(1, saved.getNgQuantity());
+    }
+
+    @Test
+    void resend_after_crash_before_ack_not_applied_twice_test() throws Exception {
+        // given - 저널 기록(fsync)까지 마쳤지만 ACK 가 게이트웨이에 닿기 전에 서버가 죽음 (버퍼는 반영 전에 사라짐)
+        QualityRecord qr = saveQualityRecord(LocalDate.of(2030, 5, 1), 100, 0);
+        long epochDay = LocalDate.of(2030, 5, 1).toEpochDay();
+        Path directory = Files.createTempDirectory("gateway-crash-test");
+        QualityRecordIngestJournal crashedJournal = new QualityRecordIngestJournal(new QualityRecordIngestBuffer(),
+                ingestJournalCheckpointRepository, directory.toString(), 4096);
+        TcpIngestGateway crashed = newGateway(crashedJournal);
+        crashed.start();
+        try (GatewayTestClient client = new GatewayTestClient(crashed.port())) {
+            client.auth("LINE-1", "test-secret");
+            client.count(1, epochDay, 10, 0, "ITEM005", "W");
+            client.count(2, epochDay, 0, 2, "ITEM005", "W");
+            client.flush();
+            client.awaitAck(2);
+        } finally {
+            crashed.stop();
+            crashedJournal.close();
+        }
+
+        // when - 재기동 후 저널을 재생하고, ACK 를 못 받은 게이트웨이가 같은 순번부터 재전송
+        QualityRecordIngestBuffer buffer = new QualityRecordIngestBuffer();
+        QualityRecordIngestJournal journal = new QualityRecordIngestJournal(buffer,
+                ingestJournalCheckpointRepository, directory.toString(), 4096);
+        journal.recover();
+        TcpIngestGateway restarted = newGateway(journal);
+        restarted.start();
+        long lastSequence;
+        try (GatewayTestClient client = new GatewayTestClient(restarted.port())) {
+            lastSequence = client.auth("LINE-1", "test-secret");
+            client.count(1, epochDay, 10, 0, "ITEM005", "W");
+            client.count(2, epochDay, 0, 2, "ITEM005", "W");
+            client.count(3, epochDay, 5, 0, "ITEM005", "W");
+            client.flush();
+            client.awaitAck(3);
+        } finally {
+            restarted.stop();
+            journal.close();
+        }
+
+        // then - 저널에서 복원한 순번을 알려 주고, 재전송분은 재생된 변화량에 한 번만 포함
+        assertEquals(2, lastSequence);
+        QualityRecordIngestBuffer.Delta delta = buffer.drain(0).deltas().get(
+                new QualityRecordIngestBuffer.Key(qr.getDailyProduction().getId(), process.getId()));
+        assertEquals(15, delta.okQuantity());
+        assertEquals(2, delta.ngQuantity());
+    }
+
+    @Test
+    void wrong_key_closes_connection_test() throws Exception {
+        // when
+        try (GatewayTestClient client = new GatewayTestClient(tcpIngestGateway.port())) {
+            // then
+            assertThrows(IOException.class, () -> client.auth("LINE-1", "wrong-secret"));
+        }
+        try (GatewayTestClient client = new GatewayTestClient(tcpIngestGateway.port())) {
+            assertThrows(IOException.class, () -> client.auth("UNKNOWN", "test-secret"));
+        }
+    }
+
+    // 같은 저널 디렉터리로 재기동하는 서버 흉내
+    private TcpIngestGateway newGateway(QualityRecordIngestJournal journal) {
+        return new TcpIngestGateway(true, 0, "LINE-1:test-secret", 4, 65536, 60000, journal,
+                itemRepository, processRepository, dailyProductionRepository, new SimpleMeterRegistry());
+    }
+
+    private QualityRecord saveQualityRecord(LocalDate productionDate, int okQuantity, int ngQuantity) {
+        DailyProduction dailyProduction = dailyProductionRepository.save(
+                new DailyProduction(item, productionDate, okQuantity + ngQuantity));
+        return qualityRecordRepository.save(new QualityRecord(dailyProduction, process, okQuantity, ngQuantity));
+    }
+}
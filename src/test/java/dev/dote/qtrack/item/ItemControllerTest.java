@@ -10,6 +10,8 @@ import static org.springframework.restdocs.headers.HeaderDocumentation.requestHe
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +29,11 @@ import static org.springframework.security.test.web.servlet.setup.SecurityMockMv
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.dote.qtrack._core.security.JwtUtil;
+import dev.dote.qtrack.dailyproduction.DailyProduction;
+import dev.dote.qtrack.dailyproduction.DailyProductionRepository;
+import dev.dote.qtrack.qualityrecord.QualityRecordRepository;
+import dev.dote.qtrack.rollup.NgRollupRepository;
+import jakarta.persistence.EntityManager;
 import dev.dote.qtrack.user.Role;
 import dev.dote.qtrack.user.User;
 import dev.dote.qtrack.user.UserRepository;
@@ -55,6 +62,18 @@ class ItemControllerTest {
         @Autowired
         private UserRepository userRepository;
 
+        @Autowired
+        private DailyProductionRepository dailyProductionRepository;
+
+        @Autowired
+        private QualityRecordRepository qualityRecordRepository;
+
+        @Autowired
+        private NgRollupRepository ngRollupRepository;
+
+        @Autowired
+        private EntityManager entityManager;
+
         @Autowired
         private PasswordEncoder passwordEncoder;
 
@@ -343,6 +362,35 @@ class ItemControllerTest {
                                                                 fieldWithPath("body.id").description("삭제된 부품 ID"))));
         }
 
+        @Test
+        void delete_cascades_daily_productions_test() throws Exception {
+                // given - data-dev.sql의 ITEM001 은 일별 생산, 품질 기록, NG 집계가 있음
+                Item item = itemRepository.findByCode("ITEM001")
+                                .orElseThrow(() -> new RuntimeException("data-dev.sql의 ITEM001를 찾을 수 없습니다"));
+                Long itemId = item.getId();
+                List<Long> dailyProductionIds = dailyProductionRepository.findAll().stream()
+                                .filter(dp -> dp.getItem().getId().equals(itemId))
+                                .map(DailyProduction::getId)
+                                .toList();
+                org.junit.jupiter.api.Assertions.assertFalse(dailyProductionIds.isEmpty());
+
+                // when
+                ResultActions result = mvc.perform(
+                                delete("/api/items/{id}", itemId)
+                                                .header("Authorization", "Bearer " + adminToken));
+
+                // then - 소속 데이터와 파생 집계까지 삭제
+                result.andExpect(status().isOk());
+                entityManager.clear();
+                org.junit.jupiter.api.Assertions.assertTrue(itemRepository.findById(itemId).isEmpty());
+                org.junit.jupiter.api.Assertions.assertTrue(
+                                dailyProductionRepository.findAllById(dailyProductionIds).isEmpty());
+                org.junit.jupiter.api.Assertions.assertTrue(qualityRecordRepository.findAll().stream()
+                                .noneMatch(qr -> dailyProductionIds.contains(qr.getDailyProduction().getId())));
+                org.junit.jupiter.api.Assertions.assertTrue(ngRollupRepository.findAll().stream()
+                                .noneMatch(rollup -> rollup.getItem().getId().equals(itemId)));
+        }
+
         @Test
         void delete_as_manager_forbidden_test() throws Exception {
                 // given - data-dev.sql의 ITEM001 사용
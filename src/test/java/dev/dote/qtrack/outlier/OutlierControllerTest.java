@@ -0,0 +1,203 @@
+package dev.dote.qtrack.outlier;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import dev.dote.qtrack._core.security.JwtUtil;
+import dev.dote.qtrack.dailyproduction.DailyProduction;
+import dev.dote.qtrack.dailyproduction.DailyProductionRepository;
+import dev.dote.qtrack.item.Item;
+import dev.dote.qtrack.item.ItemRepository;
+import dev.dote.qtrack.process.Process;
+import dev.dote.qtrack.process.ProcessRepository;
+import dev.dote.qtrack.user.User;
+import dev.dote.qtrack.user.UserRepository;
+import org.springframework.restdocs.mockmvc.MockMvcRestDocumentation;
+import org.springframework.restdocs.operation.preprocess.Preprocessors;
+import org.springframework.restdocs.RestDocumentationContextProvider;
+import org.springframework.restdocs.RestDocumentationExtension;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.LocalDate;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+@Transactional
+@ExtendWith(RestDocumentationExtension.class)
+class OutlierControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mvc;
+
+    @Autowired
+    private DailyProductionRepository dailyProductionRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ProcessRepository processRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String userToken;
+    private Item testItem;
+    private Process testProcess;
+
+    @BeforeEach
+    void setUp(RestDocumentationContextProvider restDocumentation) {
+        mvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .apply(MockMvcRestDocumentation.documentationConfiguration(restDocumentation)
+                        .operationPreprocessors()
+                        .withRequestDefaults(Preprocessors.prettyPrint())
+                        .withResponseDefaults(Preprocessors.prettyPrint())
+                        .and())
+                .build();
+
+        // data-dev.sql의 사용자 조회 및 토큰 생성
+        User user = userRepository.findByUsername("testuser")
+                .orElseThrow(() -> new RuntimeException("data-dev.sql의 testuser를 찾을 수 없습니다"));
+        userToken = jwtUtil.generateToken(user.getId(), user.getRole());
+
+        // 시드 데이터와 섞이지 않도록 별도 부품 사용
+        testItem = itemRepository.save(new Item("OUTLIER001", "이상치 테스트 부품", "이상치 탐지 테스트용", "테스트"));
+        testProcess = processRepository.findByCode("W")
+                .orElseThrow(() -> new RuntimeException("data-dev.sql의 'W' 공정을 찾을 수 없습니다"));
+    }
+
+    // 품질 기록 생성 API를 통해 저장해 누적 통계 갱신 경로를 거치도록 함
+    private Long createRecord(LocalDate productionDate, int okQuantity, int ngQuantity) throws Exception {
+        DailyProduction dp = dailyProductionRepository.save(
+                new DailyProduction(testItem, productionDate, okQuantity + ngQuantity));
+        String requestBody = """
+                {"dailyProductionId": %d, "processId": %d, "okQuantity": %d, "ngQuantity": %d}
+                """.formatted(dp.getId(), testProcess.getId(), okQuantity, ngQuantity);
+        String response = mvc.perform(
+                post("/api/quality-records")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return Long.valueOf(response.replaceAll("(?s).*\"body\"\\s*:\\s*\\{\\s*\"id\"\\s*:\\s*(\\d+).*", "$1"));
+    }
+
+    // NG 1% 기록 10건 + 마지막 날 NG 20% 기록 1건
+    private Long createHistoryWithSpike() throws Exception {
+        for (int day = 1; day <= 10; day++) {
+            createRecord(LocalDate.of(2025, 3, day), 990, 10);
+        }
+        return createRecord(LocalDate.of(2025, 3, 11), 800, 200);
+    }
+
+    @Test
+    void findOutliers_test() throws Exception {
+        // given
+        Long spikeId = createHistoryWithSpike();
+
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/statistics/outliers")
+                        .param("k", "2")
+                        .param("itemId", testItem.getId().toString())
+                        .param("processId", testProcess.getId().toString())
+                        .param("startDate", "2025-03-01")
+                        .param("endDate", "2025-03-31")
+                        .header("Authorization", "Bearer " + userToken));
+
+        // then - 평균 ± 2σ 를 벗어나는 NG 20% 기록만 탐지
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(200))
+                .andExpect(jsonPath("$.body.length()").value(1))
+                .andExpect(jsonPath("$.body[0].qualityRecordId").value(spikeId))
+                .andExpect(jsonPath("$.body[0].productionDate").value("2025-03-11"))
+                .andExpect(jsonPath("$.body[0].ngRate").value(20.0))
+                .andDo(MockMvcRestDocumentation.document("statistics-outliers",
+                        requestHeaders(
+                                headerWithName("Authorization").description("JWT 토큰 (Bearer {token})")),
+                        queryParameters(
+                                parameterWithName("k").optional().description("표준편차 배수 (기본값 2)"),
+                                parameterWithName("itemId").optional().description("부품 ID (선택 사항)"),
+                                parameterWithName("processId").optional().description("공정 ID (선택 사항)"),
+                                parameterWithName("startDate").optional().description("시작일 (yyyy-MM-dd, 선택 사항)"),
+                                parameterWithName("endDate").optional().description("종료일 (yyyy-MM-dd, 선택 사항)")),
+                        responseFields(
+                                fieldWithPath("status").description("HTTP 상태 코드"),
+                                fieldWithPath("msg").description("응답 메시지"),
+                                fieldWithPath("body[]").description("이상치 품질 기록 목록"),
+                                fieldWithPath("body[].qualityRecordId").description("품질 기록 ID"),
+                                fieldWithPath("body[].dailyProductionId").description("일별 생산 ID"),
+                                fieldWithPath("body[].itemId").description("부품 ID"),
+                                fieldWithPath("body[].processId").description("공정 ID"),
+                                fieldWithPath("body[].productionDate").description("생산일"),
+                                fieldWithPath("body[].ngRate").description("NG 비율 (%)"),
+                                fieldWithPath("body[].mean").description("부품/공정 NG 비율 평균 (%)"),
+                                fieldWithPath("body[].stdDev").description("부품/공정 NG 비율 표준편차 (%p)"),
+                                fieldWithPath("body[].zScore").description("평균 대비 표준편차 배수"))));
+    }
+
+    @Test
+    void findOutliers_after_update_test() throws Exception {
+        // given - 이상치 기록을 정상 수준으로 수정하면 누적 통계에서 교체됨
+        Long spikeId = createHistoryWithSpike();
+        mvc.perform(
+                put("/api/quality-records/" + spikeId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"okQuantity\": 989, \"ngQuantity\": 11}")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk());
+
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/statistics/outliers")
+                        .param("itemId", testItem.getId().toString())
+                        .header("Authorization", "Bearer " + userToken));
+
+        // then - 1.1%는 평균(≈1.01%) ± 2σ(≈0.06%p) 밖이므로 해당 기록이 이상치로 남음
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.body.length()").value(1))
+                .andExpect(jsonPath("$.body[0].qualityRecordId").value(spikeId))
+                .andExpect(jsonPath("$.body[0].ngRate").value(1.1))
+                .andExpect(jsonPath("$.body[0].mean").value(1.0091));
+    }
+
+    @Test
+    void findOutliers_invalid_k_test() throws Exception {
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/statistics/outliers")
+                        .param("k", "0")
+                        .header("Authorization", "Bearer " + userToken));
+
+        // then
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.msg", containsString("k 는 0보다 커야 합니다")));
+    }
+}
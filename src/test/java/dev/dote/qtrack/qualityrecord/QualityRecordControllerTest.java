@@ -1,8 +1,17 @@
 package dev.dote.qtrack.qualityrecord;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.relaxedResponseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
@@ -20,8 +29,10 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
@@ -30,13 +41,20 @@ import static org.springframework.security.test.web.servlet.setup.SecurityMockMv
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jayway.jsonpath.JsonPath;
+import dev.dote.qtrack._core.errors.ex.Exception429;
 import dev.dote.qtrack._core.security.JwtUtil;
+import dev.dote.qtrack._core.util.NgRateUtil;
 import dev.dote.qtrack.dailyproduction.DailyProduction;
 import dev.dote.qtrack.dailyproduction.DailyProductionRepository;
+import dev.dote.qtrack.dailyproduction.DailyProductionService;
 import dev.dote.qtrack.item.Item;
 import dev.dote.qtrack.item.ItemRepository;
 import dev.dote.qtrack.process.Process;
 import dev.dote.qtrack.process.ProcessRepository;
+import dev.dote.qtrack.rollup.NgRollup;
+import dev.dote.qtrack.rollup.NgRollupRepository;
+import dev.dote.qtrack.rollup.RollupGranularity;
 import dev.dote.qtrack.systemcode.SystemCode;
 import dev.dote.qtrack.systemcode.SystemCodeRepository;
 import dev.dote.qtrack.user.Role;
@@ -48,7 +66,22 @@ import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
 
 @SpringBootTest
 @ActiveProfiles("dev")
@@ -89,6 +122,24 @@ class QualityRecordControllerTest {
         @Autowired
         private JwtUtil jwtUtil;
 
+        @Autowired
+        private QualityRecordExportLimiter qualityRecordExportLimiter;
+
+        @Autowired
+        private EntityManager entityManager;
+
+        @Autowired
+        private NextDayReevaluator nextDayReevaluator;
+
+        @Autowired
+        private NgRollupRepository ngRollupRepository;
+
+        @Autowired
+        private QualityRecordService qualityRecordService;
+
+        @Autowired
+        private DailyProductionService dailyProductionService;
+
         private String userToken;
         private String managerToken;
         private Item testItem;
@@ -181,6 +232,246 @@ class QualityRecordControllerTest {
                                                                 fieldWithPath("body.last").description("마지막 페이지 여부"))));
         }
 
+        @Test
+        void findAll_statement_count_test() throws Exception {
+                // given - 영속성 컨텍스트를 비워 지연 로딩이 발생하면 추가 SELECT로 드러나도록 함
+                entityManager.flush();
+                entityManager.clear();
+                AtomicInteger statementCount = new AtomicInteger();
+                entityManager.unwrap(Session.class).addEventListeners(new SessionEventListener() {
+                        @Override
+                        public void jdbcPrepareStatementStart() {
+                                statementCount.incrementAndGet();
+                        }
+                });
+
+                // when - data-dev.sql의 품질 기록(54건)보다 작은 페이지 크기로 조회
+                ResultActions result = mvc.perform(
+                                get("/api/quality-records")
+                                                .param("size", "20")
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then - 목록 SELECT 1회 + COUNT 1회
+                result.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.body.content.length()").value(20))
+                                .andExpect(jsonPath("$.body.content[0].productionDate").exists());
+                assertEquals(2, statementCount.get());
+        }
+
+        @Test
+        void scroll_test() throws Exception {
+                // given - data-dev.sql의 QualityRecord 데이터 사용
+
+                // when
+                ResultActions result = mvc.perform(
+                                get("/api/quality-records/scroll")
+                                                .param("size", "5")
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then
+                result.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.status").value(200))
+                                .andExpect(jsonPath("$.body.content.length()").value(5))
+                                .andExpect(jsonPath("$.body.hasNext").value(true))
+                                .andExpect(jsonPath("$.body.nextCursor").isString())
+                                .andExpect(jsonPath("$.body.totalElements").doesNotExist())
+                                .andDo(MockMvcRestDocumentation.document("qualityrecord-scroll",
+                                                requestHeaders(
+                                                                headerWithName("Authorization").description(
+                                                                                "JWT 토큰 (Bearer {token})")),
+                                                queryParameters(
+                                                                parameterWithName("cursor").optional().description(
+                                                                                "이전 응답의 nextCursor (첫 페이지는 생략)"),
+                                                                parameterWithName("size").optional()
+                                                                                .description("페이지 크기 (기본값 20, 최대 100)")),
+                                                relaxedResponseFields(
+                                                                fieldWithPath("status").description("HTTP 상태 코드"),
+                                                                fieldWithPath("msg").description("응답 메시지"),
+                                                                fieldWithPath("body.content[]").description("품질 기록 목록"),
+                                                                fieldWithPath("body.size").description("페이지 크기"),
+                                                                fieldWithPath("body.nextCursor")
+                                                                                .description("다음 페이지 커서 (마지막 페이지면 null)"),
+                                                                fieldWithPath("body.hasNext").description("다음 페이지 존재 여부"))));
+        }
+
+        @Test
+        void scroll_matches_offset_order_test() throws Exception {
+                // given - 오프셋 방식 전체 조회 순서
+                String offsetBody = mvc.perform(
+                                get("/api/quality-records")
+                                                .param("size", "1000")
+                                                .header("Authorization", "Bearer " + userToken))
+                                .andReturn().getResponse().getContentAsString();
+                List<Integer> expected = JsonPath.read(offsetBody, "$.body.content[*].id");
+
+                // when - 커서로 7건씩 끝까지 조회
+                List<Integer> actual = new ArrayList<>();
+                String cursor = null;
+                do {
+                        var request = get("/api/quality-records/scroll")
+                                        .param("size", "7")
+                                        .header("Authorization", "Bearer " + userToken);
+                        if (cursor != null) {
+                                request.param("cursor", cursor);
+                        }
+                        String body = mvc.perform(request).andReturn().getResponse().getContentAsString();
+                        actual.addAll(JsonPath.read(body, "$.body.content[*].id"));
+                        cursor = JsonPath.read(body, "$.body.nextCursor");
+                } while (cursor != null);
+
+                // then - 누락/중복 없이 같은 순서
+                assertEquals(expected, actual);
+        }
+
+        @Test
+        void scroll_invalid_cursor_test() throws Exception {
+                // when
+                ResultActions result = mvc.perform(
+                                get("/api/quality-records/scroll")
+                                                .param("cursor", "not-a-cursor")
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then
+                result.andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.msg", containsString("잘못된 커서입니다")));
+        }
+
+        @Test
+        void export_csv_test() throws Exception {
+                // given - 같은 조건의 목록 조회 건수 (data-dev.sql의 커밋된 데이터)
+                String listBody = mvc.perform(
+                                get("/api/quality-records")
+                                                .param("itemId", testItem.getId().toString())
+                                                .header("Authorization", "Bearer " + userToken))
+                                .andReturn().getResponse().getContentAsString();
+                Integer totalElements = JsonPath.read(listBody, "$.body.totalElements");
+
+                // when - 응답 본문은 비동기로 스트리밍됨
+                MvcResult started = mvc.perform(
+                                get("/api/quality-records/export")
+                                                .param("format", "csv")
+                                                .param("itemId", testItem.getId().toString())
+                                                .header("Authorization", "Bearer " + userToken))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+                ResultActions result = mvc.perform(asyncDispatch(started));
+
+                // then - 헤더 1행 + 데이터 행
+                result.andExpect(status().isOk())
+                                .andExpect(header().string("Content-Type", containsString("text/csv")))
+                                .andExpect(header().string("Content-Disposition",
+                                                containsString("quality-records.csv")))
+                                .andDo(MockMvcRestDocumentation.document("qualityrecord-export",
+                                                requestHeaders(
+                                                                headerWithName("Authorization").description(
+                                                                                "JWT 토큰 (Bearer {token})")),
+                                                queryParameters(
+                                                                parameterWithName("format").optional()
+                                                                                .description("내보내기 형식 (csv, ndjson / 기본값 csv)"),
+                                                                parameterWithName("itemId").optional()
+                                                                                .description("부품 ID"))));
+                String[] lines = started.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+                assertEquals(totalElements + 1, lines.length);
+                assertTrue(lines[0].startsWith("\uFEFFid,dailyProductionId,"));
+        }
+
+        @Test
+        void export_ndjson_gzip_test() throws Exception {
+                // given
+                String listBody = mvc.perform(
+                                get("/api/quality-records")
+                                                .header("Authorization", "Bearer " + userToken))
+                                .andReturn().getResponse().getContentAsString();
+                Integer totalElements = JsonPath.read(listBody, "$.body.totalElements");
+
+                // when
+                MvcResult started = mvc.perform(
+                                get("/api/quality-records/export")
+                                                .param("format", "ndjson")
+                                                .header("Accept-Encoding", "gzip")
+                                                .header("Authorization", "Bearer " + userToken))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+                mvc.perform(asyncDispatch(started))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("Content-Encoding", "gzip"))
+                                .andExpect(header().stringValues("Vary", hasItem("Accept-Encoding")))
+                                .andExpect(header().string("Content-Type", containsString("application/x-ndjson")));
+
+                // then - 압축 해제 후 행마다 JSON 객체 1개
+                byte[] compressed = started.getResponse().getContentAsByteArray();
+                String body;
+                try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+                        body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+                String[] lines = body.split("\n");
+                assertEquals(totalElements.intValue(), lines.length);
+                assertNotNull(JsonPath.read(lines[0], "$.productionDate"));
+        }
+
+        @Test
+        void export_invalid_format_test() throws Exception {
+                // when
+                ResultActions result = mvc.perform(
+                                get("/api/quality-records/export")
+                                                .param("format", "xlsx")
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then
+                result.andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.msg", containsString("지원하지 않는 내보내기 형식입니다")));
+        }
+
+        @Test
+        void export_concurrent_limit_test() throws Exception {
+                // given - 내보내기 허가를 모두 점유
+                int held = 0;
+                try {
+                        while (true) {
+                                qualityRecordExportLimiter.acquire();
+                                held++;
+                        }
+                } catch (Exception429 e) {
+                        // 허가 소진
+                }
+
+                try {
+                        // when
+                        ResultActions result = mvc.perform(
+                                        get("/api/quality-records/export")
+                                                        .header("Authorization", "Bearer " + userToken));
+
+                        // then - 대기하지 않고 429 + Retry-After
+                        result.andExpect(status().isTooManyRequests())
+                                        .andExpect(header().exists("Retry-After"))
+                                        .andExpect(jsonPath("$.msg", containsString("진행 중인 내보내기가 많습니다")));
+                } finally {
+                        for (int i = 0; i < held; i++) {
+                                qualityRecordExportLimiter.release();
+                        }
+                }
+        }
+
+        @Test
+        void findAll_orders_by_process_sequence_test() throws Exception {
+                // given - 코드와 무관하게 순서가 가장 앞선 신규 공정
+                Process firstProcess = processRepository.save(new Process("A", "전처리", "신규 전처리 공정", 0));
+                qualityRecordRepository.save(new QualityRecord(testDailyProduction, testProcess, 900, 100));
+                qualityRecordRepository.save(new QualityRecord(testDailyProduction, firstProcess, 950, 50));
+
+                // when
+                ResultActions result = mvc.perform(
+                                get("/api/quality-records")
+                                                .param("productionDate", "2025-01-15")
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then - 공정 마스터의 순서대로 정렬
+                result.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.body.content.length()").value(2))
+                                .andExpect(jsonPath("$.body.content[0].processId").value(firstProcess.getId()))
+                                .andExpect(jsonPath("$.body.content[1].processId").value(testProcess.getId()));
+        }
+
         @Test
         void findById_test() throws Exception {
                 // given
@@ -308,6 +599,52 @@ class QualityRecordControllerTest {
                                 .andExpect(jsonPath("$.msg", containsString("이미 존재하는 품질 기록")));
         }
 
+        @Test
+        void create_process_not_found_test() throws Exception {
+                // given - 존재하지 않는 공정 ID
+                QualityRecordRequest.Create request = new QualityRecordRequest.Create(
+                                testDailyProduction.getId(),
+                                999999L,
+                                900,
+                                100);
+                String requestBody = om.writeValueAsString(request);
+
+                // when
+                ResultActions result = mvc.perform(
+                                post("/api/quality-records")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(requestBody)
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then
+                result.andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.status").value(400))
+                                .andExpect(jsonPath("$.msg", containsString("공정을 찾을 수 없습니다")));
+        }
+
+        @Test
+        void create_daily_production_not_found_test() throws Exception {
+                // given - 존재하지 않는 일별 생산 ID
+                QualityRecordRequest.Create request = new QualityRecordRequest.Create(
+                                999999L,
+                                testProcess.getId(),
+                                900,
+                                100);
+                String requestBody = om.writeValueAsString(request);
+
+                // when
+                ResultActions result = mvc.perform(
+                                post("/api/quality-records")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(requestBody)
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then
+                result.andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.status").value(400))
+                                .andExpect(jsonPath("$.msg", containsString("일별 생산 데이터를 찾을 수 없습니다")));
+        }
+
         @Test
         void create_ng_rate_exceeds_threshold_test() throws Exception {
                 // given - NG 비율이 0.5%를 초과 (10%)
@@ -332,6 +669,92 @@ class QualityRecordControllerTest {
                                 .andExpect(jsonPath("$.body.evaluationReason", containsString("NG 비율 임계값 초과")));
         }
 
+        @Test
+        void bulk_create_test() throws Exception {
+                // given - 전일(1/15)과 당일(1/16) 일별 생산, 당일 행을 먼저 보내도 전일 NG 비율로 급증 판단
+                DailyProduction nextDay = dailyProductionRepository.save(
+                                new DailyProduction(testItem, LocalDate.of(2025, 1, 16), 1000));
+                Process process2 = processRepository.findByCode("P")
+                                .orElseThrow(() -> new RuntimeException("data-dev.sql의 'P' 공정을 찾을 수 없습니다"));
+                String requestBody = "["
+                                + "{\"dailyProductionId\":" + nextDay.getId() + ",\"processId\":" + testProcess.getId()
+                                + ",\"okQuantity\":990,\"ngQuantity\":10},"
+                                + "{\"dailyProductionId\":" + testDailyProduction.getId() + ",\"processId\":"
+                                + testProcess.getId() + ",\"okQuantity\":995,\"ngQuantity\":5},"
+                                + "{\"dailyProductionId\":" + testDailyProduction.getId() + ",\"processId\":"
+                                + process2.getId() + ",\"okQuantity\":-1,\"ngQuantity\":5},"
+                                + "{\"dailyProductionId\":999999,\"processId\":" + testProcess.getId()
+                                + ",\"okQuantity\":100,\"ngQuantity\":0},"
+                                + "{\"dailyProductionId\":" + testDailyProduction.getId() + ",\"processId\":"
+                                + testProcess.getId() + ",\"okQuantity\":100,\"ngQuantity\":0}"
+                                + "]";
+
+                // when
+                ResultActions result = mvc.perform(
+                                post("/api/quality-records/bulk")
+                                                .header("Authorization", "Bearer " + userToken)
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(requestBody));
+
+                // then - 유효한 2건만 저장, 나머지는 행별 오류
+                result.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.body.total").value(5))
+                                .andExpect(jsonPath("$.body.succeeded").value(2))
+                                .andExpect(jsonPath("$.body.failed").value(3))
+                                .andExpect(jsonPath("$.body.results[0].success").value(true))
+                                .andExpect(jsonPath("$.body.results[0].evaluationRequired").value(true))
+                                .andExpect(jsonPath("$.body.results[0].evaluationReason").value("전일 대비 급증"))
+                                .andExpect(jsonPath("$.body.results[1].success").value(true))
+                                .andExpect(jsonPath("$.body.results[1].evaluationRequired").value(false))
+                                .andExpect(jsonPath("$.body.results[2].message").value("OK 수량은 0 이상이어야 합니다"))
+                                .andExpect(jsonPath("$.body.results[3].message",
+                                                containsString("일별 생산 데이터를 찾을 수 없습니다")))
+                                .andExpect(jsonPath("$.body.results[4].message",
+                                                containsString("이미 존재하는 품질 기록입니다")))
+                                .andDo(MockMvcRestDocumentation.document("qualityrecord-bulk",
+                                                requestHeaders(
+                                                                headerWithName("Authorization").description(
+                                                                                "JWT 토큰 (Bearer {token})")),
+                                                requestFields(
+                                                                fieldWithPath("[].dailyProductionId").description("일별 생산 데이터 ID"),
+                                                                fieldWithPath("[].processId").description("공정 ID"),
+                                                                fieldWithPath("[].okQuantity").description("OK 수량"),
+                                                                fieldWithPath("[].ngQuantity").description("NG 수량")),
+                                                relaxedResponseFields(
+                                                                fieldWithPath("status").description("HTTP 상태 코드"),
+                                                                fieldWithPath("msg").description("응답 메시지"),
+                                                                fieldWithPath("body.total").description("요청 건수"),
+                                                                fieldWithPath("body.succeeded").description("등록 건수"),
+                                                                fieldWithPath("body.failed").description("실패 건수"),
+                                                                fieldWithPath("body.results[].index")
+                                                                                .description("요청 배열 내 순번 (0부터)"),
+                                                                fieldWithPath("body.results[].id")
+                                                                                .description("생성된 품질 기록 ID (실패 시 null)").optional(),
+                                                                fieldWithPath("body.results[].success").description("성공 여부"),
+                                                                fieldWithPath("body.results[].message")
+                                                                                .description("실패 사유").optional())));
+
+                QualityRecord saved = qualityRecordRepository.findByDailyProductionAndProcess(nextDay, testProcess)
+                                .orElseThrow();
+                assertTrue(saved.getEvaluationRequired());
+                assertEquals(1, saved.getProcessSequence());
+                assertEquals(new BigDecimal("1.00"), saved.getNgRate());
+        }
+
+        @Test
+        void bulk_create_malformed_json_test() throws Exception {
+                // when
+                ResultActions result = mvc.perform(
+                                post("/api/quality-records/bulk")
+                                                .header("Authorization", "Bearer " + userToken)
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content("[{\"dailyProductionId\": 1,"));
+
+                // then
+                result.andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.msg", containsString("잘못된 JSON 형식입니다")));
+        }
+
         @Test
         void update_as_user_test() throws Exception {
                 // given
@@ -383,6 +806,303 @@ class QualityRecordControllerTest {
                                                                                 .description("평가 필요 사유"))));
         }
 
+        @Test
+        void upsert_create_test() throws Exception {
+                // given
+                QualityRecordRequest.Upsert request = new QualityRecordRequest.Upsert(
+                                testDailyProduction.getId(),
+                                testProcess.getId(),
+                                900,
+                                100);
+                String requestBody = om.writeValueAsString(request);
+
+                // when
+                ResultActions result = mvc.perform(
+                                put("/api/quality-records/by-key")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(requestBody)
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then
+                result.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.status").value(200))
+                                .andExpect(jsonPath("$.body.id").exists())
+                                .andExpect(jsonPath("$.body.okQuantity").value(900))
+                                .andExpect(jsonPath("$.body.ngQuantity").value(100))
+                                .andExpect(jsonPath("$.body.totalQuantity").value(1000))
+                                .andExpect(jsonPath("$.body.ngRate").value(10.0))
+                                .andExpect(jsonPath("$.body.created").value(true))
+                                .andDo(MockMvcRestDocumentation.document("qualityrecord-upsert",
+                                                requestHeaders(
+                                                                headerWithName("Authorization").description(
+                                                                                "JWT 토큰 (Bearer {token})")),
+                                                requestFields(
+                                                                fieldWithPath("dailyProductionId")
+                                                                                .description("일별 생산 데이터 ID"),
+                                                                fieldWithPath("processId").description("공정 ID"),
+                                                                fieldWithPath("okQuantity").description("OK 수량"),
+                                                                fieldWithPath("ngQuantity").description("NG 수량")),
+                                                responseFields(
+                                                                fieldWithPath("status").description("HTTP 상태 코드"),
+                                                                fieldWithPath("msg").description("응답 메시지"),
+                                                                fieldWithPath("body.id").description("품질 기록 ID"),
+                                                                fieldWithPath("body.dailyProductionId")
+                                                                                .description("일별 생산 데이터 ID"),
+                                                                fieldWithPath("body.processId").description("공정 ID"),
+                                                                fieldWithPath("body.okQuantity").description("OK 수량"),
+                                                                fieldWithPath("body.ngQuantity").description("NG 수량"),
+                                                                fieldWithPath("body.totalQuantity").description("총 수량"),
+                                                                fieldWithPath("body.ngRate")
+                                                                                .description("NG 비율 (%) - 자동 계산"),
+                                                                fieldWithPath("body.evaluationRequired")
+                                                                                .description("평가 필요 여부 - 자동 판단"),
+                                                                fieldWithPath("body.evaluationReason")
+                                                                                .description("평가 필요 사유"),
+                                                                fieldWithPath("body.created").description(
+                                                                                "새로 등록했으면 true, 기존 기록을 수정했으면 false"))));
+        }
+
+        @Test
+        void upsert_existing_key_test() throws Exception {
+                // given - 키 기준으로 먼저 등록
+                String createBody = om.writeValueAsString(new QualityRecordRequest.Upsert(
+                                testDailyProduction.getId(), testProcess.getId(), 900, 100));
+                String created = mvc.perform(
+                                put("/api/quality-records/by-key")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(createBody)
+                                                .header("Authorization", "Bearer " + userToken))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.body.created").value(true))
+                                .andReturn().getResponse().getContentAsString();
+                Integer id = JsonPath.read(created, "$.body.id");
+
+                String updateBody = om.writeValueAsString(new QualityRecordRequest.Upsert(
+                                testDailyProduction.getId(), testProcess.getId(), 995, 5));
+
+                // when - 같은 키로 두 번 전송 (재전송)
+                for (int i = 0; i < 2; i++) {
+                        ResultActions result = mvc.perform(
+                                        put("/api/quality-records/by-key")
+                                                        .contentType(MediaType.APPLICATION_JSON)
+                                                        .content(updateBody)
+                                                        .header("Authorization", "Bearer " + userToken));
+
+                        // then - 중복 오류 없이 같은 기록을 덮어쓰고 재평가
+                        result.andExpect(status().isOk())
+                                        .andExpect(jsonPath("$.body.id").value(id))
+                                        .andExpect(jsonPath("$.body.okQuantity").value(995))
+                                        .andExpect(jsonPath("$.body.ngQuantity").value(5))
+                                        .andExpect(jsonPath("$.body.ngRate").value(0.5))
+                                        .andExpect(jsonPath("$.body.evaluationRequired").value(false))
+                                        .andExpect(jsonPath("$.body.created").value(false));
+                }
+                entityManager.clear();
+                QualityRecord saved = qualityRecordRepository.findById(id.longValue()).orElseThrow();
+                assertEquals(1000, saved.getTotalQuantity());
+
+                // 일별 집계는 잠금 조회로 받은 이전 값과의 차이만 반영 (재전송은 차이 0)
+                NgRollup daily = ngRollupRepository.findPeriods(testItem.getId(), testProcess.getId(),
+                                RollupGranularity.DAY, List.of(testDailyProduction.getProductionDate()))
+                                .getFirst();
+                assertEquals(1L, daily.getRecordCount());
+                assertEquals(995L, daily.getOkQuantity());
+                assertEquals(5L, daily.getNgQuantity());
+        }
+
+        @Test
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        void upsert_concurrent_resend_test() throws Exception {
+                // given - 테스트 트랜잭션 없이 커밋된 일별 생산에 같은 새 키를 여러 단말이 동시에 전송
+                int threads = 4;
+                ExecutorService executor = Executors.newFixedThreadPool(threads);
+                CountDownLatch start = new CountDownLatch(1);
+                try {
+                        List<Future<QualityRecordResponse.Upsert>> futures = new ArrayList<>();
+                        for (int t = 0; t < threads; t++) {
+                                futures.add(executor.submit(() -> {
+                                        start.await();
+                                        return qualityRecordService.upsert(testDailyProduction.getId(),
+                                                        testProcess.getId(), 990, 10);
+                                }));
+                        }
+
+                        // when
+                        start.countDown();
+                        List<QualityRecordResponse.Upsert> responses = new ArrayList<>();
+                        for (Future<QualityRecordResponse.Upsert> future : futures) {
+                                responses.add(future.get());
+                        }
+
+                        // then - 모두 성공, 한 건만 생성, 나머지는 같은 기록을 덮어씀
+                        assertEquals(1, responses.stream().filter(QualityRecordResponse.Upsert::created).count());
+                        assertEquals(1, responses.stream().map(QualityRecordResponse.Upsert::id).distinct().count());
+                        QualityRecord saved = qualityRecordRepository
+                                        .findByDailyProductionAndProcess(testDailyProduction, testProcess)
+                                        .orElseThrow();
+                        assertEquals(1000, saved.getTotalQuantity());
+
+                        NgRollup daily = ngRollupRepository.findPeriods(testItem.getId(), testProcess.getId(),
+                                        RollupGranularity.DAY, List.of(testDailyProduction.getProductionDate()))
+                                        .getFirst();
+                        assertEquals(1L, daily.getRecordCount());
+                        assertEquals(990L, daily.getOkQuantity());
+                        assertEquals(10L, daily.getNgQuantity());
+                } finally {
+                        executor.shutdownNow();
+                        // 커밋된 데이터 정리 (품질 기록, 집계 기여분 포함)
+                        dailyProductionService.delete(testDailyProduction.getId());
+                }
+        }
+
+        @Test
+        void increment_test() throws Exception {
+                // given - NG 비율 0.5% (임계값 1.0% 이하)
+                QualityRecord qr = new QualityRecord(testDailyProduction, testProcess, 995, 5);
+                qualityRecordRepository.save(qr);
+                Long qrId = qr.getId();
+
+                QualityRecordRequest.Increment request = new QualityRecordRequest.Increment(0, 15);
+                String requestBody = om.writeValueAsString(request);
+
+                // when - NG 15 증가 → 20/1015 = 1.97% (임계값 초과 구간으로 이동)
+                ResultActions result = mvc.perform(
+                                post("/api/quality-records/{id}/increment", qrId)
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(requestBody)
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then
+                result.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.status").value(200))
+                                .andExpect(jsonPath("$.body.okQuantity").value(995))
+                                .andExpect(jsonPath("$.body.ngQuantity").value(20))
+                                .andExpect(jsonPath("$.body.totalQuantity").value(1015))
+                                .andExpect(jsonPath("$.body.ngRate").value(1.97))
+                                .andExpect(jsonPath("$.body.evaluationRequired").value(true))
+                                .andExpect(jsonPath("$.body.evaluationReason").value("NG 비율 임계값 초과"))
+                                .andExpect(jsonPath("$.body.reevaluated").value(true))
+                                .andDo(MockMvcRestDocumentation.document("qualityrecord-increment",
+                                                pathParameters(
+                                                                parameterWithName("id").description("품질 기록 ID")),
+                                                requestHeaders(
+                                                                headerWithName("Authorization").description(
+                                                                                "JWT 토큰 (Bearer {token})")),
+                                                requestFields(
+                                                                fieldWithPath("okDelta").description("OK 수량 증감량 (음수 가능)"),
+                                                                fieldWithPath("ngDelta").description("NG 수량 증감량 (음수 가능)")),
+                                                responseFields(
+                                                                fieldWithPath("status").description("HTTP 상태 코드"),
+                                                                fieldWithPath("msg").description("응답 메시지"),
+                                                                fieldWithPath("body.id").description("품질 기록 ID"),
+                                                                fieldWithPath("body.dailyProductionId")
+                                                                                .description("일별 생산 데이터 ID"),
+                                                                fieldWithPath("body.processId").description("공정 ID"),
+                                                                fieldWithPath("body.okQuantity").description("증감 후 OK 수량"),
+                                                                fieldWithPath("body.ngQuantity").description("증감 후 NG 수량"),
+                                                                fieldWithPath("body.totalQuantity").description("증감 후 총 수량"),
+                                                                fieldWithPath("body.ngRate")
+                                                                                .description("NG 비율 (%) - 자동 계산"),
+                                                                fieldWithPath("body.evaluationRequired")
+                                                                                .description("평가 필요 여부"),
+                                                                fieldWithPath("body.evaluationReason")
+                                                                                .description("평가 필요 사유"),
+                                                                fieldWithPath("body.reevaluated")
+                                                                                .description("NG 비율이 판단 구간을 넘나들어 평가 필요 여부를 다시 판단했는지 여부"))));
+
+                entityManager.clear();
+                QualityRecord saved = qualityRecordRepository.findById(qrId).orElseThrow();
+                assertEquals(20, saved.getNgQuantity());
+                assertEquals(1015, saved.getTotalQuantity());
+                assertTrue(saved.getEvaluationRequired());
+        }
+
+        @Test
+        void increment_within_band_skips_evaluation_test() throws Exception {
+                // given - NG 비율 10% (임계값 초과), 평가 필요 상태
+                QualityRecord qr = new QualityRecord(testDailyProduction, testProcess, 900, 100);
+                qr.setEvaluationRequired(true, "NG 비율 임계값 초과");
+                qualityRecordRepository.save(qr);
+
+                QualityRecordRequest.Increment request = new QualityRecordRequest.Increment(31, 0);
+
+                // when - 100/1031 = 9.70% (여전히 임계값 초과 구간)
+                ResultActions result = mvc.perform(
+                                post("/api/quality-records/{id}/increment", qr.getId())
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(om.writeValueAsString(request))
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then
+                result.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.body.totalQuantity").value(1031))
+                                .andExpect(jsonPath("$.body.ngRate").value(9.7))
+                                .andExpect(jsonPath("$.body.evaluationRequired").value(true))
+                                .andExpect(jsonPath("$.body.reevaluated").value(false));
+        }
+
+        @Test
+        void increment_ng_rate_matches_entity_rounding_test() throws Exception {
+                // given - 1/32 = 3.125% (반올림 경계)
+                QualityRecord qr = new QualityRecord(testDailyProduction, testProcess, 31, 0);
+                qualityRecordRepository.save(qr);
+
+                QualityRecordRequest.Increment request = new QualityRecordRequest.Increment(0, 1);
+
+                // when
+                ResultActions result = mvc.perform(
+                                post("/api/quality-records/{id}/increment", qr.getId())
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(om.writeValueAsString(request))
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then - 엔티티 계산(NgRateUtil)과 같은 값
+                result.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.body.ngRate").value(
+                                                NgRateUtil.ngRate(1, 32).doubleValue()));
+        }
+
+        @Test
+        void increment_ng_rate_large_total_matches_entity_rounding_test() throws Exception {
+                // given - 1/200001 = 0.000499...% (나눗셈을 소수점 5자리에서 끊으면 0.01 로 올라가는 경계)
+                QualityRecord qr = new QualityRecord(testDailyProduction, testProcess, 200000, 0);
+                qualityRecordRepository.save(qr);
+
+                QualityRecordRequest.Increment request = new QualityRecordRequest.Increment(0, 1);
+
+                // when
+                ResultActions result = mvc.perform(
+                                post("/api/quality-records/{id}/increment", qr.getId())
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(om.writeValueAsString(request))
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then - 엔티티 계산(NgRateUtil)과 같은 값
+                result.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.body.ngRate").value(
+                                                NgRateUtil.ngRate(1, 200001).doubleValue()));
+        }
+
+        @Test
+        void increment_negative_result_test() throws Exception {
+                // given
+                QualityRecord qr = new QualityRecord(testDailyProduction, testProcess, 900, 10);
+                qualityRecordRepository.save(qr);
+
+                QualityRecordRequest.Increment request = new QualityRecordRequest.Increment(-5, -11);
+
+                // when
+                ResultActions result = mvc.perform(
+                                post("/api/quality-records/{id}/increment", qr.getId())
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(om.writeValueAsString(request))
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then
+                result.andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.msg").value("증감 후 OK 수량과 NG 수량은 0 이상이어야 합니다"));
+        }
+
         @Test
         void delete_as_manager_test() throws Exception {
                 // given
@@ -583,6 +1303,124 @@ class QualityRecordControllerTest {
                                 .andExpect(jsonPath("$.body.evaluationReason", containsString("전일 대비 급증")));
         }
 
+        @Test
+        void next_day_reevaluated_on_late_create_and_update_test() throws Exception {
+                // given - 오늘 NG 비율 1% (임계값 이하, 전일 없음)
+                mvc.perform(
+                                post("/api/quality-records")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(om.writeValueAsString(new QualityRecordRequest.Create(
+                                                                testDailyProduction.getId(), testProcess.getId(), 990, 10)))
+                                                .header("Authorization", "Bearer " + userToken))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.body.evaluationRequired").value(false));
+                Long todayId = qualityRecordRepository.findAll().stream()
+                                .filter(qr -> qr.getDailyProduction().getId().equals(testDailyProduction.getId()))
+                                .findFirst()
+                                .orElseThrow()
+                                .getId();
+
+                // when - 전일 기록을 늦게 등록 (NG 비율 0.4%, 오늘은 전일 대비 2.5배)
+                DailyProduction dpYesterday = dailyProductionRepository.save(
+                                new DailyProduction(testItem, LocalDate.of(2025, 1, 14), 1000));
+                String createBody = mvc.perform(
+                                post("/api/quality-records")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(om.writeValueAsString(new QualityRecordRequest.Create(
+                                                                dpYesterday.getId(), testProcess.getId(), 996, 4)))
+                                                .header("Authorization", "Bearer " + userToken))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+                Long yesterdayId = ((Number) JsonPath.read(createBody, "$.body.id")).longValue();
+                nextDayReevaluator.reevaluatePending();
+                entityManager.clear();
+
+                // then - 오늘 기록이 전일 대비 급증으로 재평가됨
+                QualityRecord today = qualityRecordRepository.findById(todayId).orElseThrow();
+                assertTrue(today.getEvaluationRequired());
+                assertEquals("전일 대비 급증", today.getEvaluationReason());
+
+                // when - 전일 기록을 NG 비율 0.8% 로 정정 (오늘은 전일 대비 1.25배)
+                mvc.perform(
+                                put("/api/quality-records/{id}", yesterdayId)
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(om.writeValueAsString(
+                                                                new QualityRecordRequest.Update(992, 8)))
+                                                .header("Authorization", "Bearer " + userToken))
+                                .andExpect(status().isOk());
+                nextDayReevaluator.reevaluatePending();
+                entityManager.clear();
+
+                // then - 급증 판단 해제
+                today = qualityRecordRepository.findById(todayId).orElseThrow();
+                assertFalse(today.getEvaluationRequired());
+                assertNull(today.getEvaluationReason());
+        }
+
+        @Test
+        void next_day_reevaluated_on_delete_test() throws Exception {
+                // given - 전일 0.4%, 오늘 1% 로 오늘이 급증 판단된 상태
+                DailyProduction dpYesterday = dailyProductionRepository.save(
+                                new DailyProduction(testItem, LocalDate.of(2025, 1, 14), 1000));
+                QualityRecord yesterday = qualityRecordRepository.save(
+                                new QualityRecord(dpYesterday, testProcess, 996, 4));
+                QualityRecord today = new QualityRecord(testDailyProduction, testProcess, 990, 10);
+                today.setEvaluationRequired(true, "전일 대비 급증");
+                qualityRecordRepository.save(today);
+
+                // when - 전일 기록 삭제
+                mvc.perform(
+                                delete("/api/quality-records/{id}", yesterday.getId())
+                                                .header("Authorization", "Bearer " + managerToken))
+                                .andExpect(status().isOk());
+                nextDayReevaluator.reevaluatePending();
+                entityManager.clear();
+
+                // then - 비교 대상이 없어져 급증 판단 해제
+                QualityRecord reevaluated = qualityRecordRepository.findById(today.getId()).orElseThrow();
+                assertFalse(reevaluated.getEvaluationRequired());
+                assertNull(reevaluated.getEvaluationReason());
+        }
+
+        @Test
+        void next_day_reevaluation_coalesces_consecutive_days_test() throws Exception {
+                // given - 연속 10일, NG 비율 0.2% / 0.5% 교대 (평가 값은 모두 미판단 상태로 저장)
+                Item item = itemRepository.findByCode("ITEM005").orElseThrow();
+                LocalDate start = LocalDate.of(2030, 3, 1);
+                List<Long> ids = new ArrayList<>();
+                for (int day = 0; day < 10; day++) {
+                        DailyProduction dp = dailyProductionRepository.save(
+                                        new DailyProduction(item, start.plusDays(day), 1000));
+                        int ng = day % 2 == 0 ? 2 : 5;
+                        ids.add(qualityRecordRepository.save(
+                                        new QualityRecord(dp, testProcess, 1000 - ng, ng)).getId());
+                }
+                entityManager.flush();
+                for (int day = 0; day < 9; day++) {
+                        nextDayReevaluator.changed(item.getId(), testProcess.getId(), start.plusDays(day));
+                        nextDayReevaluator.changed(item.getId(), testProcess.getId(), start.plusDays(day));
+                }
+                AtomicInteger statementCount = new AtomicInteger();
+                entityManager.unwrap(Session.class).addEventListeners(new SessionEventListener() {
+                        @Override
+                        public void jdbcPrepareStatementStart() {
+                                statementCount.incrementAndGet();
+                        }
+                });
+
+                // when
+                nextDayReevaluator.reevaluatePending();
+                entityManager.clear();
+
+                // then - 날짜별 조회 없이 범위 조회 1회, 0.5% 인 날만 전일 대비 급증
+                assertEquals(1, statementCount.get());
+                for (int day = 0; day < 10; day++) {
+                        QualityRecord qr = qualityRecordRepository.findById(ids.get(day)).orElseThrow();
+                        assertEquals(day % 2 == 1, qr.getEvaluationRequired(),
+                                        "day " + day);
+                }
+        }
+
         @Test
         void evaluate_test() throws Exception {
                 // given
@@ -660,6 +1498,97 @@ class QualityRecordControllerTest {
                 assert savedQr.getEvaluatedBy().getUsername().equals("testuser");
         }
 
+        @Test
+        void evaluate_batch_test() throws Exception {
+                // given - JDBC 배치 UPDATE 가 보도록 flush
+                Process process2 = processRepository.findByCode("P").orElseThrow();
+                QualityRecord qr1 = qualityRecordRepository.saveAndFlush(
+                                new QualityRecord(testDailyProduction, testProcess, 900, 100));
+                QualityRecord qr2 = qualityRecordRepository.saveAndFlush(
+                                new QualityRecord(testDailyProduction, process2, 950, 50));
+                Long evaluatorId = userRepository.findByUsername("testuser").orElseThrow().getId();
+
+                QualityRecordRequest.EvaluateBatch request = new QualityRecordRequest.EvaluateBatch(List.of(
+                                new QualityRecordRequest.EvaluateItem(qr1.getId(), "재료 품질 이슈로 판단됨"),
+                                new QualityRecordRequest.EvaluateItem(qr2.getId(), "설비 점검 후 정상"),
+                                new QualityRecordRequest.EvaluateItem(99999L, "없는 기록"),
+                                new QualityRecordRequest.EvaluateItem(qr1.getId(), "중복 항목")));
+                String requestBody = om.writeValueAsString(request);
+
+                // when
+                ResultActions result = mvc.perform(
+                                put("/api/quality-records/evaluate-batch")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(requestBody)
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then
+                result.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.status").value(200))
+                                .andExpect(jsonPath("$.body.total").value(4))
+                                .andExpect(jsonPath("$.body.succeeded").value(2))
+                                .andExpect(jsonPath("$.body.failed").value(2))
+                                .andExpect(jsonPath("$.body.evaluatedBy").value(evaluatorId.intValue()))
+                                .andExpect(jsonPath("$.body.results[0].success").value(true))
+                                .andExpect(jsonPath("$.body.results[1].success").value(true))
+                                .andExpect(jsonPath("$.body.results[2].success").value(false))
+                                .andExpect(jsonPath("$.body.results[2].message",
+                                                containsString("품질 기록을 찾을 수 없습니다")))
+                                .andExpect(jsonPath("$.body.results[3].success").value(false))
+                                .andExpect(jsonPath("$.body.results[3].message",
+                                                containsString("요청에 중복된 품질 기록입니다")))
+                                .andDo(MockMvcRestDocumentation.document("qualityrecord-evaluate-batch",
+                                                requestHeaders(
+                                                                headerWithName("Authorization").description(
+                                                                                "JWT 토큰 (Bearer {token})")),
+                                                requestFields(
+                                                                fieldWithPath("evaluations[].id")
+                                                                                .description("품질 기록 ID"),
+                                                                fieldWithPath("evaluations[].expertEvaluation")
+                                                                                .description("전문가 평가 내용")),
+                                                responseFields(
+                                                                fieldWithPath("status").description("HTTP 상태 코드"),
+                                                                fieldWithPath("msg").description("응답 메시지"),
+                                                                fieldWithPath("body.total").description("요청 항목 수"),
+                                                                fieldWithPath("body.succeeded").description("평가한 항목 수"),
+                                                                fieldWithPath("body.failed").description("실패한 항목 수"),
+                                                                fieldWithPath("body.evaluatedBy")
+                                                                                .description("평가자 ID (User ID)"),
+                                                                fieldWithPath("body.evaluatedAt")
+                                                                                .description("평가 일시 (ISO 8601 형식)"),
+                                                                fieldWithPath("body.results[].index")
+                                                                                .description("요청 배열 내 순번 (0부터)"),
+                                                                fieldWithPath("body.results[].id")
+                                                                                .description("품질 기록 ID"),
+                                                                fieldWithPath("body.results[].success")
+                                                                                .description("평가 성공 여부"),
+                                                                fieldWithPath("body.results[].message")
+                                                                                .description("실패 사유 (성공 시 null)")
+                                                                                .optional())));
+
+                // then - 배치 UPDATE 결과를 DB 에서 다시 조회 (중복 항목은 반영되지 않음)
+                entityManager.clear();
+                QualityRecord saved1 = qualityRecordRepository.findByIdWithJoins(qr1.getId()).orElseThrow();
+                QualityRecord saved2 = qualityRecordRepository.findByIdWithJoins(qr2.getId()).orElseThrow();
+                assertEquals("재료 품질 이슈로 판단됨", saved1.getExpertEvaluation());
+                assertEquals("설비 점검 후 정상", saved2.getExpertEvaluation());
+                assertEquals(evaluatorId, saved1.getEvaluatedBy().getId());
+                assertNotNull(saved2.getEvaluatedAt());
+        }
+
+        @Test
+        void evaluate_batch_empty_test() throws Exception {
+                // when
+                ResultActions result = mvc.perform(
+                                put("/api/quality-records/evaluate-batch")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content("{\"evaluations\": []}")
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then
+                result.andExpect(status().isBadRequest());
+        }
+
         @Test
         void getNgRateByProcess_test() throws Exception {
                 // given - 여러 공정에 대한 품질 기록 생성
@@ -959,4 +1888,57 @@ class QualityRecordControllerTest {
                                 .andExpect(jsonPath("$.body[?(@.processCode == 'W')].totalQuantity").exists())
                                 .andExpect(jsonPath("$.body[?(@.processCode == 'W')].ngRate").exists());
         }
+
+        @Test
+        void getNgRateByItem_reflects_update_and_delete_test() throws Exception {
+                // given - 2025-01-15 품질 기록 생성 후 수정 (NG 100 → 200)
+                QualityRecordRequest.Create createRequest = new QualityRecordRequest.Create(
+                                testDailyProduction.getId(),
+                                testProcess.getId(),
+                                900,
+                                100);
+                String createResponse = mvc.perform(
+                                post("/api/quality-records")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(om.writeValueAsString(createRequest))
+                                                .header("Authorization", "Bearer " + userToken))
+                                .andReturn().getResponse().getContentAsString();
+                Long qrId = om.readTree(createResponse).path("body").path("id").asLong();
+
+                QualityRecordRequest.Update updateRequest = new QualityRecordRequest.Update(800, 200);
+                mvc.perform(
+                                put("/api/quality-records/{id}", qrId)
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(om.writeValueAsString(updateRequest))
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // when - 2025년 1월 전체 (월 집계 구간으로 조회)
+                ResultActions afterUpdate = mvc.perform(
+                                get("/api/quality-records/statistics/by-item")
+                                                .param("startDate", "2025-01-01")
+                                                .param("endDate", "2025-01-31")
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then - 수정된 수량이 집계에 반영됨
+                afterUpdate.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.body.length()").value(1))
+                                .andExpect(jsonPath("$.body[0].itemCode").value("ITEM001"))
+                                .andExpect(jsonPath("$.body[0].totalNgQuantity").value(200))
+                                .andExpect(jsonPath("$.body[0].totalQuantity").value(1000))
+                                .andExpect(jsonPath("$.body[0].ngRate").value(20.0));
+
+                // when - 삭제 후 일 단위 구간으로 조회
+                mvc.perform(
+                                delete("/api/quality-records/{id}", qrId)
+                                                .header("Authorization", "Bearer " + managerToken));
+                ResultActions afterDelete = mvc.perform(
+                                get("/api/quality-records/statistics/by-item")
+                                                .param("startDate", "2025-01-10")
+                                                .param("endDate", "2025-01-20")
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then - 삭제된 기록은 집계에서 제외됨
+                afterDelete.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.body.length()").value(0));
+        }
 }
@@ -0,0 +1,497 @@
+package dev.dote.qtrack.qualityrecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import dev.dote.qtrack._core.security.JwtUtil;
+import dev.dote.qtrack.dailyproduction.DailyProduction;
+import dev.dote.qtrack.dailyproduction.DailyProductionRepository;
+import dev.dote.qtrack.item.Item;
+import dev.dote.qtrack.item.ItemRepository;
+import dev.dote.qtrack.process.Process;
+import dev.dote.qtrack.process.ProcessRepository;
+import dev.dote.qtrack.user.User;
+import dev.dote.qtrack.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.RestDocumentationContextProvider;
+import org.springframework.restdocs.RestDocumentationExtension;
+import org.springframework.restdocs.mockmvc.MockMvcRestDocumentation;
+import org.springframework.restdocs.operation.preprocess.Preprocessors;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// 예약 반영이 테스트 트랜잭션 밖에서 버퍼를 비우지 않도록 주기를 길게 설정하고 flush() 를 직접 호출
+// (설정이 달라 컨텍스트가 따로 뜨므로 더미 데이터가 중복 적재되지 않게 별도 메모리 DB 사용)
+@SpringBootTest(properties = {
+                "qualityrecord.ingest.flush-interval-ms=3600000",
+                "spring.datasource.url=jdbc:h2:mem:ingest-test"
+})
+@ActiveProfiles("dev")
+@Transactional
+@ExtendWith(RestDocumentationExtension.class)
+class QualityRecordIngestControllerTest {
+
+        @Autowired
+        private WebApplicationContext webApplicationContext;
+
+        private MockMvc mvc;
+
+        @Autowired
+        private QualityRecordRepository qualityRecordRepository;
+
+        @Autowired
+        private DailyProductionRepository dailyProductionRepository;
+
+        @Autowired
+        private ProcessRepository processRepository;
+
+        @Autowired
+        private ItemRepository itemRepository;
+
+        @Autowired
+        private UserRepository userRepository;
+
+        @Autowired
+        private JwtUtil jwtUtil;
+
+        @Autowired
+        private EntityManager entityManager;
+
+        @Autowired
+        private QualityRecordIngestFlusher qualityRecordIngestFlusher;
+
+        @Autowired
+        private QualityRecordIngestBuffer qualityRecordIngestBuffer;
+
+        @Autowired
+        private QualityRecordIngestJournal qualityRecordIngestJournal;
+
+        @Autowired
+        private IngestJournalCheckpointRepository ingestJournalCheckpointRepository;
+
+        private String userToken;
+        private String adminToken;
+        private Process testProcess;
+        private DailyProduction testDailyProduction;
+
+        // 컨텍스트마다 빈 저널 디렉터리 사용
+        @DynamicPropertySource
+        static void journalDirectory(DynamicPropertyRegistry registry) throws IOException {
+                Path directory = Files.createTempDirectory("ingest-journal-test");
+                registry.add("qualityrecord.ingest.journal.dir", directory::toString);
+        }
+
+        @BeforeEach
+        void setUp(RestDocumentationContextProvider restDocumentation) {
+                mvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                                .apply(springSecurity())
+                                .apply(MockMvcRestDocumentation.documentationConfiguration(restDocumentation)
+                                                .operationPreprocessors()
+                                                .withRequestDefaults(Preprocessors.prettyPrint())
+                                                .withResponseDefaults(Preprocessors.prettyPrint())
+                                                .and())
+                                .build();
+
+                User user = userRepository.findByUsername("testuser")
+                                .orElseThrow(() -> new RuntimeException("data-dev.sql의 testuser를 찾을 수 없습니다"));
+                User admin = userRepository.findByUsername("testadmin")
+                                .orElseThrow(() -> new RuntimeException("data-dev.sql의 testadmin을 찾을 수 없습니다"));
+                userToken = jwtUtil.generateToken(user.getId(), user.getRole());
+                adminToken = jwtUtil.generateToken(admin.getId(), admin.getRole());
+
+                Item testItem = itemRepository.findByCode("ITEM001")
+                                .orElseThrow(() -> new RuntimeException("data-dev.sql의 ITEM001를 찾을 수 없습니다"));
+                testProcess = processRepository.findByCode("W")
+                                .orElseThrow(() -> new RuntimeException("data-dev.sql의 'W' 공정을 찾을 수 없습니다"));
+
+                testDailyProduction = new DailyProduction(testItem, LocalDate.of(2025, 1, 15), 1000);
+                dailyProductionRepository.save(testDailyProduction);
+        }
+
+        @Test
+        void ingest_and_flush_test() throws Exception {
+                // given - NG 비율 0.5% (평가 불필요)
+                QualityRecord qr = new QualityRecord(testDailyProduction, testProcess, 995, 5);
+                qualityRecordRepository.save(qr);
+
+                String requestBody = """
+                                {"pieces": [
+                                  {"dailyProductionId": %d, "processId": %d, "result": "OK"},
+                                  {"dailyProductionId": %d, "processId": %d, "result": "NG"},
+                                  {"dailyProductionId": %d, "processId": %d, "result": "ng"}
+                                ]}
+                                """.formatted(
+                                testDailyProduction.getId(), testProcess.getId(),
+                                testDailyProduction.getId(), testProcess.getId(),
+                                testDailyProduction.getId(), testProcess.getId());
+                // 앞선 테스트가 남긴 유휴 키도 버퍼 키 수에 포함됨
+                int keysBefore = (int) qualityRecordIngestBuffer.pendingKeys();
+
+                // when
+                ResultActions result = mvc.perform(
+                                post("/api/quality-records/ingest")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(requestBody)
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then - 요청 시점에는 버퍼에만 누적
+                result.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.status").value(200))
+                                .andExpect(jsonPath("$.body.accepted").value(3))
+                                .andExpect(jsonPath("$.body.pendingKeys").value(keysBefore + 1))
+                                .andDo(MockMvcRestDocumentation.document("qualityrecord-ingest",
+                                                requestHeaders(
+                                                                headerWithName("Authorization").description(
+                                                                                "JWT 토큰 (Bearer {token})")),
+                                                requestFields(
+                                                                fieldWithPath("pieces[].dailyProductionId")
+                                                                                .description("일별 생산 데이터 ID"),
+                                                                fieldWithPath("pieces[].processId").description("공정 ID"),
+                                                                fieldWithPath("pieces[].result")
+                                                                                .description("검사 결과 (OK, NG)")),
+                                                responseFields(
+                                                                fieldWithPath("status").description("HTTP 상태 코드"),
+                                                                fieldWithPath("msg").description("응답 메시지"),
+                                                                fieldWithPath("body.accepted")
+                                                                                .description("누적한 검사 결과 수"),
+                                                                fieldWithPath("body.pendingKeys")
+                                                                                .description("반영 대기 중인 (일별 생산, 공정) 수"))));
+
+                entityManager.flush();
+                entityManager.clear();
+                assertEquals(5,
+                                qualityRecordRepository.findById(qr.getId()).orElseThrow().getNgQuantity());
+
+                // when - 주기 반영
+                QualityRecordIngestService.FlushResult flushed = qualityRecordIngestFlusher.flush();
+
+                // then - 7/1003 = 0.70% (여전히 평가 불필요), 키당 한 번 반영
+                assertEquals(1, flushed.updated());
+                entityManager.clear();
+                QualityRecord saved = qualityRecordRepository.findById(qr.getId()).orElseThrow();
+                assertEquals(996, saved.getOkQuantity());
+                assertEquals(7, saved.getNgQuantity());
+                assertEquals(1003, saved.getTotalQuantity());
+                assertEquals(0,
+                                saved.getNgRate().compareTo(new java.math.BigDecimal("0.70")));
+                assertFalse(saved.getEvaluationRequired());
+        }
+
+        @Test
+        void flush_reevaluates_once_per_key_test() throws Exception {
+                // given - NG 비율 0.5%, NG 20건 수집 → 25/1020 = 2.45% (임계값 초과)
+                QualityRecord qr = new QualityRecord(testDailyProduction, testProcess, 995, 5);
+                qualityRecordRepository.save(qr);
+                List<String> pieces = new ArrayList<>();
+                for (int i = 0; i < 20; i++) {
+                        pieces.add("{\"dailyProductionId\": %d, \"processId\": %d, \"result\": \"NG\"}"
+                                        .formatted(testDailyProduction.getId(), testProcess.getId()));
+                }
+                mvc.perform(post("/api/quality-records/ingest")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"pieces\": [" + String.join(",", pieces) + "]}")
+                                .header("Authorization", "Bearer " + userToken))
+                                .andExpect(status().isOk());
+                entityManager.flush();
+
+                // when
+                qualityRecordIngestFlusher.flush();
+
+                // then
+                entityManager.clear();
+                QualityRecord saved = qualityRecordRepository.findById(qr.getId()).orElseThrow();
+                assertEquals(25, saved.getNgQuantity());
+                assertTrue(saved.getEvaluationRequired());
+                assertEquals("NG 비율 임계값 초과", saved.getEvaluationReason());
+        }
+
+        @Test
+        void flush_creates_missing_record_test() throws Exception {
+                // given - 품질 기록이 아직 없는 (일별 생산, 공정)
+                String requestBody = """
+                                {"pieces": [
+                                  {"dailyProductionId": %d, "processId": %d, "result": "OK"},
+                                  {"dailyProductionId": %d, "processId": %d, "result": "OK"}
+                                ]}
+                                """.formatted(
+                                testDailyProduction.getId(), testProcess.getId(),
+                                testDailyProduction.getId(), testProcess.getId());
+                mvc.perform(post("/api/quality-records/ingest")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(requestBody)
+                                .header("Authorization", "Bearer " + userToken))
+                                .andExpect(status().isOk());
+                entityManager.flush();
+
+                // when
+                QualityRecordIngestService.FlushResult flushed = qualityRecordIngestFlusher.flush();
+
+                // then
+                assertEquals(1, flushed.created());
+                assertEquals(0, flushed.dropped());
+                entityManager.clear();
+                QualityRecord created = qualityRecordRepository
+                                .findByDailyProductionAndProcess(testDailyProduction, testProcess)
+                                .orElseThrow();
+                assertEquals(2, created.getOkQuantity());
+                assertEquals(0, created.getNgQuantity());
+        }
+
+        @Test
+        void ingest_unknown_daily_production_test() throws Exception {
+                // given - 존재하지 않는 일별 생산이 섞인 요청
+                String requestBody = """
+                                {"pieces": [
+                                  {"dailyProductionId": %d, "processId": %d, "result": "OK"},
+                                  {"dailyProductionId": 999999, "processId": %d, "result": "OK"}
+                                ]}
+                                """.formatted(
+                                testDailyProduction.getId(), testProcess.getId(),
+                                testProcess.getId());
+
+                // when
+                ResultActions result = mvc.perform(
+                                post("/api/quality-records/ingest")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(requestBody)
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then - 요청 전체를 거부하고 아무것도 누적하지 않음
+                result.andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.msg").value("일별 생산 데이터를 찾을 수 없습니다: 999999"));
+                QualityRecordIngestService.FlushResult flushed = qualityRecordIngestFlusher.flush();
+                assertEquals(0, flushed.created());
+                assertEquals(0, flushed.dropped());
+        }
+
+        @Test
+        void ingest_unknown_process_test() throws Exception {
+                // given
+                String requestBody = """
+                                {"pieces": [
+                                  {"dailyProductionId": %d, "processId": 999999, "result": "NG"}
+                                ]}
+                                """.formatted(testDailyProduction.getId());
+
+                // when
+                ResultActions result = mvc.perform(
+                                post("/api/quality-records/ingest")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(requestBody)
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then
+                result.andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.msg").value("공정을 찾을 수 없습니다: 999999"));
+                assertTrue(qualityRecordIngestBuffer.drain(0).isEmpty());
+        }
+
+        @Test
+        void journal_replay_after_crash_test() throws Exception {
+                // given - 응답까지 받은 검사 결과 (저널에 기록됨)
+                QualityRecord qr = new QualityRecord(testDailyProduction, testProcess, 995, 5);
+                qualityRecordRepository.save(qr);
+                String requestBody = """
+                                {"pieces": [
+                                  {"dailyProductionId": %d, "processId": %d, "result": "OK"},
+                                  {"dailyProductionId": %d, "processId": %d, "result": "NG"}
+                                ]}
+                                """.formatted(
+                                testDailyProduction.getId(), testProcess.getId(),
+                                testDailyProduction.getId(), testProcess.getId());
+                mvc.perform(post("/api/quality-records/ingest")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(requestBody)
+                                .header("Authorization", "Bearer " + userToken))
+                                .andExpect(status().isOk());
+
+                // when - 반영 전에 죽어 버퍼가 사라진 뒤 기동 시 재생
+                qualityRecordIngestBuffer.drain(0);
+                int replayed = qualityRecordIngestJournal.recover();
+                qualityRecordIngestFlusher.flush();
+
+                // then - 한 번만 반영되고, 반영 위치 이후로는 재생할 레코드가 없음
+                assertTrue(replayed >= 1);
+                entityManager.clear();
+                QualityRecord saved = qualityRecordRepository.findById(qr.getId()).orElseThrow();
+                assertEquals(996, saved.getOkQuantity());
+                assertEquals(6, saved.getNgQuantity());
+                assertEquals(0, qualityRecordIngestJournal.recover());
+                assertTrue(qualityRecordIngestBuffer.drain(0).isEmpty());
+        }
+
+        @Test
+        void journal_recreated_directory_replays_test() throws Exception {
+                // given - 기존 저널 디렉터리에 여러 레코드를 쓰고 끝 위치까지 반영됨
+                Path directory = Files.createTempDirectory("ingest-journal-recreate");
+                Map<QualityRecordIngestBuffer.Key, QualityRecordIngestBuffer.Delta> deltas = Map.of(
+                                new QualityRecordIngestBuffer.Key(testDailyProduction.getId(), testProcess.getId()),
+                                new QualityRecordIngestBuffer.Delta(1, 0));
+                qualityRecordIngestBuffer.drain(0);
+                QualityRecordIngestJournal previous = new QualityRecordIngestJournal(qualityRecordIngestBuffer,
+                                ingestJournalCheckpointRepository, directory.toString(), 4096);
+                for (int i = 0; i < 5; i++) {
+                        previous.append(deltas);
+                }
+                ingestJournalCheckpointRepository.saveAndFlush(
+                                new IngestJournalCheckpoint(previous.journalId(), previous.drain().journalPosition()));
+                previous.close();
+
+                // when - 디렉터리를 지우고 다시 만든 뒤 응답까지 받은 레코드 하나를 쓰고, 반영 전에 죽음
+                FileSystemUtils.deleteRecursively(directory);
+                QualityRecordIngestJournal recreated = new QualityRecordIngestJournal(qualityRecordIngestBuffer,
+                                ingestJournalCheckpointRepository, directory.toString(), 4096);
+                try {
+                        recreated.append(deltas);
+                        qualityRecordIngestBuffer.drain(0);
+
+                        // then - 예전 디렉터리의 높은 반영 위치에 가려지지 않고 재생됨
+                        assertNotEquals(previous.journalId(), recreated.journalId());
+                        assertEquals(1, recreated.recover());
+                        assertEquals(1, qualityRecordIngestBuffer.drain(0).deltas().values().iterator().next()
+                                        .okQuantity());
+                } finally {
+                        recreated.close();
+                        FileSystemUtils.deleteRecursively(directory);
+                }
+        }
+
+        @Test
+        void ingest_invalid_result_test() throws Exception {
+                // given
+                String requestBody = """
+                                {"pieces": [
+                                  {"dailyProductionId": %d, "processId": %d, "result": "OK"},
+                                  {"dailyProductionId": %d, "processId": %d, "result": "MAYBE"}
+                                ]}
+                                """.formatted(
+                                testDailyProduction.getId(), testProcess.getId(),
+                                testDailyProduction.getId(), testProcess.getId());
+
+                // when
+                ResultActions result = mvc.perform(
+                                post("/api/quality-records/ingest")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(requestBody)
+                                                .header("Authorization", "Bearer " + userToken));
+
+                // then - 요청 전체를 거부하고 아무것도 누적하지 않음
+                result.andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.msg").value("지원하지 않는 검사 결과입니다 (ok, ng): MAYBE"));
+                assertEquals(0, qualityRecordIngestFlusher.flush().updated());
+        }
+
+        @Test
+        void buffer_concurrent_add_and_drain_test() throws Exception {
+                // given - 여러 스레드가 누적하는 동안 반복해서 비움
+                QualityRecordIngestBuffer buffer = new QualityRecordIngestBuffer();
+                int threads = 8;
+                int perThread = 20_000;
+                ExecutorService executor = Executors.newFixedThreadPool(threads);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                        long processId = t % 3;
+                        futures.add(executor.submit(() -> {
+                                for (int i = 0; i < perThread; i++) {
+                                        buffer.add(1L, processId, 1, i % 10 == 0 ? 1 : 0);
+                                }
+                        }));
+                }
+
+                // when
+                long ok = 0;
+                long ng = 0;
+                boolean running = true;
+                while (running) {
+                        running = futures.stream().anyMatch(future -> !future.isDone());
+                        Thread.sleep(1);
+                        for (QualityRecordIngestBuffer.Delta delta : buffer.drain(0).deltas().values()) {
+                                ok += delta.okQuantity();
+                                ng += delta.ngQuantity();
+                        }
+                }
+                for (QualityRecordIngestBuffer.Delta delta : buffer.drain(0).deltas().values()) {
+                        ok += delta.okQuantity();
+                        ng += delta.ngQuantity();
+                }
+                executor.shutdown();
+
+                // then - 유실/중복 없음
+                assertEquals((long) threads * perThread, ok);
+                assertEquals((long) threads * perThread / 10, ng);
+                assertEquals(0, buffer.lagNanos());
+        }
+
+        @Test
+        void buffer_evicts_idle_keys_test() {
+                // given - 한 번 누적 후 비운 키
+                QualityRecordIngestBuffer buffer = new QualityRecordIngestBuffer();
+                buffer.add(1L, 1L, 1, 0);
+                buffer.drain(0);
+                buffer.evictIdle();
+                assertEquals(1, buffer.pendingKeys());
+
+                // when - 변화 없는 drain 12회 후 제거
+                for (int i = 0; i < 12; i++) {
+                        buffer.drain(0);
+                }
+                int evicted = buffer.evictIdle();
+
+                // then - 제거 후 다시 누적하면 새 카운터로 집계
+                assertEquals(1, evicted);
+                assertEquals(0, buffer.pendingKeys());
+                buffer.add(1L, 1L, 2, 1);
+                assertEquals(new QualityRecordIngestBuffer.Delta(2, 1),
+                                buffer.drain(0).deltas().get(new QualityRecordIngestBuffer.Key(1L, 1L)));
+        }
+
+        @Test
+        void flush_lag_metric_admin_only_test() throws Exception {
+                // when
+                ResultActions asUser = mvc.perform(
+                                get("/actuator/metrics/qtrack.ingest.flush.lag")
+                                                .header("Authorization", "Bearer " + userToken));
+                ResultActions asAdmin = mvc.perform(
+                                get("/actuator/metrics/qtrack.ingest.flush.lag")
+                                                .header("Authorization", "Bearer " + adminToken));
+
+                // then
+                asUser.andExpect(status().isForbidden());
+                asAdmin.andExpect(status().isOk())
+                                .andExpect(jsonPath("$.name").value("qtrack.ingest.flush.lag"))
+                                .andExpect(jsonPath("$.baseUnit").value("seconds"));
+        }
+}
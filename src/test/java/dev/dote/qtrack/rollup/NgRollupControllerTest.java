@@ -0,0 +1,149 @@
+package dev.dote.qtrack.rollup;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import dev.dote.qtrack._core.security.JwtUtil;
+import dev.dote.qtrack.qualityrecord.QualityRecordRepository;
+import dev.dote.qtrack.user.User;
+import dev.dote.qtrack.user.UserRepository;
+import org.springframework.restdocs.mockmvc.MockMvcRestDocumentation;
+import org.springframework.restdocs.operation.preprocess.Preprocessors;
+import org.springframework.restdocs.RestDocumentationContextProvider;
+import org.springframework.restdocs.RestDocumentationExtension;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+@Transactional
+@ExtendWith(RestDocumentationExtension.class)
+class NgRollupControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mvc;
+
+    @Autowired
+    private QualityRecordRepository qualityRecordRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NgRollupService ngRollupService;
+
+    @Autowired
+    private NgRollupRepository ngRollupRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String userToken;
+    private String adminToken;
+
+    @BeforeEach
+    void setUp(RestDocumentationContextProvider restDocumentation) {
+        mvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .apply(MockMvcRestDocumentation.documentationConfiguration(restDocumentation)
+                        .operationPreprocessors()
+                        .withRequestDefaults(Preprocessors.prettyPrint())
+                        .withResponseDefaults(Preprocessors.prettyPrint())
+                        .and())
+                .build();
+
+        // data-dev.sql의 사용자 조회 및 토큰 생성
+        User user = userRepository.findByUsername("testuser")
+                .orElseThrow(() -> new RuntimeException("data-dev.sql의 testuser를 찾을 수 없습니다"));
+        User admin = userRepository.findByUsername("testadmin")
+                .orElseThrow(() -> new RuntimeException("data-dev.sql의 testadmin을 찾을 수 없습니다"));
+
+        userToken = jwtUtil.generateToken(user.getId(), user.getRole());
+        adminToken = jwtUtil.generateToken(admin.getId(), admin.getRole());
+    }
+
+    @Test
+    void rebuild_as_admin_test() throws Exception {
+        // given - data-dev.sql의 QualityRecord 데이터 사용
+        long recordCount = qualityRecordRepository.count();
+
+        // when
+        ResultActions result = mvc.perform(
+                post("/api/rollups/rebuild")
+                        .header("Authorization", "Bearer " + adminToken));
+
+        // then - 일별 집계 행은 품질 기록 수와 같고, 월/연 집계 행이 추가됨
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(200))
+                .andExpect(jsonPath("$.body.sourceRecords").value(recordCount))
+                .andExpect(jsonPath("$.body.rollupRows")
+                        .value(org.hamcrest.Matchers.greaterThan((int) recordCount)))
+                .andDo(MockMvcRestDocumentation.document("rollup-rebuild",
+                        requestHeaders(
+                                headerWithName("Authorization").description("JWT 토큰 (Bearer {token}) - ADMIN 권한 필요")),
+                        responseFields(
+                                fieldWithPath("status").description("HTTP 상태 코드"),
+                                fieldWithPath("msg").description("응답 메시지"),
+                                fieldWithPath("body.sourceRecords").description("집계에 반영된 품질 기록 수"),
+                                fieldWithPath("body.rollupRows").description("생성된 일/월/연 집계 행 수"))));
+    }
+
+    @Test
+    void rebuild_as_user_forbidden_test() throws Exception {
+        // when
+        ResultActions result = mvc.perform(
+                post("/api/rollups/rebuild")
+                        .header("Authorization", "Bearer " + userToken));
+
+        // then
+        result.andExpect(status().isForbidden());
+    }
+
+    @Test
+    void apply_upserts_rollup_rows_test() throws Exception {
+        // given - 집계 행이 없는 (부품, 공정, 날짜)
+        LocalDate productionDate = LocalDate.of(2031, 3, 15);
+
+        // when - 첫 반영은 행 생성, 두 번째 반영은 같은 행에 누적
+        ngRollupService.apply(RollupDelta.of(5L, 1L, productionDate, 1, 90, 10));
+        ngRollupService.apply(RollupDelta.of(5L, 1L, productionDate, 1, 45, 5));
+        entityManager.clear();
+
+        // then - 일/월/연 각각 한 행에 합산
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            List<NgRollup> rollups = ngRollupRepository.findPeriods(5L, 1L, granularity,
+                    List.of(granularity.periodStart(productionDate)));
+            assertEquals(1, rollups.size());
+            assertEquals(2L, rollups.get(0).getRecordCount());
+            assertEquals(135L, rollups.get(0).getOkQuantity());
+            assertEquals(15L, rollups.get(0).getNgQuantity());
+            assertEquals(150L, rollups.get(0).getTotalQuantity());
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package dev.dote.qtrack.statistics;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import dev.dote.qtrack._core.security.JwtUtil;
+import dev.dote.qtrack.dailyproduction.DailyProduction;
+import dev.dote.qtrack.dailyproduction.DailyProductionRepository;
+import dev.dote.qtrack.item.Item;
+import dev.dote.qtrack.item.ItemRepository;
+import dev.dote.qtrack.process.Process;
+import dev.dote.qtrack.process.ProcessRepository;
+import dev.dote.qtrack.qualityrecord.QualityRecord;
+import dev.dote.qtrack.qualityrecord.QualityRecordRepository;
+import dev.dote.qtrack.rollup.NgRollupService;
+import dev.dote.qtrack.rollup.RollupDelta;
+import dev.dote.qtrack.user.User;
+import dev.dote.qtrack.user.UserRepository;
+import org.springframework.restdocs.mockmvc.MockMvcRestDocumentation;
+import org.springframework.restdocs.operation.preprocess.Preprocessors;
+import org.springframework.restdocs.RestDocumentationContextProvider;
+import org.springframework.restdocs.RestDocumentationExtension;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.LocalDate;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+@Transactional
+@ExtendWith(RestDocumentationExtension.class)
+class StatisticsControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mvc;
+
+    @Autowired
+    private QualityRecordRepository qualityRecordRepository;
+
+    @Autowired
+    private DailyProductionRepository dailyProductionRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ProcessRepository processRepository;
+
+    @Autowired
+    private NgRollupService ngRollupService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String userToken;
+    private Item testItem;
+    private Process testProcess;
+
+    @BeforeEach
+    void setUp(RestDocumentationContextProvider restDocumentation) {
+        mvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .apply(MockMvcRestDocumentation.documentationConfiguration(restDocumentation)
+                        .operationPreprocessors()
+                        .withRequestDefaults(Preprocessors.prettyPrint())
+                        .withResponseDefaults(Preprocessors.prettyPrint())
+                        .and())
+                .build();
+
+        // data-dev.sql의 사용자 조회 및 토큰 생성
+        User user = userRepository.findByUsername("testuser")
+                .orElseThrow(() -> new RuntimeException("data-dev.sql의 testuser를 찾을 수 없습니다"));
+        userToken = jwtUtil.generateToken(user.getId(), user.getRole());
+
+        // data-dev.sql의 부품, 공정 조회
+        testItem = itemRepository.findByCode("ITEM001")
+                .orElseThrow(() -> new RuntimeException("data-dev.sql의 ITEM001를 찾을 수 없습니다"));
+        testProcess = processRepository.findByCode("W")
+                .orElseThrow(() -> new RuntimeException("data-dev.sql의 'W' 공정을 찾을 수 없습니다"));
+    }
+
+    private void saveRecord(LocalDate productionDate, int okQuantity, int ngQuantity) {
+        DailyProduction dp = new DailyProduction(testItem, productionDate, okQuantity + ngQuantity);
+        dailyProductionRepository.save(dp);
+        qualityRecordRepository.save(new QualityRecord(dp, testProcess, okQuantity, ngQuantity));
+        ngRollupService.apply(RollupDelta.of(testItem.getId(), testProcess.getId(), productionDate, 1,
+                okQuantity, ngQuantity));
+    }
+
+    // 2024-02: NG 0.5% (1000개), 2025-01: NG 1.5% (2000개), 2025-02: NG 3% (1000개)
+    private void saveCompareHistory() {
+        saveRecord(LocalDate.of(2024, 2, 5), 995, 5);
+        saveRecord(LocalDate.of(2025, 1, 10), 990, 10);
+        saveRecord(LocalDate.of(2025, 1, 20), 980, 20);
+        saveRecord(LocalDate.of(2025, 2, 5), 970, 30);
+    }
+
+    @Test
+    void trend_day_test() throws Exception {
+        // given - 2025-01-13, 15, 17 기록 (NG 1% → 2% → 3%), 14, 16일은 데이터 없음
+        saveRecord(LocalDate.of(2025, 1, 13), 990, 10);
+        saveRecord(LocalDate.of(2025, 1, 15), 980, 20);
+        saveRecord(LocalDate.of(2025, 1, 17), 970, 30);
+
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/statistics/trend")
+                        .param("itemId", testItem.getId().toString())
+                        .param("processId", testProcess.getId().toString())
+                        .param("startDate", "2025-01-13")
+                        .param("endDate", "2025-01-17")
+                        .param("period", "day")
+                        .header("Authorization", "Bearer " + userToken));
+
+        // then - 빈 날짜가 채워진 5개 버킷, 기울기 0.5%p/일 증가
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(200))
+                .andExpect(jsonPath("$.body.buckets.length()").value(5))
+                .andExpect(jsonPath("$.body.buckets[0].ngRate").value(1.0))
+                .andExpect(jsonPath("$.body.buckets[1].filled").value(true))
+                .andExpect(jsonPath("$.body.buckets[1].ngRate").isEmpty())
+                .andExpect(jsonPath("$.body.buckets[4].ngRate").value(3.0))
+                .andExpect(jsonPath("$.body.slope").value(0.5))
+                .andExpect(jsonPath("$.body.direction").value("increasing"))
+                .andDo(MockMvcRestDocumentation.document("statistics-trend",
+                        requestHeaders(
+                                headerWithName("Authorization").description("JWT 토큰 (Bearer {token})")),
+                        queryParameters(
+                                parameterWithName("itemId").description("부품 ID"),
+                                parameterWithName("processId").description("공정 ID"),
+                                parameterWithName("startDate").description("시작일 (yyyy-MM-dd)"),
+                                parameterWithName("endDate").description("종료일 (yyyy-MM-dd)"),
+                                parameterWithName("period").optional()
+                                        .description("집계 단위 (day, week, month / 기본값 day)")),
+                        responseFields(
+                                fieldWithPath("status").description("HTTP 상태 코드"),
+                                fieldWithPath("msg").description("응답 메시지"),
+                                fieldWithPath("body.itemId").description("부품 ID"),
+                                fieldWithPath("body.processId").description("공정 ID"),
+                                fieldWithPath("body.period").description("집계 단위"),
+                                fieldWithPath("body.startDate").description("시작일"),
+                                fieldWithPath("body.endDate").description("종료일"),
+                                fieldWithPath("body.buckets[]").description("버킷별 NG 비율 목록"),
+                                fieldWithPath("body.buckets[].bucketStart").description("버킷 시작일"),
+                                fieldWithPath("body.buckets[].ngQuantity").description("NG 수량 합계"),
+                                fieldWithPath("body.buckets[].totalQuantity").description("총 수량 합계"),
+                                fieldWithPath("body.buckets[].ngRate").optional()
+                                        .description("NG 비율 (%) - 데이터가 없으면 null"),
+                                fieldWithPath("body.buckets[].filled").description("데이터 없이 채워진 버킷 여부"),
+                                fieldWithPath("body.slope").description("최소제곱 기울기 (버킷당 %p)"),
+                                fieldWithPath("body.direction")
+                                        .description("추세 방향 (increasing, decreasing, stable)"))));
+    }
+
+    @Test
+    void trend_week_test() throws Exception {
+        // given - 2025-01-06(월) 주: NG 3%, 2025-01-13(월) 주: NG 1% + 1%
+        saveRecord(LocalDate.of(2025, 1, 8), 970, 30);
+        saveRecord(LocalDate.of(2025, 1, 13), 990, 10);
+        saveRecord(LocalDate.of(2025, 1, 14), 990, 10);
+
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/statistics/trend")
+                        .param("itemId", testItem.getId().toString())
+                        .param("processId", testProcess.getId().toString())
+                        .param("startDate", "2025-01-08")
+                        .param("endDate", "2025-01-26")
+                        .param("period", "week")
+                        .header("Authorization", "Bearer " + userToken));
+
+        // then - 3주 버킷, 마지막 주는 빈 버킷, 추세 감소
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.body.buckets.length()").value(3))
+                .andExpect(jsonPath("$.body.buckets[0].bucketStart").value("2025-01-06"))
+                .andExpect(jsonPath("$.body.buckets[1].ngQuantity").value(20))
+                .andExpect(jsonPath("$.body.buckets[1].totalQuantity").value(2000))
+                .andExpect(jsonPath("$.body.buckets[2].filled").value(true))
+                .andExpect(jsonPath("$.body.direction").value("decreasing"));
+    }
+
+    @Test
+    void trend_invalid_range_test() throws Exception {
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/statistics/trend")
+                        .param("itemId", testItem.getId().toString())
+                        .param("processId", testProcess.getId().toString())
+                        .param("startDate", "2025-02-01")
+                        .param("endDate", "2025-01-01")
+                        .header("Authorization", "Bearer " + userToken));
+
+        // then
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.msg", containsString("시작일은 종료일보다 이후일 수 없습니다")));
+    }
+
+    @Test
+    void compare_monthly_test() throws Exception {
+        // given
+        saveCompareHistory();
+
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/statistics/compare-monthly")
+                        .param("itemId", testItem.getId().toString())
+                        .param("processId", testProcess.getId().toString())
+                        .param("month", "2025-02")
+                        .header("Authorization", "Bearer " + userToken));
+
+        // then - NG 비율 1.5% → 3% (+1.5%p, +100%), 생산량 2000 → 1000 (-50%)
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(200))
+                .andExpect(jsonPath("$.body.basis").value("monthly"))
+                .andExpect(jsonPath("$.body.current.period").value("2025-02"))
+                .andExpect(jsonPath("$.body.current.ngRate").value(3.0))
+                .andExpect(jsonPath("$.body.previous.period").value("2025-01"))
+                .andExpect(jsonPath("$.body.previous.ngRate").value(1.5))
+                .andExpect(jsonPath("$.body.ngRateDelta").value(1.5))
+                .andExpect(jsonPath("$.body.ngRateChangeRate").value(100.0))
+                .andExpect(jsonPath("$.body.totalQuantityDelta").value(-1000))
+                .andExpect(jsonPath("$.body.totalQuantityChangeRate").value(-50.0))
+                .andDo(MockMvcRestDocumentation.document("statistics-compare-monthly",
+                        requestHeaders(
+                                headerWithName("Authorization").description("JWT 토큰 (Bearer {token})")),
+                        queryParameters(
+                                parameterWithName("itemId").description("부품 ID"),
+                                parameterWithName("processId").description("공정 ID"),
+                                parameterWithName("month").description("기준 월 (yyyy-MM)")),
+                        responseFields(
+                                fieldWithPath("status").description("HTTP 상태 코드"),
+                                fieldWithPath("msg").description("응답 메시지"),
+                                fieldWithPath("body.itemId").description("부품 ID"),
+                                fieldWithPath("body.itemCode").description("부품 코드"),
+                                fieldWithPath("body.itemName").description("부품명"),
+                                fieldWithPath("body.processId").description("공정 ID"),
+                                fieldWithPath("body.basis").description("비교 기준 (monthly: 전월, yearly: 전년 동월)"),
+                                fieldWithPath("body.current.period").description("기준 월"),
+                                fieldWithPath("body.current.recordCount").description("품질 기록 수"),
+                                fieldWithPath("body.current.ngQuantity").description("NG 수량 합계"),
+                                fieldWithPath("body.current.totalQuantity").description("총 수량 합계"),
+                                fieldWithPath("body.current.ngRate").optional()
+                                        .description("NG 비율 (%) - 기록이 없으면 null"),
+                                fieldWithPath("body.previous.period").description("비교 월"),
+                                fieldWithPath("body.previous.recordCount").description("품질 기록 수"),
+                                fieldWithPath("body.previous.ngQuantity").description("NG 수량 합계"),
+                                fieldWithPath("body.previous.totalQuantity").description("총 수량 합계"),
+                                fieldWithPath("body.previous.ngRate").optional()
+                                        .description("NG 비율 (%) - 기록이 없으면 null"),
+                                fieldWithPath("body.ngRateDelta").optional()
+                                        .description("NG 비율 증감 (%p)"),
+                                fieldWithPath("body.ngRateChangeRate").optional()
+                                        .description("NG 비율 증감률 (%)"),
+                                fieldWithPath("body.totalQuantityDelta").description("생산량 증감"),
+                                fieldWithPath("body.totalQuantityChangeRate").optional()
+                                        .description("생산량 증감률 (%) - 비교 월 생산량이 0이면 null"))));
+    }
+
+    @Test
+    void compare_yearly_test() throws Exception {
+        // given
+        saveCompareHistory();
+
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/statistics/compare-yearly")
+                        .param("itemId", testItem.getId().toString())
+                        .param("processId", testProcess.getId().toString())
+                        .param("month", "2025-02")
+                        .header("Authorization", "Bearer " + userToken));
+
+        // then - NG 비율 0.5% → 3% (+2.5%p, +500%), 생산량 변화 없음
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.body.basis").value("yearly"))
+                .andExpect(jsonPath("$.body.previous.period").value("2024-02"))
+                .andExpect(jsonPath("$.body.ngRateDelta").value(2.5))
+                .andExpect(jsonPath("$.body.ngRateChangeRate").value(500.0))
+                .andExpect(jsonPath("$.body.totalQuantityDelta").value(0))
+                .andExpect(jsonPath("$.body.totalQuantityChangeRate").value(0.0))
+                .andDo(MockMvcRestDocumentation.document("statistics-compare-yearly",
+                        requestHeaders(
+                                headerWithName("Authorization").description("JWT 토큰 (Bearer {token})")),
+                        queryParameters(
+                                parameterWithName("itemId").description("부품 ID"),
+                                parameterWithName("processId").description("공정 ID"),
+                                parameterWithName("month").description("기준 월 (yyyy-MM)"))));
+    }
+
+    @Test
+    void compare_monthly_items_test() throws Exception {
+        // given
+        saveCompareHistory();
+
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/statistics/compare-monthly/items")
+                        .param("processId", testProcess.getId().toString())
+                        .param("month", "2025-02")
+                        .header("Authorization", "Bearer " + userToken));
+
+        // then - 전체 부품을 코드 순으로 비교, 기록이 없는 부품은 NG 비율 증감 null
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.body.length()").value(org.hamcrest.Matchers.greaterThanOrEqualTo(5)))
+                .andExpect(jsonPath("$.body[0].itemCode").value("ITEM001"))
+                .andExpect(jsonPath("$.body[0].ngRateDelta").value(1.5))
+                .andExpect(jsonPath("$.body[1].itemCode").value("ITEM002"))
+                .andExpect(jsonPath("$.body[1].current.ngRate").isEmpty())
+                .andExpect(jsonPath("$.body[1].ngRateDelta").isEmpty())
+                .andExpect(jsonPath("$.body[1].totalQuantityChangeRate").isEmpty())
+                .andDo(MockMvcRestDocumentation.document("statistics-compare-monthly-items",
+                        requestHeaders(
+                                headerWithName("Authorization").description("JWT 토큰 (Bearer {token})")),
+                        queryParameters(
+                                parameterWithName("processId").description("공정 ID"),
+                                parameterWithName("month").description("기준 월 (yyyy-MM)"))));
+    }
+
+    @Test
+    void compare_monthly_item_not_found_test() throws Exception {
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/statistics/compare-monthly")
+                        .param("itemId", "999999")
+                        .param("processId", testProcess.getId().toString())
+                        .param("month", "2025-02")
+                        .header("Authorization", "Bearer " + userToken));
+
+        // then
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.msg", containsString("부품을 찾을 수 없습니다")));
+    }
+}
@@ -14,8 +14,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.AfterTransaction;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -46,6 +48,9 @@ class SystemCodeControllerTest {
     @Autowired
     private SystemCodeRepository systemCodeRepository;
 
+    @Autowired
+    private SystemCodeService systemCodeService;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -56,6 +61,7 @@ class SystemCodeControllerTest {
     private JwtUtil jwtUtil;
 
     private String token;
+    private String adminToken;
 
     @BeforeEach
     void setUp(RestDocumentationContextProvider restDocumentation) {
@@ -72,6 +78,16 @@ class SystemCodeControllerTest {
         User user = userRepository.findByUsername("testuser")
                 .orElseThrow(() -> new RuntimeException("data-dev.sql의 testuser를 찾을 수 없습니다"));
         token = jwtUtil.generateToken(user.getId(), user.getRole());
+
+        User admin = userRepository.findByUsername("testadmin")
+                .orElseThrow(() -> new RuntimeException("data-dev.sql의 testadmin을 찾을 수 없습니다"));
+        adminToken = jwtUtil.generateToken(admin.getId(), admin.getRole());
+    }
+
+    // 테스트 트랜잭션 롤백 후 스냅샷을 원래 값으로 다시 적재
+    @AfterTransaction
+    void restoreSnapshot() {
+        systemCodeService.refresh();
     }
 
     @Test
@@ -163,4 +179,93 @@ class SystemCodeControllerTest {
             assert e.getMessage().contains("시스템 코드를 찾을 수 없습니다");
         }
     }
+
+    @Test
+    void update_as_admin_test() throws Exception {
+        // given
+        SystemCode code = systemCodeRepository.findByCodeGroupAndCodeKey("INDUSTRY_AVERAGE", "NG_RATE_THRESHOLD")
+                .orElseThrow(() -> new RuntimeException("data-dev.sql의 INDUSTRY_AVERAGE.NG_RATE_THRESHOLD를 찾을 수 없습니다"));
+        String requestBody = """
+                {"codeValue": "1.5", "description": "기본 NG 비율 임계값 (%)", "isActive": true}
+                """;
+
+        // when
+        ResultActions result = mvc.perform(
+                put("/api/system-codes/" + code.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody)
+                        .header("Authorization", "Bearer " + adminToken));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(200))
+                .andExpect(jsonPath("$.body.codeValue").value("1.5"))
+                .andExpect(jsonPath("$.body.version").value(2))
+                .andDo(MockMvcRestDocumentation.document("systemcode-update",
+                        requestHeaders(
+                                headerWithName("Authorization").description("JWT 토큰 (Bearer {token}) - ADMIN 권한 필요")),
+                        requestFields(
+                                fieldWithPath("codeValue").description("코드 값"),
+                                fieldWithPath("description").description("설명"),
+                                fieldWithPath("isActive").description("활성화 여부")),
+                        responseFields(
+                                fieldWithPath("status").description("HTTP 상태 코드"),
+                                fieldWithPath("msg").description("응답 메시지"),
+                                fieldWithPath("body.id").description("시스템 코드 ID"),
+                                fieldWithPath("body.codeGroup").description("코드 그룹"),
+                                fieldWithPath("body.codeKey").description("코드 키"),
+                                fieldWithPath("body.codeValue").description("코드 값"),
+                                fieldWithPath("body.description").description("설명"),
+                                fieldWithPath("body.isActive").description("활성화 여부"),
+                                fieldWithPath("body.version").description("변경 후 시스템 코드 버전"))));
+
+        // 버전 변경을 감지하면 스냅샷이 교체됨
+        systemCodeService.refreshIfChanged();
+        assert systemCodeService.getDecimal("INDUSTRY_AVERAGE", "NG_RATE_THRESHOLD")
+                .compareTo(new java.math.BigDecimal("1.5")) == 0;
+    }
+
+    @Test
+    void update_non_numeric_value_test() throws Exception {
+        // given
+        SystemCode code = systemCodeRepository.findByCodeGroupAndCodeKey("INDUSTRY_AVERAGE", "NG_RATE_THRESHOLD")
+                .orElseThrow(() -> new RuntimeException("data-dev.sql의 INDUSTRY_AVERAGE.NG_RATE_THRESHOLD를 찾을 수 없습니다"));
+
+        // when
+        ResultActions result = mvc.perform(
+                put("/api/system-codes/" + code.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"codeValue\": \"abc\", \"isActive\": true}")
+                        .header("Authorization", "Bearer " + adminToken));
+
+        // then
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.msg", org.hamcrest.Matchers.containsString("숫자 형식의 코드 값이어야 합니다")));
+    }
+
+    @Test
+    void update_as_user_forbidden_test() throws Exception {
+        // given
+        SystemCode code = systemCodeRepository.findByCodeGroupAndCodeKey("INDUSTRY_AVERAGE", "NG_RATE_THRESHOLD")
+                .orElseThrow(() -> new RuntimeException("data-dev.sql의 INDUSTRY_AVERAGE.NG_RATE_THRESHOLD를 찾을 수 없습니다"));
+
+        // when
+        ResultActions result = mvc.perform(
+                put("/api/system-codes/" + code.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"codeValue\": \"9.9\", \"isActive\": true}")
+                        .header("Authorization", "Bearer " + token));
+
+        // then
+        result.andExpect(status().isForbidden());
+    }
+
+    @Test
+    void getDecimal_test() {
+        // when
+        java.math.BigDecimal threshold = systemCodeService.getDecimal("EVALUATION", "INCREASE_RATE_THRESHOLD");
+
+        // then
+        assert threshold.compareTo(new java.math.BigDecimal("2.0")) == 0;
+    }
 }